@@ -9,6 +9,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
 import org.palladiosimulator.experimentautomation.application.jobs.CheckForSLOViolationsJob;
 import org.palladiosimulator.experimentautomation.application.jobs.LogExperimentInformationJob;
+import org.palladiosimulator.experimentautomation.application.jobs.WatchForSLOViolationsJob;
 import org.palladiosimulator.experimentautomation.application.tooladapter.IToolAdapter;
 import org.palladiosimulator.experimentautomation.application.tooladapter.RunAnalysisJob;
 import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.AbstractSimulationConfigFactory;
@@ -38,15 +39,19 @@ public class SimuComToolAdapter implements IToolAdapter {
             final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
         final SimuComConfiguration simuComToolConfig = (SimuComConfiguration) toolConfig;
         final Map<String, Object> configMap = AbstractSimulationConfigFactory.createConfigMap(experiment,
-                simuComToolConfig, SIMULATOR_ID_SIMUCOM, variationFactorTuples);
+                simuComToolConfig, SIMULATOR_ID_SIMUCOM, variationFactorTuples, repetition);
         final SimuComConfig simuComConfig = createSimuComConfig(configMap);
         final SimuComWorkflowConfiguration workflowConfig = createSimuComWorkflowConfiguration(simuComConfig);
 
         final RunAnalysisJob result = new RunAnalysisJob();
         result.setConfiguration(configMap);
+        result.setWallClockBudget(AbstractSimulationConfigFactory.getMaximumWallClockTime(experiment,
+                simuComToolConfig));
         try {
             result.add(new LogExperimentInformationJob(experiment, simuComConfig, variationFactorTuples, repetition));
-            result.add(new SimuComJob(workflowConfig, null, false));
+            result.add(new WatchForSLOViolationsJob(result, new SimuComJob(workflowConfig, null, false),
+                    experiment.getInitialModel().getServiceLevelObjectives(), simuComConfig.getNameBase(),
+                    simuComConfig.getVariationId()));
             result.addJob(new CheckForSLOViolationsJob(result,
                     experiment.getInitialModel().getServiceLevelObjectives(), simuComToolConfig.getDatasource(),
                     simuComConfig.getNameBase(), simuComConfig.getVariationId()));
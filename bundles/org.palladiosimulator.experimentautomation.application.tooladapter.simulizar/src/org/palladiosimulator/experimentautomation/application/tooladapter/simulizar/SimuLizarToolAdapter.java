@@ -7,6 +7,7 @@ import java.util.Map;
 import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
 import org.palladiosimulator.experimentautomation.application.jobs.CheckForSLOViolationsJob;
 import org.palladiosimulator.experimentautomation.application.jobs.LogExperimentInformationJob;
+import org.palladiosimulator.experimentautomation.application.jobs.WatchForSLOViolationsJob;
 import org.palladiosimulator.experimentautomation.application.tooladapter.IToolAdapter;
 import org.palladiosimulator.experimentautomation.application.tooladapter.RunAnalysisJob;
 import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.AbstractSimulationConfigFactory;
@@ -36,20 +37,24 @@ public class SimuLizarToolAdapter implements IToolAdapter {
             final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
         final SimuLizarConfiguration simuLizarToolConfig = (SimuLizarConfiguration) toolConfig;
         final Map<String, Object> configMap = AbstractSimulationConfigFactory.createConfigMap(experiment,
-                simuLizarToolConfig, SIMULATOR_ID_SIMULIZAR, variationFactorTuples);
+                simuLizarToolConfig, SIMULATOR_ID_SIMULIZAR, variationFactorTuples, repetition);
         final SimuComConfig simuComConfig = createSimuComConfig(configMap);
         final SimuLizarWorkflowConfiguration workflowConfig = createSimuLizarWorkflowConfiguration(simuComConfig,
                 experiment.getInitialModel().getReconfigurationRules());
 
         final RunAnalysisJob result = new RunAnalysisJob();
         result.setConfiguration(configMap);
+        result.setWallClockBudget(AbstractSimulationConfigFactory.getMaximumWallClockTime(experiment,
+                simuLizarToolConfig));
         result.addJob(new LogExperimentInformationJob(experiment, simuComConfig, variationFactorTuples, repetition));
 
         // FIXME I get an array out of bounds exceptions during analysis (when enabled) [Lehrig]
         // result.addJob(new
         // CopyPartitionJob(LoadSimuLizarModelsIntoBlackboardJob.PCM_MODELS_ANALYZED_PARTITION_ID,
         // LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID));
-        result.addJob(new PCMStartInterpretationJob(workflowConfig));
+        result.addJob(new WatchForSLOViolationsJob(result, new PCMStartInterpretationJob(workflowConfig),
+                experiment.getInitialModel().getServiceLevelObjectives(), simuComConfig.getNameBase(),
+                simuComConfig.getVariationId()));
         if (experiment.getInitialModel().getServiceLevelObjectives() != null) {
             result.addJob(new CheckForSLOViolationsJob(result,
                     experiment.getInitialModel().getServiceLevelObjectives(), simuLizarToolConfig.getDatasource(),
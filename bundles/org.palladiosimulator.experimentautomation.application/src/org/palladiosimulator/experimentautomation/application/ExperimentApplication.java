@@ -1,9 +1,14 @@
 package org.palladiosimulator.experimentautomation.application;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.emf.ecore.EClass;
@@ -14,10 +19,19 @@ import org.eclipse.equinox.app.IApplicationContext;
 import org.osgi.framework.Bundle;
 import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
 import org.palladiosimulator.experimentautomation.application.jobs.RunExperimentAutomationJob;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+import org.palladiosimulator.experimentautomation.application.scheduling.CampaignBudget;
+import org.palladiosimulator.experimentautomation.application.scheduling.CostHistory;
 import org.palladiosimulator.experimentautomation.application.utils.EcoreHelper;
+import org.palladiosimulator.experimentautomation.application.variation.DesignPointIterator;
+import org.palladiosimulator.experimentautomation.application.worker.Worker;
+import org.palladiosimulator.experimentautomation.application.worker.WorkerPool;
+import org.palladiosimulator.experimentautomation.application.worker.WorkerTask;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentRepository;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.Monotonicity;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
 
 import de.uka.ipd.sdq.workflow.BlackboardBasedWorkflow;
 import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
@@ -36,12 +50,105 @@ import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
  * a filter; only listed experiments are conducted (instead of all experiments of the experiment
  * repository).
  * 
+ * Further options can be given as pairs of option name and value:
+ * <ul>
+ * <li><code>-parallelism N</code> analyzes up to N design points concurrently within this JVM.</li>
+ * <li><code>-repetitionParallelism N</code> analyzes up to N repetitions of a design point
+ * concurrently.</li>
+ * <li><code>-toolParallelism N</code> analyzes up to N tool configurations of an experiment
+ * concurrently, e.g., SimuCom and SimuLizar side by side.</li>
+ * <li><code>-capacityParallelism K</code> lets capacity searches analyze K values of their interval
+ * concurrently and narrow the interval to the section containing the capacity, which takes
+ * log_(K+1) instead of log_2 rounds of analysis runs.</li>
+ * <li><code>-capacityProbeTimeout SECONDS</code> cancels analysis runs of capacity searches after the
+ * given wall-clock time and considers them to violate an SLO, e.g., to cap simulations of heavily
+ * overloaded systems.</li>
+ * <li><code>-capacityConfidence C</code> decides whether a value of a capacity search violates an
+ * SLO by a sequential probability ratio test with confidence C, e.g., 0.95, instead of a single
+ * analysis run; further runs are added only until the decision is confident. Capacities are then
+ * reported with a confidence interval.</li>
+ * <li><code>-capacityWarmStart true</code> starts capacity searches from the capacity a previous
+ * campaign recorded in the EDP2 data source for the same experiment, tool configuration, and
+ * factors, and only widens the bracket around it if analysis runs contradict it.</li>
+ * <li><code>-workers N</code> starts N local worker JVMs and distributes all repetitions of all
+ * design points among them (coordinator mode). In contrast to the options above, this isolates
+ * simulator internals such as SimuCom's code generation and static registries. Workers should use
+ * file data sources. Of the other options, only <code>-journal</code> and <code>-resultCache</code>
+ * apply to this mode; the remaining ones are rejected, as are screening, Morris, and adaptive
+ * designs and monotone variations, since workers analyze each repetition on its own.</li>
+ * <li><code>-journal FILE</code> records the progress of the campaign in the given journal file.
+ * When started again with the same journal, completed runs are skipped and capacity searches
+ * continue from their last step.</li>
+ * <li><code>-resultCache MEGABYTES</code> caches the results of analysis runs with fixed random
+ * number generator seeds next to their file data source. Identical runs, e.g., when a campaign is
+ * conducted again, reuse the cached results instead of analyzing the models once more.</li>
+ * <li><code>-costHistory FILE</code> stores the durations of design point analyses in the given
+ * file. Later campaigns use them to analyze the most expensive design points first and to estimate
+ * the time remaining.</li>
+ * <li><code>-campaignBudget SECONDS</code> limits the wall-clock time of the campaign. Each analysis
+ * run is canceled once it exceeds its share of the remaining budget, and runs not started before
+ * the budget is used up are skipped; both are recorded as timed out. Time left by runs finishing
+ * early is redistributed to the pending ones.</li>
+ * </ul>
+ * 
  * Once the experiments are finished, you will find all data in the EDP2 recorder.
  * 
  * @author Merkle, Sebastian Lehrig
  */
 public class ExperimentApplication implements IApplication {
 
+    private static final Logger LOGGER = Logger.getLogger(ExperimentApplication.class);
+
+    /** Option for the maximum number of concurrently analyzed design points. */
+    private static final String OPTION_PARALLELISM = "parallelism";
+
+    /** Option for the maximum number of concurrently analyzed repetitions of a design point. */
+    private static final String OPTION_REPETITION_PARALLELISM = "repetitionParallelism";
+
+    /** Option for the maximum number of concurrently analyzed tool configurations of an experiment. */
+    private static final String OPTION_TOOL_PARALLELISM = "toolParallelism";
+
+    /** Option for the number of values a capacity search analyzes concurrently. */
+    private static final String OPTION_CAPACITY_PARALLELISM = "capacityParallelism";
+
+    /** Option for the wall-clock budget of analysis runs of capacity searches in seconds. */
+    private static final String OPTION_CAPACITY_PROBE_TIMEOUT = "capacityProbeTimeout";
+
+    /** Option for the confidence of sequential tests deciding the values of capacity searches. */
+    private static final String OPTION_CAPACITY_CONFIDENCE = "capacityConfidence";
+
+    /** Option for starting capacity searches from the capacities found by previous campaigns. */
+    private static final String OPTION_CAPACITY_WARM_START = "capacityWarmStart";
+
+    /** Option for the number of worker processes; enables the coordinator mode. */
+    private static final String OPTION_WORKERS = "workers";
+
+    /** Option for the coordinator port; set by the coordinator for its worker processes. */
+    private static final String OPTION_WORKER = "worker";
+
+    /** Option for the campaign journal file. */
+    private static final String OPTION_JOURNAL = "journal";
+
+    /** Option for the maximum size of result caches in megabytes; enables caching. */
+    private static final String OPTION_RESULT_CACHE = "resultCache";
+
+    /** Option for the file storing durations of design point analyses. */
+    private static final String OPTION_COST_HISTORY = "costHistory";
+
+    /** Option for the wall-clock budget of the campaign in seconds. */
+    private static final String OPTION_CAMPAIGN_BUDGET = "campaignBudget";
+
+    /** Options that only apply to campaigns conducted within this JVM, i.e., without workers. */
+    private static final List<String> IN_PROCESS_OPTIONS = Arrays.asList(OPTION_PARALLELISM,
+            OPTION_REPETITION_PARALLELISM, OPTION_TOOL_PARALLELISM, OPTION_CAPACITY_PARALLELISM,
+            OPTION_CAPACITY_PROBE_TIMEOUT, OPTION_CAPACITY_CONFIDENCE, OPTION_CAPACITY_WARM_START,
+            OPTION_COST_HISTORY, OPTION_CAMPAIGN_BUDGET);
+
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    /** The id of this application; used for starting worker processes. */
+    private static final String APPLICATION_ID = "org.palladiosimulator.experimentautomation.application";
+
     /**
      * {@inheritDoc}
      */
@@ -50,19 +157,30 @@ public class ExperimentApplication implements IApplication {
         // obtain command line arguments
         final String[] args = (String[]) context.getArguments().get("application.args");
 
+        // separate options from positional arguments
+        final List<String> positionalArgs = new ArrayList<String>();
+        final Map<String, String> options = new HashMap<String, String>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("-") && i + 1 < args.length) {
+                options.put(args[i].substring(1), args[++i]);
+            } else {
+                positionalArgs.add(args[i]);
+            }
+        }
+
         // check arguments
-        if (args.length < 1) {
+        if (positionalArgs.size() < 1) {
             System.out.println("The mandatory parameters have not been specified.");
             return IApplication.EXIT_OK;
         }
 
         // get location of experiments file
-        final Path experimentsLocation = new Path(args[0]);
+        final Path experimentsLocation = new Path(positionalArgs.get(0));
 
         // prepare filtered experiment list, if parameter has been specified
         final List<String> filteredExperimentIDs = new ArrayList<String>();
-        if (args.length >= 2) {
-            final String[] ids = args[1].split(";");
+        if (positionalArgs.size() >= 2) {
+            final String[] ids = positionalArgs.get(1).split(";");
             for (final String id : ids) {
                 filteredExperimentIDs.add(id);
             }
@@ -70,17 +188,158 @@ public class ExperimentApplication implements IApplication {
 
         // load experiments
         final List<Experiment> experiments = getExperiments(experimentsLocation, filteredExperimentIDs);
+
+        final long resultCacheSize = options.containsKey(OPTION_RESULT_CACHE) ? Long.parseLong(options
+                .get(OPTION_RESULT_CACHE)) * MEGABYTE : 0;
+
+        if (options.containsKey(OPTION_WORKER)) {
+            new Worker(experiments, resultCacheSize).run(Integer.parseInt(options.get(OPTION_WORKER)));
+            return IApplication.EXIT_OK;
+        }
+
+        final CampaignJournal journal = options.containsKey(OPTION_JOURNAL) ? CampaignJournal.open(new File(options
+                .get(OPTION_JOURNAL))) : null;
+        try {
+            if (options.containsKey(OPTION_WORKERS)) {
+                return runCoordinator(experimentsLocation, experiments, options, journal, resultCacheSize);
+            }
+            runExperiments(experiments, options, journal, resultCacheSize);
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+        }
+
+        return IApplication.EXIT_OK;
+    }
+
+    private static void runExperiments(final List<Experiment> experiments, final Map<String, String> options,
+            final CampaignJournal journal, final long resultCacheSize) throws IOException {
         final ExperimentAutomationConfiguration experimentAutomationConfiguration = new ExperimentAutomationConfiguration();
         experimentAutomationConfiguration.setExperiments(experiments);
         experimentAutomationConfiguration.setAttributes(new HashMap<String, Object>());
+        if (options.containsKey(OPTION_PARALLELISM)) {
+            experimentAutomationConfiguration.setParallelism(Integer.parseInt(options.get(OPTION_PARALLELISM)));
+        }
+        if (options.containsKey(OPTION_REPETITION_PARALLELISM)) {
+            experimentAutomationConfiguration.setRepetitionParallelism(Integer.parseInt(options
+                    .get(OPTION_REPETITION_PARALLELISM)));
+        }
+        if (options.containsKey(OPTION_TOOL_PARALLELISM)) {
+            experimentAutomationConfiguration.setToolParallelism(Integer.parseInt(options
+                    .get(OPTION_TOOL_PARALLELISM)));
+        }
+        if (options.containsKey(OPTION_CAPACITY_PARALLELISM)) {
+            experimentAutomationConfiguration.setCapacityParallelism(Integer.parseInt(options
+                    .get(OPTION_CAPACITY_PARALLELISM)));
+        }
+        if (options.containsKey(OPTION_CAPACITY_PROBE_TIMEOUT)) {
+            experimentAutomationConfiguration.setCapacityProbeTimeout(Long.parseLong(options
+                    .get(OPTION_CAPACITY_PROBE_TIMEOUT)) * 1000L);
+        }
+        if (options.containsKey(OPTION_CAPACITY_CONFIDENCE)) {
+            experimentAutomationConfiguration.setCapacityConfidence(Double.parseDouble(options
+                    .get(OPTION_CAPACITY_CONFIDENCE)));
+        }
+        if (options.containsKey(OPTION_CAPACITY_WARM_START)) {
+            experimentAutomationConfiguration.setCapacityWarmStart(Boolean.parseBoolean(options
+                    .get(OPTION_CAPACITY_WARM_START)));
+        }
+        experimentAutomationConfiguration.setJournal(journal);
+        experimentAutomationConfiguration.setResultCacheSize(resultCacheSize);
+        if (options.containsKey(OPTION_COST_HISTORY)) {
+            experimentAutomationConfiguration.setCostHistory(CostHistory.open(new File(options
+                    .get(OPTION_COST_HISTORY))));
+        }
+        if (options.containsKey(OPTION_CAMPAIGN_BUDGET)) {
+            experimentAutomationConfiguration.setCampaignBudget(new CampaignBudget(Long.parseLong(options
+                    .get(OPTION_CAMPAIGN_BUDGET)) * 1000L, experimentAutomationConfiguration.getParallelism()
+                    * experimentAutomationConfiguration.getRepetitionParallelism()
+                    * experimentAutomationConfiguration.getToolParallelism()));
+        }
 
         // run experiments via blackboard-based workflow
         final MDSDBlackboard blackboard = new MDSDBlackboard();
         final BlackboardBasedWorkflow<MDSDBlackboard> workflow = new BlackboardBasedWorkflow<MDSDBlackboard>(
                 new RunExperimentAutomationJob(experimentAutomationConfiguration), blackboard);
         workflow.run();
+    }
 
-        return IApplication.EXIT_OK;
+    /**
+     * Distributes all repetitions of all design points of the given experiments among local worker
+     * processes. Tasks the campaign journal lists as completed are skipped.
+     * 
+     * Options and experiments that workers cannot follow are rejected: options configuring the
+     * analysis within a JVM (see {@link #IN_PROCESS_OPTIONS}); screening, Morris, and adaptive
+     * designs, whose later design points or analyses depend on the responses of earlier ones; and
+     * monotone variations, since pruning depends on the outcome of all repetitions of a design point.
+     */
+    private static Object runCoordinator(final IPath experimentsLocation, final List<Experiment> experiments,
+            final Map<String, String> options, final CampaignJournal journal, final long resultCacheSize)
+            throws Exception {
+        final int workers = Integer.parseInt(options.get(OPTION_WORKERS));
+        for (final String option : IN_PROCESS_OPTIONS) {
+            if (options.containsKey(option)) {
+                LOGGER.error("Option -" + option + " is not supported by worker processes; conduct the campaign"
+                        + " without -" + OPTION_WORKERS);
+                return Integer.valueOf(1);
+            }
+        }
+        for (final Experiment experiment : experiments) {
+            if (ExperimentsPackage.eINSTANCE.getScreeningDesign().isInstance(experiment.getExperimentDesign())
+                    || ExperimentsPackage.eINSTANCE.getMorrisDesign().isInstance(experiment.getExperimentDesign())
+                    || ExperimentsPackage.eINSTANCE.getAdaptiveDesign().isInstance(experiment.getExperimentDesign())) {
+                LOGGER.error("Experiment " + experiment.getId() + " has a "
+                        + experiment.getExperimentDesign().eClass().getName()
+                        + ", which is analyzed in stages that workers cannot follow; conduct it without -"
+                        + OPTION_WORKERS);
+                return Integer.valueOf(1);
+            }
+            for (final Variation variation : experiment.getVariations()) {
+                if (variation.getMonotonicity() != Monotonicity.NONE) {
+                    LOGGER.error("Variation " + variation.getName() + " of experiment " + experiment.getId()
+                            + " is monotone, which workers cannot prune along; conduct it without -"
+                            + OPTION_WORKERS);
+                    return Integer.valueOf(1);
+                }
+            }
+        }
+
+        final List<WorkerTask> tasks = new ArrayList<WorkerTask>();
+        for (final Experiment experiment : experiments) {
+            for (int tool = 0; tool < experiment.getToolConfiguration().size(); tool++) {
+                final DesignPointIterator designPoints = new DesignPointIterator(experiment.getVariations(),
+                        experiment.getExperimentDesign());
+                while (designPoints.hasNext()) {
+                    final List<VariationFactorTuple> designPoint = designPoints.next();
+                    for (int repetition = 1; repetition <= experiment.getRepetitions(); repetition++) {
+                        final WorkerTask task = new WorkerTask(experiment, tool, designPoint, repetition);
+                        if (journal == null || !journal.isCompleted(task.getJournalKey())) {
+                            tasks.add(task);
+                        }
+                    }
+                }
+            }
+        }
+
+        final File workspaceRoot = new File(System.getProperty("java.io.tmpdir"), "experimentautomation-workers");
+        final List<String> workerCommand = WorkerPool.createWorkerCommand(
+                System.getProperty("eclipse.application", APPLICATION_ID),
+                experimentsLocation.toFile().getAbsolutePath(), "-" + OPTION_WORKER);
+        if (resultCacheSize > 0) {
+            // the worker option has to stay last; the pool appends the coordinator port
+            workerCommand.addAll(workerCommand.size() - 1,
+                    Arrays.asList("-" + OPTION_RESULT_CACHE, Long.toString(resultCacheSize / MEGABYTE)));
+        }
+        final List<WorkerTask> failedTasks = new WorkerPool(workerCommand, workspaceRoot, workers, journal)
+                .run(tasks);
+
+        LOGGER.info((tasks.size() - failedTasks.size()) + " of " + tasks.size() + " tasks conducted");
+        for (final WorkerTask failedTask : failedTasks) {
+            LOGGER.error("Failed: " + failedTask);
+        }
+
+        return failedTasks.isEmpty() ? IApplication.EXIT_OK : Integer.valueOf(1);
     }
 
     private static List<Experiment> getExperiments(final IPath experimentsLocation,
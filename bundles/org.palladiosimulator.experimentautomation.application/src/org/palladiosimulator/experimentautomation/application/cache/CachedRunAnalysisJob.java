@@ -0,0 +1,181 @@
+package org.palladiosimulator.experimentautomation.application.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.edp2.dao.exception.DataNotAccessibleException;
+import org.palladiosimulator.edp2.impl.RepositoryManager;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentGroup;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentRun;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentSetting;
+import org.palladiosimulator.edp2.models.Repository.Repository;
+import org.palladiosimulator.edp2.util.MeasurementsUtility;
+import org.palladiosimulator.experimentautomation.application.cache.ResultCache.CachedResult;
+import org.palladiosimulator.experimentautomation.application.tooladapter.RunAnalysisJob;
+import org.palladiosimulator.recorderframework.edp2.config.EDP2RecorderConfigurationFactory;
+
+import de.uka.ipd.sdq.simulation.AbstractSimulationConfig;
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+
+/**
+ * Analysis job that reuses the result of an identical analysis run from a {@link ResultCache}. On
+ * a cache miss, the given analysis job is executed and its result is added to the cache.
+ * 
+ * Only runs with fixed random number generator seeds are cached; other runs are not reproducible
+ * and always executed. Neither are runs aborted because an SLO was certainly violated or because
+ * they exceeded their wall-clock budget, as their measurements are incomplete.
+ */
+public class CachedRunAnalysisJob extends RunAnalysisJob {
+
+    private static final Logger LOGGER = Logger.getLogger(CachedRunAnalysisJob.class);
+
+    private final RunAnalysisJob analysisJob;
+    private final ResultCache cache;
+
+    /** Whether the analysis job has been executed, i.e., whether it needs to be cleaned up. */
+    private boolean analysisJobExecuted = false;
+
+    /**
+     * Default constructor.
+     * 
+     * @param analysisJob
+     *            the job conducting the analysis on a cache miss.
+     * @param cache
+     *            the cache holding the results of previous analysis runs.
+     */
+    public CachedRunAnalysisJob(final RunAnalysisJob analysisJob, final ResultCache cache) {
+        this.analysisJob = analysisJob;
+        this.cache = cache;
+
+        this.setConfiguration(analysisJob.getConfiguration());
+        this.setWallClockBudget(analysisJob.getWallClockBudget());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final Map<String, Object> configuration = this.getConfiguration();
+
+        String fingerprint = null;
+        if (Boolean.TRUE.equals(configuration.get(AbstractSimulationConfig.USE_FIXED_SEED))) {
+            fingerprint = ResultCache.computeFingerprint(this.getBlackboard(), configuration);
+        }
+
+        if (fingerprint != null) {
+            final CachedResult cachedResult = this.cache.lookup(fingerprint, configuration);
+            if (cachedResult != null && this.containsExperimentRun(cachedResult.getExperimentRunId())) {
+                LOGGER.info("Reusing cached experiment run " + cachedResult.getExperimentRunId() + " for "
+                        + configuration.get(EDP2RecorderConfigurationFactory.VARIATION_ID));
+                if (cachedResult.sloWasViolated()) {
+                    this.setSloWasViolated();
+                }
+                this.setSloViolationRatio(cachedResult.getSloViolationRatio());
+                return;
+            }
+        }
+
+        this.analysisJob.setBlackboard(this.getBlackboard());
+        this.analysisJob.getTruncationTimes().putAll(this.getTruncationTimes());
+        this.analysisJobExecuted = true;
+        this.analysisJob.execute(monitor);
+        this.getTruncationTimes().putAll(this.analysisJob.getTruncationTimes());
+        if (this.analysisJob.wasAbortedOnSloViolation()) {
+            this.setAbortedOnSloViolation();
+        } else if (this.analysisJob.sloWasViolated()) {
+            this.setSloWasViolated();
+        }
+        this.setSloViolationRatio(this.analysisJob.getSloViolationRatio());
+        if (this.analysisJob.wasTimedOut()) {
+            this.setTimedOut();
+        }
+
+        if (fingerprint != null && !this.wasAbortedOnSloViolation() && !this.wasTimedOut()) {
+            final List<ExperimentRun> experimentRuns = this.getExperimentRuns();
+            if (!experimentRuns.isEmpty()) {
+                final ExperimentRun experimentRun = experimentRuns.get(experimentRuns.size() - 1);
+                this.cache.store(fingerprint, configuration,
+                        new CachedResult(experimentRun.getId(), this.sloWasViolated(), this.getSloViolationRatio()));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setWatchSlos(final boolean watchSlos) {
+        super.setWatchSlos(watchSlos);
+        this.analysisJob.setWatchSlos(watchSlos);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setWallClockBudget(final long wallClockBudget) {
+        super.setWallClockBudget(wallClockBudget);
+        this.analysisJob.setWallClockBudget(wallClockBudget);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+        if (this.analysisJobExecuted) {
+            this.analysisJob.cleanup(monitor);
+        }
+    }
+
+    /**
+     * Checks whether the experiment run with the given id still exists in the data source. Runs
+     * deleted by the user cannot be reused.
+     */
+    private boolean containsExperimentRun(final String experimentRunId) {
+        for (final ExperimentRun experimentRun : this.getExperimentRuns()) {
+            if (experimentRun.getId().equals(experimentRunId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the experiment runs of the experiment setting this analysis run records its results
+     * in; the last one is the most recent.
+     */
+    private List<ExperimentRun> getExperimentRuns() {
+        final Map<String, Object> configuration = this.getConfiguration();
+        final Repository repository = RepositoryManager.getRepositoryFromUUID(String.valueOf(configuration
+                .get(EDP2RecorderConfigurationFactory.REPOSITORY_ID)));
+        if (repository == null) {
+            return Collections.emptyList();
+        }
+
+        try {
+            MeasurementsUtility.ensureOpenRepository(repository);
+        } catch (final DataNotAccessibleException e) {
+            throw new RuntimeException("Could not open EDP2 repository");
+        }
+
+        for (final ExperimentGroup experimentGroup : repository.getExperimentGroups()) {
+            if (experimentGroup.getPurpose().equals(configuration.get(AbstractSimulationConfig.EXPERIMENT_RUN))) {
+                for (final ExperimentSetting experimentSetting : experimentGroup.getExperimentSettings()) {
+                    if (experimentSetting.getDescription().equals(
+                            configuration.get(EDP2RecorderConfigurationFactory.VARIATION_ID))) {
+                        return experimentSetting.getExperimentRuns();
+                    }
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.palladiosimulator.experimentautomation.application.cache;
+
+import java.util.List;
+
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.tooladapter.IToolAdapter;
+import org.palladiosimulator.experimentautomation.application.tooladapter.RunAnalysisJob;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
+
+/**
+ * Tool adapter decorating the analysis jobs of another tool adapter such that they reuse cached
+ * results of identical analysis runs (see {@link CachedRunAnalysisJob}).
+ */
+public class CachingToolAdapter implements IToolAdapter {
+
+    private final IToolAdapter toolAdapter;
+    private final ResultCache cache;
+
+    /**
+     * Default constructor.
+     * 
+     * @param toolAdapter
+     *            the tool adapter creating the actual analysis jobs.
+     * @param cache
+     *            the cache holding the results of previous analysis runs.
+     */
+    public CachingToolAdapter(final IToolAdapter toolAdapter, final ResultCache cache) {
+        this.toolAdapter = toolAdapter;
+        this.cache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RunAnalysisJob createRunAnalysisJob(final Experiment experiment, final ToolConfiguration toolConfiguration,
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
+        return new CachedRunAnalysisJob(this.toolAdapter.createRunAnalysisJob(experiment, toolConfiguration,
+                variationFactorTuples, repetition), this.cache);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasSupportFor(final ToolConfiguration toolConfiguration) {
+        return this.toolAdapter.hasSupportFor(toolConfiguration);
+    }
+
+}
@@ -0,0 +1,340 @@
+package org.palladiosimulator.experimentautomation.application.cache;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.EDP2Datasource;
+import org.palladiosimulator.experimentautomation.abstractsimulation.FileDatasource;
+
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * Content-addressed cache of analysis results, stored on local disk next to a file data source.
+ * 
+ * An analysis run is identified by a fingerprint of the fully varied PCM models and its run
+ * configuration (see {@link #computeFingerprint}). For each fingerprint, the cache stores the id of
+ * the EDP2 experiment run holding the results and whether an SLO was violated. Hence, identical
+ * runs, e.g., of a campaign that is conducted again, reuse the stored experiment run instead of
+ * analyzing the models once more.
+ * 
+ * The cache is bounded by the size of its directory; least recently used entries are evicted
+ * first. Evicting an entry does not touch the experiment run in the data source.
+ */
+public class ResultCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ResultCache.class);
+
+    private static final String DIRECTORY_SUFFIX = ".resultcache";
+    private static final String ENTRY_SUFFIX = ".properties";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private static final String EXPERIMENT_RUN_ID = "experimentRunId";
+    private static final String SLO_VIOLATED = "sloViolated";
+    private static final String SLO_VIOLATION_RATIO = "sloViolationRatio";
+    private static final String CONFIGURATION_PREFIX = "configuration.";
+
+    private static final String ENCODING = "UTF-8";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /** The caches opened so far, by directory; shared by all concurrently analyzed runs. */
+    private static final Map<File, ResultCache> CACHES = new HashMap<File, ResultCache>();
+
+    private final File directory;
+    private final long maxSize;
+
+    private ResultCache(final File directory, final long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cache of the given data source. Only file data sources can have a cache; it is
+     * stored in a directory next to the data source's location.
+     * 
+     * @param datasource
+     *            the data source the cached experiment runs are stored in.
+     * @param maxSize
+     *            the maximum size of the cache in bytes; only considered when the cache is opened
+     *            for the first time.
+     * @return the cache; <code>null</code> if the data source is no file data source.
+     */
+    public static ResultCache forDatasource(final EDP2Datasource datasource, final long maxSize) {
+        if (!AbstractsimulationPackage.eINSTANCE.getFileDatasource().isInstance(datasource)) {
+            return null;
+        }
+
+        final File directory = new File(((FileDatasource) datasource).getLocation() + DIRECTORY_SUFFIX)
+                .getAbsoluteFile();
+        synchronized (CACHES) {
+            ResultCache cache = CACHES.get(directory);
+            if (cache == null) {
+                cache = new ResultCache(directory, maxSize);
+                CACHES.put(directory, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Computes the fingerprint of an analysis run, based on the PCM models of the given blackboard
+     * and the given run configuration.
+     * 
+     * @param blackboard
+     *            the blackboard holding the varied PCM models.
+     * @param configuration
+     *            the run configuration, e.g., as created by the tool adapter.
+     * @return the fingerprint; <code>null</code> if the models cannot be serialized.
+     */
+    public static String computeFingerprint(final MDSDBlackboard blackboard, final Map<String, Object> configuration) {
+        final MessageDigest digest = createDigest();
+        final OutputStream digestStream = new OutputStream() {
+
+            @Override
+            public void write(final int b) {
+                digest.update((byte) b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                digest.update(b, off, len);
+            }
+
+        };
+
+        try {
+            final List<Resource> resources = new ArrayList<Resource>(blackboard
+                    .getPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID).getResourceSet()
+                    .getResources());
+            Collections.sort(resources, new Comparator<Resource>() {
+
+                @Override
+                public int compare(final Resource first, final Resource second) {
+                    return String.valueOf(first.getURI()).compareTo(String.valueOf(second.getURI()));
+                }
+
+            });
+            for (final Resource resource : resources) {
+                digestStream.write(String.valueOf(resource.getURI()).getBytes(ENCODING));
+                resource.save(digestStream, null);
+            }
+
+            for (final Entry<String, String> entry : toStrings(configuration).entrySet()) {
+                digestStream.write((entry.getKey() + "=" + entry.getValue() + "\n").getBytes(ENCODING));
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Could not fingerprint analysis run; it will not be cached: " + e.getMessage());
+            return null;
+        }
+
+        final StringBuilder fingerprint = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            fingerprint.append(String.format("%02x", b));
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Looks up the cached result of the analysis run with the given fingerprint.
+     * 
+     * @param fingerprint
+     *            the fingerprint of the analysis run.
+     * @param configuration
+     *            the run configuration; has to match the cached one.
+     * @return the cached result; <code>null</code> if none is cached.
+     */
+    public synchronized CachedResult lookup(final String fingerprint, final Map<String, Object> configuration) {
+        final File entryFile = this.getEntryFile(fingerprint);
+        if (!entryFile.exists()) {
+            return null;
+        }
+
+        final Properties properties = new Properties();
+        try {
+            final InputStream input = new FileInputStream(entryFile);
+            try {
+                properties.load(input);
+            } finally {
+                input.close();
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Could not read result cache entry " + entryFile + ": " + e.getMessage());
+            return null;
+        }
+
+        // guard against fingerprint collisions
+        for (final Entry<String, String> entry : toStrings(configuration).entrySet()) {
+            if (!entry.getValue().equals(properties.getProperty(CONFIGURATION_PREFIX + entry.getKey()))) {
+                return null;
+            }
+        }
+
+        entryFile.setLastModified(System.currentTimeMillis());
+        return new CachedResult(properties.getProperty(EXPERIMENT_RUN_ID), Boolean.parseBoolean(properties
+                .getProperty(SLO_VIOLATED)), Double.parseDouble(properties.getProperty(SLO_VIOLATION_RATIO, "NaN")));
+    }
+
+    /**
+     * Stores the result of the analysis run with the given fingerprint and evicts least recently
+     * used entries if the cache exceeds its maximum size.
+     * 
+     * @param fingerprint
+     *            the fingerprint of the analysis run.
+     * @param configuration
+     *            the run configuration.
+     * @param result
+     *            the result of the analysis run.
+     */
+    public synchronized void store(final String fingerprint, final Map<String, Object> configuration,
+            final CachedResult result) {
+        final Properties properties = new Properties();
+        properties.setProperty(EXPERIMENT_RUN_ID, result.getExperimentRunId());
+        properties.setProperty(SLO_VIOLATED, Boolean.toString(result.sloWasViolated()));
+        properties.setProperty(SLO_VIOLATION_RATIO, Double.toString(result.getSloViolationRatio()));
+        for (final Entry<String, String> entry : toStrings(configuration).entrySet()) {
+            properties.setProperty(CONFIGURATION_PREFIX + entry.getKey(), entry.getValue());
+        }
+
+        final File entryFile = this.getEntryFile(fingerprint);
+        final File temporaryFile = new File(this.directory, fingerprint + TEMPORARY_SUFFIX);
+        try {
+            this.directory.mkdirs();
+            final OutputStream output = new FileOutputStream(temporaryFile);
+            try {
+                properties.store(output, null);
+            } finally {
+                output.close();
+            }
+            // replace the entry as a whole so that concurrent readers never see partial entries
+            entryFile.delete();
+            if (!temporaryFile.renameTo(entryFile)) {
+                throw new IOException("Could not rename " + temporaryFile);
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Could not write result cache entry " + entryFile + ": " + e.getMessage());
+            temporaryFile.delete();
+            return;
+        }
+
+        this.evict();
+    }
+
+    private void evict() {
+        final File[] entryFiles = this.directory.listFiles();
+        if (entryFiles == null) {
+            return;
+        }
+
+        long size = 0;
+        for (final File entryFile : entryFiles) {
+            size += entryFile.length();
+        }
+        if (size <= this.maxSize) {
+            return;
+        }
+
+        Arrays.sort(entryFiles, new Comparator<File>() {
+
+            @Override
+            public int compare(final File first, final File second) {
+                return Long.valueOf(first.lastModified()).compareTo(second.lastModified());
+            }
+
+        });
+
+        int evicted = 0;
+        for (int i = 0; i < entryFiles.length && size > this.maxSize; i++) {
+            final long length = entryFiles[i].length();
+            if (entryFiles[i].delete()) {
+                size -= length;
+                evicted++;
+            }
+        }
+        LOGGER.info("Evicted " + evicted + " entries from result cache " + this.directory);
+    }
+
+    private File getEntryFile(final String fingerprint) {
+        return new File(this.directory, fingerprint + ENTRY_SUFFIX);
+    }
+
+    /**
+     * Converts the given run configuration into a sorted map of strings, independent of the order
+     * in which its entries were added.
+     */
+    private static Map<String, String> toStrings(final Map<String, Object> configuration) {
+        final Map<String, String> result = new TreeMap<String, String>();
+        for (final Entry<String, Object> entry : configuration.entrySet()) {
+            result.put(entry.getKey(), String.valueOf(entry.getValue()));
+        }
+        return result;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException("Missing message digest " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Result of an analysis run as stored in a {@link ResultCache}.
+     */
+    public static class CachedResult {
+
+        private final String experimentRunId;
+        private final boolean sloWasViolated;
+        private final double sloViolationRatio;
+
+        /**
+         * Default constructor.
+         * 
+         * @param experimentRunId
+         *            the id of the EDP2 experiment run holding the results.
+         * @param sloWasViolated
+         *            whether an SLO was violated in the analysis run.
+         * @param sloViolationRatio
+         *            the largest ratio of measurements violating an SLO; <code>NaN</code> if
+         *            unknown.
+         */
+        public CachedResult(final String experimentRunId, final boolean sloWasViolated,
+                final double sloViolationRatio) {
+            this.experimentRunId = experimentRunId;
+            this.sloWasViolated = sloWasViolated;
+            this.sloViolationRatio = sloViolationRatio;
+        }
+
+        public String getExperimentRunId() {
+            return this.experimentRunId;
+        }
+
+        public boolean sloWasViolated() {
+            return this.sloWasViolated;
+        }
+
+        public double getSloViolationRatio() {
+            return this.sloViolationRatio;
+        }
+
+    }
+
+}
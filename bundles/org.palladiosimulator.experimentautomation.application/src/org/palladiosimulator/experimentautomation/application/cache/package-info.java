@@ -0,0 +1,4 @@
+/**
+ * Content-addressed cache of analysis results for reusing identical analysis runs.
+ */
+package org.palladiosimulator.experimentautomation.application.cache;
@@ -3,6 +3,9 @@ package org.palladiosimulator.experimentautomation.application.config;
 import java.util.List;
 import java.util.Map;
 
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+import org.palladiosimulator.experimentautomation.application.scheduling.CampaignBudget;
+import org.palladiosimulator.experimentautomation.application.scheduling.CostHistory;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 
 import de.uka.ipd.sdq.workflow.extension.ExtendableJobConfiguration;
@@ -19,6 +22,39 @@ public class ExperimentAutomationConfiguration extends AbstractWorkflowBasedRunC
     /** Allows to deactivate model loading, e.g., when models are already in a blackboard. */
     private boolean loadModels = true;
 
+    /** The maximum number of design points analyzed concurrently; 1 executes them sequentially. */
+    private int parallelism = 1;
+
+    /** The maximum number of repetitions of a design point analyzed concurrently. */
+    private int repetitionParallelism = 1;
+
+    /** The maximum number of tool configurations of an experiment analyzed concurrently. */
+    private int toolParallelism = 1;
+
+    /** The number of values a capacity search analyzes concurrently; 1 bisects the interval. */
+    private int capacityParallelism = 1;
+
+    /** The wall-clock budget of analysis runs of capacity searches in milliseconds; 0 if unlimited. */
+    private long capacityProbeTimeout = 0;
+
+    /** The confidence of sequential tests deciding the probes of capacity searches; 0 if disabled. */
+    private double capacityConfidence = 0.0;
+
+    /** Whether capacity searches start from the capacity found by a previous campaign, if any. */
+    private boolean capacityWarmStart = false;
+
+    /** Journal for resuming an interrupted campaign; <code>null</code> if none is used. */
+    private CampaignJournal journal;
+
+    /** The maximum size of result caches in bytes; 0 disables caching of analysis results. */
+    private long resultCacheSize = 0;
+
+    /** Durations of past design point analyses; used for scheduling design points. */
+    private CostHistory costHistory = new CostHistory();
+
+    /** The wall-clock budget of the campaign; <code>null</code> if unlimited. */
+    private CampaignBudget campaignBudget;
+
     public void setExperiments(final List<Experiment> experiments) {
         this.experiments = experiments;
     }
@@ -55,4 +91,92 @@ public class ExperimentAutomationConfiguration extends AbstractWorkflowBasedRunC
     public boolean isLoadModels() {
         return this.loadModels;
     }
+
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public void setRepetitionParallelism(final int repetitionParallelism) {
+        this.repetitionParallelism = repetitionParallelism;
+    }
+
+    public int getRepetitionParallelism() {
+        return this.repetitionParallelism;
+    }
+
+    public void setToolParallelism(final int toolParallelism) {
+        this.toolParallelism = toolParallelism;
+    }
+
+    public int getToolParallelism() {
+        return this.toolParallelism;
+    }
+
+    public void setCapacityParallelism(final int capacityParallelism) {
+        this.capacityParallelism = capacityParallelism;
+    }
+
+    public int getCapacityParallelism() {
+        return this.capacityParallelism;
+    }
+
+    public void setCapacityProbeTimeout(final long capacityProbeTimeout) {
+        this.capacityProbeTimeout = capacityProbeTimeout;
+    }
+
+    public long getCapacityProbeTimeout() {
+        return this.capacityProbeTimeout;
+    }
+
+    public void setCapacityConfidence(final double capacityConfidence) {
+        this.capacityConfidence = capacityConfidence;
+    }
+
+    public double getCapacityConfidence() {
+        return this.capacityConfidence;
+    }
+
+    public void setCapacityWarmStart(final boolean capacityWarmStart) {
+        this.capacityWarmStart = capacityWarmStart;
+    }
+
+    public boolean isCapacityWarmStart() {
+        return this.capacityWarmStart;
+    }
+
+    public void setJournal(final CampaignJournal journal) {
+        this.journal = journal;
+    }
+
+    public CampaignJournal getJournal() {
+        return this.journal;
+    }
+
+    public void setResultCacheSize(final long resultCacheSize) {
+        this.resultCacheSize = resultCacheSize;
+    }
+
+    public long getResultCacheSize() {
+        return this.resultCacheSize;
+    }
+
+    public void setCostHistory(final CostHistory costHistory) {
+        this.costHistory = costHistory;
+    }
+
+    public CostHistory getCostHistory() {
+        return this.costHistory;
+    }
+
+    public void setCampaignBudget(final CampaignBudget campaignBudget) {
+        this.campaignBudget = campaignBudget;
+    }
+
+    public CampaignBudget getCampaignBudget() {
+        return this.campaignBudget;
+    }
 }
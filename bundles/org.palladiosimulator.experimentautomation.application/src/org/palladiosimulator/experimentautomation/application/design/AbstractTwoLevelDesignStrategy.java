@@ -0,0 +1,68 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Base class of two-level screening designs. Each variation is analyzed at its low level, i.e., its
+ * first factor level, and its high level, i.e., its last factor level. Variations with a single
+ * factor level stay at this level; design points that coincide as a consequence are analyzed once.
+ */
+public abstract class AbstractTwoLevelDesignStrategy implements IExperimentDesignStrategy {
+
+    @Override
+    public long size(final int[] levelCounts) {
+        return this.createDesignPoints(levelCounts).size();
+    }
+
+    @Override
+    public Iterator<int[]> createDesign(final int[] levelCounts) {
+        return this.createDesignPoints(levelCounts).iterator();
+    }
+
+    /**
+     * Creates the design matrix for the given number of factors.
+     * 
+     * @param factors
+     *            the number of factors; at least 1.
+     * @return the rows of the design matrix; each row holds <code>-1</code> (low level) or
+     *         <code>1</code> (high level) for each factor.
+     */
+    protected abstract List<int[]> createDesignMatrix(int factors);
+
+    private List<int[]> createDesignPoints(final int[] levelCounts) {
+        final List<int[]> designPoints = new ArrayList<int[]>();
+        for (final int levelCount : levelCounts) {
+            if (levelCount == 0) {
+                return designPoints;
+            }
+        }
+        if (levelCounts.length == 0) {
+            designPoints.add(new int[0]);
+            return designPoints;
+        }
+
+        final Set<List<Integer>> distinctDesignPoints = new LinkedHashSet<List<Integer>>();
+        for (final int[] row : this.createDesignMatrix(levelCounts.length)) {
+            final Integer[] designPoint = new Integer[levelCounts.length];
+            for (int i = 0; i < levelCounts.length; i++) {
+                designPoint[i] = row[i] < 0 ? 0 : levelCounts[i] - 1;
+            }
+            distinctDesignPoints.add(Arrays.asList(designPoint));
+        }
+
+        for (final List<Integer> distinctDesignPoint : distinctDesignPoints) {
+            final int[] designPoint = new int[distinctDesignPoint.size()];
+            for (int i = 0; i < designPoint.length; i++) {
+                designPoint[i] = distinctDesignPoint.get(i);
+            }
+            designPoints.add(designPoint);
+        }
+        return designPoints;
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import org.palladiosimulator.experimentautomation.experiments.ExperimentDesign;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
+
+public class ExperimentDesignFactory {
+
+    /**
+     * Creates the strategy generating the design points of the given experiment design. Experiments
+     * without an experiment design are analyzed in a full factorial design. For adaptive designs,
+     * the strategy generates the candidates to choose from, i.e., a full factorial design. For
+     * screening designs, the strategy generates the screening stage, i.e., a Plackett-Burman design.
+     */
+    public static IExperimentDesignStrategy createStrategy(final ExperimentDesign design) {
+        if (design == null || ExperimentsPackage.eINSTANCE.getFullFactorialDesign().isInstance(design)
+                || ExperimentsPackage.eINSTANCE.getAdaptiveDesign().isInstance(design)) {
+            return new FullFactorialDesignStrategy();
+        } else if (ExperimentsPackage.eINSTANCE.getOneFactorAtATime().isInstance(design)) {
+            return new OneFactorAtATimeDesignStrategy();
+        } else if (ExperimentsPackage.eINSTANCE.getPlacketBurmanDesign().isInstance(design)
+                || ExperimentsPackage.eINSTANCE.getScreeningDesign().isInstance(design)) {
+            return new PlacketBurmanDesignStrategy();
+        } else if (ExperimentsPackage.eINSTANCE.getFractionalFactorialDesign().isInstance(design)) {
+            return new FractionalFactorialDesignStrategy();
+        } else if (ExperimentsPackage.eINSTANCE.getLatinHypercubeDesign().isInstance(design)) {
+            final LatinHypercubeDesign d = (LatinHypercubeDesign) design;
+            return new LatinHypercubeDesignStrategy(d.getSampleCount());
+        } else if (ExperimentsPackage.eINSTANCE.getMorrisDesign().isInstance(design)) {
+            final MorrisDesign d = (MorrisDesign) design;
+            return new MorrisDesignStrategy(d.getTrajectories());
+        }
+        throw new RuntimeException("Could not find an experiment design strategy for " + design.eClass().getName());
+    }
+}
@@ -0,0 +1,115 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Full factorial design over a subset of the variations, e.g., over the variations a screening
+ * design found to be significant. All other variations stay at their first factor level. Design
+ * points that have already been analyzed, e.g., by the screening design, are excluded.
+ */
+public class FocusedFactorialDesignStrategy implements IExperimentDesignStrategy {
+
+    private final boolean[] focused;
+    private final Set<List<Integer>> excludedDesignPoints = new LinkedHashSet<List<Integer>>();
+
+    /**
+     * Default constructor.
+     * 
+     * @param focused
+     *            whether each variation is varied over all of its factor levels.
+     * @param excludedDesignPoints
+     *            the design points not to be created again; each holds the index of the factor
+     *            level of each variation.
+     */
+    public FocusedFactorialDesignStrategy(final boolean[] focused, final Iterator<int[]> excludedDesignPoints) {
+        this.focused = focused.clone();
+        while (excludedDesignPoints.hasNext()) {
+            this.excludedDesignPoints.add(toList(excludedDesignPoints.next()));
+        }
+    }
+
+    @Override
+    public long size(final int[] levelCounts) {
+        final int[] focusedLevelCounts = this.getFocusedLevelCounts(levelCounts);
+        long size = new FullFactorialDesignStrategy().size(focusedLevelCounts);
+        for (final List<Integer> excludedDesignPoint : this.excludedDesignPoints) {
+            if (isWithin(excludedDesignPoint, focusedLevelCounts)) {
+                size--;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<int[]> createDesign(final int[] levelCounts) {
+        final Iterator<int[]> fullFactorialDesign = new FullFactorialDesignStrategy().createDesign(this
+                .getFocusedLevelCounts(levelCounts));
+
+        return new Iterator<int[]>() {
+
+            /** The next design point; <code>null</code> if not yet determined. */
+            private int[] nextDesignPoint;
+
+            @Override
+            public boolean hasNext() {
+                while (this.nextDesignPoint == null && fullFactorialDesign.hasNext()) {
+                    final int[] designPoint = fullFactorialDesign.next();
+                    if (!FocusedFactorialDesignStrategy.this.excludedDesignPoints.contains(toList(designPoint))) {
+                        this.nextDesignPoint = designPoint;
+                    }
+                }
+                return this.nextDesignPoint != null;
+            }
+
+            @Override
+            public int[] next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int[] designPoint = this.nextDesignPoint;
+                this.nextDesignPoint = null;
+                return designPoint;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+        };
+    }
+
+    /**
+     * Returns the level counts of the focused variations; all other variations have a single level.
+     */
+    private int[] getFocusedLevelCounts(final int[] levelCounts) {
+        final int[] focusedLevelCounts = new int[levelCounts.length];
+        for (int i = 0; i < levelCounts.length; i++) {
+            focusedLevelCounts[i] = this.focused[i] ? levelCounts[i] : Math.min(levelCounts[i], 1);
+        }
+        return focusedLevelCounts;
+    }
+
+    private static boolean isWithin(final List<Integer> designPoint, final int[] levelCounts) {
+        for (int i = 0; i < levelCounts.length; i++) {
+            if (designPoint.get(i) >= levelCounts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Integer> toList(final int[] designPoint) {
+        final List<Integer> list = new ArrayList<Integer>(designPoint.length);
+        for (final int level : designPoint) {
+            list.add(level);
+        }
+        return list;
+    }
+
+}
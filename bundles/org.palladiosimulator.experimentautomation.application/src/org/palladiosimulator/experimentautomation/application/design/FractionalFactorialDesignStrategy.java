@@ -0,0 +1,46 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Two-level fractional factorial design 2^(k-p). The first k-p variations form a full factorial
+ * design with the smallest number of design points that allows to estimate all k main effects;
+ * the levels of the remaining p variations are given by interactions of the first ones, highest
+ * order interactions first. For example, 7 variations are analyzed in 8 design points and 4
+ * variations in 8 design points of resolution IV.
+ */
+public class FractionalFactorialDesignStrategy extends AbstractTwoLevelDesignStrategy {
+
+    @Override
+    protected List<int[]> createDesignMatrix(final int factors) {
+        int baseFactors = 1;
+        while ((1 << baseFactors) < factors + 1) {
+            baseFactors++;
+        }
+
+        final List<Integer> generators = new ArrayList<Integer>();
+        for (int order = baseFactors; order >= 2 && generators.size() < factors - baseFactors; order--) {
+            for (int mask = 1; mask < (1 << baseFactors) && generators.size() < factors - baseFactors; mask++) {
+                if (Integer.bitCount(mask) == order) {
+                    generators.add(mask);
+                }
+            }
+        }
+
+        final List<int[]> matrix = new ArrayList<int[]>();
+        for (int run = 0; run < (1 << baseFactors); run++) {
+            // high where the bit of the run is set; the first base factor varies slowest
+            final int levels = Integer.reverse(run) >>> (Integer.SIZE - baseFactors);
+
+            final int[] row = new int[factors];
+            for (int factor = 0; factor < factors; factor++) {
+                final int mask = factor < baseFactors ? 1 << factor : generators.get(factor - baseFactors);
+                row[factor] = Integer.bitCount(~levels & mask) % 2 == 0 ? 1 : -1;
+            }
+            matrix.add(row);
+        }
+        return matrix;
+    }
+
+}
@@ -0,0 +1,64 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Full factorial design, i.e., all combinations of factor levels. Design points are created on
+ * demand; the first variation varies slowest, the last one fastest.
+ */
+public class FullFactorialDesignStrategy implements IExperimentDesignStrategy {
+
+    @Override
+    public long size(final int[] levelCounts) {
+        long size = 1;
+        for (final int levelCount : levelCounts) {
+            size *= levelCount;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<int[]> createDesign(final int[] levelCounts) {
+        return new Iterator<int[]>() {
+
+            /** Index of the current factor level of each variation; <code>null</code> when exhausted. */
+            private int[] position = FullFactorialDesignStrategy.this.size(levelCounts) > 0
+                    ? new int[levelCounts.length] : null;
+
+            @Override
+            public boolean hasNext() {
+                return this.position != null;
+            }
+
+            @Override
+            public int[] next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                final int[] designPoint = this.position.clone();
+                this.advance();
+                return designPoint;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            private void advance() {
+                for (int i = this.position.length - 1; i >= 0; i--) {
+                    this.position[i]++;
+                    if (this.position[i] < levelCounts[i]) {
+                        return;
+                    }
+                    this.position[i] = 0;
+                }
+                this.position = null;
+            }
+
+        };
+    }
+
+}
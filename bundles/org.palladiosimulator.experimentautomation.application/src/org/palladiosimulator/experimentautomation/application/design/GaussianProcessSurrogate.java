@@ -0,0 +1,161 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gaussian-process regression of a scalar response over factor vectors; a cheap surrogate of the
+ * analysis runs that predicts the response of factor vectors not analyzed so far, including the
+ * uncertainty of this prediction.
+ * 
+ * Factor vectors are expected to be normalized to the unit hypercube. The kernel is a squared
+ * exponential with a fixed length scale. The prior mean is the mean of the observed responses, and
+ * the signal variance is their variance, but at least {@link #MIN_SIGNAL_VARIANCE}; a small noise
+ * variance accounts for the noise of simulation results.
+ */
+public class GaussianProcessSurrogate {
+
+    private static final double LENGTH_SCALE = 0.25;
+    private static final double MIN_SIGNAL_VARIANCE = 0.01;
+
+    /** Noise variance relative to the signal variance. */
+    private static final double NOISE_RATIO = 0.01;
+
+    private final List<double[]> inputs = new ArrayList<double[]>();
+    private final List<Double> responses = new ArrayList<Double>();
+
+    private double mean = 0.0;
+    private double signalVariance = MIN_SIGNAL_VARIANCE;
+
+    /** Lower triangular Cholesky factor of the covariance matrix of the observations. */
+    private double[][] cholesky = new double[0][0];
+
+    /** Inverse of the covariance matrix times the centered responses. */
+    private double[] weights = new double[0];
+
+    /**
+     * Adds an observed response and fits the surrogate to all observations.
+     * 
+     * @param factors
+     *            the normalized factor vector.
+     * @param response
+     *            the observed response.
+     */
+    public void addObservation(final double[] factors, final double response) {
+        this.inputs.add(factors.clone());
+        this.responses.add(response);
+        this.fit();
+    }
+
+    public int getObservationCount() {
+        return this.inputs.size();
+    }
+
+    /**
+     * Predicts the response of the given factor vector.
+     * 
+     * @param factors
+     *            the normalized factor vector.
+     * @return the mean of the predicted response.
+     */
+    public double predictMean(final double[] factors) {
+        double prediction = this.mean;
+        for (int i = 0; i < this.inputs.size(); i++) {
+            prediction += this.kernel(this.inputs.get(i), factors) * this.weights[i];
+        }
+        return prediction;
+    }
+
+    /**
+     * Predicts the uncertainty of the response of the given factor vector.
+     * 
+     * @param factors
+     *            the normalized factor vector.
+     * @return the standard deviation of the predicted response.
+     */
+    public double predictStandardDeviation(final double[] factors) {
+        final double[] covariances = new double[this.inputs.size()];
+        for (int i = 0; i < covariances.length; i++) {
+            covariances[i] = this.kernel(this.inputs.get(i), factors);
+        }
+
+        final double[] v = this.solveLower(covariances);
+        double variance = this.signalVariance;
+        for (final double element : v) {
+            variance -= element * element;
+        }
+        return Math.sqrt(Math.max(variance, 0.0));
+    }
+
+    private void fit() {
+        final int n = this.inputs.size();
+
+        double sum = 0.0;
+        for (final double response : this.responses) {
+            sum += response;
+        }
+        this.mean = sum / n;
+
+        double squares = 0.0;
+        for (final double response : this.responses) {
+            squares += (response - this.mean) * (response - this.mean);
+        }
+        this.signalVariance = n > 1 ? Math.max(squares / (n - 1), MIN_SIGNAL_VARIANCE) : MIN_SIGNAL_VARIANCE;
+
+        // Cholesky decomposition of the covariance matrix, which is positive definite due to noise
+        this.cholesky = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= i; j++) {
+                double value = this.kernel(this.inputs.get(i), this.inputs.get(j));
+                if (i == j) {
+                    value += NOISE_RATIO * this.signalVariance;
+                }
+                for (int k = 0; k < j; k++) {
+                    value -= this.cholesky[i][k] * this.cholesky[j][k];
+                }
+                this.cholesky[i][j] = i == j ? Math.sqrt(value) : value / this.cholesky[j][j];
+            }
+        }
+
+        final double[] centered = new double[n];
+        for (int i = 0; i < n; i++) {
+            centered[i] = this.responses.get(i) - this.mean;
+        }
+        this.weights = this.solveUpper(this.solveLower(centered));
+    }
+
+    private double kernel(final double[] first, final double[] second) {
+        double squaredDistance = 0.0;
+        for (int i = 0; i < first.length; i++) {
+            squaredDistance += (first[i] - second[i]) * (first[i] - second[i]);
+        }
+        return this.signalVariance * Math.exp(-squaredDistance / (2 * LENGTH_SCALE * LENGTH_SCALE));
+    }
+
+    /** Solves L x = b by forward substitution. */
+    private double[] solveLower(final double[] b) {
+        final double[] x = new double[b.length];
+        for (int i = 0; i < b.length; i++) {
+            double value = b[i];
+            for (int k = 0; k < i; k++) {
+                value -= this.cholesky[i][k] * x[k];
+            }
+            x[i] = value / this.cholesky[i][i];
+        }
+        return x;
+    }
+
+    /** Solves L^T x = b by backward substitution. */
+    private double[] solveUpper(final double[] b) {
+        final double[] x = new double[b.length];
+        for (int i = b.length - 1; i >= 0; i--) {
+            double value = b[i];
+            for (int k = i + 1; k < b.length; k++) {
+                value -= this.cholesky[k][i] * x[k];
+            }
+            x[i] = value / this.cholesky[i][i];
+        }
+        return x;
+    }
+
+}
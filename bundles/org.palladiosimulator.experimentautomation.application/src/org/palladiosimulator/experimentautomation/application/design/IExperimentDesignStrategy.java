@@ -0,0 +1,31 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.Iterator;
+
+/**
+ * Interface for generating the design points of an experiment design. A design point assigns a
+ * factor level to each variation; strategies only deal with the indices of these levels, so they
+ * are independent of the actual factor values.
+ */
+public interface IExperimentDesignStrategy {
+
+    /**
+     * Computes the number of design points without creating them.
+     * 
+     * @param levelCounts
+     *            the number of factor levels of each variation.
+     * @return the number of design points.
+     */
+    public long size(int[] levelCounts);
+
+    /**
+     * Creates the design points of the design.
+     * 
+     * @param levelCounts
+     *            the number of factor levels of each variation.
+     * @return an iterator over the design points; each design point holds the index of the factor
+     *         level of each variation.
+     */
+    public Iterator<int[]> createDesign(int[] levelCounts);
+
+}
@@ -0,0 +1,91 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Latin hypercube design with a given number of samples N. The levels of each variation are
+ * divided into N strata of equal size, and each stratum is sampled exactly once; the strata of the
+ * variations are combined by random permutations. Hence, N design points cover the range of each
+ * variation evenly, independent of the number of variations.
+ * 
+ * The permutations are drawn from a generator with a fixed seed, so the same design points are
+ * generated whenever the design is created, e.g., when a campaign is resumed. Samples that coincide
+ * because a variation has less than N levels are analyzed once.
+ */
+public class LatinHypercubeDesignStrategy implements IExperimentDesignStrategy {
+
+    private static final long SEED = 0x4c48534cL;
+
+    private final int sampleCount;
+
+    /**
+     * Default constructor.
+     * 
+     * @param sampleCount
+     *            the number of samples N.
+     */
+    public LatinHypercubeDesignStrategy(final int sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    @Override
+    public long size(final int[] levelCounts) {
+        return this.createDesignPoints(levelCounts).size();
+    }
+
+    @Override
+    public Iterator<int[]> createDesign(final int[] levelCounts) {
+        return this.createDesignPoints(levelCounts).iterator();
+    }
+
+    private List<int[]> createDesignPoints(final int[] levelCounts) {
+        final List<int[]> designPoints = new ArrayList<int[]>();
+        for (final int levelCount : levelCounts) {
+            if (levelCount == 0) {
+                return designPoints;
+            }
+        }
+        if (this.sampleCount <= 0) {
+            return designPoints;
+        }
+
+        final Random random = new Random(SEED);
+        final List<List<Integer>> permutations = new ArrayList<List<Integer>>();
+        for (int i = 0; i < levelCounts.length; i++) {
+            final List<Integer> permutation = new ArrayList<Integer>();
+            for (int stratum = 0; stratum < this.sampleCount; stratum++) {
+                permutation.add(stratum);
+            }
+            Collections.shuffle(permutation, random);
+            permutations.add(permutation);
+        }
+
+        final Set<List<Integer>> distinctDesignPoints = new LinkedHashSet<List<Integer>>();
+        for (int sample = 0; sample < this.sampleCount; sample++) {
+            final Integer[] designPoint = new Integer[levelCounts.length];
+            for (int i = 0; i < levelCounts.length; i++) {
+                // level of the stratum; strata and levels coincide if there are N levels
+                final long stratum = permutations.get(i).get(sample);
+                designPoint[i] = (int) (stratum * levelCounts[i] / this.sampleCount);
+            }
+            distinctDesignPoints.add(Arrays.asList(designPoint));
+        }
+
+        for (final List<Integer> distinctDesignPoint : distinctDesignPoints) {
+            final int[] designPoint = new int[distinctDesignPoint.size()];
+            for (int i = 0; i < designPoint.length; i++) {
+                designPoint[i] = distinctDesignPoint.get(i);
+            }
+            designPoints.add(designPoint);
+        }
+        return designPoints;
+    }
+
+}
@@ -0,0 +1,118 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Morris elementary-effects design with a given number of trajectories r. Each trajectory starts
+ * at a random design point of the factor grid and moves one variation at a time by a fixed step,
+ * until each variation has been moved once. Hence, a trajectory consists of k + 1 design points for
+ * k variations with more than one level, and the difference of the responses of two consecutive
+ * design points is an elementary effect of the moved variation.
+ * 
+ * The step of a variation with L levels is L / 2 levels, rounded down, upwards if possible and
+ * downwards otherwise. Start points and the order in which variations are moved are drawn from a
+ * generator with a fixed seed, so the same design points are generated whenever the design is
+ * created, e.g., when a campaign is resumed. Design points shared by several trajectories are
+ * analyzed once.
+ */
+public class MorrisDesignStrategy implements IExperimentDesignStrategy {
+
+    private static final long SEED = 0x4d4f5252L;
+
+    private final int trajectoryCount;
+
+    /**
+     * Default constructor.
+     * 
+     * @param trajectoryCount
+     *            the number of trajectories r.
+     */
+    public MorrisDesignStrategy(final int trajectoryCount) {
+        this.trajectoryCount = trajectoryCount;
+    }
+
+    @Override
+    public long size(final int[] levelCounts) {
+        return this.createDesignPoints(levelCounts).size();
+    }
+
+    @Override
+    public Iterator<int[]> createDesign(final int[] levelCounts) {
+        return this.createDesignPoints(levelCounts).iterator();
+    }
+
+    /**
+     * Creates the trajectories of the design.
+     * 
+     * @param levelCounts
+     *            the number of factor levels of each variation.
+     * @return the trajectories; each consists of design points that differ from their predecessor
+     *         in the level of a single variation.
+     */
+    public List<List<int[]>> createTrajectories(final int[] levelCounts) {
+        final List<List<int[]>> trajectories = new ArrayList<List<int[]>>();
+        for (final int levelCount : levelCounts) {
+            if (levelCount == 0) {
+                return trajectories;
+            }
+        }
+
+        final List<Integer> movedVariations = new ArrayList<Integer>();
+        for (int i = 0; i < levelCounts.length; i++) {
+            if (levelCounts[i] > 1) {
+                movedVariations.add(i);
+            }
+        }
+
+        final Random random = new Random(SEED);
+        for (int trajectory = 0; trajectory < this.trajectoryCount; trajectory++) {
+            final List<int[]> designPoints = new ArrayList<int[]>();
+            int[] designPoint = new int[levelCounts.length];
+            for (final int i : movedVariations) {
+                designPoint[i] = random.nextInt(levelCounts[i]);
+            }
+            designPoints.add(designPoint);
+
+            Collections.shuffle(movedVariations, random);
+            for (final int i : movedVariations) {
+                final int step = levelCounts[i] / 2;
+                designPoint = designPoint.clone();
+                designPoint[i] += designPoint[i] + step < levelCounts[i] ? step : -step;
+                designPoints.add(designPoint);
+            }
+            trajectories.add(designPoints);
+        }
+        return trajectories;
+    }
+
+    private List<int[]> createDesignPoints(final int[] levelCounts) {
+        final Set<List<Integer>> distinctDesignPoints = new LinkedHashSet<List<Integer>>();
+        for (final List<int[]> trajectory : this.createTrajectories(levelCounts)) {
+            for (final int[] designPoint : trajectory) {
+                final Integer[] levels = new Integer[designPoint.length];
+                for (int i = 0; i < levels.length; i++) {
+                    levels[i] = designPoint[i];
+                }
+                distinctDesignPoints.add(Arrays.asList(levels));
+            }
+        }
+
+        final List<int[]> designPoints = new ArrayList<int[]>();
+        for (final List<Integer> distinctDesignPoint : distinctDesignPoints) {
+            final int[] designPoint = new int[distinctDesignPoint.size()];
+            for (int i = 0; i < designPoint.length; i++) {
+                designPoint[i] = distinctDesignPoint.get(i);
+            }
+            designPoints.add(designPoint);
+        }
+        return designPoints;
+    }
+
+}
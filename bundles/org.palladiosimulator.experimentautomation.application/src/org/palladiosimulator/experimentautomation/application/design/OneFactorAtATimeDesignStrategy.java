@@ -0,0 +1,46 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * One-factor-at-a-time design. Starting from a baseline design point, in which each variation is
+ * at its first factor level, each variation in turn takes all its other factor levels while the
+ * remaining variations stay at the baseline. Hence, the number of design points is the sum of the
+ * numbers of levels, not their product.
+ */
+public class OneFactorAtATimeDesignStrategy implements IExperimentDesignStrategy {
+
+    @Override
+    public long size(final int[] levelCounts) {
+        long size = 1;
+        for (final int levelCount : levelCounts) {
+            if (levelCount == 0) {
+                return 0;
+            }
+            size += levelCount - 1;
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<int[]> createDesign(final int[] levelCounts) {
+        if (this.size(levelCounts) == 0) {
+            return Collections.<int[]> emptyList().iterator();
+        }
+
+        final List<int[]> design = new ArrayList<int[]>();
+        design.add(new int[levelCounts.length]);
+        for (int i = 0; i < levelCounts.length; i++) {
+            for (int level = 1; level < levelCounts[i]; level++) {
+                final int[] designPoint = new int[levelCounts.length];
+                designPoint[i] = level;
+                design.add(designPoint);
+            }
+        }
+        return design.iterator();
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.palladiosimulator.experimentautomation.application.design;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plackett-Burman screening design. For k variations, the design consists of N design points,
+ * where N is the smallest supported multiple of 4 greater than k, e.g., 8 design points for 7
+ * variations and 12 for 11 variations. The main effects of the variations can be estimated
+ * independently of each other, assuming that interactions are negligible.
+ * 
+ * Designs with 12, 20, and 24 design points are constructed by cyclically shifting the generator
+ * rows given by Plackett and Burman; other sizes are powers of 2 constructed as Sylvester-type
+ * Hadamard matrices.
+ */
+public class PlacketBurmanDesignStrategy extends AbstractTwoLevelDesignStrategy {
+
+    /** Generator rows for the run counts that are no powers of 2, indexed by run count. */
+    private static final String[] GENERATORS = new String[25];
+
+    static {
+        GENERATORS[12] = "++-+++---+-";
+        GENERATORS[20] = "++--++++-+-+----++-";
+        GENERATORS[24] = "+++++-+-++--++--+-+----";
+    }
+
+    @Override
+    protected List<int[]> createDesignMatrix(final int factors) {
+        final int runs = getRunCount(factors);
+        final List<int[]> matrix = new ArrayList<int[]>(runs);
+
+        if (runs < GENERATORS.length && GENERATORS[runs] != null) {
+            final String generator = GENERATORS[runs];
+            for (int run = 0; run < runs - 1; run++) {
+                final int[] row = new int[factors];
+                for (int factor = 0; factor < factors; factor++) {
+                    final int index = (factor - run + generator.length()) % generator.length();
+                    row[factor] = generator.charAt(index) == '+' ? 1 : -1;
+                }
+                matrix.add(row);
+            }
+            final int[] lastRow = new int[factors];
+            for (int factor = 0; factor < factors; factor++) {
+                lastRow[factor] = -1;
+            }
+            matrix.add(lastRow);
+        } else {
+            // columns 1 to N-1 of the Sylvester-type Hadamard matrix of order N
+            for (int run = 0; run < runs; run++) {
+                final int[] row = new int[factors];
+                for (int factor = 0; factor < factors; factor++) {
+                    row[factor] = Integer.bitCount(run & (factor + 1)) % 2 == 0 ? 1 : -1;
+                }
+                matrix.add(row);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Returns the smallest supported run count that allows to screen the given number of factors.
+     */
+    private static int getRunCount(final int factors) {
+        int powerOfTwo = 4;
+        while (powerOfTwo <= factors) {
+            powerOfTwo *= 2;
+        }
+
+        for (int runs = factors + 1; runs < Math.min(powerOfTwo, GENERATORS.length); runs++) {
+            if (GENERATORS[runs] != null) {
+                return runs;
+            }
+        }
+        return powerOfTwo;
+    }
+
+}
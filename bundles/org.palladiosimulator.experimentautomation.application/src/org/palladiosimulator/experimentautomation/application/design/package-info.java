@@ -0,0 +1,4 @@
+/**
+ * Generators of experiment designs, i.e., of the design points analyzed in an experiment.
+ */
+package org.palladiosimulator.experimentautomation.application.design;
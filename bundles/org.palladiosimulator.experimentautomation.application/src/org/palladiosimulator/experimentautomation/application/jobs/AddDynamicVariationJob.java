@@ -1,7 +1,9 @@
 package org.palladiosimulator.experimentautomation.application.jobs;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -10,23 +12,34 @@ import javax.measure.quantity.Dimensionless;
 import javax.measure.quantity.Duration;
 import javax.measure.unit.SI;
 
+import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPointRepository;
 import org.palladiosimulator.edp2.models.measuringpoint.MeasuringpointFactory;
 import org.palladiosimulator.edp2.models.measuringpoint.StringMeasuringPoint;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
 import org.palladiosimulator.experimentautomation.application.tooladapter.IToolAdapter;
 import org.palladiosimulator.experimentautomation.application.tooladapter.RunAnalysisJob;
+import org.palladiosimulator.experimentautomation.application.variation.CapacityFrontierSearch;
+import org.palladiosimulator.experimentautomation.application.variation.PriorCapacityLookup;
+import org.palladiosimulator.experimentautomation.application.variation.SequentialViolationTest;
 import org.palladiosimulator.experimentautomation.application.variation.valueprovider.AbstractNestedIntervalsValueProviderStrategy;
 import org.palladiosimulator.experimentautomation.application.variation.valueprovider.IValueProviderStrategy;
 import org.palladiosimulator.experimentautomation.application.variation.valueprovider.NestedIntervalsDoubleValueProviderStrategy;
 import org.palladiosimulator.experimentautomation.application.variation.valueprovider.NestedIntervalsLongValueProviderStrategy;
 import org.palladiosimulator.experimentautomation.application.variation.valueprovider.ValueProviderFactory;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.ValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
 import org.palladiosimulator.measurementframework.BasicMeasurement;
 import org.palladiosimulator.measurementframework.MeasuringValue;
 import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
 import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
 import org.palladiosimulator.recorderframework.AbstractRecorder;
 import org.palladiosimulator.recorderframework.config.AbstractRecorderConfiguration;
@@ -41,18 +54,77 @@ import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
 import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
 
+/**
+ * Conducts the capacity search of a run: further analysis runs adapt the factors of the variations
+ * with nested-intervals value providers until the largest SLO-compliant factors are found, and the
+ * resulting capacities are recorded as tuple measurements.
+ * 
+ * With a single such variation, its interval is searched as described in
+ * {@link AbstractNestedIntervalsValueProviderStrategy}: galloping until an SLO is violated, then
+ * narrowing the bracket by bisection or, for a capacity
+ * parallelism k greater than 1, by k-section. The latter analyzes k values of the interval
+ * concurrently, each on an isolated copy of the blackboard (see {@link IsolatedParallelJob}), and
+ * narrows the interval to the section containing the capacity. With several of them, the capacity
+ * frontier is searched instead (see {@link CapacityFrontierSearch}); the i-th frontier point is
+ * recorded at point in time i for each variation, with the measuring point "System Capacity
+ * Frontier: " followed by the name of the variation; frontier searches require a maximum value.
+ * 
+ * The search of a single variation may be warm-started with the capacity a previous search recorded
+ * for the same experiment, tool configuration, and factors of all other variations (see
+ * {@link PriorCapacityLookup}). The prior capacity is journaled, so that a resumed search replays
+ * its steps from the same prior capacity.
+ * 
+ * Analysis runs after the first one may be given a wall-clock budget; runs exceeding it, or the
+ * wall-clock stop condition of the experiment, are considered to violate an SLO. Furthermore, they
+ * are watched for SLO violations and aborted as soon as one is certain (see
+ * {@link WatchForSLOViolationsJob}).
+ * 
+ * Given a fixed seed with common random numbers, all values of a search in the same repetition are
+ * analyzed with the same seed stream, so that the decisions at neighboring values are consistent
+ * rather than blurred by sampling noise.
+ * 
+ * Given a capacity confidence, whether a value violates an SLO is decided by a
+ * {@link SequentialViolationTest} instead of a single analysis run: further runs of the value, each
+ * with a seed stream not used by any repetition of the experiment, are conducted until the test is
+ * confident. The capacity of a single variation is then accompanied by a confidence interval,
+ * recorded at points in time 0 and 1 with the measuring point "System Capacity Confidence
+ * Interval". It spans the final interval of the search, which contains the capacity if the
+ * decisions on both of its bounds are correct, and all values the test left undecided, since these
+ * lie close to the capacity. Values replayed from a campaign journal count as decided.
+ */
 public class AddDynamicVariationJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
 
+    private static final Logger LOGGER = Logger.getLogger(AddDynamicVariationJob.class);
+
     private static final Double EPSILON = 0.00001;
 
     private static final MeasuringpointFactory MEASURING_POINT_FACTORY = MeasuringpointFactory.eINSTANCE;
 
+    private static final String CAPACITY_MEASURING_POINT = "System Capacity";
+    private static final String FRONTIER_MEASURING_POINT = "System Capacity Frontier: ";
+    private static final String CONFIDENCE_INTERVAL_MEASURING_POINT = "System Capacity Confidence Interval";
+
     private final IToolAdapter toolAdapter;
     private final Experiment experiment;
     private final AbstractSimulationConfiguration simulationConfiguration;
     private final List<VariationFactorTuple> variationFactorTuples;
     private final int repetition;
     private final Map<VariationFactorTuple, AbstractNestedIntervalsValueProviderStrategy> tuples2nestedIntervals;
+    private final CampaignJournal journal;
+    private final String journalKey;
+    private final int capacityParallelism;
+    private final long probeTimeout;
+    private final double capacityConfidence;
+    private final boolean capacityWarmStart;
+
+    /** Values of the capacity variation for which sequential tests remained undecided. */
+    private final List<Object> undecidedValues = Collections.synchronizedList(new ArrayList<Object>());
+
+    /** Whether the first analysis run, conducted before this job, was complemented to a test. */
+    private boolean firstProbeTested = false;
+
+    /** Whether a prior capacity was looked up for the search of a single capacity variation. */
+    private boolean priorCapacityLookedUp = false;
 
     /** Default repository where measuring points are attached to. */
     private static final MeasuringPointRepository MEASURING_POINT_REPOSITORY = MEASURING_POINT_FACTORY
@@ -60,17 +132,53 @@ public class AddDynamicVariationJob extends SequentialBlackboardInteractingJob<M
 
     private RunAnalysisJob runAnalysisJob;
 
+    /**
+     * Default constructor; the given Experiment Automation configuration provides the campaign
+     * journal and all capacity search options. If the given analysis job is <code>null</code>, the
+     * search resumes: the journaled steps are replayed to restore the nested-interval bounds, and the
+     * search continues with the next step. Journaled steps can only be replayed with the capacity
+     * parallelism they were recorded with.
+     * 
+     * @param runAnalysisJob
+     *            the job conducting the first analysis run; <code>null</code> to resume the search.
+     * @param toolAdapter
+     *            the adapter creating further analysis runs.
+     * @param experiment
+     *            the experiment to be conducted.
+     * @param simulationConfiguration
+     *            the given analysis tool, e.g., SimuCom.
+     * @param variationFactorTuples
+     *            the variations and according value factors.
+     * @param repetition
+     *            the repetition of the experiment.
+     * @param journalKey
+     *            the key of the run in the campaign journal.
+     * @param configuration
+     *            Configuration for Experiment Automation runs.
+     */
     public AddDynamicVariationJob(final RunAnalysisJob runAnalysisJob, final IToolAdapter toolAdapter,
             final Experiment experiment, final AbstractSimulationConfiguration simulationConfiguration,
-            final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition, final String journalKey,
+            final ExperimentAutomationConfiguration configuration) {
         super(true);
 
+        final CampaignJournal journal = configuration.getJournal();
+        if (runAnalysisJob == null && journal == null) {
+            throw new IllegalArgumentException("Resuming a capacity search requires a campaign journal");
+        }
+
         this.runAnalysisJob = runAnalysisJob;
         this.toolAdapter = toolAdapter;
         this.experiment = experiment;
         this.simulationConfiguration = simulationConfiguration;
         this.variationFactorTuples = variationFactorTuples;
         this.repetition = repetition;
+        this.journal = journal;
+        this.journalKey = journalKey;
+        this.capacityParallelism = configuration.getCapacityParallelism();
+        this.probeTimeout = configuration.getCapacityProbeTimeout();
+        this.capacityConfidence = configuration.getCapacityConfidence();
+        this.capacityWarmStart = configuration.isCapacityWarmStart();
 
         this.tuples2nestedIntervals = computeNestedIntervalsValueProviders();
     }
@@ -105,86 +213,33 @@ public class AddDynamicVariationJob extends SequentialBlackboardInteractingJob<M
      */
     @Override
     public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
-        if (this.tuples2nestedIntervals.size() > 0) {
-            for (final VariationFactorTuple variationFactorTuple : this.tuples2nestedIntervals.keySet()) {
-                final AbstractNestedIntervalsValueProviderStrategy nestedInterval = this.tuples2nestedIntervals
-                        .get(variationFactorTuple);
-                if (this.runAnalysisJob.sloWasViolated()) {
-                    if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
-                        nestedInterval.setMax((Double) nestedInterval.valueAtPosition(0) - EPSILON);
-                    } else if (nestedInterval instanceof NestedIntervalsLongValueProviderStrategy) {
-                        nestedInterval.setMax((Long) nestedInterval.valueAtPosition(0) - 1L);
-                    } else {
-                        throw new RuntimeException("Unknown nested intervals provider strategy");
-                    }
-                } else {
-                    nestedInterval.setMin(nestedInterval.valueAtPosition(0));
-                }
-
-                if (nestedInterval.isConverged()) {
-                    this.tuples2nestedIntervals.remove(variationFactorTuple);
-
-                    // Config
-                    final Map<String, Object> recorderConfigurationMap = runAnalysisJob.getConfiguration();
-
-                    // Measurement
-                    final Measure<Double, Duration> pointInTimeMeasure = Measure.valueOf(0d, SI.SECOND);
-                    final List<MeasuringValue> result = new ArrayList<MeasuringValue>(2);
-                    result.add(new BasicMeasurement<Double, Duration>(pointInTimeMeasure,
-                            MetricDescriptionConstants.POINT_IN_TIME_METRIC));
-
-                    MeasuringValue resultMeasurement;
-                    if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
-                        final Measure<Double, Duration> capacityMeasure = Measure.valueOf(
-                                (Double) nestedInterval.valueAtPosition(0), SI.SECOND);
-                        result.add(new BasicMeasurement<Double, Duration>(capacityMeasure,
-                                MetricDescriptionConstants.INTER_ARRIVAL_TIME_CAPACITY));
-                        resultMeasurement = new TupleMeasurement(result,
-                                MetricDescriptionConstants.INTER_ARRIVAL_TIME_CAPACITY_TUPLE);
-                        recorderConfigurationMap.put(AbstractRecorderConfiguration.RECORDER_ACCEPTED_METRIC,
-                                MetricDescriptionConstants.INTER_ARRIVAL_TIME_CAPACITY_TUPLE);
-                    } else if (nestedInterval instanceof NestedIntervalsLongValueProviderStrategy) {
-                        final Measure<Long, Dimensionless> capacityMeasure = Measure.valueOf(
-                                (Long) nestedInterval.valueAtPosition(0), Dimensionless.UNIT);
-                        result.add(new BasicMeasurement<Long, Dimensionless>(capacityMeasure,
-                                MetricDescriptionConstants.USER_CAPACITY));
-                        resultMeasurement = new TupleMeasurement(result, MetricDescriptionConstants.USER_CAPACITY_TUPLE);
-                        recorderConfigurationMap.put(AbstractRecorderConfiguration.RECORDER_ACCEPTED_METRIC,
-                                MetricDescriptionConstants.USER_CAPACITY_TUPLE);
-                    } else {
-                        throw new RuntimeException("Unknown nested intervals provider strategy");
-                    }
+        if (!this.firstProbeTested && !this.tuples2nestedIntervals.isEmpty()) {
+            this.firstProbeTested = true;
+            // a resumed search has no first analysis run; its decision is replayed from the journal
+            if (this.runAnalysisJob != null) {
+                this.testSequentially(this.runAnalysisJob, this.variationFactorTuples, this.getBlackboard(), monitor);
+            }
+        }
+        if (!this.priorCapacityLookedUp && this.tuples2nestedIntervals.size() == 1) {
+            this.priorCapacityLookedUp = true;
+            this.warmStartSearch();
+        }
 
-                    // FIXME Create a dedicated measuring point for capacity (maybe a combination of
-                    // allocation and usage scenario? System alone is surely insufficient as we
-                    // measure capacity for a concrete usage scenario and allocation...)
-
-                    // Measuring Point
-                    final StringMeasuringPoint capacityMeasuringPoint = MEASURING_POINT_FACTORY
-                            .createStringMeasuringPoint();
-                    capacityMeasuringPoint.setMeasuringPoint("System Capacity");
-                    MEASURING_POINT_REPOSITORY.getMeasuringPoints().add(capacityMeasuringPoint);
-                    capacityMeasuringPoint.setMeasuringPointRepository(MEASURING_POINT_REPOSITORY);
-
-                    recorderConfigurationMap.put(AbstractRecorderConfiguration.MEASURING_POINT, capacityMeasuringPoint);
-
-                    // AbstractRecorder
-                    final IRecorderConfigurationFactory edp2ConfigFactory = new EDP2ReportRecorderConfigurationFactory();
-                    edp2ConfigFactory.initialize(recorderConfigurationMap);
-                    final IRecorderConfiguration recorderConfiguration = edp2ConfigFactory
-                            .createRecorderConfiguration(recorderConfigurationMap);
-                    final AbstractRecorder reportRecorder = new EDP2RawRecorder();
-
-                    // Write data
-                    reportRecorder.initialize(recorderConfiguration);
-                    reportRecorder.writeData(resultMeasurement);
-                    reportRecorder.flush();
-
-                    // Finish
-                    edp2ConfigFactory.finalizeRecorderConfigurationFactory();
-                } else {
-                    variationFactorTuple.setFactor(nestedInterval.valueAtPosition(0));
+        if (this.tuples2nestedIntervals.size() > 1) {
+            this.searchFrontier(monitor);
+        } else if (this.tuples2nestedIntervals.size() > 0 && this.capacityParallelism > 1) {
+            this.searchCapacityBySections(monitor);
+        } else if (this.tuples2nestedIntervals.size() > 0) {
+            if (this.runAnalysisJob == null) {
+                // replay journaled steps instead of repeating their analysis runs
+                for (final Boolean sloWasViolated : this.journal.getSearchSteps(this.journalKey)) {
+                    this.narrowIntervals(sloWasViolated);
                 }
+            } else {
+                if (this.journal != null) {
+                    this.journal.recordSearchStep(this.journalKey, this.runAnalysisJob.sloWasViolated());
+                }
+                this.narrowIntervals(this.runAnalysisJob.sloWasViolated());
             }
 
             if (this.tuples2nestedIntervals.size() > 0) {
@@ -194,11 +249,483 @@ public class AddDynamicVariationJob extends SequentialBlackboardInteractingJob<M
 
                 this.runAnalysisJob = this.toolAdapter.createRunAnalysisJob(this.experiment,
                         this.simulationConfiguration, this.variationFactorTuples, this.repetition);
-                this.runAnalysisJob.setBlackboard(this.getBlackboard());
-                this.runAnalysisJob.execute(monitor);
+                this.executeProbe(this.runAnalysisJob, this.variationFactorTuples, this.getBlackboard(), monitor);
 
                 this.execute(monitor);
             }
         }
     }
+
+    /**
+     * Warm-starts the search of the only capacity variation with the capacity a previous search
+     * recorded, if any. A resumed search is warm-started with the journaled prior capacity, if any,
+     * so that replaying its steps restores its bounds.
+     */
+    private void warmStartSearch() {
+        final VariationFactorTuple capacityTuple = this.tuples2nestedIntervals.keySet().iterator().next();
+        final AbstractNestedIntervalsValueProviderStrategy nestedInterval = this.tuples2nestedIntervals
+                .get(capacityTuple);
+
+        Double priorCapacity = this.journal != null ? this.journal.getPriorCapacity(this.journalKey) : null;
+        if (priorCapacity == null && this.capacityWarmStart && this.runAnalysisJob != null) {
+            final MetricDescription capacityMetric;
+            if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
+                capacityMetric = MetricDescriptionConstants.INTER_ARRIVAL_TIME_CAPACITY;
+            } else {
+                capacityMetric = MetricDescriptionConstants.USER_CAPACITY;
+            }
+            priorCapacity = PriorCapacityLookup.findPriorCapacity(this.experiment, this.simulationConfiguration,
+                    this.variationFactorTuples, capacityTuple, CAPACITY_MEASURING_POINT, capacityMetric);
+            if (priorCapacity != null && this.journal != null) {
+                this.journal.recordPriorCapacity(this.journalKey, priorCapacity);
+            }
+        }
+        if (priorCapacity == null) {
+            return;
+        }
+
+        LOGGER.info("Warm-starting capacity search of experiment " + this.experiment.getId() + ", repetition "
+                + this.repetition + " with prior capacity " + priorCapacity);
+        if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
+            nestedInterval.warmStart(priorCapacity);
+        } else {
+            nestedInterval.warmStart(Math.round(priorCapacity));
+        }
+    }
+
+    /**
+     * Narrows the intervals of all capacity searches according to the outcome of the last analysis
+     * run. Converged searches are removed and their capacity is recorded; the others set their
+     * factors to the next value to be analyzed.
+     * 
+     * @param sloWasViolated
+     *            whether an SLO was violated in the last analysis run.
+     */
+    private void narrowIntervals(final boolean sloWasViolated) {
+        for (final VariationFactorTuple variationFactorTuple : new ArrayList<VariationFactorTuple>(
+                this.tuples2nestedIntervals.keySet())) {
+            final AbstractNestedIntervalsValueProviderStrategy nestedInterval = this.tuples2nestedIntervals
+                    .get(variationFactorTuple);
+            if (sloWasViolated) {
+                if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
+                    nestedInterval.setMax((Double) nestedInterval.valueAtPosition(0) - EPSILON);
+                } else if (nestedInterval instanceof NestedIntervalsLongValueProviderStrategy) {
+                    nestedInterval.setMax((Long) nestedInterval.valueAtPosition(0) - 1L);
+                } else {
+                    throw new RuntimeException("Unknown nested intervals provider strategy");
+                }
+            } else {
+                nestedInterval.setMin(nestedInterval.valueAtPosition(0));
+            }
+
+            if (nestedInterval.isConverged()) {
+                this.tuples2nestedIntervals.remove(variationFactorTuple);
+                this.recordCapacity(nestedInterval);
+            } else {
+                variationFactorTuple.setFactor(nestedInterval.valueAtPosition(0));
+            }
+        }
+    }
+
+    /**
+     * Searches the capacity of the only variation with a nested-intervals value provider by
+     * k-section. Journaled steps are replayed in the order of the analyzed values, i.e., each
+     * round's outcomes are journaled in ascending order of the values once all of them are known.
+     */
+    private void searchCapacityBySections(final IProgressMonitor monitor) throws JobFailedException,
+            UserCanceledException {
+        final VariationFactorTuple capacityTuple = this.tuples2nestedIntervals.keySet().iterator().next();
+        final AbstractNestedIntervalsValueProviderStrategy nestedInterval = this.tuples2nestedIntervals
+                .get(capacityTuple);
+
+        final List<Boolean> steps = new ArrayList<Boolean>();
+        if (this.runAnalysisJob == null) {
+            // replay journaled steps instead of repeating their analysis runs
+            steps.addAll(this.journal.getSearchSteps(this.journalKey));
+        } else {
+            if (this.journal != null) {
+                this.journal.recordSearchStep(this.journalKey, this.runAnalysisJob.sloWasViolated());
+            }
+            steps.add(this.runAnalysisJob.sloWasViolated());
+        }
+        final Iterator<Boolean> replayedSteps = steps.iterator();
+
+        // the first step analyzed the lower bound of the interval
+        this.narrowIntervals(replayedSteps.next());
+
+        while (!this.tuples2nestedIntervals.isEmpty()) {
+            final List<?> values = nestedInterval.getSectionValues(this.capacityParallelism);
+            if (values.isEmpty()) {
+                this.tuples2nestedIntervals.remove(capacityTuple);
+                this.recordCapacity(nestedInterval);
+                break;
+            }
+
+            final List<Boolean> outcomes = new ArrayList<Boolean>(values.size());
+            while (outcomes.size() < values.size() && replayedSteps.hasNext()) {
+                outcomes.add(replayedSteps.next());
+            }
+            if (outcomes.size() < values.size()) {
+                outcomes.addAll(this.analyzeConcurrently(capacityTuple, values.subList(outcomes.size(),
+                        values.size()), monitor));
+            }
+
+            // assuming monotonicity, the capacity lies below the first violating value
+            final int firstViolation = outcomes.indexOf(Boolean.TRUE);
+            if (firstViolation >= 0) {
+                final Object violatingValue = values.get(firstViolation);
+                if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
+                    nestedInterval.setMax((Double) violatingValue - EPSILON);
+                } else {
+                    nestedInterval.setMax((Long) violatingValue - 1L);
+                }
+            }
+            if (firstViolation != 0 && !nestedInterval.isConverged()) {
+                nestedInterval.setMin(values.get((firstViolation < 0 ? values.size() : firstViolation) - 1));
+            }
+
+            if (nestedInterval.isConverged()) {
+                this.tuples2nestedIntervals.remove(capacityTuple);
+                this.recordCapacity(nestedInterval);
+            }
+        }
+    }
+
+    /**
+     * Analyzes the given values of the capacity variation concurrently and journals the outcomes.
+     * 
+     * @return whether an SLO was violated, for each value.
+     */
+    private List<Boolean> analyzeConcurrently(final VariationFactorTuple capacityTuple, final List<?> values,
+            final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final IsolatedParallelJob parallelJob = new IsolatedParallelJob(values.size());
+        final List<RunAnalysisJob> runAnalysisJobs = new ArrayList<RunAnalysisJob>(values.size());
+        for (final Object value : values) {
+            final List<VariationFactorTuple> probe = new ArrayList<VariationFactorTuple>();
+            for (final VariationFactorTuple variationFactorTuple : this.variationFactorTuples) {
+                probe.add(new VariationFactorTuple<Object>(variationFactorTuple.getVariation(),
+                        variationFactorTuple == capacityTuple ? value : variationFactorTuple.getFactor()));
+            }
+
+            final RunAnalysisJob probeAnalysisJob = this.toolAdapter.createRunAnalysisJob(this.experiment,
+                    this.simulationConfiguration, probe, this.repetition);
+            final SequentialBlackboardInteractingJob<MDSDBlackboard> probeJob = new SequentialBlackboardInteractingJob<MDSDBlackboard>(
+                    false) {
+
+                @Override
+                public void execute(final IProgressMonitor monitor) throws JobFailedException,
+                        UserCanceledException {
+                    final IBlackboardInteractingJob<MDSDBlackboard> varyJob = new VaryJob(probe);
+                    varyJob.setBlackboard(this.getBlackboard());
+                    varyJob.execute(monitor);
+
+                    AddDynamicVariationJob.this.executeProbe(probeAnalysisJob, probe, this.getBlackboard(), monitor);
+                }
+
+            };
+            parallelJob.addParallelJob(probeJob);
+            runAnalysisJobs.add(probeAnalysisJob);
+        }
+        parallelJob.setBlackboard(this.getBlackboard());
+        parallelJob.execute(monitor);
+
+        final List<Boolean> outcomes = new ArrayList<Boolean>(values.size());
+        for (final RunAnalysisJob probeAnalysisJob : runAnalysisJobs) {
+            if (this.journal != null) {
+                this.journal.recordSearchStep(this.journalKey, probeAnalysisJob.sloWasViolated());
+            }
+            outcomes.add(probeAnalysisJob.sloWasViolated());
+            this.runAnalysisJob = probeAnalysisJob;
+        }
+        return outcomes;
+    }
+
+    /**
+     * Analyzes the given factors of the capacity search and decides whether they violate an SLO,
+     * by the given analysis run and, given a capacity confidence, further ones.
+     */
+    private void executeProbe(final RunAnalysisJob probeAnalysisJob, final List<VariationFactorTuple> probe,
+            final MDSDBlackboard blackboard, final IProgressMonitor monitor) throws JobFailedException,
+            UserCanceledException {
+        probeAnalysisJob.setBlackboard(blackboard);
+        this.executeWithinBudget(probeAnalysisJob, monitor);
+        this.testSequentially(probeAnalysisJob, probe, blackboard, monitor);
+    }
+
+    /**
+     * Complements the given, executed analysis run by further runs of the same factors until a
+     * sequential test decides whether the factors violate an SLO; the decision overrides the outcome
+     * of the given run. Does nothing without a capacity confidence.
+     */
+    private void testSequentially(final RunAnalysisJob probeAnalysisJob, final List<VariationFactorTuple> probe,
+            final MDSDBlackboard blackboard, final IProgressMonitor monitor) throws JobFailedException,
+            UserCanceledException {
+        if (this.capacityConfidence <= 0.0) {
+            return;
+        }
+
+        final SequentialViolationTest test = new SequentialViolationTest(this.capacityConfidence);
+        test.record(probeAnalysisJob.sloWasViolated());
+        while (!test.isFinished()) {
+            // seed streams beyond those of all repetitions keep the runs independent
+            final int sampleRepetition = this.repetition + test.getRuns()
+                    * Math.max(this.experiment.getRepetitions(), 1);
+            final RunAnalysisJob sampleAnalysisJob = this.toolAdapter.createRunAnalysisJob(this.experiment,
+                    this.simulationConfiguration, probe, sampleRepetition);
+            sampleAnalysisJob.setBlackboard(blackboard);
+            this.executeWithinBudget(sampleAnalysisJob, monitor);
+            test.record(sampleAnalysisJob.sloWasViolated());
+        }
+
+        if (!test.isDecided()) {
+            LOGGER.warn("Sequential test of " + probe + " remained undecided after " + test.getRuns()
+                    + " analysis runs; decided by majority");
+            if (this.tuples2nestedIntervals.size() == 1) {
+                final Variation capacityVariation = this.tuples2nestedIntervals.keySet().iterator().next()
+                        .getVariation();
+                for (final VariationFactorTuple variationFactorTuple : probe) {
+                    if (variationFactorTuple.getVariation() == capacityVariation) {
+                        this.undecidedValues.add(variationFactorTuple.getFactor());
+                    }
+                }
+            }
+        }
+        probeAnalysisJob.setSloWasViolated(test.isViolated());
+    }
+
+    /**
+     * Executes an analysis run of the capacity search within the wall-clock budget, if any, or the
+     * wall-clock time of the run if shorter (see {@link RunAnalysisJob#setWallClockBudget(long)}).
+     * Runs timing out are considered to violate an SLO, since long runs indicate an overloaded
+     * system. Independently of the budget, runs are aborted once an SLO is certainly violated.
+     */
+    private void executeWithinBudget(final RunAnalysisJob probeAnalysisJob, final IProgressMonitor monitor)
+            throws JobFailedException, UserCanceledException {
+        probeAnalysisJob.setWatchSlos(true);
+        if (this.probeTimeout > 0 && (probeAnalysisJob.getWallClockBudget() <= 0
+                || probeAnalysisJob.getWallClockBudget() > this.probeTimeout)) {
+            probeAnalysisJob.setWallClockBudget(this.probeTimeout);
+        }
+
+        probeAnalysisJob.execute(monitor);
+        if (probeAnalysisJob.wasTimedOut()) {
+            LOGGER.info("Analysis run of experiment " + this.experiment.getId() + " exceeded its wall-clock budget of "
+                    + probeAnalysisJob.getWallClockBudget() + " ms; considered as SLO violation");
+            probeAnalysisJob.setSloWasViolated();
+        }
+    }
+
+    /**
+     * Records the capacity found by the given nested intervals and, given a capacity confidence, its
+     * confidence interval.
+     */
+    private void recordCapacity(final AbstractNestedIntervalsValueProviderStrategy nestedInterval) {
+        final List<Object> capacities = new ArrayList<Object>(1);
+        capacities.add(nestedInterval.getMin());
+        this.recordCapacities(CAPACITY_MEASURING_POINT, nestedInterval, capacities);
+
+        if (this.capacityConfidence > 0.0) {
+            Object lowerBound = nestedInterval.getMin();
+            Object upperBound = nestedInterval.getMax();
+            synchronized (this.undecidedValues) {
+                for (final Object undecidedValue : this.undecidedValues) {
+                    if (((Number) undecidedValue).doubleValue() < ((Number) lowerBound).doubleValue()) {
+                        lowerBound = undecidedValue;
+                    }
+                    if (((Number) undecidedValue).doubleValue() > ((Number) upperBound).doubleValue()) {
+                        upperBound = undecidedValue;
+                    }
+                }
+            }
+
+            final List<Object> bounds = new ArrayList<Object>(2);
+            bounds.add(lowerBound);
+            bounds.add(upperBound);
+            this.recordCapacities(CONFIDENCE_INTERVAL_MEASURING_POINT, nestedInterval, bounds);
+
+            // both bounds of the final interval are decided with the given confidence
+            final double confidenceLevel = Math.max(1.0 - 2.0 * (1.0 - this.capacityConfidence), 0.0);
+            LOGGER.info("Capacity of experiment " + this.experiment.getId() + ", repetition " + this.repetition
+                    + ": " + nestedInterval.getMin() + ", confidence interval [" + lowerBound + ", " + upperBound
+                    + "] at a confidence level of " + confidenceLevel);
+        }
+    }
+
+    /**
+     * Searches the capacity frontier spanned by all variations with nested-intervals value
+     * providers. Each analysis run is a step of the search; journaled steps are replayed as for a
+     * single capacity variation.
+     */
+    private void searchFrontier(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        // the order of the variations determines the search, which has to be reproducible
+        final List<VariationFactorTuple> capacityTuples = new ArrayList<VariationFactorTuple>();
+        for (final VariationFactorTuple variationFactorTuple : this.variationFactorTuples) {
+            if (this.tuples2nestedIntervals.containsKey(variationFactorTuple)) {
+                capacityTuples.add(variationFactorTuple);
+            }
+        }
+
+        final double[] minima = new double[capacityTuples.size()];
+        final double[] maxima = new double[capacityTuples.size()];
+        final boolean[] integral = new boolean[capacityTuples.size()];
+        for (int i = 0; i < capacityTuples.size(); i++) {
+            final ValueProvider valueProvider = capacityTuples.get(i).getVariation().getValueProvider();
+            if (valueProvider instanceof NestedIntervalsLongValueProvider) {
+                minima[i] = ((NestedIntervalsLongValueProvider) valueProvider).getMinValue();
+                maxima[i] = ((NestedIntervalsLongValueProvider) valueProvider).getMaxValue();
+                integral[i] = true;
+            } else if (valueProvider instanceof NestedIntervalsDoubleValueProvider) {
+                minima[i] = ((NestedIntervalsDoubleValueProvider) valueProvider).getMinValue();
+                maxima[i] = ((NestedIntervalsDoubleValueProvider) valueProvider).getMaxValue();
+            } else {
+                throw new RuntimeException("Unknown nested intervals provider strategy");
+            }
+            if (maxima[i] <= minima[i]) {
+                throw new JobFailedException("Capacity frontier search requires a maximum value for variation "
+                        + capacityTuples.get(i).getVariation().getName());
+            }
+        }
+
+        final CapacityFrontierSearch search = new CapacityFrontierSearch(minima, maxima, integral);
+        if (this.runAnalysisJob == null) {
+            // replay journaled steps instead of repeating their analysis runs
+            for (final Boolean sloWasViolated : this.journal.getSearchSteps(this.journalKey)) {
+                search.record(sloWasViolated);
+            }
+        } else {
+            if (this.journal != null) {
+                this.journal.recordSearchStep(this.journalKey, this.runAnalysisJob.sloWasViolated());
+            }
+            search.record(this.runAnalysisJob.sloWasViolated());
+        }
+
+        while (!search.isConverged()) {
+            final double[] probe = search.getProbe();
+            for (int i = 0; i < capacityTuples.size(); i++) {
+                if (integral[i]) {
+                    capacityTuples.get(i).setFactor((long) probe[i]);
+                } else {
+                    capacityTuples.get(i).setFactor(probe[i]);
+                }
+            }
+
+            final IBlackboardInteractingJob<MDSDBlackboard> varyJob = new VaryJob(this.variationFactorTuples);
+            varyJob.setBlackboard(this.getBlackboard());
+            varyJob.execute(monitor);
+
+            this.runAnalysisJob = this.toolAdapter.createRunAnalysisJob(this.experiment,
+                    this.simulationConfiguration, this.variationFactorTuples, this.repetition);
+            this.executeProbe(this.runAnalysisJob, this.variationFactorTuples, this.getBlackboard(), monitor);
+
+            if (this.journal != null) {
+                this.journal.recordSearchStep(this.journalKey, this.runAnalysisJob.sloWasViolated());
+            }
+            search.record(this.runAnalysisJob.sloWasViolated());
+        }
+
+        if (search.getFrontier().isEmpty()) {
+            LOGGER.warn("Capacity frontier of experiment " + this.experiment.getId() + ", repetition "
+                    + this.repetition + " is empty: an SLO is violated at the minimum of all capacity variations");
+        }
+        for (int i = 0; i < capacityTuples.size() && !search.getFrontier().isEmpty(); i++) {
+            final List<Object> capacities = new ArrayList<Object>(search.getFrontier().size());
+            for (final double[] frontierPoint : search.getFrontier()) {
+                if (integral[i]) {
+                    capacities.add((long) frontierPoint[i]);
+                } else {
+                    capacities.add(frontierPoint[i]);
+                }
+            }
+            this.recordCapacities(FRONTIER_MEASURING_POINT + capacityTuples.get(i).getVariation().getName(),
+                    this.tuples2nestedIntervals.get(capacityTuples.get(i)), capacities);
+        }
+        this.tuples2nestedIntervals.clear();
+    }
+
+    /**
+     * Records the given capacities as tuple measurements, the i-th capacity at point in time i.
+     * 
+     * @param measuringPointName
+     *            the name of the measuring point.
+     * @param nestedInterval
+     *            the nested intervals of the capacity variation, which determine the metric.
+     * @param capacities
+     *            the capacities to be recorded.
+     */
+    private void recordCapacities(final String measuringPointName,
+            final AbstractNestedIntervalsValueProviderStrategy nestedInterval, final List<Object> capacities) {
+        // Config
+        final Map<String, Object> recorderConfigurationMap = this.getRecorderConfigurationMap();
+        if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
+            recorderConfigurationMap.put(AbstractRecorderConfiguration.RECORDER_ACCEPTED_METRIC,
+                    MetricDescriptionConstants.INTER_ARRIVAL_TIME_CAPACITY_TUPLE);
+        } else if (nestedInterval instanceof NestedIntervalsLongValueProviderStrategy) {
+            recorderConfigurationMap.put(AbstractRecorderConfiguration.RECORDER_ACCEPTED_METRIC,
+                    MetricDescriptionConstants.USER_CAPACITY_TUPLE);
+        } else {
+            throw new RuntimeException("Unknown nested intervals provider strategy");
+        }
+
+        // FIXME Create a dedicated measuring point for capacity (maybe a combination of
+        // allocation and usage scenario? System alone is surely insufficient as we
+        // measure capacity for a concrete usage scenario and allocation...)
+
+        // Measuring Point
+        final StringMeasuringPoint capacityMeasuringPoint = MEASURING_POINT_FACTORY.createStringMeasuringPoint();
+        capacityMeasuringPoint.setMeasuringPoint(measuringPointName);
+        MEASURING_POINT_REPOSITORY.getMeasuringPoints().add(capacityMeasuringPoint);
+        capacityMeasuringPoint.setMeasuringPointRepository(MEASURING_POINT_REPOSITORY);
+
+        recorderConfigurationMap.put(AbstractRecorderConfiguration.MEASURING_POINT, capacityMeasuringPoint);
+
+        // AbstractRecorder
+        final IRecorderConfigurationFactory edp2ConfigFactory = new EDP2ReportRecorderConfigurationFactory();
+        edp2ConfigFactory.initialize(recorderConfigurationMap);
+        final IRecorderConfiguration recorderConfiguration = edp2ConfigFactory
+                .createRecorderConfiguration(recorderConfigurationMap);
+        final AbstractRecorder reportRecorder = new EDP2RawRecorder();
+        reportRecorder.initialize(recorderConfiguration);
+
+        // Write data
+        for (int i = 0; i < capacities.size(); i++) {
+            final Measure<Double, Duration> pointInTimeMeasure = Measure.valueOf((double) i, SI.SECOND);
+            final List<MeasuringValue> result = new ArrayList<MeasuringValue>(2);
+            result.add(new BasicMeasurement<Double, Duration>(pointInTimeMeasure,
+                    MetricDescriptionConstants.POINT_IN_TIME_METRIC));
+
+            MeasuringValue resultMeasurement;
+            if (nestedInterval instanceof NestedIntervalsDoubleValueProviderStrategy) {
+                final Measure<Double, Duration> capacityMeasure = Measure.valueOf((Double) capacities.get(i),
+                        SI.SECOND);
+                result.add(new BasicMeasurement<Double, Duration>(capacityMeasure,
+                        MetricDescriptionConstants.INTER_ARRIVAL_TIME_CAPACITY));
+                resultMeasurement = new TupleMeasurement(result,
+                        MetricDescriptionConstants.INTER_ARRIVAL_TIME_CAPACITY_TUPLE);
+            } else {
+                final Measure<Long, Dimensionless> capacityMeasure = Measure.valueOf((Long) capacities.get(i),
+                        Dimensionless.UNIT);
+                result.add(new BasicMeasurement<Long, Dimensionless>(capacityMeasure,
+                        MetricDescriptionConstants.USER_CAPACITY));
+                resultMeasurement = new TupleMeasurement(result, MetricDescriptionConstants.USER_CAPACITY_TUPLE);
+            }
+            reportRecorder.writeData(resultMeasurement);
+        }
+        reportRecorder.flush();
+
+        // Finish
+        edp2ConfigFactory.finalizeRecorderConfigurationFactory();
+    }
+
+    /**
+     * Returns the configuration of the last analysis run for recording capacities. When a resumed
+     * search converges while replaying the journal, no analysis run exists yet; its configuration
+     * is created instead.
+     */
+    private Map<String, Object> getRecorderConfigurationMap() {
+        if (this.runAnalysisJob == null) {
+            this.runAnalysisJob = this.toolAdapter.createRunAnalysisJob(this.experiment, this.simulationConfiguration,
+                    this.variationFactorTuples, this.repetition);
+        }
+        return this.runAnalysisJob.getConfiguration();
+    }
 }
@@ -4,6 +4,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.measure.Measure;
+import javax.measure.quantity.Quantity;
+
+import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.palladiosimulator.edp2.dao.exception.DataNotAccessibleException;
 import org.palladiosimulator.edp2.datastream.IDataSource;
@@ -23,6 +27,7 @@ import org.palladiosimulator.measurementframework.MeasuringValue;
 import org.palladiosimulator.measurementframework.measureprovider.IMeasureProvider;
 import org.palladiosimulator.metricspec.MetricDescription;
 import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
 import org.palladiosimulator.servicelevelobjective.ServiceLevelObjective;
 import org.palladiosimulator.servicelevelobjective.ServiceLevelObjectiveRepository;
 import org.palladiosimulator.servicelevelobjective.edp2.filters.SLOViolationEDP2DatasourceFilter;
@@ -36,12 +41,26 @@ import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
 /**
  * This jobs checks for SLO violations and calls
  * <code>this.runAnalysisJob.setSloWasViolated()</code> if it was violated at least once. Therefore,
- * such SLO-violating analysis runs are marked.
+ * such SLO-violating analysis runs are marked. Furthermore, the largest ratio of violating
+ * measurements is provided as continuous response of the analysis run.
+ * 
+ * Measurements of the warm-up period of an analysis run are not counted. The warm-up period of each
+ * SLO's measurements is detected by a {@link WarmUpDetector}, unless the analysis run already
+ * provides a truncation point for them, e.g., one journaled for another repetition of the same
+ * design point (see {@link RunAnalysisJob#getTruncationTimes()}). Detected truncation points are
+ * stored with the analysis run.
+ * 
+ * Analysis runs aborted by a {@link WatchForSLOViolationsJob} are not checked again.
  * 
  * @author Sebastian Lehrig
  */
 public class CheckForSLOViolationsJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
 
+    private static final Logger LOGGER = Logger.getLogger(CheckForSLOViolationsJob.class);
+
+    /** Ratio of violating measurements above which an SLO counts as violated. */
+    public static final double VIOLATION_RATIO_THRESHOLD = 0.1;
+
     /**
      * The job conducting an analysis and providing measurement results to the persistence
      * framework.
@@ -90,6 +109,10 @@ public class CheckForSLOViolationsJob extends SequentialBlackboardInteractingJob
      */
     @Override
     public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        if (this.runAnalysisJob.wasAbortedOnSloViolation()) {
+            // the measurements of an aborted run are incomplete; its violation was already decided
+            return;
+        }
 
         final long sloViolations = computeSloViolations();
 
@@ -111,6 +134,7 @@ public class CheckForSLOViolationsJob extends SequentialBlackboardInteractingJob
         final ExperimentRun experimentRun = this.experimentSetting.getExperimentRuns().get(lastExperiment);
 
         long sloViolations = 0L;
+        double maxViolationRatio = 0.0;
         for (final ServiceLevelObjective serviceLevelObjective : this.serviceLevelObjectives
                 .getServicelevelobjectives()) {
             final Measurement measurement = findMeasurement(experimentRun.getMeasurement(), serviceLevelObjective);
@@ -120,27 +144,93 @@ public class CheckForSLOViolationsJob extends SequentialBlackboardInteractingJob
             properties.put(SLOViolationEDP2DatasourceFilterConfiguration.SLO_KEY, serviceLevelObjective);
 
             final IDataSource dataSource = new Edp2DataTupleDataSource(rawMeasurements);
-            final IDataStream<IMeasureProvider> measurements = dataSource.getDataStream();
-            final long totalMeasurements = measurements.size();
-            measurements.close();
+            final String truncationKey = measurement.getMeasuringType().getMeasuringPoint().getStringRepresentation()
+                    + " " + serviceLevelObjective.getMeasurementSpecification().getMetricDescription().getId();
+            Double truncationTime = this.runAnalysisJob.getTruncationTimes().get(truncationKey);
+            final long totalMeasurements;
+            if (truncationTime == null) {
+                final WarmUpDetector warmUpDetector = new WarmUpDetector();
+                final long allMeasurements = detectWarmUp(dataSource,
+                        serviceLevelObjective.getMeasurementSpecification().getMetricDescription(), warmUpDetector);
+                totalMeasurements = allMeasurements - warmUpDetector.getTruncatedObservations();
+                truncationTime = warmUpDetector.getTruncationTime();
+                this.runAnalysisJob.getTruncationTimes().put(truncationKey, truncationTime);
+                if (warmUpDetector.getTruncatedObservations() > 0) {
+                    LOGGER.info("Warm-up period of SLO \"" + serviceLevelObjective.getName() + "\" ends at "
+                            + truncationTime + " after " + warmUpDetector.getTruncatedObservations() + " of "
+                            + allMeasurements + " measurements");
+                }
+            } else {
+                final IDataStream<IMeasureProvider> measurements = dataSource.getDataStream();
+                totalMeasurements = countMeasurementsFrom(measurements, truncationTime);
+                measurements.close();
+            }
 
             final SLOViolationEDP2DatasourceFilter sloFilter = new SLOViolationEDP2DatasourceFilter(dataSource);
             sloFilter.setProperties(properties);
             final IDataStream<MeasuringValue> dataStream = sloFilter.getDataStream();
 
             if (totalMeasurements > 0) {
-                final double percentageOfViolations = ((double) dataStream.size()) / ((double) totalMeasurements);
-                if (percentageOfViolations > 0.1) {
+                final double percentageOfViolations = ((double) countMeasurementsFrom(dataStream, truncationTime))
+                        / ((double) totalMeasurements);
+                if (percentageOfViolations > VIOLATION_RATIO_THRESHOLD) {
                     sloViolations++;
                 }
+                maxViolationRatio = Math.max(maxViolationRatio, percentageOfViolations);
             }
 
             dataStream.close();
         }
 
+        this.runAnalysisJob.setSloViolationRatio(maxViolationRatio);
         return sloViolations;
     }
 
+    /**
+     * Passes all measurements of the given data source to the given warm-up detector.
+     * 
+     * @return the number of measurements.
+     */
+    private static long detectWarmUp(final IDataSource dataSource, final MetricDescription metric,
+            final WarmUpDetector warmUpDetector) {
+        long count = 0;
+        final IDataStream<IMeasureProvider> measurements = dataSource.getDataStream();
+        try {
+            for (final IMeasureProvider measureProvider : measurements) {
+                final Measure<Number, Quantity> measure = measureProvider.getMeasureForMetric(metric);
+                warmUpDetector.add(getPointInTime(measureProvider), measure.getValue().doubleValue());
+                count++;
+            }
+        } finally {
+            measurements.close();
+        }
+        return count;
+    }
+
+    /**
+     * Counts the measurements of the given data stream taken at or after the given point in time.
+     */
+    private static long countMeasurementsFrom(final IDataStream<? extends IMeasureProvider> measurements,
+            final double pointInTime) {
+        if (pointInTime == Double.NEGATIVE_INFINITY) {
+            return measurements.size();
+        }
+
+        long count = 0;
+        for (final IMeasureProvider measureProvider : measurements) {
+            if (getPointInTime(measureProvider) >= pointInTime) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static double getPointInTime(final IMeasureProvider measureProvider) {
+        final Measure<Number, Quantity> pointInTime = measureProvider
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+        return pointInTime.getValue().doubleValue();
+    }
+
     /**
      * Finds the measurements referenced by the SLO in the given measurements lists. For
      * identification, this methods tries to match metric IDs and measuring point names.
@@ -184,7 +274,10 @@ public class CheckForSLOViolationsJob extends SequentialBlackboardInteractingJob
                 + "\" not found. MeasurementList has " + measurementList.size() + " elements.");
     }
 
-    private boolean containsMetric(final MetricDescription metric, final MetricDescription metricToCheckFor) {
+    /**
+     * Checks whether the given metric is, or subsumes, the metric to check for.
+     */
+    static boolean containsMetric(final MetricDescription metric, final MetricDescription metricToCheckFor) {
         if (metric == metricToCheckFor || metric.getId().equals(metricToCheckFor.getId())) {
             return true;
         }
@@ -1,27 +1,94 @@
 package org.palladiosimulator.experimentautomation.application.jobs;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
-import org.palladiosimulator.experimentautomation.application.variation.valueprovider.IValueProviderStrategy;
-import org.palladiosimulator.experimentautomation.application.variation.valueprovider.ValueProviderFactory;
+import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+import org.palladiosimulator.experimentautomation.application.scheduling.DesignPointScheduler;
+import org.palladiosimulator.experimentautomation.application.surface.ExperimentGroupResponses;
+import org.palladiosimulator.experimentautomation.application.surface.ResponseStatistic;
+import org.palladiosimulator.experimentautomation.application.variation.AdaptiveDesignPointIterator;
+import org.palladiosimulator.experimentautomation.application.variation.DesignPointIterator;
+import org.palladiosimulator.experimentautomation.application.variation.IDesignPointResponseRecorder;
+import org.palladiosimulator.experimentautomation.application.variation.MonotonePruner;
+import org.palladiosimulator.experimentautomation.application.variation.MorrisSensitivityAnalysis;
+import org.palladiosimulator.experimentautomation.application.variation.MorrisSensitivityAnalysis.Sensitivity;
+import org.palladiosimulator.experimentautomation.application.variation.ScreeningDesignPoints;
+import org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
-import org.palladiosimulator.experimentautomation.experiments.Variation;
-import org.palladiosimulator.experimentautomation.experiments.util.ExperimentsSwitch;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.servicelevelobjective.ServiceLevelObjective;
+import org.palladiosimulator.servicelevelobjective.ServiceLevelObjectiveRepository;
 
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
 import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
 
 /**
  * This job computes all variation variants that should be executed in an experiment run.
  * Furthermore, it adds vary and run experiment jobs for each considered variant.
  * 
+ * Variants (design points) are enumerated according to the experiment design by a
+ * {@link DesignPointIterator} while this job executes; the jobs of a variant are created right
+ * before they are needed and dropped afterwards. Hence, memory consumption does not grow with the
+ * number of variants. Variants whose repetitions are all listed as completed in the campaign
+ * journal are skipped; for designs depending on responses, their journaled SLO violation ratios are
+ * replayed as responses.
+ * 
+ * Variants of an {@link AdaptiveDesign} are chosen one after another by an
+ * {@link AdaptiveDesignPointIterator}, based on the SLO violation ratios of the variants analyzed
+ * before; hence, they are never analyzed concurrently.
+ * 
+ * Variants of a {@link ScreeningDesign} are analyzed in two stages (see
+ * {@link ScreeningDesignPoints}): a Plackett-Burman design over all variations, followed by a full
+ * factorial design over the variations with a significant main effect. Within each stage, variants
+ * may be analyzed concurrently.
+ * 
+ * Variants of a {@link MorrisDesign} lie on one-at-a-time trajectories. After all of them have
+ * been analyzed, the sensitivity of the mean of each SLO's measurements, e.g., of the mean response
+ * time, to each variation is computed from the EDP2 data (see {@link MorrisSensitivityAnalysis})
+ * and logged as ranking.
+ * 
+ * Variants that are dominated along monotone variations by a variant violating an SLO are not
+ * analyzed either (see {@link MonotonePruner}); their violation is inferred, logged, and recorded
+ * in the campaign journal. For designs depending on responses, the violation ratio inferred from
+ * the dominating variants is recorded as response.
+ * 
+ * Given a campaign budget, the repetitions of all variants are announced to it as pending analysis
+ * runs once the variants are enumerated; skipped variants are withdrawn again. Variants with a
+ * timed-out repetition are logged and not considered for pruning.
+ * 
+ * When variants are analyzed concurrently, they are ordered longest-expected-first by a
+ * {@link DesignPointScheduler}, except that variants which may prune others are analyzed first;
+ * whether a variant is pruned is decided right before it is started. In any case, the scheduler
+ * reports the progress and the estimated time remaining.
+ * 
  * @author Sebastian Lehrig
  */
 public class ComputeVariantsAndAddExperimentJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
 
+    private static final Logger LOGGER = Logger.getLogger(ComputeVariantsAndAddExperimentJob.class);
+
+    private final Experiment experiment;
+    private final AbstractSimulationConfiguration simulationConfiguration;
+    private final ExperimentAutomationConfiguration configuration;
+    private final MonotonePruner pruner = new MonotonePruner();
+
     /**
      * Default Constructor.
      * 
@@ -32,105 +99,346 @@ public class ComputeVariantsAndAddExperimentJob extends SequentialBlackboardInte
      */
     public ComputeVariantsAndAddExperimentJob(final Experiment experiment,
             final AbstractSimulationConfiguration simulationConfiguration) {
-        super(false);
-
-        // Note: Calling recursive method
-        this.computeVariantsAndAddJob(experiment, simulationConfiguration, experiment.getVariations(),
-                new ArrayList<VariationFactorTuple>());
+        this(experiment, simulationConfiguration, new ExperimentAutomationConfiguration());
     }
 
     /**
-     * TODO There should really be an explanation here describing variations vs. variants! I guess,
-     * Philipp has some clue? [Lehrig]
-     * 
-     * Recursive call, each time reducing variations by 1. Initially, variants and
-     * currentFactorLevels are empty. Seems to be something statistical done here like trying out
-     * each pair-wise combination... Related to
-     * http://en.wikipedia.org/wiki/Fractional_factorial_design ?
+     * Constructor for a given Experiment Automation configuration. If the configuration allows a
+     * parallelism greater than 1, design points are analyzed concurrently, each on its own isolated
+     * copy of the blackboard.
      * 
      * @param experiment
      *            the experiment to be conducted.
      * @param simulationConfiguration
      *            the given analysis tool, e.g., SimuCom.
-     * @param variations
-     *            the given variations to be considered.
-     * @param variationFactorTuples
-     *            the variants of the given variations as well as the concrete values to be used for
-     *            a given variation.
+     * @param configuration
+     *            Configuration for Experiment Automation runs, e.g., the degree of parallelism.
+     */
+    public ComputeVariantsAndAddExperimentJob(final Experiment experiment,
+            final AbstractSimulationConfiguration simulationConfiguration,
+            final ExperimentAutomationConfiguration configuration) {
+        super(false);
+
+        this.experiment = experiment;
+        this.simulationConfiguration = simulationConfiguration;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        if (ExperimentsPackage.eINSTANCE.getAdaptiveDesign().isInstance(this.experiment.getExperimentDesign())) {
+            this.executeAdaptiveDesign(monitor);
+            return;
+        } else if (ExperimentsPackage.eINSTANCE.getScreeningDesign().isInstance(
+                this.experiment.getExperimentDesign())) {
+            this.executeScreeningDesign(monitor);
+            return;
+        }
+
+        final DesignPointIterator designPoints = new DesignPointIterator(this.experiment.getVariations(),
+                this.experiment.getExperimentDesign());
+        LOGGER.info("Experiment " + this.experiment.getId() + " has " + designPoints.size() + " design points");
+        this.executeDesignPoints(designPoints, new DesignPointIterator(this.experiment.getVariations(),
+                this.experiment.getExperimentDesign()), null, monitor);
+
+        if (ExperimentsPackage.eINSTANCE.getMorrisDesign().isInstance(this.experiment.getExperimentDesign())) {
+            this.analyzeSensitivities();
+        }
+    }
+
+    /**
+     * Ranks the variations of the Morris design of the experiment by their influence on the mean of
+     * the measurements of each SLO, based on all analysis runs of the experiment.
+     */
+    private void analyzeSensitivities() {
+        final ServiceLevelObjectiveRepository serviceLevelObjectives = this.experiment.getInitialModel()
+                .getServiceLevelObjectives();
+        if (serviceLevelObjectives == null || serviceLevelObjectives.getServicelevelobjectives().isEmpty()) {
+            LOGGER.warn("Experiment " + this.experiment.getId()
+                    + " has no SLOs; Morris designs analyze the sensitivity of SLO measurements");
+            return;
+        }
+
+        final MorrisSensitivityAnalysis analysis = new MorrisSensitivityAnalysis(this.experiment.getVariations(),
+                (MorrisDesign) this.experiment.getExperimentDesign());
+        final Set<String> analyzedResponses = new HashSet<String>();
+        for (final ServiceLevelObjective serviceLevelObjective : serviceLevelObjectives
+                .getServicelevelobjectives()) {
+            final String measuringPoint = serviceLevelObjective.getMeasurementSpecification().getMonitor()
+                    .getMeasuringPoint().getStringRepresentation();
+            final MetricDescription metric = serviceLevelObjective.getMeasurementSpecification()
+                    .getMetricDescription();
+            if (!analyzedResponses.add(measuringPoint + "/" + metric.getId())) {
+                continue;
+            }
+
+            final ExperimentGroupResponses responses = ExperimentGroupResponses.collect(this.experiment,
+                    this.simulationConfiguration, measuringPoint, metric, ResponseStatistic.MEAN);
+            LOGGER.info("Sensitivity of the mean " + metric.getName() + " at " + measuringPoint + " in experiment "
+                    + this.experiment.getId() + " (" + responses.getResponses().size() + " analysis runs):");
+            for (final Sensitivity sensitivity : analysis.computeSensitivities(responses.getFactorVectors(),
+                    responses.getResponses())) {
+                LOGGER.info("  " + sensitivity);
+            }
+        }
+    }
+
+    /**
+     * Analyzes the given design points, concurrently if the configuration allows a parallelism
+     * greater than 1. The estimated design points have to equal the given ones; they are only
+     * consumed for estimating the time remaining.
      */
-    private void computeVariantsAndAddJob(final Experiment experiment,
-            final AbstractSimulationConfiguration simulationConfiguration, final List<Variation> variations,
-            final List<VariationFactorTuple> variationFactorTuples) {
-        if (variations.isEmpty()) {
-            final List<VariationFactorTuple> variationsAndFactorsCopy = new ArrayList<VariationFactorTuple>();
-            variationsAndFactorsCopy.addAll(variationFactorTuples);
-
-            this.add(new VaryJob(variationsAndFactorsCopy));
-            this.add(new RepeatExperimentJob(experiment, simulationConfiguration, variationsAndFactorsCopy));
+    private void executeDesignPoints(final DesignPointIterator designPoints,
+            final DesignPointIterator estimatedDesignPoints, final IDesignPointResponseRecorder responseRecorder,
+            final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final DesignPointScheduler scheduler = new DesignPointScheduler(this.experiment,
+                this.simulationConfiguration, this.configuration.getCostHistory());
+        this.addPendingRuns(designPoints.size());
+        if (this.configuration.getParallelism() > 1) {
+            // the factor levels of all design points are kept in memory for ordering them
+            final IsolatedParallelJob parallelJob = new IsolatedParallelJob(this.configuration.getParallelism(),
+                    this.createDesignPointJobs(scheduler.schedule(designPoints).iterator(), scheduler,
+                            responseRecorder));
+            this.executeDesignPointJob(parallelJob, monitor);
         } else {
-            // obtain variation description
-            final List<Variation> copy = new ArrayList<Variation>();
-            copy.addAll(variations);
-            final Variation variation = copy.remove(0);
-
-            new ExperimentsSwitch<Void>() {
-
-                @Override
-                public Void caseNestedIntervalsLongValueProvider(
-                        org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider object) {
-                    // obtain long value provider
-                    final IValueProviderStrategy<Long> valueProvider = ValueProviderFactory
-                            .createLongValueProvider(object);
-
-                    long factorLevel = 0;
-                    int iteration = 0;
-                    while (factorLevel <= (long) variation.getMaxValue() && iteration < variation.getMaxVariations()) {
-                        factorLevel = valueProvider.valueAtPosition(iteration);
-                        if (factorLevel == -1) {
-                            break;
-                        }
+            scheduler.start(estimatedDesignPoints);
+            this.executeDesignPointJobs(this.createDesignPointJobs(designPoints, scheduler, responseRecorder),
+                    monitor);
+        }
+    }
 
-                        if (factorLevel >= (long) variation.getMinValue()
-                                && factorLevel <= (long) variation.getMaxValue()) {
-                            variationFactorTuples.add(new VariationFactorTuple<Long>(variation, factorLevel));
-                            ComputeVariantsAndAddExperimentJob.this.computeVariantsAndAddJob(experiment,
-                                    simulationConfiguration, copy, variationFactorTuples);
-                            variationFactorTuples.remove(variationFactorTuples.size() - 1);
-                        }
+    /**
+     * Analyzes the design points of the screening design of the experiment: first the screening
+     * stage, then the focused stage, which depends on the responses of the screening stage.
+     */
+    private void executeScreeningDesign(final IProgressMonitor monitor) throws JobFailedException,
+            UserCanceledException {
+        final ScreeningDesignPoints screeningDesign = new ScreeningDesignPoints(this.experiment.getVariations(),
+                (ScreeningDesign) this.experiment.getExperimentDesign());
+        LOGGER.info("Experiment " + this.experiment.getId() + " screens its variations in "
+                + screeningDesign.getScreeningSize() + " design points");
+        this.executeDesignPoints(screeningDesign.createScreeningDesignPoints(),
+                screeningDesign.createScreeningDesignPoints(), screeningDesign, monitor);
+
+        final DesignPointIterator focusedDesignPoints = screeningDesign.createFocusedDesignPoints();
+        LOGGER.info("Experiment " + this.experiment.getId() + " studies the significant variations in "
+                + focusedDesignPoints.size() + " further design points");
+        this.executeDesignPoints(focusedDesignPoints, screeningDesign.createFocusedDesignPoints(), null, monitor);
+    }
 
-                        iteration++;
+    /**
+     * Analyzes the design points of the adaptive design of the experiment one after another, each
+     * chosen based on the responses of the previous ones.
+     */
+    private void executeAdaptiveDesign(final IProgressMonitor monitor) throws JobFailedException,
+            UserCanceledException {
+        final AdaptiveDesignPointIterator designPoints = new AdaptiveDesignPointIterator(
+                this.experiment.getVariations(), (AdaptiveDesign) this.experiment.getExperimentDesign());
+        LOGGER.info("Experiment " + this.experiment.getId() + " analyzes up to " + designPoints.size() + " of "
+                + designPoints.getCandidates().size() + " candidate design points adaptively");
+        if (this.configuration.getParallelism() > 1) {
+            LOGGER.info("Design points of adaptive designs are analyzed one after another");
+        }
+
+        final DesignPointScheduler scheduler = new DesignPointScheduler(this.experiment,
+                this.simulationConfiguration, this.configuration.getCostHistory());
+        // the design points are not known upfront; the estimate assumes the first candidates
+        scheduler.start(designPoints.getCandidates().subList(0, (int) designPoints.size()).iterator());
+        this.addPendingRuns(designPoints.size());
+        this.executeDesignPointJobs(this.createDesignPointJobs(designPoints, scheduler, designPoints), monitor);
+    }
+
+    private void executeDesignPointJobs(final Iterator<IBlackboardInteractingJob<MDSDBlackboard>> jobs,
+            final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        while (jobs.hasNext()) {
+            if (monitor.isCanceled()) {
+                throw new UserCanceledException();
+            }
+            this.executeDesignPointJob(jobs.next(), monitor);
+        }
+    }
+
+    /**
+     * Creates the jobs analyzing the given design points on demand. Each job varies the models and
+     * conducts all repetitions of its design point, and reports its duration to the given
+     * scheduler. If a response recorder is given, each job records the SLO violation ratio of its
+     * design point as response; skipped design points record their journaled or inferred ratio.
+     */
+    private Iterator<IBlackboardInteractingJob<MDSDBlackboard>> createDesignPointJobs(
+            final Iterator<List<VariationFactorTuple>> designPoints, final DesignPointScheduler scheduler,
+            final IDesignPointResponseRecorder responseRecorder) {
+        return new Iterator<IBlackboardInteractingJob<MDSDBlackboard>>() {
+
+            /** The next design point to be analyzed; <code>null</code> if not yet determined. */
+            private List<VariationFactorTuple> nextDesignPoint;
+
+            @Override
+            public boolean hasNext() {
+                while (this.nextDesignPoint == null && designPoints.hasNext()) {
+                    final List<VariationFactorTuple> designPoint = designPoints.next();
+                    if (ComputeVariantsAndAddExperimentJob.this.isCompleted(designPoint, responseRecorder)) {
+                        scheduler.skipped(designPoint);
+                        ComputeVariantsAndAddExperimentJob.this.skipPendingRuns();
+                    } else if (ComputeVariantsAndAddExperimentJob.this.pruner.isDominated(designPoint)) {
+                        ComputeVariantsAndAddExperimentJob.this.inferViolation(designPoint, responseRecorder);
+                        scheduler.skipped(designPoint);
+                        ComputeVariantsAndAddExperimentJob.this.skipPendingRuns();
+                    } else {
+                        this.nextDesignPoint = designPoint;
                     }
-                    return null;
-                };
+                }
+                return this.nextDesignPoint != null;
+            }
 
-                @Override
-                public Void caseNestedIntervalsDoubleValueProvider(
-                        org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider object) {
-                    // obtain double value provider
-                    final IValueProviderStrategy<Double> valueProvider = ValueProviderFactory
-                            .createDoubleValueProvider(object);
-
-                    Double factorLevel = 0.0;
-                    int iteration = 0;
-                    while (factorLevel <= variation.getMaxValue() && iteration < variation.getMaxVariations()) {
-                        factorLevel = valueProvider.valueAtPosition(iteration);
-                        if (factorLevel == -1.0) {
-                            break;
-                        }
+            @Override
+            public IBlackboardInteractingJob<MDSDBlackboard> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final List<VariationFactorTuple> designPoint = this.nextDesignPoint;
+                this.nextDesignPoint = null;
 
-                        if (factorLevel >= variation.getMinValue() && factorLevel <= variation.getMaxValue()) {
-                            variationFactorTuples.add(new VariationFactorTuple<Double>(variation, factorLevel));
-                            ComputeVariantsAndAddExperimentJob.this.computeVariantsAndAddJob(experiment,
-                                    simulationConfiguration, copy, variationFactorTuples);
-                            variationFactorTuples.remove(variationFactorTuples.size() - 1);
-                        }
+                // capacity searches adapt the factors; the scheduler needs the original ones
+                final List<VariationFactorTuple> scheduledDesignPoint = new ArrayList<VariationFactorTuple>();
+                for (final VariationFactorTuple variationFactorTuple : designPoint) {
+                    scheduledDesignPoint.add(new VariationFactorTuple<Object>(variationFactorTuple.getVariation(),
+                            variationFactorTuple.getFactor()));
+                }
+
+                final RepeatExperimentJob repeatJob = new RepeatExperimentJob(
+                        ComputeVariantsAndAddExperimentJob.this.experiment,
+                        ComputeVariantsAndAddExperimentJob.this.simulationConfiguration, designPoint,
+                        ComputeVariantsAndAddExperimentJob.this.configuration);
+                final SequentialBlackboardInteractingJob<MDSDBlackboard> designPointJob = new SequentialBlackboardInteractingJob<MDSDBlackboard>(
+                        false) {
 
-                        iteration++;
+                    @Override
+                    public void execute(final IProgressMonitor monitor) throws JobFailedException,
+                            UserCanceledException {
+                        final long startTime = System.currentTimeMillis();
+                        super.execute(monitor);
+                        scheduler.completed(scheduledDesignPoint, System.currentTimeMillis() - startTime);
+                        if (repeatJob.wasTimedOut()) {
+                            LOGGER.warn("Design point " + scheduledDesignPoint + " of experiment "
+                                    + ComputeVariantsAndAddExperimentJob.this.experiment.getId()
+                                    + " timed out; its results are incomplete");
+                        } else if (repeatJob.sloWasViolated()) {
+                            ComputeVariantsAndAddExperimentJob.this.pruner.recordViolation(scheduledDesignPoint,
+                                    repeatJob.getSloViolationRatio());
+                        }
+                        if (responseRecorder != null) {
+                            responseRecorder.recordResponse(scheduledDesignPoint, repeatJob.getSloViolationRatio());
+                        }
                     }
-                    return null;
+
                 };
+                designPointJob.add(new VaryJob(designPoint));
+                designPointJob.add(repeatJob);
+                return designPointJob;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+        };
+    }
+
+    /**
+     * Announces the analysis runs of the given number of design points to the campaign budget, if
+     * any.
+     */
+    private void addPendingRuns(final long designPoints) {
+        if (this.configuration.getCampaignBudget() != null) {
+            this.configuration.getCampaignBudget().addPendingRuns(designPoints * this.experiment.getRepetitions());
+        }
+    }
+
+    /**
+     * Withdraws the analysis runs of a skipped design point from the campaign budget, if any.
+     */
+    private void skipPendingRuns() {
+        if (this.configuration.getCampaignBudget() != null) {
+            this.configuration.getCampaignBudget().skipPendingRuns(this.experiment.getRepetitions());
+        }
+    }
+
+    /**
+     * Checks whether the campaign journal lists all repetitions of the given design point as
+     * completed. If all of them violated an SLO, the violation is considered for pruning. The mean
+     * of the journaled SLO violation ratios is recorded as response of the design point, if a
+     * response recorder is given.
+     */
+    private boolean isCompleted(final List<VariationFactorTuple> designPoint,
+            final IDesignPointResponseRecorder responseRecorder) {
+        final CampaignJournal journal = this.configuration.getJournal();
+        if (journal == null) {
+            return false;
+        }
+
+        boolean violated = true;
+        double violationRatioSum = 0.0;
+        int violationRatioCount = 0;
+        for (int repetition = 1; repetition <= this.experiment.getRepetitions(); repetition++) {
+            final String key = CampaignJournal.createKey(this.experiment, this.simulationConfiguration, designPoint,
+                    repetition);
+            if (!journal.isCompleted(key)) {
+                return false;
+            }
+            violated &= journal.isViolated(key);
+            if (!Double.isNaN(journal.getViolationRatio(key))) {
+                violationRatioSum += journal.getViolationRatio(key);
+                violationRatioCount++;
+            }
+        }
+        final double response = violationRatioCount > 0 ? violationRatioSum / violationRatioCount : Double.NaN;
+
+        LOGGER.info("Skipping completed design point " + designPoint);
+        if (violated) {
+            this.pruner.recordViolation(designPoint, response);
+        }
+        if (responseRecorder != null) {
+            responseRecorder.recordResponse(designPoint, response);
+        }
+        return true;
+    }
+
+    /**
+     * Records the inferred SLO violation of the given design point instead of analyzing it,
+     * together with the violation ratio inferred from the dominating design points.
+     */
+    private void inferViolation(final List<VariationFactorTuple> designPoint,
+            final IDesignPointResponseRecorder responseRecorder) {
+        LOGGER.info("Skipping design point " + designPoint + " of experiment " + this.experiment.getId()
+                + ": inferred violation, a design point with less load along its monotone variations violated an SLO");
+        final double response = this.pruner.getInferredResponse(designPoint);
+
+        final CampaignJournal journal = this.configuration.getJournal();
+        if (journal != null) {
+            for (int repetition = 1; repetition <= this.experiment.getRepetitions(); repetition++) {
+                final String key = CampaignJournal.createKey(this.experiment, this.simulationConfiguration,
+                        designPoint, repetition);
+                journal.recordViolationRatio(key, response);
+                journal.markInferredViolation(key);
+            }
+        }
+        if (responseRecorder != null) {
+            responseRecorder.recordResponse(designPoint, response);
+        }
+    }
 
-            }.doSwitch(variation.getValueProvider());
+    private void executeDesignPointJob(final IBlackboardInteractingJob<MDSDBlackboard> job,
+            final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        job.setBlackboard(this.getBlackboard());
+        try {
+            job.execute(monitor);
+        } finally {
+            try {
+                job.cleanup(monitor);
+            } catch (final CleanupFailedException e) {
+                LOGGER.warn("Cleanup of " + job.getName() + " failed: " + e.getMessage());
+            }
         }
     }
 }
@@ -0,0 +1,40 @@
+package org.palladiosimulator.experimentautomation.application.jobs;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+
+/**
+ * Progress monitor acting as watchdog of a wall-clock deadline: once the deadline has passed, it
+ * reports cancellation, so that analysis tools observing the monitor, e.g., SimuCom and SimuLizar,
+ * stop their simulation. Cancellation of the wrapped monitor is passed on as usual.
+ */
+public class DeadlineProgressMonitor extends ProgressMonitorWrapper {
+
+    private final long deadline;
+
+    /**
+     * Default constructor.
+     * 
+     * @param monitor
+     *            the wrapped progress monitor.
+     * @param deadline
+     *            the deadline as returned by {@link System#currentTimeMillis()}.
+     */
+    public DeadlineProgressMonitor(final IProgressMonitor monitor, final long deadline) {
+        super(monitor);
+        this.deadline = deadline;
+    }
+
+    @Override
+    public boolean isCanceled() {
+        return super.isCanceled() || this.isExpired();
+    }
+
+    /**
+     * Checks whether the deadline has passed.
+     */
+    public boolean isExpired() {
+        return System.currentTimeMillis() > this.deadline;
+    }
+
+}
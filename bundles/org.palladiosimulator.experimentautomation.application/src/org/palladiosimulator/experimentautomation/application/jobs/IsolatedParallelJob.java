@@ -0,0 +1,220 @@
+package org.palladiosimulator.experimentautomation.application.jobs;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.palladiosimulator.experimentautomation.application.utils.BlackboardHelper;
+
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * Executes a set of jobs concurrently on a bounded number of worker threads. Each job runs on its
+ * own isolated copy of the blackboard (see {@link BlackboardHelper#createIsolatedCopy}), so jobs may
+ * freely vary and analyze their models. The copy is created right before a job is started; hence, at
+ * most <code>parallelism</code> copies exist at the same time. Jobs may also be provided by an
+ * iterator; they are then created just before they are started and dropped once they are finished.
+ * 
+ * Note that the analysis tools have to tolerate concurrent runs within the same JVM. SimuCom, for
+ * example, generates code into a shared temporary project and should therefore be run with a
+ * parallelism of 1.
+ */
+public class IsolatedParallelJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
+
+    private static final Logger LOGGER = Logger.getLogger(IsolatedParallelJob.class);
+
+    private final List<IBlackboardInteractingJob<MDSDBlackboard>> parallelJobs;
+    private final Iterator<? extends IBlackboardInteractingJob<MDSDBlackboard>> jobIterator;
+    private final int parallelism;
+
+    /**
+     * Default constructor.
+     * 
+     * @param parallelism
+     *            the maximum number of jobs executed at the same time.
+     */
+    public IsolatedParallelJob(final int parallelism) {
+        this(parallelism, null);
+    }
+
+    /**
+     * Constructor for jobs that are created on demand.
+     * 
+     * @param parallelism
+     *            the maximum number of jobs executed at the same time.
+     * @param jobIterator
+     *            provides the jobs to be executed; each job is requested right before it is started.
+     */
+    public IsolatedParallelJob(final int parallelism,
+            final Iterator<? extends IBlackboardInteractingJob<MDSDBlackboard>> jobIterator) {
+        super(false);
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism has to be at least 1");
+        }
+
+        this.parallelJobs = new ArrayList<IBlackboardInteractingJob<MDSDBlackboard>>();
+        this.jobIterator = jobIterator;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Adds a job to be executed on an isolated blackboard.
+     * 
+     * @param job
+     *            the job to be added.
+     */
+    public void addParallelJob(final IBlackboardInteractingJob<MDSDBlackboard> job) {
+        if (this.jobIterator != null) {
+            throw new IllegalStateException("Jobs of this parallel job are provided by an iterator");
+        }
+        this.parallelJobs.add(job);
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        final ExecutorService executor = Executors.newFixedThreadPool(this.parallelism);
+        final Semaphore freeWorkers = new Semaphore(this.parallelism);
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final Iterator<? extends IBlackboardInteractingJob<MDSDBlackboard>> jobs = this.jobIterator != null
+                ? this.jobIterator : this.parallelJobs.iterator();
+        Throwable failure = null;
+
+        try {
+            while (true) {
+                // wait for a free worker first; jobs provided by an iterator are determined on demand
+                freeWorkers.acquire();
+                if (monitor.isCanceled() || failed.get() || !jobs.hasNext()) {
+                    freeWorkers.release();
+                    break;
+                }
+
+                // forget finished jobs; there may be arbitrarily many of them
+                failure = collectFinished(futures, failure, false);
+
+                final IBlackboardInteractingJob<MDSDBlackboard> job = jobs.next();
+
+                // copy on this thread; the shared blackboard is never touched by workers
+                job.setBlackboard(BlackboardHelper.createIsolatedCopy(this.getBlackboard()));
+                futures.add(executor.submit(new Callable<Void>() {
+
+                    @Override
+                    public Void call() throws Exception {
+                        try {
+                            executeIsolated(job, monitor);
+                        } catch (final Exception e) {
+                            // do not start further jobs once one of them failed
+                            failed.set(true);
+                            throw e;
+                        } finally {
+                            freeWorkers.release();
+                        }
+                        return null;
+                    }
+
+                }));
+            }
+
+            failure = collectFinished(futures, failure, true);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UserCanceledException();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (failure instanceof UserCanceledException) {
+            throw (UserCanceledException) failure;
+        } else if (failure instanceof JobFailedException) {
+            throw (JobFailedException) failure;
+        } else if (failure != null) {
+            throw new JobFailedException("Parallel job failed", failure);
+        }
+
+        if (monitor.isCanceled()) {
+            throw new UserCanceledException();
+        }
+    }
+
+    private static void executeIsolated(final IBlackboardInteractingJob<MDSDBlackboard> job,
+            final IProgressMonitor parentMonitor) throws JobFailedException, UserCanceledException {
+        // progress monitors are not thread-safe; only propagate cancellation
+        final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+
+            @Override
+            public boolean isCanceled() {
+                return super.isCanceled() || parentMonitor.isCanceled();
+            }
+
+        };
+
+        try {
+            job.execute(workerMonitor);
+        } finally {
+            try {
+                job.cleanup(workerMonitor);
+            } catch (final CleanupFailedException e) {
+                LOGGER.warn("Cleanup of " + job.getName() + " failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes finished jobs from the given list of futures.
+     * 
+     * @param futures
+     *            the futures of the submitted jobs.
+     * @param failure
+     *            the first failure collected so far; <code>null</code> if none.
+     * @param wait
+     *            whether to wait for all jobs to finish.
+     * @return the first failure of all collected jobs; <code>null</code> if none.
+     */
+    private static Throwable collectFinished(final List<Future<Void>> futures, final Throwable failure,
+            final boolean wait) throws InterruptedException {
+        Throwable firstFailure = failure;
+
+        final Iterator<Future<Void>> iterator = futures.iterator();
+        while (iterator.hasNext()) {
+            final Future<Void> future = iterator.next();
+            if (!wait && !future.isDone()) {
+                continue;
+            }
+            iterator.remove();
+
+            try {
+                future.get();
+            } catch (final ExecutionException e) {
+                if (firstFailure == null) {
+                    firstFailure = e.getCause();
+                } else {
+                    LOGGER.error("Parallel job failed: " + e.getCause());
+                }
+            }
+        }
+
+        return firstFailure;
+    }
+
+    @Override
+    public String getName() {
+        return "Execute Jobs in Parallel";
+    }
+
+}
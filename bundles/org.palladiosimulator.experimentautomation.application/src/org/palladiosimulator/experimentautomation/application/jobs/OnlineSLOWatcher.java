@@ -0,0 +1,260 @@
+package org.palladiosimulator.experimentautomation.application.jobs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Quantity;
+
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.servicelevelobjective.ServiceLevelObjective;
+import org.palladiosimulator.servicelevelobjective.ServiceLevelObjectiveRepository;
+import org.palladiosimulator.servicelevelobjective.Threshold;
+
+/**
+ * Watches the measurements of a running analysis for SLO violations. Measurements are passed to the
+ * watcher by the {@link SLOWatchingRecorder} as soon as they are recorded; thus, the watcher decides
+ * during the analysis run whether it violates an SLO in the sense of
+ * {@link CheckForSLOViolationsJob}, i.e., whether the ratio of violating measurements exceeds
+ * {@link CheckForSLOViolationsJob#VIOLATION_RATIO_THRESHOLD}.
+ * 
+ * Since consecutive measurements of a queueing system are correlated, the violating measurements of
+ * each SLO are counted in batches of {@link #BATCH_SIZE} measurements. Once there are at least
+ * {@link #MIN_BATCHES} batches, the one-sided lower 99.9% confidence bound of the mean violation
+ * ratio of the batches is compared to the threshold; the analysis run violates an SLO as soon as the
+ * bound exceeds it. Measurements of the warm-up period are not truncated, which only delays the
+ * decision, as a warm-up period typically has fewer violations.
+ * 
+ * Watchers are registered for a single analysis run of an experiment setting, i.e., a design point,
+ * identified like in {@link CheckForSLOViolationsJob}. Registering assigns the watcher a run id and
+ * binds the id to the registering thread and the threads it starts, which conduct the analysis run;
+ * recorders find their watcher by the setting and the run id bound to the thread they are
+ * initialized in. Thus, concurrent analysis runs of the same setting, e.g., parallel repetitions,
+ * are watched separately.
+ */
+public class OnlineSLOWatcher {
+
+    /** Number of measurements per batch. */
+    public static final int BATCH_SIZE = 50;
+
+    /** Minimum number of batches before a violation is decided. */
+    public static final int MIN_BATCHES = 30;
+
+    /** The 99.9% quantile of the standard normal distribution. */
+    private static final double CONFIDENCE_QUANTILE = 3.090;
+
+    /** The registered watchers, by experiment group purpose, experiment setting description, and run id. */
+    private static final ConcurrentMap<String, OnlineSLOWatcher> WATCHERS =
+            new ConcurrentHashMap<String, OnlineSLOWatcher>();
+
+    /** The last assigned run id. */
+    private static final AtomicLong RUN_IDS = new AtomicLong();
+
+    /** The id of the watched analysis run conducted by the current thread, if any. */
+    private static final InheritableThreadLocal<Long> CURRENT_RUN_ID = new InheritableThreadLocal<Long>();
+
+    /**
+     * The violation counts of an SLO.
+     */
+    private static final class SLOState {
+
+        private final ServiceLevelObjective serviceLevelObjective;
+        private final String measuringPoint;
+        private final MetricDescription metric;
+
+        private long measurements = 0;
+        private long violations = 0;
+        private int batchViolations = 0;
+        private int batchMeasurements = 0;
+        private int batches = 0;
+        private double ratioSum = 0.0;
+        private double ratioSquareSum = 0.0;
+
+        private SLOState(final ServiceLevelObjective serviceLevelObjective) {
+            this.serviceLevelObjective = serviceLevelObjective;
+            this.measuringPoint = serviceLevelObjective.getMeasurementSpecification().getMonitor()
+                    .getMeasuringPoint().getStringRepresentation();
+            this.metric = serviceLevelObjective.getMeasurementSpecification().getMetricDescription();
+        }
+
+        /**
+         * Counts the given measurement and checks whether the SLO is certainly violated.
+         */
+        private boolean record(final Measure<Number, Quantity> measure) {
+            this.measurements++;
+            this.batchMeasurements++;
+            if (violates(measure, this.serviceLevelObjective.getLowerThreshold(), -1)
+                    || violates(measure, this.serviceLevelObjective.getUpperThreshold(), 1)) {
+                this.violations++;
+                this.batchViolations++;
+            }
+
+            if (this.batchMeasurements < BATCH_SIZE) {
+                return false;
+            }
+            final double ratio = (double) this.batchViolations / BATCH_SIZE;
+            this.batches++;
+            this.ratioSum += ratio;
+            this.ratioSquareSum += ratio * ratio;
+            this.batchViolations = 0;
+            this.batchMeasurements = 0;
+
+            if (this.batches < MIN_BATCHES) {
+                return false;
+            }
+            final double mean = this.ratioSum / this.batches;
+            final double variance = Math.max(0.0, (this.ratioSquareSum - this.batches * mean * mean)
+                    / (this.batches - 1));
+            final double lowerBound = mean - CONFIDENCE_QUANTILE * Math.sqrt(variance / this.batches);
+            return lowerBound > CheckForSLOViolationsJob.VIOLATION_RATIO_THRESHOLD;
+        }
+
+    }
+
+    private final String experimentGroupPurpose;
+    private final String experimentSettingDescription;
+    private final List<SLOState> states = new ArrayList<SLOState>();
+
+    /** The key of this watcher while registered; <code>null</code> otherwise. */
+    private String key = null;
+
+    /** The run id bound to the registering thread before this watcher was registered. */
+    private Long previousRunId = null;
+
+    private volatile boolean violated = false;
+    private volatile double violationRatio = 0.0;
+
+    /**
+     * Default constructor.
+     * 
+     * @param serviceLevelObjectives
+     *            the SLOs to be watched.
+     * @param experimentGroupPurpose
+     *            the unique name of the experiment run, which identifies the experiment group.
+     * @param experimentSettingDescription
+     *            the description of the experiment setting of the analysis run.
+     */
+    public OnlineSLOWatcher(final ServiceLevelObjectiveRepository serviceLevelObjectives,
+            final String experimentGroupPurpose, final String experimentSettingDescription) {
+        this.experimentGroupPurpose = experimentGroupPurpose;
+        this.experimentSettingDescription = experimentSettingDescription;
+        for (final ServiceLevelObjective serviceLevelObjective : serviceLevelObjectives.getServicelevelobjectives()) {
+            this.states.add(new SLOState(serviceLevelObjective));
+        }
+    }
+
+    /**
+     * Registers this watcher for a new analysis run of its experiment setting, so that recorders of
+     * the setting initialized by the current thread, or threads it starts, pass their measurements
+     * to it. Must be called by the thread conducting the analysis run, before the run starts.
+     */
+    public void register() {
+        final long runId = RUN_IDS.incrementAndGet();
+        this.key = createKey(this.experimentGroupPurpose, this.experimentSettingDescription, runId);
+        this.previousRunId = CURRENT_RUN_ID.get();
+        WATCHERS.put(this.key, this);
+        CURRENT_RUN_ID.set(runId);
+    }
+
+    /**
+     * Unregisters this watcher; recorders of the setting no longer find it. Must be called by the
+     * thread that registered it.
+     */
+    public void unregister() {
+        WATCHERS.remove(this.key, this);
+        this.key = null;
+        if (this.previousRunId != null) {
+            CURRENT_RUN_ID.set(this.previousRunId);
+        } else {
+            CURRENT_RUN_ID.remove();
+        }
+    }
+
+    /**
+     * Returns the watcher registered for the given experiment setting and the analysis run
+     * conducted by the current thread.
+     * 
+     * @param experimentGroupPurpose
+     *            the unique name of the experiment run, which identifies the experiment group.
+     * @param experimentSettingDescription
+     *            the description of the experiment setting.
+     * @return the watcher; <code>null</code> if the analysis run is not watched.
+     */
+    public static OnlineSLOWatcher getWatcher(final String experimentGroupPurpose,
+            final String experimentSettingDescription) {
+        final Long runId = CURRENT_RUN_ID.get();
+        if (runId == null) {
+            return null;
+        }
+        return WATCHERS.get(createKey(experimentGroupPurpose, experimentSettingDescription, runId));
+    }
+
+    /**
+     * Passes a recorded measurement to the watcher.
+     * 
+     * @param measuringPoint
+     *            the measuring point the measurement was taken at.
+     * @param metric
+     *            the metric of the measurement.
+     * @param measuringValue
+     *            the measurement.
+     */
+    public synchronized void record(final MeasuringPoint measuringPoint, final MetricDescription metric,
+            final MeasuringValue measuringValue) {
+        final String measuringPointName = measuringPoint.getStringRepresentation();
+        for (final SLOState state : this.states) {
+            if (!state.measuringPoint.equals(measuringPointName)
+                    || !CheckForSLOViolationsJob.containsMetric(metric, state.metric)) {
+                continue;
+            }
+            final Measure<Number, Quantity> measure = measuringValue.getMeasureForMetric(state.metric);
+            if (state.record(measure) && !this.violated) {
+                this.violationRatio = (double) state.violations / state.measurements;
+                this.violated = true;
+            }
+        }
+    }
+
+    /**
+     * Checks whether an SLO is certainly violated by the measurements recorded so far.
+     */
+    public boolean isViolated() {
+        return this.violated;
+    }
+
+    /**
+     * Returns the ratio of violating measurements of the SLO found to be violated; only valid once
+     * an SLO is violated.
+     */
+    public double getViolationRatio() {
+        return this.violationRatio;
+    }
+
+    /**
+     * Checks whether the given measure lies beyond the given threshold.
+     * 
+     * @param direction
+     *            1 for upper thresholds, -1 for lower thresholds.
+     */
+    private static boolean violates(final Measure<Number, Quantity> measure, final Threshold threshold,
+            final int direction) {
+        if (threshold == null) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        final Measure<?, Quantity> limit = (Measure<?, Quantity>) threshold.getThresholdLimit();
+        final double difference = measure.doubleValue(limit.getUnit()) - limit.doubleValue(limit.getUnit());
+        return direction * difference > 0.0;
+    }
+
+    private static String createKey(final String experimentGroupPurpose, final String experimentSettingDescription,
+            final long runId) {
+        return experimentGroupPurpose + " " + experimentSettingDescription + " " + runId;
+    }
+
+}
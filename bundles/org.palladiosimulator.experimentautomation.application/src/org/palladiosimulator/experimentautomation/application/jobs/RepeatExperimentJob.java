@@ -1,9 +1,11 @@
 package org.palladiosimulator.experimentautomation.application.jobs;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 
 import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
@@ -12,10 +14,17 @@ import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
 /**
  * Repeats the given experiment for a given tool and a given set of variations.
  * 
+ * Repetitions are statistically independent; each one uses its own random number stream (see
+ * {@link org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.RandomSeedStreams}).
+ * Therefore, repetitions may also be executed concurrently, each on an isolated copy of the already
+ * varied models.
+ * 
  * @author Sebastian Lehrig
  */
 public class RepeatExperimentJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
 
+    private final List<RunExperimentJob> runExperimentJobs = new ArrayList<RunExperimentJob>();
+
     /**
      * Default Constructor.
      * 
@@ -28,10 +37,104 @@ public class RepeatExperimentJob extends SequentialBlackboardInteractingJob<MDSD
      */
     public RepeatExperimentJob(final Experiment experiment, final AbstractSimulationConfiguration simulationConfiguration,
             final List<VariationFactorTuple> variationFactorTuples) {
+        this(experiment, simulationConfiguration, variationFactorTuples, new ExperimentAutomationConfiguration());
+    }
+
+    /**
+     * Constructor for a given Experiment Automation configuration. If the configuration allows a
+     * repetition parallelism greater than 1, repetitions are executed concurrently.
+     * 
+     * @param experiment
+     *            the experiment to be conducted.
+     * @param simulationConfiguration
+     *            the given analysis tool, e.g., SimuCom.
+     * @param variationFactorTuples
+     *            the variations and according value factors.
+     * @param configuration
+     *            Configuration for Experiment Automation runs, e.g., the degree of parallelism.
+     */
+    public RepeatExperimentJob(final Experiment experiment, final AbstractSimulationConfiguration simulationConfiguration,
+            final List<VariationFactorTuple> variationFactorTuples,
+            final ExperimentAutomationConfiguration configuration) {
         super(false);
 
-        for (int repetition = 1; repetition <= experiment.getRepetitions(); repetition++) {
-            this.add(new RunExperimentJob(experiment, simulationConfiguration, variationFactorTuples, repetition));
+        if (configuration.getRepetitionParallelism() > 1 && experiment.getRepetitions() > 1) {
+            final IsolatedParallelJob parallelJob = new IsolatedParallelJob(
+                    configuration.getRepetitionParallelism());
+            for (int repetition = 1; repetition <= experiment.getRepetitions(); repetition++) {
+                final RunExperimentJob runExperimentJob = new RunExperimentJob(experiment, simulationConfiguration,
+                        copyTuples(variationFactorTuples), repetition, configuration);
+                this.runExperimentJobs.add(runExperimentJob);
+                parallelJob.addParallelJob(runExperimentJob);
+            }
+            this.add(parallelJob);
+        } else {
+            for (int repetition = 1; repetition <= experiment.getRepetitions(); repetition++) {
+                final RunExperimentJob runExperimentJob = new RunExperimentJob(experiment, simulationConfiguration,
+                        copyTuples(variationFactorTuples), repetition, configuration);
+                this.runExperimentJobs.add(runExperimentJob);
+                this.add(runExperimentJob);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the design point violated an SLO. To be on the safe side, this is only the
+     * case if all repetitions violated an SLO. Only valid after this job has been executed.
+     * 
+     * @return <code>true</code> if all repetitions violated an SLO.
+     */
+    public boolean sloWasViolated() {
+        for (final RunExperimentJob runExperimentJob : this.runExperimentJobs) {
+            if (!runExperimentJob.sloWasViolated()) {
+                return false;
+            }
+        }
+        return !this.runExperimentJobs.isEmpty();
+    }
+
+    /**
+     * Returns whether a repetition of the design point timed out, i.e., exceeded its share of the
+     * campaign budget. Only valid after this job has been executed.
+     * 
+     * @return <code>true</code> if a repetition timed out.
+     */
+    public boolean wasTimedOut() {
+        for (final RunExperimentJob runExperimentJob : this.runExperimentJobs) {
+            if (runExperimentJob.wasTimedOut()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the mean of the largest ratios of SLO-violating measurements over all repetitions
+     * that provide such a ratio. Only valid after this job has been executed.
+     * 
+     * @return the mean ratio; <code>NaN</code> if no repetition provides a ratio.
+     */
+    public double getSloViolationRatio() {
+        double sum = 0.0;
+        int count = 0;
+        for (final RunExperimentJob runExperimentJob : this.runExperimentJobs) {
+            if (!Double.isNaN(runExperimentJob.getSloViolationRatio())) {
+                sum += runExperimentJob.getSloViolationRatio();
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    /**
+     * Copies the given tuples; repetitions must not share tuples as dynamic variations adapt their
+     * factors, and each repetition has to start from the factors of the design point.
+     */
+    private static List<VariationFactorTuple> copyTuples(final List<VariationFactorTuple> variationFactorTuples) {
+        final List<VariationFactorTuple> copy = new ArrayList<VariationFactorTuple>();
+        for (final VariationFactorTuple variationFactorTuple : variationFactorTuples) {
+            copy.add(new VariationFactorTuple(variationFactorTuple.getVariation(), variationFactorTuple.getFactor()));
         }
+        return copy;
     }
 }
@@ -0,0 +1,89 @@
+package org.palladiosimulator.experimentautomation.application.jobs;
+
+import java.util.List;
+
+import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
+import org.palladiosimulator.analyzer.workflow.jobs.PreparePCMBlackboardPartitionJob;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.simulizar.launcher.jobs.LoadSimuLizarModelsIntoBlackboardJob;
+
+import de.uka.ipd.sdq.workflow.extension.AbstractExtendableJob;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * This job conducts a single repetition of a single design point of an experiment on an empty
+ * blackboard. It loads and modifies the models of the experiment just like
+ * {@link RunExperimentAutomationJob} does, varies them according to the design point, and runs the
+ * given analysis tool.
+ * 
+ * Used by worker processes that receive their design points from a coordinator.
+ */
+public class RunDesignPointJob extends AbstractExtendableJob<MDSDBlackboard> {
+
+    private final RunExperimentJob runExperimentJob;
+
+    /**
+     * Default Constructor.
+     * 
+     * @param configuration
+     *            Configuration for Experiment Automation runs.
+     * @param experiment
+     *            the experiment to be conducted.
+     * @param simulationConfiguration
+     *            the given analysis tool, e.g., SimuCom.
+     * @param variationFactorTuples
+     *            the variations and according value factors of the design point.
+     * @param repetition
+     *            the repetition of the design point to be conducted, starting with 1.
+     */
+    public RunDesignPointJob(final ExperimentAutomationConfiguration configuration, final Experiment experiment,
+            final AbstractSimulationConfiguration simulationConfiguration,
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
+        super(false);
+
+        this.add(new PreparePCMBlackboardPartitionJob());
+        this.add(new PrepareBlackboardJob());
+
+        this.add(new LoadModelsIntoBlackboardJob(experiment.getInitialModel(), true));
+
+        this.add(new ModifyModelsJob(experiment.getModifications()));
+
+        // All Workflow extension jobs with the extension hook id
+        // WORKFLOW_ID_BEFORE_EXPERIMENT_RUN
+        handleJobExtensions(RunExperimentAutomationJob.WORKFLOW_ID_BEFORE_EXPERIMENT_RUN, configuration);
+
+        this.add(new CopyPartitionJob(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID,
+                LoadSimuLizarModelsIntoBlackboardJob.PCM_MODELS_ANALYZED_PARTITION_ID));
+
+        this.add(new VaryJob(variationFactorTuples));
+        this.runExperimentJob = new RunExperimentJob(experiment, simulationConfiguration, variationFactorTuples,
+                repetition, configuration);
+        this.add(this.runExperimentJob);
+    }
+
+    /**
+     * Returns whether an SLO was violated at the design point. Only valid after this job has been
+     * executed.
+     * 
+     * @return <code>true</code> if the analysis run violated an SLO.
+     * @see RunExperimentJob#sloWasViolated()
+     */
+    public boolean sloWasViolated() {
+        return this.runExperimentJob.sloWasViolated();
+    }
+
+    /**
+     * Returns the largest ratio of measurements violating an SLO at the design point. Only valid
+     * after this job has been executed.
+     * 
+     * @return the ratio; <code>NaN</code> if no SLOs were checked.
+     * @see RunExperimentJob#getSloViolationRatio()
+     */
+    public double getSloViolationRatio() {
+        return this.runExperimentJob.getSloViolationRatio();
+    }
+
+}
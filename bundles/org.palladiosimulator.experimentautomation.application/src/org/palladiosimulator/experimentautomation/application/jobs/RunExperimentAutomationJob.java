@@ -64,7 +64,7 @@ public class RunExperimentAutomationJob extends AbstractExtendableJob<MDSDBlackb
             this.add(new CopyPartitionJob(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID,
                     LoadSimuLizarModelsIntoBlackboardJob.PCM_MODELS_ANALYZED_PARTITION_ID));
 
-            this.add(new RunExperimentForEachToolJob(experiment));
+            this.add(new RunExperimentForEachToolJob(experiment, configuration));
         }
     }
 
@@ -1,6 +1,7 @@
 package org.palladiosimulator.experimentautomation.application.jobs;
 
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
+import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
 
@@ -11,6 +12,9 @@ import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
  * This job conducts a given experiment, consisting of subexperiments for each registered analysis
  * tool. The job assumes that involved models are already loaded to the blackboard.
  * 
+ * If the configuration allows a tool parallelism greater than 1, the subexperiments are conducted
+ * concurrently; each tool then works on its own copy of the loaded and modified models.
+ * 
  * @author Sebastian Lehrig
  */
 public class RunExperimentForEachToolJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
@@ -22,16 +26,43 @@ public class RunExperimentForEachToolJob extends SequentialBlackboardInteracting
      *            The experiment to be conducted.
      */
     public RunExperimentForEachToolJob(final Experiment experiment) {
+        this(experiment, new ExperimentAutomationConfiguration());
+    }
+
+    /**
+     * Constructor for a given Experiment Automation configuration.
+     * 
+     * @param experiment
+     *            The experiment to be conducted.
+     * @param configuration
+     *            Configuration for Experiment Automation runs, e.g., the degree of parallelism.
+     */
+    public RunExperimentForEachToolJob(final Experiment experiment,
+            final ExperimentAutomationConfiguration configuration) {
         super(false);
 
+        final boolean runToolsInParallel = configuration.getToolParallelism() > 1
+                && experiment.getToolConfiguration().size() > 1;
+        final IsolatedParallelJob parallelJob = new IsolatedParallelJob(Math.max(1,
+                configuration.getToolParallelism()));
+
         for (final ToolConfiguration toolConfiguration : experiment.getToolConfiguration()) {
             if (!(toolConfiguration instanceof AbstractSimulationConfiguration)) {
                 throw new IllegalArgumentException(
                         "Expected tool configuration to be of type AbstractSimulationConfiguration");
             }
 
-            this.add(new ComputeVariantsAndAddExperimentJob(experiment,
-                    (AbstractSimulationConfiguration) toolConfiguration));
+            final ComputeVariantsAndAddExperimentJob toolJob = new ComputeVariantsAndAddExperimentJob(experiment,
+                    (AbstractSimulationConfiguration) toolConfiguration, configuration);
+            if (runToolsInParallel) {
+                parallelJob.addParallelJob(toolJob);
+            } else {
+                this.add(toolJob);
+            }
+        }
+
+        if (runToolsInParallel) {
+            this.add(parallelJob);
         }
     }
 }
@@ -1,24 +1,69 @@
 package org.palladiosimulator.experimentautomation.application.jobs;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.cache.CachingToolAdapter;
+import org.palladiosimulator.experimentautomation.application.cache.ResultCache;
+import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+import org.palladiosimulator.experimentautomation.application.scheduling.CampaignBudget;
 import org.palladiosimulator.experimentautomation.application.tooladapter.AnalysisToolFactory;
 import org.palladiosimulator.experimentautomation.application.tooladapter.IToolAdapter;
 import org.palladiosimulator.experimentautomation.application.tooladapter.RunAnalysisJob;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
 import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
 
 /**
- * Runs a given, completely specified experiment out of an experiment run series.
+ * Runs a given, completely specified experiment out of an experiment run series. The analysis job
+ * and its configuration are created when this job is executed, not before.
+ * 
+ * If a campaign journal is configured, runs it lists as completed are skipped, and capacity searches
+ * continue from their last journaled step. The journal also stores the warm-up truncation points of
+ * each run; a run reuses those of another repetition of its design point, if any has been journaled.
+ * If a result cache is configured and the tool configuration uses a file data source, identical
+ * analysis runs reuse cached results.
+ * 
+ * If a campaign budget is configured, this run is allocated its share of the remaining budget when
+ * it starts and canceled once it exceeds the share, including all analysis runs of a capacity
+ * search. Runs starting after the budget is used up are skipped. Either way, the run is recorded as
+ * timed out instead of completed.
  * 
  * @author Sebastian Lehrig
  */
 public class RunExperimentJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
 
+    private static final Logger LOGGER = Logger.getLogger(RunExperimentJob.class);
+
+    private final Experiment experiment;
+    private final AbstractSimulationConfiguration simulationConfiguration;
+    private final List<VariationFactorTuple> variationFactorTuples;
+    private final int repetition;
+    private final CampaignJournal journal;
+    private final long resultCacheSize;
+    private final ExperimentAutomationConfiguration configuration;
+
+    /** Key of this run in the campaign journal; computed before dynamic variations adapt factors. */
+    private final String journalKey;
+
+    /** Whether an SLO was violated at the factors this run started with. */
+    private boolean sloWasViolated = false;
+
+    /** Largest ratio of SLO-violating measurements at the factors this run started with. */
+    private double sloViolationRatio = Double.NaN;
+
+    /** Whether this run exceeded its share of the campaign budget. */
+    private boolean timedOut = false;
+
     /**
      * Default Constructor.
      * 
@@ -30,18 +75,199 @@ public class RunExperimentJob extends SequentialBlackboardInteractingJob<MDSDBla
      *            the variations and according value factors.
      * @param repetition
      *            Gives the current number of repetitions for this exact experiment; for statistical
-     *            significance. Note that repetition>1 makes only sense for non-fixed random seeds.
+     *            significance. For fixed random seeds, each repetition uses its own seed stream.
      */
     public RunExperimentJob(final Experiment experiment, final AbstractSimulationConfiguration simulationConfiguration,
             final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
+        this(experiment, simulationConfiguration, variationFactorTuples, repetition,
+                new ExperimentAutomationConfiguration());
+    }
+
+    /**
+     * Constructor for a given Experiment Automation configuration, e.g., one providing a campaign
+     * journal.
+     * 
+     * @param experiment
+     *            The experiment to be conducted.
+     * @param simulationConfiguration
+     *            The given analysis tool, e.g., SimuCom.
+     * @param variationFactorTuples
+     *            the variations and according value factors.
+     * @param repetition
+     *            Gives the current number of repetitions for this exact experiment.
+     * @param configuration
+     *            Configuration for Experiment Automation runs.
+     */
+    public RunExperimentJob(final Experiment experiment, final AbstractSimulationConfiguration simulationConfiguration,
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition,
+            final ExperimentAutomationConfiguration configuration) {
         super(false);
 
-        final IToolAdapter analysisTool = AnalysisToolFactory.createToolAdapater(simulationConfiguration);
-        final RunAnalysisJob runAnalysisJob = analysisTool.createRunAnalysisJob(experiment, simulationConfiguration,
-                variationFactorTuples, repetition);
+        this.experiment = experiment;
+        this.simulationConfiguration = simulationConfiguration;
+        this.variationFactorTuples = variationFactorTuples;
+        this.repetition = repetition;
+        this.journal = configuration.getJournal();
+        this.resultCacheSize = configuration.getResultCacheSize();
+        this.configuration = configuration;
+        this.journalKey = CampaignJournal.createKey(experiment, simulationConfiguration, variationFactorTuples,
+                repetition);
+    }
+
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        if (this.journal != null && this.journal.isCompleted(this.journalKey)) {
+            LOGGER.info("Skipping completed run " + this.journalKey);
+            this.sloWasViolated = this.journal.isViolated(this.journalKey);
+            this.sloViolationRatio = this.journal.getViolationRatio(this.journalKey);
+            if (this.configuration.getCampaignBudget() != null) {
+                this.configuration.getCampaignBudget().skipPendingRuns(1);
+            }
+            return;
+        }
+
+        final CampaignBudget campaignBudget = this.configuration.getCampaignBudget();
+        DeadlineProgressMonitor deadlineMonitor = null;
+        if (campaignBudget != null) {
+            final long share = campaignBudget.allocate();
+            if (share <= 0) {
+                LOGGER.warn("Skipping run " + this.journalKey + ": campaign budget used up");
+                this.markTimedOut();
+                return;
+            }
+            deadlineMonitor = new DeadlineProgressMonitor(monitor, System.currentTimeMillis() + share);
+        }
+
+        final IToolAdapter analysisTool = this.createToolAdapter();
+        RunAnalysisJob runAnalysisJob = null;
+        if (this.journal != null && !this.journal.getSearchSteps(this.journalKey).isEmpty()) {
+            LOGGER.info("Resuming capacity search of run " + this.journalKey);
+            this.sloWasViolated = this.journal.getSearchSteps(this.journalKey).get(0);
+            this.add(new AddDynamicVariationJob(null, analysisTool, this.experiment, this.simulationConfiguration,
+                    this.variationFactorTuples, this.repetition, this.journalKey, this.configuration));
+        } else {
+            runAnalysisJob = analysisTool.createRunAnalysisJob(this.experiment, this.simulationConfiguration,
+                    this.variationFactorTuples, this.repetition);
+            if (this.journal != null) {
+                runAnalysisJob.getTruncationTimes().putAll(this.getJournaledTruncationTimes());
+            }
+
+            this.add(runAnalysisJob);
+            this.add(new AddDynamicVariationJob(runAnalysisJob, analysisTool, this.experiment,
+                    this.simulationConfiguration, this.variationFactorTuples, this.repetition, this.journalKey,
+                    this.configuration));
+        }
+
+        try {
+            super.execute(deadlineMonitor != null ? deadlineMonitor : monitor);
+        } catch (final UserCanceledException e) {
+            if (deadlineMonitor == null || monitor.isCanceled() || !deadlineMonitor.isExpired()) {
+                throw e;
+            }
+        }
+
+        if (runAnalysisJob != null) {
+            this.sloWasViolated = runAnalysisJob.sloWasViolated();
+            this.sloViolationRatio = runAnalysisJob.getSloViolationRatio();
+        }
+        if (deadlineMonitor != null && deadlineMonitor.isExpired() && !monitor.isCanceled()) {
+            LOGGER.warn("Run " + this.journalKey + " exceeded its share of the campaign budget");
+            this.markTimedOut();
+            return;
+        }
+        if (this.journal != null) {
+            if (this.sloWasViolated) {
+                this.journal.markViolated(this.journalKey);
+            }
+            this.journal.recordViolationRatio(this.journalKey, this.sloViolationRatio);
+            if (runAnalysisJob != null) {
+                for (final Map.Entry<String, Double> truncationTime : runAnalysisJob.getTruncationTimes().entrySet()) {
+                    this.journal.recordTruncationTime(this.journalKey, truncationTime.getKey(),
+                            truncationTime.getValue());
+                }
+            }
+            this.journal.markCompleted(this.journalKey);
+        }
+    }
+
+    /**
+     * Returns whether an SLO was violated at the factors this run started with, i.e., before a
+     * capacity search adapted them. Only valid after this job has been executed.
+     * 
+     * @return <code>true</code> if the first analysis run of this run violated an SLO.
+     */
+    public boolean sloWasViolated() {
+        return this.sloWasViolated;
+    }
+
+    /**
+     * Returns whether this run exceeded its share of the campaign budget or was skipped because the
+     * budget was used up. Only valid after this job has been executed.
+     * 
+     * @return <code>true</code> if this run timed out.
+     */
+    public boolean wasTimedOut() {
+        return this.timedOut;
+    }
+
+    /**
+     * Returns the largest ratio of measurements violating an SLO at the factors this run started
+     * with. Only valid after this job has been executed.
+     * 
+     * @return the ratio; <code>NaN</code> if no SLOs were checked, or the first analysis run was
+     *         not conducted by this job and no ratio has been journaled for it, e.g., because a
+     *         journaled capacity search has been resumed.
+     */
+    public double getSloViolationRatio() {
+        return this.sloViolationRatio;
+    }
+
+    /**
+     * Marks this run as timed out, also in the campaign journal, if any.
+     */
+    private void markTimedOut() {
+        this.timedOut = true;
+        if (this.journal != null) {
+            this.journal.markTimedOut(this.journalKey);
+        }
+    }
+
+    /**
+     * Returns the truncation times journaled for another repetition of this run's design point.
+     * 
+     * @return the truncation times of the first such repetition; empty if none has been journaled.
+     */
+    private Map<String, Double> getJournaledTruncationTimes() {
+        for (int otherRepetition = 1; otherRepetition <= this.experiment.getRepetitions(); otherRepetition++) {
+            if (otherRepetition == this.repetition) {
+                continue;
+            }
+            final Map<String, Double> truncationTimes = this.journal.getTruncationTimes(CampaignJournal.createKey(
+                    this.experiment, this.simulationConfiguration, this.variationFactorTuples, otherRepetition));
+            if (!truncationTimes.isEmpty()) {
+                return truncationTimes;
+            }
+        }
+        return Collections.<String, Double> emptyMap();
+    }
+
+    /**
+     * Creates the tool adapter for the analysis tool; its analysis jobs use the result cache of the
+     * tool configuration's data source, if caching is enabled.
+     */
+    private IToolAdapter createToolAdapter() {
+        final IToolAdapter toolAdapter = AnalysisToolFactory.createToolAdapater(this.simulationConfiguration);
+        if (this.resultCacheSize <= 0) {
+            return toolAdapter;
+        }
 
-        this.add(runAnalysisJob);
-        this.add(new AddDynamicVariationJob(runAnalysisJob, analysisTool, experiment, simulationConfiguration,
-                variationFactorTuples, repetition));
+        final ResultCache cache = ResultCache.forDatasource(this.simulationConfiguration.getDatasource(),
+                this.resultCacheSize);
+        if (cache == null) {
+            LOGGER.warn("Result cache requires a file data source; results of "
+                    + this.simulationConfiguration.getName() + " are not cached");
+            return toolAdapter;
+        }
+        return new CachingToolAdapter(toolAdapter, cache);
     }
 }
@@ -0,0 +1,58 @@
+package org.palladiosimulator.experimentautomation.application.jobs;
+
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentSetting;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.recorderframework.config.IRecorderConfiguration;
+import org.palladiosimulator.recorderframework.edp2.EDP2RawRecorder;
+import org.palladiosimulator.recorderframework.edp2.config.EDP2RecorderConfiguration;
+
+/**
+ * EDP2 recorder that additionally passes each recorded measurement to the {@link OnlineSLOWatcher}
+ * registered for the experiment setting and the analysis run of the recorder, if any. The watcher is
+ * looked up once, when the recorder is initialized by the analysis run; thus, recording is not
+ * slowed down for unwatched analysis runs.
+ * 
+ * The recorder is contributed to the recorder framework under the name {@link #RECORDER_NAME} and
+ * used by all analysis runs of the experiment automation.
+ */
+public class SLOWatchingRecorder extends EDP2RawRecorder {
+
+    /** The name of the recorder in the recorder framework. */
+    public static final String RECORDER_NAME = "EDP2 (Experiment Automation SLO Watching)";
+
+    private OnlineSLOWatcher watcher = null;
+    private MeasuringPoint measuringPoint = null;
+    private MetricDescription metric = null;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize(final IRecorderConfiguration recorderConfiguration) {
+        super.initialize(recorderConfiguration);
+
+        if (recorderConfiguration instanceof EDP2RecorderConfiguration) {
+            final EDP2RecorderConfiguration configuration = (EDP2RecorderConfiguration) recorderConfiguration;
+            final ExperimentSetting experimentSetting = configuration.getExperimentRun().getExperimentSetting();
+            this.watcher = OnlineSLOWatcher.getWatcher(experimentSetting.getExperimentGroup().getPurpose(),
+                    experimentSetting.getDescription());
+            this.measuringPoint = configuration.getMeasuringPoint();
+            this.metric = configuration.getRecorderAcceptedMetric();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeData(final MeasuringValue measurement) {
+        super.writeData(measurement);
+
+        if (this.watcher != null) {
+            this.watcher.record(this.measuringPoint, this.metric, measurement);
+        }
+    }
+
+}
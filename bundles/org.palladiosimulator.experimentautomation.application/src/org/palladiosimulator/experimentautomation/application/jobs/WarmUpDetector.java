@@ -0,0 +1,109 @@
+package org.palladiosimulator.experimentautomation.application.jobs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects the warm-up period of a series of measurements by the MSER-5 rule (marginal standard
+ * error rule on batch means of 5 observations). Measurements are added one after another, so the
+ * series is read in a single pass; only the batch means are kept.
+ * 
+ * For each number d of truncated batches, the MSER statistic is the variance of the remaining
+ * batch means divided by their number. The truncation point is the d minimizing this statistic,
+ * i.e., the point after which the mean is estimated most precisely. As the statistic gets unstable
+ * for few remaining batches, at most half of the batches are truncated.
+ */
+public class WarmUpDetector {
+
+    /** Number of observations per batch. */
+    public static final int BATCH_SIZE = 5;
+
+    private final List<Double> batchMeans = new ArrayList<Double>();
+
+    /** The point in time of the first observation of each batch. */
+    private final List<Double> batchStartTimes = new ArrayList<Double>();
+
+    private double batchSum = 0.0;
+    private int batchCount = 0;
+    private double batchStartTime = Double.NaN;
+
+    /** The number of truncated batches; -1 if not yet determined. */
+    private int truncatedBatches = -1;
+
+    /**
+     * Adds the next measurement of the series.
+     * 
+     * @param pointInTime
+     *            the point in time of the measurement.
+     * @param value
+     *            the measured value, e.g., a response time.
+     */
+    public void add(final double pointInTime, final double value) {
+        if (this.batchCount == 0) {
+            this.batchStartTime = pointInTime;
+        }
+        this.batchSum += value;
+        this.batchCount++;
+
+        if (this.batchCount == BATCH_SIZE) {
+            this.batchMeans.add(this.batchSum / BATCH_SIZE);
+            this.batchStartTimes.add(this.batchStartTime);
+            this.batchSum = 0.0;
+            this.batchCount = 0;
+            this.truncatedBatches = -1;
+        }
+    }
+
+    /**
+     * Returns the number of observations belonging to the warm-up period.
+     * 
+     * @return the number of truncated observations; a multiple of {@link #BATCH_SIZE}.
+     */
+    public long getTruncatedObservations() {
+        return (long) this.getTruncatedBatches() * BATCH_SIZE;
+    }
+
+    /**
+     * Returns the point in time the warm-up period ends, i.e., of the first observation after it.
+     * 
+     * @return the point in time; negative infinity if there is no warm-up period.
+     */
+    public double getTruncationTime() {
+        final int truncated = this.getTruncatedBatches();
+        return truncated == 0 ? Double.NEGATIVE_INFINITY : this.batchStartTimes.get(truncated);
+    }
+
+    private int getTruncatedBatches() {
+        if (this.truncatedBatches < 0) {
+            this.truncatedBatches = computeTruncatedBatches(this.batchMeans);
+        }
+        return this.truncatedBatches;
+    }
+
+    private static int computeTruncatedBatches(final List<Double> batchMeans) {
+        final int batches = batchMeans.size();
+        final int maxTruncated = (batches - 1) / 2;
+
+        int truncated = 0;
+        double minStatistic = Double.POSITIVE_INFINITY;
+        double sum = 0.0;
+        double squareSum = 0.0;
+        // the sums of the remaining batch means are accumulated from the end of the series
+        for (int d = batches - 1; d >= 0; d--) {
+            final double batchMean = batchMeans.get(d);
+            sum += batchMean;
+            squareSum += batchMean * batchMean;
+            if (d <= maxTruncated) {
+                final int remaining = batches - d;
+                final double statistic = Math.max(0.0, squareSum - sum * sum / remaining)
+                        / ((double) remaining * remaining);
+                if (statistic <= minStatistic) {
+                    minStatistic = statistic;
+                    truncated = d;
+                }
+            }
+        }
+        return truncated;
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.palladiosimulator.experimentautomation.application.jobs;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+import org.palladiosimulator.experimentautomation.application.tooladapter.RunAnalysisJob;
+import org.palladiosimulator.servicelevelobjective.ServiceLevelObjectiveRepository;
+
+import de.uka.ipd.sdq.workflow.jobs.IJob;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * This job executes the job conducting an analysis while an {@link OnlineSLOWatcher} watches its
+ * measurements, provided that the analysis run watches SLOs (see
+ * {@link RunAnalysisJob#setWatchSlos(boolean)}). As soon as an SLO is certainly violated, the
+ * analysis is canceled and <code>this.runAnalysisJob.setAbortedOnSloViolation()</code> is called.
+ * Hence, overloaded analysis runs, e.g., of a capacity search, end after a fraction of their
+ * simulation time. Canceling requires the analysis tool to observe the progress monitor; otherwise,
+ * the analysis run is only marked once it has finished.
+ * 
+ * Measurements reach the watcher only if they are recorded by the {@link SLOWatchingRecorder}.
+ */
+public class WatchForSLOViolationsJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
+
+    private static final Logger LOGGER = Logger.getLogger(WatchForSLOViolationsJob.class);
+
+    private final RunAnalysisJob runAnalysisJob;
+    private final ServiceLevelObjectiveRepository serviceLevelObjectives;
+    private final String experimentGroupPurpose;
+    private final String experimentSettingDescription;
+
+    /**
+     * Default constructor.
+     * 
+     * @param runAnalysisJob
+     *            the analysis run to be marked.
+     * @param analysisJob
+     *            the job conducting the analysis.
+     * @param serviceLevelObjectives
+     *            the SLOs to be watched.
+     * @param experimentGroupPurpose
+     *            the unique name of the experiment run, which identifies the experiment group.
+     * @param experimentSettingDescription
+     *            the description of the experiment setting of the analysis run.
+     */
+    public WatchForSLOViolationsJob(final RunAnalysisJob runAnalysisJob, final IJob analysisJob,
+            final ServiceLevelObjectiveRepository serviceLevelObjectives, final String experimentGroupPurpose,
+            final String experimentSettingDescription) {
+        super(false);
+        this.runAnalysisJob = runAnalysisJob;
+        this.serviceLevelObjectives = serviceLevelObjectives;
+        this.experimentGroupPurpose = experimentGroupPurpose;
+        this.experimentSettingDescription = experimentSettingDescription;
+        this.add(analysisJob);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        if (!this.runAnalysisJob.watchesSlos() || this.serviceLevelObjectives == null
+                || this.serviceLevelObjectives.getServicelevelobjectives().isEmpty()) {
+            super.execute(monitor);
+            return;
+        }
+
+        final OnlineSLOWatcher watcher = new OnlineSLOWatcher(this.serviceLevelObjectives,
+                this.experimentGroupPurpose, this.experimentSettingDescription);
+        watcher.register();
+
+        final IProgressMonitor watchingMonitor = new ProgressMonitorWrapper(monitor) {
+
+            @Override
+            public boolean isCanceled() {
+                return super.isCanceled() || watcher.isViolated();
+            }
+
+        };
+        try {
+            super.execute(watchingMonitor);
+        } catch (final UserCanceledException e) {
+            if (monitor.isCanceled() || !watcher.isViolated()) {
+                throw e;
+            }
+        } finally {
+            watcher.unregister();
+        }
+
+        if (watcher.isViolated()) {
+            LOGGER.info("Analysis run of experiment setting " + this.experimentSettingDescription
+                    + " aborted; SLO certainly violated with a ratio of " + watcher.getViolationRatio()
+                    + " violating measurements");
+            this.runAnalysisJob.setAbortedOnSloViolation();
+            this.runAnalysisJob.setSloViolationRatio(watcher.getViolationRatio());
+        }
+    }
+
+}
@@ -0,0 +1,444 @@
+package org.palladiosimulator.experimentautomation.application.journal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
+
+/**
+ * Append-only journal of an experiment campaign, allowing to resume a campaign after a crash.
+ * 
+ * The journal records completed analysis runs, whether they violated an SLO, their SLO violation
+ * ratios, the warm-up truncation points of their measurements, the outcomes of capacity search
+ * steps, and the prior capacities capacity searches were warm-started with. Runs that were not
+ * analyzed because an SLO violation could be inferred (see
+ * {@link org.palladiosimulator.experimentautomation.application.variation.MonotonePruner}) count as
+ * completed and violated. Violation ratios allow resumed campaigns to feed the responses of
+ * skipped runs into response-driven experiment designs; truncation points allow later repetitions
+ * of a design point to skip warm-up detection, also after a resume. Runs canceled because they
+ * exceeded their share of the campaign's wall-clock budget are recorded as timed out; they do not
+ * count as completed and are analyzed again when the campaign is resumed. Entries are keyed by
+ * experiment id, tool configuration, factor vector, and repetition (see {@link #createKey}). Each
+ * entry is a single line that is synced to disk before the journal returns; a partially written
+ * last line, e.g., due to a power loss, is ignored when the journal is opened again.
+ */
+public class CampaignJournal {
+
+    private static final Logger LOGGER = Logger.getLogger(CampaignJournal.class);
+
+    private static final String ENCODING = "UTF-8";
+    private static final String SEPARATOR = "\t";
+    private static final String LINE_SEPARATOR = "\n";
+
+    private static final String COMPLETED = "COMPLETED";
+    private static final String VIOLATION = "VIOLATION";
+    private static final String INFERRED_VIOLATION = "INFERRED";
+    private static final String SEARCH_STEP = "STEP";
+    private static final String SLO_VIOLATED = "VIOLATED";
+    private static final String SLO_SATISFIED = "SATISFIED";
+    private static final String PRIOR_CAPACITY = "PRIOR";
+    private static final String TIMEOUT = "TIMEOUT";
+    private static final String VIOLATION_RATIO = "RATIO";
+    private static final String TRUNCATION_TIME = "TRUNCATION";
+
+    private final File file;
+    private final FileOutputStream output;
+
+    private final Set<String> completedRuns = new HashSet<String>();
+    private final Set<String> violatedRuns = new HashSet<String>();
+    private final Set<String> timedOutRuns = new HashSet<String>();
+    private final Map<String, List<Boolean>> searchSteps = new HashMap<String, List<Boolean>>();
+    private final Map<String, Double> priorCapacities = new HashMap<String, Double>();
+    private final Map<String, Double> violationRatios = new HashMap<String, Double>();
+    private final Map<String, Map<String, Double>> truncationTimes = new HashMap<String, Map<String, Double>>();
+
+    private CampaignJournal(final File file) throws IOException {
+        this.file = file;
+        long length = 0;
+        if (file.exists()) {
+            length = this.load();
+        }
+        this.output = new FileOutputStream(file, true);
+
+        // drop a partially written last line; otherwise, the next entry would be appended to it
+        if (this.output.getChannel().size() > length) {
+            LOGGER.warn("Discarding partially written last entry of campaign journal " + file);
+            this.output.getChannel().truncate(length);
+        }
+    }
+
+    /**
+     * Opens the journal stored in the given file; creates the file if it does not exist.
+     * 
+     * @param file
+     *            the journal file.
+     * @return the opened journal.
+     * @throws IOException
+     *             if the journal cannot be read or opened for writing.
+     */
+    public static CampaignJournal open(final File file) throws IOException {
+        return new CampaignJournal(file);
+    }
+
+    /**
+     * Creates the key identifying a single analysis run.
+     * 
+     * @param experiment
+     *            the experiment of the run.
+     * @param toolConfiguration
+     *            the tool configuration of the run; one of the experiment's tool configurations.
+     * @param variationFactorTuples
+     *            the variations and according value factors at the start of the run.
+     * @param repetition
+     *            the repetition of the run.
+     * @return the key.
+     */
+    public static String createKey(final Experiment experiment, final ToolConfiguration toolConfiguration,
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
+        final List<Object> factors = new ArrayList<Object>();
+        for (final VariationFactorTuple variationFactorTuple : variationFactorTuples) {
+            factors.add(variationFactorTuple.getFactor());
+        }
+        return createKey(experiment.getId(), experiment.getToolConfiguration().indexOf(toolConfiguration), factors,
+                repetition);
+    }
+
+    /**
+     * Creates the key identifying a single analysis run.
+     * 
+     * @param experimentId
+     *            the id of the experiment of the run.
+     * @param toolConfigurationIndex
+     *            the index of the tool configuration within the experiment.
+     * @param factors
+     *            the factor vector at the start of the run.
+     * @param repetition
+     *            the repetition of the run.
+     * @return the key.
+     */
+    public static String createKey(final String experimentId, final int toolConfigurationIndex,
+            final List<Object> factors, final int repetition) {
+        final StringBuilder key = new StringBuilder();
+        key.append(experimentId.replaceAll("\\s", " "));
+        key.append("|").append(toolConfigurationIndex);
+        key.append("|").append(factors);
+        key.append("|").append(repetition);
+        return key.toString();
+    }
+
+    /**
+     * Checks whether the given run has been completed.
+     * 
+     * @param key
+     *            the key of the run.
+     * @return <code>true</code> if the run has been completed.
+     */
+    public synchronized boolean isCompleted(final String key) {
+        return this.completedRuns.contains(key);
+    }
+
+    /**
+     * Records the completion of the given run.
+     * 
+     * @param key
+     *            the key of the run.
+     */
+    public synchronized void markCompleted(final String key) {
+        this.append(COMPLETED + SEPARATOR + key);
+        this.completedRuns.add(key);
+        this.timedOutRuns.remove(key);
+        this.searchSteps.remove(key);
+        this.priorCapacities.remove(key);
+    }
+
+    /**
+     * Checks whether the given run has been recorded as violating an SLO, either analyzed or
+     * inferred.
+     * 
+     * @param key
+     *            the key of the run.
+     * @return <code>true</code> if the run violated an SLO.
+     */
+    public synchronized boolean isViolated(final String key) {
+        return this.violatedRuns.contains(key);
+    }
+
+    /**
+     * Records that the analysis of the given run violated an SLO. The run still has to be marked
+     * as completed.
+     * 
+     * @param key
+     *            the key of the run.
+     */
+    public synchronized void markViolated(final String key) {
+        this.append(VIOLATION + SEPARATOR + key);
+        this.violatedRuns.add(key);
+    }
+
+    /**
+     * Records that the given run has not been analyzed since it is known to violate an SLO. The
+     * run counts as completed.
+     * 
+     * @param key
+     *            the key of the run.
+     */
+    public synchronized void markInferredViolation(final String key) {
+        this.append(INFERRED_VIOLATION + SEPARATOR + key);
+        this.completedRuns.add(key);
+        this.violatedRuns.add(key);
+    }
+
+    /**
+     * Returns the recorded SLO violation ratio of the given run.
+     * 
+     * @param key
+     *            the key of the run.
+     * @return the largest ratio of SLO-violating measurements; NaN if none has been recorded.
+     */
+    public synchronized double getViolationRatio(final String key) {
+        final Double violationRatio = this.violationRatios.get(key);
+        return violationRatio != null ? violationRatio : Double.NaN;
+    }
+
+    /**
+     * Records the SLO violation ratio of the given run, either analyzed or inferred. The run still
+     * has to be marked as completed.
+     * 
+     * @param key
+     *            the key of the run.
+     * @param violationRatio
+     *            the largest ratio of SLO-violating measurements; NaN ratios are not recorded.
+     */
+    public synchronized void recordViolationRatio(final String key, final double violationRatio) {
+        if (Double.isNaN(violationRatio)) {
+            return;
+        }
+        this.append(VIOLATION_RATIO + SEPARATOR + key + SEPARATOR + violationRatio);
+        this.violationRatios.put(key, violationRatio);
+    }
+
+    /**
+     * Returns the recorded warm-up truncation points of the measurements of the given run.
+     * 
+     * @param key
+     *            the key of the run.
+     * @return the truncation times, by measurements; empty if none has been recorded.
+     */
+    public synchronized Map<String, Double> getTruncationTimes(final String key) {
+        final Map<String, Double> times = this.truncationTimes.get(key);
+        if (times == null) {
+            return Collections.emptyMap();
+        }
+        return new HashMap<String, Double>(times);
+    }
+
+    /**
+     * Records the point in time the warm-up period of the given measurements of the given run ends.
+     * The run still has to be marked as completed.
+     * 
+     * @param key
+     *            the key of the run.
+     * @param measurements
+     *            identifies the measurements, e.g., by measuring point and metric.
+     * @param truncationTime
+     *            the truncation time.
+     */
+    public synchronized void recordTruncationTime(final String key, final String measurements,
+            final double truncationTime) {
+        final String measurementsKey = measurements.replaceAll("\\s", " ");
+        this.append(TRUNCATION_TIME + SEPARATOR + key + SEPARATOR + measurementsKey + SEPARATOR + truncationTime);
+        this.addTruncationTime(key, measurementsKey, truncationTime);
+    }
+
+    /**
+     * Checks whether the given run has been recorded as timed out and not been completed since.
+     * 
+     * @param key
+     *            the key of the run.
+     * @return <code>true</code> if the run timed out.
+     */
+    public synchronized boolean isTimedOut(final String key) {
+        return this.timedOutRuns.contains(key);
+    }
+
+    /**
+     * Records that the given run has been canceled because it exceeded its wall-clock budget. The
+     * run does not count as completed; journaled capacity search steps are kept, so that a resumed
+     * campaign continues its search.
+     * 
+     * @param key
+     *            the key of the run.
+     */
+    public synchronized void markTimedOut(final String key) {
+        this.append(TIMEOUT + SEPARATOR + key);
+        this.timedOutRuns.add(key);
+    }
+
+    /**
+     * Returns the recorded outcomes of the capacity search steps of the given run.
+     * 
+     * @param key
+     *            the key of the run.
+     * @return for each step, whether an SLO was violated; empty if no step has been recorded.
+     */
+    public synchronized List<Boolean> getSearchSteps(final String key) {
+        final List<Boolean> steps = this.searchSteps.get(key);
+        if (steps == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<Boolean>(steps);
+    }
+
+    /**
+     * Records the outcome of a capacity search step of the given run.
+     * 
+     * @param key
+     *            the key of the run.
+     * @param sloWasViolated
+     *            whether an SLO was violated in the analysis run of the step.
+     */
+    public synchronized void recordSearchStep(final String key, final boolean sloWasViolated) {
+        this.append(SEARCH_STEP + SEPARATOR + key + SEPARATOR + (sloWasViolated ? SLO_VIOLATED : SLO_SATISFIED));
+        this.addSearchStep(key, sloWasViolated);
+    }
+
+    /**
+     * Returns the prior capacity the capacity search of the given run was warm-started with.
+     * 
+     * @param key
+     *            the key of the run.
+     * @return the prior capacity; <code>null</code> if none has been recorded.
+     */
+    public synchronized Double getPriorCapacity(final String key) {
+        return this.priorCapacities.get(key);
+    }
+
+    /**
+     * Records the prior capacity the capacity search of the given run is warm-started with, so that
+     * a resumed search replays its steps with the same prior capacity.
+     * 
+     * @param key
+     *            the key of the run.
+     * @param priorCapacity
+     *            the prior capacity.
+     */
+    public synchronized void recordPriorCapacity(final String key, final double priorCapacity) {
+        this.append(PRIOR_CAPACITY + SEPARATOR + key + SEPARATOR + priorCapacity);
+        this.priorCapacities.put(key, priorCapacity);
+    }
+
+    /**
+     * Closes the journal file.
+     */
+    public synchronized void close() {
+        try {
+            this.output.close();
+        } catch (final IOException e) {
+            LOGGER.warn("Could not close campaign journal " + this.file + ": " + e.getMessage());
+        }
+    }
+
+    private void append(final String entry) {
+        try {
+            this.output.write((entry + LINE_SEPARATOR).getBytes(ENCODING));
+            this.output.flush();
+            this.output.getFD().sync();
+        } catch (final IOException e) {
+            throw new RuntimeException("Could not write campaign journal " + this.file, e);
+        }
+    }
+
+    private void addSearchStep(final String key, final boolean sloWasViolated) {
+        List<Boolean> steps = this.searchSteps.get(key);
+        if (steps == null) {
+            steps = new ArrayList<Boolean>();
+            this.searchSteps.put(key, steps);
+        }
+        steps.add(sloWasViolated);
+    }
+
+    private void addTruncationTime(final String key, final String measurements, final double truncationTime) {
+        Map<String, Double> times = this.truncationTimes.get(key);
+        if (times == null) {
+            times = new HashMap<String, Double>();
+            this.truncationTimes.put(key, times);
+        }
+        times.put(measurements, truncationTime);
+    }
+
+    /**
+     * Loads the entries of the journal file.
+     * 
+     * @return the length of the file up to the end of its last complete line in bytes.
+     */
+    private long load() throws IOException {
+        final String content = readFile(this.file);
+
+        // the last line is only complete if it has been terminated
+        final int end = content.lastIndexOf(LINE_SEPARATOR);
+        if (end < 0) {
+            return 0;
+        }
+
+        for (final String line : content.substring(0, end).split(LINE_SEPARATOR)) {
+            final String[] parts = line.split(SEPARATOR);
+            if (parts.length == 2 && parts[0].equals(COMPLETED)) {
+                this.completedRuns.add(parts[1]);
+                this.timedOutRuns.remove(parts[1]);
+                this.searchSteps.remove(parts[1]);
+                this.priorCapacities.remove(parts[1]);
+            } else if (parts.length == 2 && parts[0].equals(TIMEOUT)) {
+                this.timedOutRuns.add(parts[1]);
+            } else if (parts.length == 2 && parts[0].equals(VIOLATION)) {
+                this.violatedRuns.add(parts[1]);
+            } else if (parts.length == 2 && parts[0].equals(INFERRED_VIOLATION)) {
+                this.completedRuns.add(parts[1]);
+                this.violatedRuns.add(parts[1]);
+            } else if (parts.length == 3 && parts[0].equals(SEARCH_STEP)) {
+                this.addSearchStep(parts[1], parts[2].equals(SLO_VIOLATED));
+            } else if (parts.length == 3 && parts[0].equals(PRIOR_CAPACITY)) {
+                this.priorCapacities.put(parts[1], Double.parseDouble(parts[2]));
+            } else if (parts.length == 3 && parts[0].equals(VIOLATION_RATIO)) {
+                this.violationRatios.put(parts[1], Double.parseDouble(parts[2]));
+            } else if (parts.length == 4 && parts[0].equals(TRUNCATION_TIME)) {
+                this.addTruncationTime(parts[1], parts[2], Double.parseDouble(parts[3]));
+            } else if (!line.isEmpty()) {
+                LOGGER.warn("Ignoring malformed campaign journal entry: " + line);
+            }
+        }
+
+        LOGGER.info("Campaign journal " + this.file + " lists " + this.completedRuns.size() + " completed runs and "
+                + this.timedOutRuns.size() + " timed-out runs");
+        return content.substring(0, end + 1).getBytes(ENCODING).length;
+    }
+
+    private static String readFile(final File file) throws IOException {
+        final InputStream input = new FileInputStream(file);
+        try {
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+            return content.toString(ENCODING);
+        } finally {
+            input.close();
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Crash-safe journal for resuming experiment campaigns.
+ */
+package org.palladiosimulator.experimentautomation.application.journal;
\ No newline at end of file
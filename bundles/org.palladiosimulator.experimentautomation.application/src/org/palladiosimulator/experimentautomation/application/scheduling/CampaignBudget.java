@@ -0,0 +1,92 @@
+package org.palladiosimulator.experimentautomation.application.scheduling;
+
+/**
+ * Wall-clock time budget of an experiment campaign, shared among its pending analysis runs.
+ * 
+ * Whenever an analysis run starts, it is allocated its share of the budget remaining at that time:
+ * the remaining time divided by the number of pending runs, multiplied by the number of runs
+ * executed concurrently. Runs finishing early leave their unused time to the runs still pending,
+ * while runs exceeding their share are canceled. Once the budget is used up, pending runs are not
+ * started anymore.
+ * 
+ * Pending runs are announced when the design points of an experiment are enumerated; runs that are
+ * skipped, e.g., because they were completed before, are withdrawn again.
+ */
+public class CampaignBudget {
+
+    private final long budget;
+    private final int concurrency;
+    private final long startTime;
+
+    private long pendingRuns = 0;
+
+    /**
+     * Default constructor; the campaign starts now.
+     * 
+     * @param budget
+     *            the wall-clock time budget of the campaign in milliseconds.
+     * @param concurrency
+     *            the number of analysis runs executed concurrently.
+     */
+    public CampaignBudget(final long budget, final int concurrency) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Campaign budgets have to be positive");
+        }
+        this.budget = budget;
+        this.concurrency = Math.max(1, concurrency);
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Announces analysis runs that will request a share of the budget.
+     * 
+     * @param runs
+     *            the number of analysis runs.
+     */
+    public synchronized void addPendingRuns(final long runs) {
+        this.pendingRuns += runs;
+    }
+
+    /**
+     * Withdraws announced analysis runs that will not be executed.
+     * 
+     * @param runs
+     *            the number of analysis runs.
+     */
+    public synchronized void skipPendingRuns(final long runs) {
+        this.pendingRuns = Math.max(0, this.pendingRuns - runs);
+    }
+
+    /**
+     * Allocates the share of the remaining budget of an analysis run that starts now. The run is no
+     * longer pending afterwards.
+     * 
+     * @return the wall-clock time of the run in milliseconds; 0 if the budget is used up.
+     */
+    public synchronized long allocate() {
+        final long remainingTime = this.getRemainingTime();
+        final long runs = Math.max(1, this.pendingRuns);
+        this.skipPendingRuns(1);
+        if (remainingTime <= 0) {
+            return 0;
+        }
+        return Math.max(1, remainingTime * Math.min(this.concurrency, runs) / runs);
+    }
+
+    /**
+     * Returns the wall-clock time remaining of the budget.
+     * 
+     * @return the remaining time in milliseconds; not positive if the budget is used up.
+     */
+    public long getRemainingTime() {
+        return this.budget - (System.currentTimeMillis() - this.startTime);
+    }
+
+    /**
+     * Checks whether the budget is used up.
+     */
+    public boolean isExhausted() {
+        return this.getRemainingTime() <= 0;
+    }
+
+}
@@ -0,0 +1,149 @@
+package org.palladiosimulator.experimentautomation.application.scheduling;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
+
+/**
+ * Durations of past design point analyses, per experiment, tool configuration, and factor vector.
+ * The history is either kept in memory for a single campaign or stored in a file, such that later
+ * campaigns can schedule their design points based on it.
+ */
+public class CostHistory {
+
+    private static final Logger LOGGER = Logger.getLogger(CostHistory.class);
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /** The file the history is stored in; <code>null</code> if it is kept in memory only. */
+    private final File file;
+
+    /** The duration in milliseconds by key, see {@link #createKey}. */
+    private final Map<String, Long> durations = new HashMap<String, Long>();
+
+    /**
+     * Creates a history that is kept in memory only.
+     */
+    public CostHistory() {
+        this.file = null;
+    }
+
+    private CostHistory(final File file) throws IOException {
+        this.file = file;
+        if (file.exists()) {
+            this.load();
+        }
+    }
+
+    /**
+     * Opens the history stored in the given file; the file is created when the first duration is
+     * recorded.
+     * 
+     * @param file
+     *            the history file.
+     * @return the opened history.
+     * @throws IOException
+     *             if the history cannot be read.
+     */
+    public static CostHistory open(final File file) throws IOException {
+        return new CostHistory(file);
+    }
+
+    /**
+     * Creates the key identifying the given design point.
+     * 
+     * @param experiment
+     *            the experiment of the design point.
+     * @param toolConfiguration
+     *            the tool configuration analyzing the design point.
+     * @param designPoint
+     *            the variations and according value factors of the design point.
+     * @return the key.
+     */
+    public static String createKey(final Experiment experiment, final ToolConfiguration toolConfiguration,
+            final List<VariationFactorTuple> designPoint) {
+        return experiment.getId() + "|" + experiment.getToolConfiguration().indexOf(toolConfiguration) + "|"
+                + designPoint;
+    }
+
+    /**
+     * Returns the recorded duration of the given design point.
+     * 
+     * @param key
+     *            the key of the design point.
+     * @return the duration in milliseconds; <code>null</code> if none has been recorded.
+     */
+    public synchronized Long getDuration(final String key) {
+        return this.durations.get(key);
+    }
+
+    /**
+     * Records the duration of the given design point, replacing any previously recorded one, and
+     * stores the history if it is backed by a file.
+     * 
+     * @param key
+     *            the key of the design point.
+     * @param duration
+     *            the duration in milliseconds.
+     */
+    public synchronized void record(final String key, final long duration) {
+        this.durations.put(key, duration);
+        if (this.file != null) {
+            this.save();
+        }
+    }
+
+    private void load() throws IOException {
+        final Properties properties = new Properties();
+        final InputStream input = new FileInputStream(this.file);
+        try {
+            properties.load(input);
+        } finally {
+            input.close();
+        }
+
+        for (final String key : properties.stringPropertyNames()) {
+            try {
+                this.durations.put(key, Long.valueOf(properties.getProperty(key)));
+            } catch (final NumberFormatException e) {
+                LOGGER.warn("Ignoring malformed cost history entry: " + key);
+            }
+        }
+    }
+
+    private void save() {
+        final Properties properties = new Properties();
+        for (final Map.Entry<String, Long> entry : this.durations.entrySet()) {
+            properties.setProperty(entry.getKey(), entry.getValue().toString());
+        }
+
+        final File temporaryFile = new File(this.file.getPath() + TEMPORARY_SUFFIX);
+        try {
+            final OutputStream output = new FileOutputStream(temporaryFile);
+            try {
+                properties.store(output, "Durations of design point analyses in milliseconds");
+            } finally {
+                output.close();
+            }
+            this.file.delete();
+            if (!temporaryFile.renameTo(this.file)) {
+                throw new IOException("Could not rename " + temporaryFile);
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Could not store cost history " + this.file + ": " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,291 @@
+package org.palladiosimulator.experimentautomation.application.scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.variation.MonotonePruner;
+import org.palladiosimulator.experimentautomation.application.variation.OpenWorkloadVariation;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
+
+/**
+ * Orders the design points of an experiment by their expected cost and reports the progress of
+ * their analysis, including the estimated time remaining.
+ * 
+ * The cost of a design point is its duration recorded in the {@link CostHistory}. Without such a
+ * record, it is estimated from the factors of the design point: the cost grows with each numeric
+ * factor, e.g., with the population of a closed workload, except for inter-arrival times of open
+ * workloads, where it shrinks. Estimates are scaled to milliseconds based on the design points of
+ * the experiment that have a recorded duration.
+ * 
+ * Analyzing the most expensive design points first minimizes the overall duration when design
+ * points are analyzed concurrently, since no long analysis is started when other threads are
+ * about to run out of work. However, design points with less load along monotone variations are
+ * always analyzed before those they dominate (see {@link MonotonePruner}): otherwise, the design
+ * points with the highest load, which are usually the most expensive ones, would be analyzed
+ * before the design points whose SLO violations could prune them.
+ */
+public class DesignPointScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(DesignPointScheduler.class);
+
+    private final Experiment experiment;
+    private final ToolConfiguration toolConfiguration;
+    private final CostHistory history;
+
+    /** Milliseconds per unit of the heuristic cost; 1 if no duration has been recorded yet. */
+    private double heuristicScale = 1.0;
+
+    private long startTime;
+    private double totalCost;
+    private double completedCost;
+    private int designPoints;
+    private int completedDesignPoints;
+
+    /**
+     * Default constructor.
+     * 
+     * @param experiment
+     *            the experiment whose design points are scheduled.
+     * @param toolConfiguration
+     *            the tool configuration analyzing the design points.
+     * @param history
+     *            the durations of past design point analyses; updated by {@link #completed}.
+     */
+    public DesignPointScheduler(final Experiment experiment, final ToolConfiguration toolConfiguration,
+            final CostHistory history) {
+        this.experiment = experiment;
+        this.toolConfiguration = toolConfiguration;
+        this.history = history;
+    }
+
+    /**
+     * Orders the given design points longest-expected-first and starts reporting progress. A design
+     * point is never ordered before a design point that would prune it by violating an SLO.
+     * 
+     * @param designPoints
+     *            the design points to be analyzed.
+     * @return the design points, the most expensive first among those that cannot prune each other.
+     */
+    public List<List<VariationFactorTuple>> schedule(final Iterator<List<VariationFactorTuple>> designPoints) {
+        final List<List<VariationFactorTuple>> schedule = new ArrayList<List<VariationFactorTuple>>();
+        while (designPoints.hasNext()) {
+            schedule.add(designPoints.next());
+        }
+        this.calibrate(schedule.iterator());
+
+        final List<Double> costs = new ArrayList<Double>(schedule.size());
+        for (int i = 0; i < schedule.size(); i++) {
+            costs.add(this.estimateCost(schedule.get(i)));
+        }
+
+        // the number of design points that have to be analyzed before each design point
+        final int[] predecessors = new int[schedule.size()];
+        for (int i = 0; i < schedule.size(); i++) {
+            for (int j = 0; j < schedule.size(); j++) {
+                if (precedes(schedule, j, i)) {
+                    predecessors[i]++;
+                }
+            }
+        }
+
+        // of the design points whose predecessors have been ordered, the most expensive one goes next
+        final PriorityQueue<Integer> ready = new PriorityQueue<Integer>(Math.max(1, schedule.size()),
+                new Comparator<Integer>() {
+
+                    @Override
+                    public int compare(final Integer first, final Integer second) {
+                        final int comparison = costs.get(second).compareTo(costs.get(first));
+                        return comparison != 0 ? comparison : first.compareTo(second);
+                    }
+
+                });
+        for (int i = 0; i < schedule.size(); i++) {
+            if (predecessors[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        final List<List<VariationFactorTuple>> result = new ArrayList<List<VariationFactorTuple>>(schedule.size());
+        double cost = 0.0;
+        while (!ready.isEmpty()) {
+            final int index = ready.poll();
+            result.add(schedule.get(index));
+            cost += costs.get(index);
+            for (int i = 0; i < schedule.size(); i++) {
+                if (precedes(schedule, index, i) && --predecessors[i] == 0) {
+                    ready.add(i);
+                }
+            }
+        }
+        this.start(result.size(), cost);
+
+        return result;
+    }
+
+    /**
+     * Starts reporting progress for design points that are analyzed in the given order, without
+     * reordering them. The design points are only used for estimating costs.
+     * 
+     * @param designPoints
+     *            the design points to be analyzed.
+     */
+    public void start(final Iterator<List<VariationFactorTuple>> designPoints) {
+        final List<List<VariationFactorTuple>> calibrationPoints = new ArrayList<List<VariationFactorTuple>>();
+        int count = 0;
+        double totalHeuristicCost = 0.0;
+        double totalRecordedCost = 0.0;
+        while (designPoints.hasNext()) {
+            final List<VariationFactorTuple> designPoint = designPoints.next();
+            final Long duration = this.history.getDuration(this.createKey(designPoint));
+            if (duration == null) {
+                totalHeuristicCost += estimateHeuristicCost(designPoint);
+            } else {
+                totalRecordedCost += duration;
+                calibrationPoints.add(designPoint);
+            }
+            count++;
+        }
+        this.calibrate(calibrationPoints.iterator());
+
+        this.start(count, totalRecordedCost + totalHeuristicCost * this.heuristicScale);
+    }
+
+    /**
+     * Estimates the cost of analyzing the given design point.
+     * 
+     * @param designPoint
+     *            the design point.
+     * @return the expected duration in milliseconds; the heuristic estimate if no duration has
+     *         been recorded so far.
+     */
+    public double estimateCost(final List<VariationFactorTuple> designPoint) {
+        final Long duration = this.history.getDuration(this.createKey(designPoint));
+        if (duration != null) {
+            return duration;
+        }
+        return estimateHeuristicCost(designPoint) * this.heuristicScale;
+    }
+
+    /**
+     * Records that the given design point will not be analyzed, e.g., because it has been
+     * completed before.
+     * 
+     * @param designPoint
+     *            the skipped design point.
+     */
+    public synchronized void skipped(final List<VariationFactorTuple> designPoint) {
+        this.totalCost -= this.estimateCost(designPoint);
+        this.designPoints--;
+    }
+
+    /**
+     * Records the duration of the given design point and reports the progress.
+     * 
+     * @param designPoint
+     *            the analyzed design point.
+     * @param duration
+     *            the duration of its analysis in milliseconds.
+     */
+    public synchronized void completed(final List<VariationFactorTuple> designPoint, final long duration) {
+        this.completedCost += this.estimateCost(designPoint);
+        this.completedDesignPoints++;
+        this.history.record(this.createKey(designPoint), duration);
+
+        final long elapsed = System.currentTimeMillis() - this.startTime;
+        final StringBuilder message = new StringBuilder();
+        message.append("Analyzed design point ").append(designPoint).append(" of experiment ");
+        message.append(this.experiment.getId()).append(" in ").append(formatDuration(duration)).append(" (");
+        message.append(this.completedDesignPoints).append(" of ").append(this.designPoints).append(")");
+        if (this.completedCost > 0.0 && this.completedDesignPoints < this.designPoints) {
+            // elapsed time already reflects how many design points are analyzed concurrently
+            final double remainingCost = Math.max(this.totalCost - this.completedCost, 0.0);
+            message.append("; estimated time remaining: ");
+            message.append(formatDuration((long) (elapsed * remainingCost / this.completedCost)));
+        }
+        LOGGER.info(message.toString());
+    }
+
+    private synchronized void start(final int designPoints, final double totalCost) {
+        this.startTime = System.currentTimeMillis();
+        this.designPoints = designPoints;
+        this.totalCost = totalCost;
+        this.completedCost = 0.0;
+        this.completedDesignPoints = 0;
+
+        LOGGER.info("Expected duration of " + designPoints + " design points of experiment "
+                + this.experiment.getId() + " (sequentially): " + formatDuration((long) totalCost));
+    }
+
+    /**
+     * Relates the heuristic cost to milliseconds, based on those of the given design points that
+     * have a recorded duration.
+     */
+    private void calibrate(final Iterator<List<VariationFactorTuple>> designPoints) {
+        double recordedDuration = 0.0;
+        double heuristicCost = 0.0;
+        while (designPoints.hasNext()) {
+            final List<VariationFactorTuple> designPoint = designPoints.next();
+            final Long duration = this.history.getDuration(this.createKey(designPoint));
+            if (duration != null) {
+                recordedDuration += duration;
+                heuristicCost += estimateHeuristicCost(designPoint);
+            }
+        }
+
+        if (recordedDuration > 0.0 && heuristicCost > 0.0) {
+            this.heuristicScale = recordedDuration / heuristicCost;
+        }
+    }
+
+    /**
+     * Checks whether the first design point has to be analyzed before the second one because its SLO
+     * violation would prune the second one. Of equal design points, the one given first goes first.
+     */
+    private static boolean precedes(final List<List<VariationFactorTuple>> designPoints, final int first,
+            final int second) {
+        return first != second && MonotonePruner.prunes(designPoints.get(first), designPoints.get(second))
+                && (first < second || !MonotonePruner.prunes(designPoints.get(second), designPoints.get(first)));
+    }
+
+    private String createKey(final List<VariationFactorTuple> designPoint) {
+        return CostHistory.createKey(this.experiment, this.toolConfiguration, designPoint);
+    }
+
+    /**
+     * Estimates the relative cost of the given design point from its factors.
+     */
+    private static double estimateHeuristicCost(final List<VariationFactorTuple> designPoint) {
+        double cost = 1.0;
+        for (final VariationFactorTuple variationFactorTuple : designPoint) {
+            if (!(variationFactorTuple.getFactor() instanceof Number)) {
+                continue;
+            }
+
+            final double factor = Math.abs(((Number) variationFactorTuple.getFactor()).doubleValue());
+            if (factor == 0.0) {
+                continue;
+            }
+
+            if (OpenWorkloadVariation.class.getName().equals(
+                    variationFactorTuple.getVariation().getType().getStrategyClass())) {
+                // longer inter-arrival times lead to fewer requests
+                cost /= factor;
+            } else {
+                cost *= factor;
+            }
+        }
+        return cost;
+    }
+
+    private static String formatDuration(final long milliseconds) {
+        final long seconds = milliseconds / 1000;
+        return String.format("%d:%02d:%02d", seconds / 3600, (seconds / 60) % 60, seconds % 60);
+    }
+
+}
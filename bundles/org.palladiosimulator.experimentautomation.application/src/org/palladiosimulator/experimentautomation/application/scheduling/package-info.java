@@ -0,0 +1,4 @@
+/**
+ * Cost-aware scheduling of design points and progress reporting.
+ */
+package org.palladiosimulator.experimentautomation.application.scheduling;
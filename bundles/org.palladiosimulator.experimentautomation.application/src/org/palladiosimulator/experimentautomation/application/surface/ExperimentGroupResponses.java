@@ -0,0 +1,243 @@
+package org.palladiosimulator.experimentautomation.application.surface;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Quantity;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.edp2.dao.exception.DataNotAccessibleException;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.edp2.datastream.edp2source.Edp2DataTupleDataSource;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentGroup;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentRun;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentSetting;
+import org.palladiosimulator.edp2.models.ExperimentData.Measurement;
+import org.palladiosimulator.edp2.models.Repository.Repository;
+import org.palladiosimulator.edp2.util.MeasurementsUtility;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.AbstractSimulationConfigFactory;
+import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.EDP2DatasourceFactory;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.measurementframework.measureprovider.IMeasureProvider;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+
+/**
+ * The responses of the completed analysis runs of an experiment group, i.e., of an experiment and
+ * tool configuration, together with the factor vectors of their design points; the observations a
+ * {@link ResponseSurface} is fitted to.
+ * 
+ * The factor vector of an analysis run is taken from the name of its experiment setting (see
+ * {@link AbstractSimulationConfigFactory#computeExperimentSettingName}); settings with non-numeric
+ * factors are skipped. Each experiment run of a setting, e.g., each repetition, is an observation.
+ * Its response aggregates the values of the given metric at the given measuring point according
+ * to a {@link ResponseStatistic}.
+ */
+public class ExperimentGroupResponses {
+
+    private static final Logger LOGGER = Logger.getLogger(ExperimentGroupResponses.class);
+
+    private static final String FACTOR_SEPARATOR = ", ";
+
+    private final List<double[]> factorVectors = new ArrayList<double[]>();
+    private final List<Double> responses = new ArrayList<Double>();
+
+    private ExperimentGroupResponses() {
+    }
+
+    /**
+     * Collects the responses of all analysis runs of the given experiment and tool configuration
+     * from the EDP2 data source of the tool configuration.
+     * 
+     * @param experiment
+     *            the experiment.
+     * @param simulationConfiguration
+     *            the tool configuration, providing the EDP2 data source.
+     * @param measuringPointName
+     *            the string representation of the measuring point, e.g., of a usage scenario.
+     * @param metric
+     *            the metric to aggregate, e.g., the response time; may be part of a recorded tuple.
+     * @param statistic
+     *            the aggregation of the values of an analysis run.
+     * @return the collected observations; empty if there are none.
+     */
+    public static ExperimentGroupResponses collect(final Experiment experiment,
+            final AbstractSimulationConfiguration simulationConfiguration, final String measuringPointName,
+            final MetricDescription metric, final ResponseStatistic statistic) {
+        final ExperimentGroupResponses result = new ExperimentGroupResponses();
+
+        final Repository repository = EDP2DatasourceFactory.createOrOpenDatasource(simulationConfiguration
+                .getDatasource());
+        if (repository == null) {
+            return result;
+        }
+        try {
+            MeasurementsUtility.ensureOpenRepository(repository);
+        } catch (final DataNotAccessibleException e) {
+            throw new RuntimeException("Could not open EDP2 repository", e);
+        }
+
+        // experiment settings are named "<prefix><factors><suffix>"
+        final String emptySettingName = AbstractSimulationConfigFactory.computeExperimentSettingName(
+                simulationConfiguration, Collections.<VariationFactorTuple> emptyList());
+        final int factorsStart = emptySettingName.indexOf("[]") + 1;
+        final String prefix = emptySettingName.substring(0, factorsStart);
+        final String suffix = emptySettingName.substring(factorsStart);
+
+        final String purpose = AbstractSimulationConfigFactory.computeExperimentGroupPurpose(experiment);
+        for (final ExperimentGroup experimentGroup : repository.getExperimentGroups()) {
+            if (!purpose.equals(experimentGroup.getPurpose())) {
+                continue;
+            }
+            for (final ExperimentSetting experimentSetting : experimentGroup.getExperimentSettings()) {
+                final String description = experimentSetting.getDescription();
+                if (description == null || !description.startsWith(prefix) || !description.endsWith(suffix)) {
+                    continue;
+                }
+                final double[] factors = parseFactors(description.substring(prefix.length(), description.length()
+                        - suffix.length()));
+                if (factors == null) {
+                    LOGGER.debug("Skipping experiment setting with non-numeric factors: " + description);
+                    continue;
+                }
+
+                for (final ExperimentRun experimentRun : experimentSetting.getExperimentRuns()) {
+                    final Double response = computeResponse(experimentRun, measuringPointName, metric, statistic);
+                    if (response != null) {
+                        result.factorVectors.add(factors);
+                        result.responses.add(response);
+                    }
+                }
+            }
+        }
+
+        LOGGER.info("Collected " + result.responses.size() + " responses of experiment " + experiment.getId());
+        return result;
+    }
+
+    /**
+     * Fits a response surface to the collected observations.
+     * 
+     * @param model
+     *            the terms of the response surface.
+     * @return the fitted response surface.
+     */
+    public ResponseSurface fit(final RegressionModel model) {
+        return ResponseSurface.fit(model, this.factorVectors, this.responses);
+    }
+
+    public List<double[]> getFactorVectors() {
+        return Collections.unmodifiableList(this.factorVectors);
+    }
+
+    public List<Double> getResponses() {
+        return Collections.unmodifiableList(this.responses);
+    }
+
+    /**
+     * Parses the factors of a design point, as listed in an experiment setting name.
+     * 
+     * @return the factor vector; <code>null</code> if a factor is not a number.
+     */
+    private static double[] parseFactors(final String factorList) {
+        if (factorList.isEmpty()) {
+            return new double[0];
+        }
+        final String[] factorStrings = factorList.split(FACTOR_SEPARATOR);
+        final double[] factors = new double[factorStrings.length];
+        try {
+            for (int i = 0; i < factors.length; i++) {
+                factors[i] = Double.parseDouble(factorStrings[i]);
+            }
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        return factors;
+    }
+
+    /**
+     * Aggregates the values of the given metric at the given measuring point of an experiment run.
+     * 
+     * @return the response; <code>null</code> if the run has no such measurements.
+     */
+    private static Double computeResponse(final ExperimentRun experimentRun, final String measuringPointName,
+            final MetricDescription metric, final ResponseStatistic statistic) {
+        for (final Measurement measurement : experimentRun.getMeasurement()) {
+            if (!measuringPointName.equals(measurement.getMeasuringType().getMeasuringPoint()
+                    .getStringRepresentation()) || !containsMetric(measurement.getMeasuringType().getMetric(), metric)
+                    || measurement.getMeasurementRanges().isEmpty()) {
+                continue;
+            }
+
+            long count = 0;
+            double sum = 0.0;
+            double firstPointInTime = Double.NaN;
+            double lastPointInTime = Double.NaN;
+            double lastValue = 0.0;
+            double busyTime = 0.0;
+
+            final IDataStream<IMeasureProvider> dataStream = new Edp2DataTupleDataSource(measurement
+                    .getMeasurementRanges().get(0).getRawMeasurements()).getDataStream();
+            try {
+                for (final IMeasureProvider measureProvider : dataStream) {
+                    final Measure<Number, Quantity> measure = measureProvider.getMeasureForMetric(metric);
+                    final double value = measure.getValue().doubleValue();
+                    if (statistic != ResponseStatistic.MEAN) {
+                        final Measure<Number, Quantity> pointInTimeMeasure = measureProvider
+                                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+                        final double pointInTime = pointInTimeMeasure.getValue().doubleValue();
+                        if (count == 0) {
+                            firstPointInTime = pointInTime;
+                        } else if (lastValue > 0.0) {
+                            busyTime += pointInTime - lastPointInTime;
+                        }
+                        lastPointInTime = pointInTime;
+                    }
+                    count++;
+                    sum += value;
+                    lastValue = value;
+                }
+            } finally {
+                dataStream.close();
+            }
+
+            if (count == 0) {
+                return null;
+            }
+            final double duration = lastPointInTime - firstPointInTime;
+            switch (statistic) {
+            case MEAN:
+                return sum / count;
+            case THROUGHPUT:
+                return duration > 0.0 ? count / duration : null;
+            case BUSY_FRACTION:
+                return duration > 0.0 ? busyTime / duration : null;
+            default:
+                throw new IllegalArgumentException("Unknown response statistic " + statistic);
+            }
+        }
+        return null;
+    }
+
+    private static boolean containsMetric(final MetricDescription metric, final MetricDescription metricToCheckFor) {
+        if (metric == metricToCheckFor || metric.getId().equals(metricToCheckFor.getId())) {
+            return true;
+        }
+
+        if (metric instanceof MetricSetDescription) {
+            for (final MetricDescription subMetric : ((MetricSetDescription) metric).getSubsumedMetrics()) {
+                if (containsMetric(subMetric, metricToCheckFor)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.palladiosimulator.experimentautomation.application.surface;
+
+/**
+ * The terms of a polynomial response surface over k factors.
+ */
+public enum RegressionModel {
+
+    /** Intercept and one term per factor. */
+    LINEAR,
+
+    /** Linear terms plus the products of all pairs of factors. */
+    INTERACTION,
+
+    /** Interaction terms plus the square of each factor. */
+    QUADRATIC;
+
+    /**
+     * Returns the number of terms, including the intercept, for the given number of factors.
+     * 
+     * @param factorCount
+     *            the number of factors.
+     * @return the number of coefficients of a fitted response surface.
+     */
+    public int getTermCount(final int factorCount) {
+        int termCount = 1 + factorCount;
+        if (this != LINEAR) {
+            termCount += factorCount * (factorCount - 1) / 2;
+        }
+        if (this == QUADRATIC) {
+            termCount += factorCount;
+        }
+        return termCount;
+    }
+
+    /**
+     * Evaluates the terms for the given factors: the intercept, the factors, the products of pairs of
+     * factors in lexicographic order, and the squares of the factors.
+     * 
+     * @param factors
+     *            the factor vector.
+     * @return the value of each term.
+     */
+    public double[] computeTerms(final double[] factors) {
+        final double[] terms = new double[this.getTermCount(factors.length)];
+        int term = 0;
+        terms[term++] = 1.0;
+        for (final double factor : factors) {
+            terms[term++] = factor;
+        }
+        if (this != LINEAR) {
+            for (int i = 0; i < factors.length; i++) {
+                for (int j = i + 1; j < factors.length; j++) {
+                    terms[term++] = factors[i] * factors[j];
+                }
+            }
+        }
+        if (this == QUADRATIC) {
+            for (final double factor : factors) {
+                terms[term++] = factor * factor;
+            }
+        }
+        return terms;
+    }
+
+}
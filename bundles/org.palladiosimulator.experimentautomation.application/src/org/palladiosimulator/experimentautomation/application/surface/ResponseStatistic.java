@@ -0,0 +1,23 @@
+package org.palladiosimulator.experimentautomation.application.surface;
+
+/**
+ * Aggregates the measurements of an analysis run into the response of a response surface.
+ */
+public enum ResponseStatistic {
+
+    /** The mean of all values, e.g., the mean response time. */
+    MEAN,
+
+    /**
+     * The number of measurements per unit of simulated time, e.g., the throughput of a usage
+     * scenario based on its response times.
+     */
+    THROUGHPUT,
+
+    /**
+     * The share of simulated time during which the value is positive, e.g., the utilization of a
+     * resource based on its state, i.e., the number of jobs in the resource.
+     */
+    BUSY_FRACTION
+
+}
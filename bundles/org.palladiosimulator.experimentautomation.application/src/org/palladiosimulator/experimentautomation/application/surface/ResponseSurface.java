@@ -0,0 +1,338 @@
+package org.palladiosimulator.experimentautomation.application.surface;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Properties;
+
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+
+/**
+ * A polynomial regression of a response, e.g., the mean response time, over the factors of design
+ * points, fitted by least squares to the responses of completed analysis runs. A response surface
+ * predicts the response of design points that have not been analyzed, e.g., to skip or prioritize
+ * design points of later campaigns.
+ * 
+ * Factors are scaled to the unit interval spanned by the fitted design points before the terms of
+ * the {@link RegressionModel} are evaluated, which keeps the least-squares problem well-conditioned.
+ * Response surfaces can be stored in and loaded from property files.
+ */
+public class ResponseSurface {
+
+    private static final String MODEL = "model";
+    private static final String FACTOR_COUNT = "factorCount";
+    private static final String MINIMUM = "minimum.";
+    private static final String RANGE = "range.";
+    private static final String COEFFICIENT = "coefficient.";
+    private static final String R_SQUARED = "rSquared";
+    private static final String OBSERVATION_COUNT = "observationCount";
+
+    /** Columns of the least-squares problem with a smaller norm are considered linearly dependent. */
+    private static final double RANK_TOLERANCE = 1e-10;
+
+    private final RegressionModel model;
+    private final double[] minima;
+    private final double[] ranges;
+    private final double[] coefficients;
+    private final double rSquared;
+    private final int observationCount;
+
+    private ResponseSurface(final RegressionModel model, final double[] minima, final double[] ranges,
+            final double[] coefficients, final double rSquared, final int observationCount) {
+        this.model = model;
+        this.minima = minima;
+        this.ranges = ranges;
+        this.coefficients = coefficients;
+        this.rSquared = rSquared;
+        this.observationCount = observationCount;
+    }
+
+    /**
+     * Fits a response surface to the given observations.
+     * 
+     * @param model
+     *            the terms of the response surface.
+     * @param factorVectors
+     *            the factor vector of each observation; all of the same length.
+     * @param responses
+     *            the response of each observation.
+     * @return the fitted response surface.
+     * @throws IllegalArgumentException
+     *             if the observations do not determine all coefficients, e.g., because there are
+     *             fewer observations than terms.
+     */
+    public static ResponseSurface fit(final RegressionModel model, final List<double[]> factorVectors,
+            final List<Double> responses) {
+        if (factorVectors.isEmpty() || factorVectors.size() != responses.size()) {
+            throw new IllegalArgumentException("Each observation requires a factor vector and a response");
+        }
+
+        final int factorCount = factorVectors.get(0).length;
+        final double[] minima = new double[factorCount];
+        final double[] ranges = new double[factorCount];
+        for (int i = 0; i < factorCount; i++) {
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            for (final double[] factors : factorVectors) {
+                minimum = Math.min(minimum, factors[i]);
+                maximum = Math.max(maximum, factors[i]);
+            }
+            minima[i] = minimum;
+            ranges[i] = maximum > minimum ? maximum - minimum : 1.0;
+        }
+
+        final int termCount = model.getTermCount(factorCount);
+        if (factorVectors.size() < termCount) {
+            throw new IllegalArgumentException("A " + model + " response surface over " + factorCount
+                    + " factors requires at least " + termCount + " observations, got " + factorVectors.size());
+        }
+
+        final double[][] design = new double[factorVectors.size()][];
+        final double[] observed = new double[responses.size()];
+        for (int i = 0; i < design.length; i++) {
+            if (factorVectors.get(i).length != factorCount) {
+                throw new IllegalArgumentException("All factor vectors have to be of the same length");
+            }
+            design[i] = model.computeTerms(scale(factorVectors.get(i), minima, ranges));
+            observed[i] = responses.get(i);
+        }
+        final double[][] decomposition = new double[design.length][];
+        for (int i = 0; i < design.length; i++) {
+            decomposition[i] = design[i].clone();
+        }
+        final double[] coefficients = solveLeastSquares(decomposition, observed.clone());
+
+        double mean = 0.0;
+        for (final double response : observed) {
+            mean += response / observed.length;
+        }
+        double residualSquares = 0.0;
+        double totalSquares = 0.0;
+        for (int i = 0; i < design.length; i++) {
+            double prediction = 0.0;
+            for (int term = 0; term < termCount; term++) {
+                prediction += coefficients[term] * design[i][term];
+            }
+            residualSquares += (observed[i] - prediction) * (observed[i] - prediction);
+            totalSquares += (observed[i] - mean) * (observed[i] - mean);
+        }
+        final double rSquared = totalSquares > 0.0 ? 1.0 - residualSquares / totalSquares : 1.0;
+
+        return new ResponseSurface(model, minima, ranges, coefficients, rSquared, observed.length);
+    }
+
+    /**
+     * Predicts the response of the given factor vector.
+     * 
+     * @param factors
+     *            the factor vector, in the order of the fitted factor vectors.
+     * @return the predicted response.
+     */
+    public double predict(final double[] factors) {
+        if (factors.length != this.minima.length) {
+            throw new IllegalArgumentException("Expected " + this.minima.length + " factors, got " + factors.length);
+        }
+
+        final double[] terms = this.model.computeTerms(scale(factors, this.minima, this.ranges));
+        double prediction = 0.0;
+        for (int term = 0; term < terms.length; term++) {
+            prediction += this.coefficients[term] * terms[term];
+        }
+        return prediction;
+    }
+
+    /**
+     * Predicts the response of the given design point.
+     * 
+     * @param designPoint
+     *            the variations and according value factors; all factors have to be numbers.
+     * @return the predicted response.
+     */
+    public double predict(final List<VariationFactorTuple> designPoint) {
+        return this.predict(toFactorVector(designPoint));
+    }
+
+    /**
+     * Converts the given design point into a factor vector.
+     * 
+     * @param designPoint
+     *            the variations and according value factors; all factors have to be numbers.
+     * @return the factor vector.
+     */
+    public static double[] toFactorVector(final List<VariationFactorTuple> designPoint) {
+        final double[] factors = new double[designPoint.size()];
+        for (int i = 0; i < factors.length; i++) {
+            final Object factor = designPoint.get(i).getFactor();
+            if (!(factor instanceof Number)) {
+                throw new IllegalArgumentException("Response surfaces require numeric factors, got " + factor);
+            }
+            factors[i] = ((Number) factor).doubleValue();
+        }
+        return factors;
+    }
+
+    public RegressionModel getModel() {
+        return this.model;
+    }
+
+    /**
+     * Returns the coefficients of the terms of the regression model, for factors scaled to the unit
+     * interval spanned by the fitted design points.
+     */
+    public double[] getCoefficients() {
+        return this.coefficients.clone();
+    }
+
+    /**
+     * Returns the coefficient of determination of the fit, i.e., the share of the variance of the
+     * fitted responses explained by the response surface.
+     */
+    public double getRSquared() {
+        return this.rSquared;
+    }
+
+    public int getObservationCount() {
+        return this.observationCount;
+    }
+
+    /**
+     * Stores the response surface in the given property file.
+     * 
+     * @param file
+     *            the file; replaced if it exists.
+     * @throws IOException
+     *             if the file cannot be written.
+     */
+    public void save(final File file) throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(MODEL, this.model.name());
+        properties.setProperty(FACTOR_COUNT, Integer.toString(this.minima.length));
+        for (int i = 0; i < this.minima.length; i++) {
+            properties.setProperty(MINIMUM + i, Double.toString(this.minima[i]));
+            properties.setProperty(RANGE + i, Double.toString(this.ranges[i]));
+        }
+        for (int term = 0; term < this.coefficients.length; term++) {
+            properties.setProperty(COEFFICIENT + term, Double.toString(this.coefficients[term]));
+        }
+        properties.setProperty(R_SQUARED, Double.toString(this.rSquared));
+        properties.setProperty(OBSERVATION_COUNT, Integer.toString(this.observationCount));
+
+        final OutputStream output = new FileOutputStream(file);
+        try {
+            properties.store(output, "Response surface of the form " + this.model);
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Loads a response surface stored by {@link #save(File)}.
+     * 
+     * @param file
+     *            the property file.
+     * @return the loaded response surface.
+     * @throws IOException
+     *             if the file cannot be read or does not contain a response surface.
+     */
+    public static ResponseSurface load(final File file) throws IOException {
+        final Properties properties = new Properties();
+        final InputStream input = new FileInputStream(file);
+        try {
+            properties.load(input);
+        } finally {
+            input.close();
+        }
+
+        try {
+            final RegressionModel model = RegressionModel.valueOf(properties.getProperty(MODEL));
+            final int factorCount = Integer.parseInt(properties.getProperty(FACTOR_COUNT));
+            final double[] minima = new double[factorCount];
+            final double[] ranges = new double[factorCount];
+            for (int i = 0; i < factorCount; i++) {
+                minima[i] = Double.parseDouble(properties.getProperty(MINIMUM + i));
+                ranges[i] = Double.parseDouble(properties.getProperty(RANGE + i));
+            }
+            final double[] coefficients = new double[model.getTermCount(factorCount)];
+            for (int term = 0; term < coefficients.length; term++) {
+                coefficients[term] = Double.parseDouble(properties.getProperty(COEFFICIENT + term));
+            }
+            return new ResponseSurface(model, minima, ranges, coefficients, Double.parseDouble(properties
+                    .getProperty(R_SQUARED)), Integer.parseInt(properties.getProperty(OBSERVATION_COUNT)));
+        } catch (final RuntimeException e) {
+            throw new IOException("Malformed response surface " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static double[] scale(final double[] factors, final double[] minima, final double[] ranges) {
+        final double[] scaled = new double[factors.length];
+        for (int i = 0; i < factors.length; i++) {
+            scaled[i] = (factors[i] - minima[i]) / ranges[i];
+        }
+        return scaled;
+    }
+
+    /**
+     * Solves min ||a x - b|| by Householder QR decomposition; a and b are overwritten.
+     */
+    private static double[] solveLeastSquares(final double[][] a, final double[] b) {
+        final int rows = a.length;
+        final int columns = a[0].length;
+        final double[] diagonal = new double[columns];
+
+        for (int k = 0; k < columns; k++) {
+            double norm = 0.0;
+            for (int i = k; i < rows; i++) {
+                norm = Math.hypot(norm, a[i][k]);
+            }
+            if (norm < RANK_TOLERANCE) {
+                throw new IllegalArgumentException("The observations do not determine term " + k
+                        + " of the response surface; more distinct design points are required");
+            }
+            if (a[k][k] > 0) {
+                norm = -norm;
+            }
+
+            // Householder vector v = a[k..][k] - norm * e_k, stored in place
+            for (int i = k; i < rows; i++) {
+                a[i][k] /= -norm;
+            }
+            a[k][k] += 1.0;
+
+            for (int j = k + 1; j < columns; j++) {
+                double s = 0.0;
+                for (int i = k; i < rows; i++) {
+                    s += a[i][k] * a[i][j];
+                }
+                s = -s / a[k][k];
+                for (int i = k; i < rows; i++) {
+                    a[i][j] += s * a[i][k];
+                }
+            }
+            double s = 0.0;
+            for (int i = k; i < rows; i++) {
+                s += a[i][k] * b[i];
+            }
+            s = -s / a[k][k];
+            for (int i = k; i < rows; i++) {
+                b[i] += s * a[i][k];
+            }
+            diagonal[k] = norm;
+        }
+
+        // back substitution with R, whose diagonal is stored separately
+        final double[] x = new double[columns];
+        for (int k = columns - 1; k >= 0; k--) {
+            double value = b[k];
+            for (int j = k + 1; j < columns; j++) {
+                value -= a[k][j] * x[j];
+            }
+            x[k] = value / diagonal[k];
+        }
+        return x;
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Response surfaces, i.e., regression models of analysis results over the factors of design points.
+ */
+package org.palladiosimulator.experimentautomation.application.surface;
@@ -1,27 +1,158 @@
 package org.palladiosimulator.experimentautomation.application.tooladapter;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.palladiosimulator.experimentautomation.application.jobs.DeadlineProgressMonitor;
+
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
 import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
 
 public class RunAnalysisJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
 
+    private static final Logger LOGGER = Logger.getLogger(RunAnalysisJob.class);
+
     private boolean sloWasViolated = false;
+    private double sloViolationRatio = Double.NaN;
+    private boolean watchSlos = false;
+    private boolean abortedOnSloViolation = false;
+    private long wallClockBudget = 0;
+    private boolean timedOut = false;
     private Map<String, Object> configurationMap = null;
+    private final Map<String, Double> truncationTimes = new HashMap<String, Double>();
 
     public RunAnalysisJob() {
         super(true);
     }
 
+    /**
+     * Executes the analysis run within its wall-clock budget, if any. Once the budget is exceeded,
+     * the progress monitor reports cancellation, so that the analysis tool stops, and the run is
+     * marked as timed out instead of failing. Canceling requires the analysis tool to observe the
+     * progress monitor; otherwise, the run is only marked once it has finished.
+     * 
+     * The start of the run is reported to the progress monitor as subtask, which also tells the
+     * coordinator of a worker process that the worker is still making progress.
+     */
+    @Override
+    public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+        monitor.subTask(this.getName());
+        if (this.wallClockBudget <= 0) {
+            super.execute(monitor);
+            return;
+        }
+
+        final DeadlineProgressMonitor deadlineMonitor = new DeadlineProgressMonitor(monitor,
+                System.currentTimeMillis() + this.wallClockBudget);
+        try {
+            super.execute(deadlineMonitor);
+        } catch (final UserCanceledException e) {
+            if (monitor.isCanceled() || !deadlineMonitor.isExpired()) {
+                throw e;
+            }
+        }
+
+        if (deadlineMonitor.isExpired() && !monitor.isCanceled()) {
+            LOGGER.warn("Analysis run exceeded its wall-clock budget of " + this.wallClockBudget + " ms");
+            this.setTimedOut();
+        }
+    }
+
     public void setSloWasViolated() {
         this.sloWasViolated = true;
     }
 
+    /**
+     * Overrides whether an SLO was violated, e.g., by the decision of a sequential test over
+     * several analysis runs.
+     */
+    public void setSloWasViolated(final boolean sloWasViolated) {
+        this.sloWasViolated = sloWasViolated;
+    }
+
     public boolean sloWasViolated() {
         return this.sloWasViolated;
     }
 
+    public void setSloViolationRatio(double sloViolationRatio) {
+        this.sloViolationRatio = sloViolationRatio;
+    }
+
+    /**
+     * Returns the largest ratio of measurements violating an SLO, over all SLOs; <code>NaN</code>
+     * if no SLOs were checked.
+     */
+    public double getSloViolationRatio() {
+        return this.sloViolationRatio;
+    }
+
+    /**
+     * Sets whether the analysis run is aborted as soon as an SLO is certainly violated (see
+     * {@link org.palladiosimulator.experimentautomation.application.jobs.WatchForSLOViolationsJob}).
+     */
+    public void setWatchSlos(final boolean watchSlos) {
+        this.watchSlos = watchSlos;
+    }
+
+    public boolean watchesSlos() {
+        return this.watchSlos;
+    }
+
+    /**
+     * Marks the analysis run as aborted because an SLO was certainly violated, which implies
+     * {@link #setSloWasViolated()}. The measurements of such runs are incomplete.
+     */
+    public void setAbortedOnSloViolation() {
+        this.abortedOnSloViolation = true;
+        this.sloWasViolated = true;
+    }
+
+    public boolean wasAbortedOnSloViolation() {
+        return this.abortedOnSloViolation;
+    }
+
+    /**
+     * Sets the real time the analysis run may take.
+     * 
+     * @param wallClockBudget
+     *            the wall-clock budget in milliseconds; 0 if unlimited.
+     */
+    public void setWallClockBudget(final long wallClockBudget) {
+        this.wallClockBudget = wallClockBudget;
+    }
+
+    public long getWallClockBudget() {
+        return this.wallClockBudget;
+    }
+
+    /**
+     * Marks the analysis run as canceled because it exceeded its wall-clock budget. The
+     * measurements of such runs are incomplete.
+     */
+    public void setTimedOut() {
+        this.timedOut = true;
+    }
+
+    public boolean wasTimedOut() {
+        return this.timedOut;
+    }
+
+    /**
+     * Returns the points in time the warm-up periods of the measurements of this analysis run end.
+     * Truncation times put into the map before the run is checked for SLO violations are reused,
+     * e.g., those of another repetition of the same design point; all others are detected (see
+     * {@link org.palladiosimulator.experimentautomation.application.jobs.CheckForSLOViolationsJob}).
+     * 
+     * @return the modifiable truncation times, by measuring point and metric of the measurements.
+     */
+    public Map<String, Double> getTruncationTimes() {
+        return this.truncationTimes;
+    }
+
     public void setConfiguration(Map<String, Object> configurationMap) {
         this.configurationMap = configurationMap;
     }
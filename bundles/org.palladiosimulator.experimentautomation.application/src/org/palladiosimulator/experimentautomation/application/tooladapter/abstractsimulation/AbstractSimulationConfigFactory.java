@@ -6,16 +6,24 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.palladiosimulator.edp2.models.Repository.Repository;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.EDP2Datasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.MeasurementCountStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed;
 import org.palladiosimulator.experimentautomation.abstractsimulation.SimTimeStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.StopCondition;
+import org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition;
 import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.jobs.SLOWatchingRecorder;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+import org.palladiosimulator.pcmmeasuringpoint.UsageScenarioMeasuringPoint;
 import org.palladiosimulator.recorderframework.edp2.config.EDP2RecorderConfigurationFactory;
 
 import de.uka.ipd.sdq.simulation.AbstractSimulationConfig;
@@ -28,6 +36,22 @@ import de.uka.ipd.sdq.simulation.AbstractSimulationConfig;
  */
 public class AbstractSimulationConfigFactory {
 
+    /** Number of seed streams reserved for the repetitions of a design point, as power of two. */
+    private static final int REPETITION_STREAM_BITS = 16;
+
+    /**
+     * Number of bits of a factor vector hash that choose the seed streams of its design point; one
+     * block of streams is left for common random numbers.
+     */
+    private static final int DESIGN_POINT_STREAM_BITS = RandomSeedStreams.STREAM_INDEX_BITS
+            - REPETITION_STREAM_BITS - 1;
+
+    /** Offset basis of the 64-bit FNV-1a hash. */
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    /** Prime of the 64-bit FNV-1a hash. */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     /**
      * Fills out the run configuration features of an {@link AbstractSimulationConfig}.
      * 
@@ -44,6 +68,31 @@ public class AbstractSimulationConfigFactory {
     public static Map<String, Object> createConfigMap(final Experiment experiment,
             final AbstractSimulationConfiguration simConfig, final String simulatorID,
             final List<VariationFactorTuple> variationFactorTuples) {
+        return createConfigMap(experiment, simConfig, simulatorID, variationFactorTuples, 1);
+    }
+
+    /**
+     * Fills out the run configuration features of an {@link AbstractSimulationConfig} for the given
+     * repetition. If a fixed random number generator seed is configured, each repetition gets its
+     * own seed stream derived from it (see {@link RandomSeedStreams} and
+     * {@link #computeSeedStream(RandomNumberGeneratorSeed, List, int)}). Thus, repetitions stay
+     * reproducible and independent, regardless of the order in which they are executed.
+     * 
+     * @param experiment
+     *            the experiment specification.
+     * @param simConfig
+     *            the configuration of the concrete analyzer.
+     * @param simulatorID
+     *            the ID of the used analyzer.
+     * @param variationFactorTuples
+     *            the variations and according value factors.
+     * @param repetition
+     *            the repetition number of the analysis run, starting with 1.
+     * @return a filled-out run configuration.
+     */
+    public static Map<String, Object> createConfigMap(final Experiment experiment,
+            final AbstractSimulationConfiguration simConfig, final String simulatorID,
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
         final Map<String, Object> map = new HashMap<String, Object>();
 
         /***************************************************/
@@ -58,13 +107,13 @@ public class AbstractSimulationConfigFactory {
                 computeExperimentSettingName(simConfig, variationFactorTuples));
 
         /** Simulation Results */
-        map.put(AbstractSimulationConfig.PERSISTENCE_RECORDER_NAME,
-                org.palladiosimulator.recorderframework.edp2.Activator.EDP2_ID);
+        map.put(AbstractSimulationConfig.PERSISTENCE_RECORDER_NAME, SLOWatchingRecorder.RECORDER_NAME);
         map.put(EDP2RecorderConfigurationFactory.REPOSITORY_ID, getPersistenceRecorder(simConfig.getDatasource()));
 
         /** Stop Conditions */
         map.put(AbstractSimulationConfig.SIMULATION_TIME, getMaximumSimulationTime(experiment, simConfig));
         map.put(AbstractSimulationConfig.MAXIMUM_MEASUREMENT_COUNT, getMaximumMeasurementCount(experiment, simConfig));
+        putConfidenceStopCondition(map, experiment, simConfig);
 
         /** Logging */
         map.put(AbstractSimulationConfig.VERBOSE_LOGGING, false);
@@ -77,12 +126,11 @@ public class AbstractSimulationConfigFactory {
             map.put(AbstractSimulationConfig.USE_FIXED_SEED, true);
 
             final RandomNumberGeneratorSeed seed = simConfig.getRandomNumberGeneratorSeed();
-            map.put(AbstractSimulationConfig.FIXED_SEED_PREFIX + "0", seed.getSeed0());
-            map.put(AbstractSimulationConfig.FIXED_SEED_PREFIX + "1", seed.getSeed1());
-            map.put(AbstractSimulationConfig.FIXED_SEED_PREFIX + "2", seed.getSeed2());
-            map.put(AbstractSimulationConfig.FIXED_SEED_PREFIX + "3", seed.getSeed3());
-            map.put(AbstractSimulationConfig.FIXED_SEED_PREFIX + "4", seed.getSeed4());
-            map.put(AbstractSimulationConfig.FIXED_SEED_PREFIX + "5", seed.getSeed5());
+            final long[] streamSeed = RandomSeedStreams.computeSeed(seed,
+                    computeSeedStream(seed, variationFactorTuples, repetition));
+            for (int i = 0; i < streamSeed.length; i++) {
+                map.put(AbstractSimulationConfig.FIXED_SEED_PREFIX + i, streamSeed[i]);
+            }
         } else {
             map.put(AbstractSimulationConfig.USE_FIXED_SEED, false);
         }
@@ -93,6 +141,55 @@ public class AbstractSimulationConfigFactory {
         return map;
     }
 
+    /**
+     * Assigns the seed stream of an analysis run by its repetition and, unless common random
+     * numbers are used, its design point.
+     * 
+     * With common random numbers, all design points of a repetition use the same stream;
+     * repetition 1 uses the configured seed as is. Hence, differences between design points, e.g.,
+     * along a sweep or between the values of a capacity search, are not blurred by sampling noise,
+     * and paired comparisons need far fewer repetitions. Otherwise, each design point uses its own
+     * block of 2^{@value #REPETITION_STREAM_BITS} streams, chosen by a 39-bit hash of its factor
+     * vector, so that the assignment does not depend on the order in which design points are
+     * analyzed or on the machine analyzing them. Two design points share their streams only if their
+     * hashes collide; among n design points, this happens with a probability of about n^2 / 2^40,
+     * e.g., 1e-4 for 10000 design points.
+     * 
+     * @param seed
+     *            the configured seed.
+     * @param variationFactorTuples
+     *            the variations and according value factors of the design point.
+     * @param repetition
+     *            the repetition number of the analysis run, starting with 1.
+     * @return the index of the seed stream.
+     */
+    public static long computeSeedStream(final RandomNumberGeneratorSeed seed,
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
+        final long repetitionStream = repetition - 1;
+        if (repetitionStream < 0 || repetitionStream >>> REPETITION_STREAM_BITS != 0) {
+            throw new IllegalArgumentException("Repetition must lie between 1 and 2^" + REPETITION_STREAM_BITS);
+        }
+        if (seed.isCommonRandomNumbers()) {
+            return repetitionStream;
+        }
+
+        final long designPoint = hash(variationFactorTuples.toString()) >>> (Long.SIZE - DESIGN_POINT_STREAM_BITS);
+        return ((designPoint + 1) << REPETITION_STREAM_BITS) + repetitionStream;
+    }
+
+    /**
+     * Computes the 64-bit FNV-1a hash of the given string; unlike {@link String#hashCode()}, it is
+     * wide enough for choosing among many seed streams.
+     */
+    private static long hash(final String string) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < string.length(); i++) {
+            hash ^= string.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
     public static String computeExperimentGroupPurpose(final Experiment experiment) {
         final StringBuilder stringBuilder = new StringBuilder();
 
@@ -104,7 +201,7 @@ public class AbstractSimulationConfigFactory {
         return stringBuilder.toString();
     }
 
-    private static String computeExperimentSettingName(final AbstractSimulationConfiguration simConfig,
+    public static String computeExperimentSettingName(final AbstractSimulationConfiguration simConfig,
             final List<VariationFactorTuple> variationFactorTuples) {
         final StringBuilder stringBuilder = new StringBuilder();
 
@@ -139,6 +236,38 @@ public class AbstractSimulationConfigFactory {
         return -1;
     }
 
+    /**
+     * Returns the real time an analysis run may take, as given by the wall-clock stop condition of
+     * the experiment, or else of the tool configuration. Unlike the other stop conditions, it is not
+     * passed to the simulators but enforced by the experiment automation, which cancels analysis
+     * runs exceeding it.
+     * 
+     * @param experiment
+     *            the experiment specification.
+     * @param simConfig
+     *            the configuration of the concrete analyzer.
+     * @return the wall-clock time in milliseconds; 0 if unlimited.
+     */
+    public static long getMaximumWallClockTime(final Experiment experiment,
+            final AbstractSimulationConfiguration simConfig) {
+        long result = getMaximumWallClockTime(experiment.getStopConditions());
+        if (result == 0) { // Stick to defaults
+            result = getMaximumWallClockTime(simConfig.getStopConditions());
+        }
+
+        return result;
+    }
+
+    private static long getMaximumWallClockTime(final EList<StopCondition> stopConditions) {
+        for (final StopCondition s : stopConditions) {
+            if (AbstractsimulationPackage.eINSTANCE.getWallClockStopCondition().isInstance(s)) {
+                return Math.max(0, ((WallClockStopCondition) s).getWallClockTime()) * 1000L;
+            }
+        }
+
+        return 0;
+    }
+
     private static int getMaximumMeasurementCount(final Experiment experiment,
             final AbstractSimulationConfiguration simConfig) {
         int result = getMaximumMeasurementCount(experiment.getStopConditions());
@@ -160,6 +289,62 @@ public class AbstractSimulationConfigFactory {
         return -1;
     }
 
+    /**
+     * Maps the confidence stop condition of the experiment, or else of the tool configuration, to
+     * the confidence-based stop condition of the simulators. The simulators stop as soon as the
+     * confidence interval of the mean response time of a usage scenario is narrow enough; its
+     * confidence level and relative half-width are given in percent.
+     */
+    private static void putConfidenceStopCondition(final Map<String, Object> map, final Experiment experiment,
+            final AbstractSimulationConfiguration simConfig) {
+        ConfidenceStopCondition stopCondition = getConfidenceStopCondition(experiment.getStopConditions());
+        if (stopCondition == null) { // Stick to defaults
+            stopCondition = getConfidenceStopCondition(simConfig.getStopConditions());
+        }
+        if (stopCondition == null) {
+            map.put(AbstractSimulationConfig.USE_CONFIDENCE, false);
+            return;
+        }
+
+        if (!(stopCondition.getMeasuringPoint() instanceof UsageScenarioMeasuringPoint)
+                || !isResponseTime(stopCondition.getMetric())) {
+            throw new IllegalArgumentException("Confidence stop conditions have to refer to the response time "
+                    + "at a usage scenario measuring point");
+        }
+        final UsageScenario usageScenario = ((UsageScenarioMeasuringPoint) stopCondition.getMeasuringPoint())
+                .getUsageScenario();
+
+        map.put(AbstractSimulationConfig.USE_CONFIDENCE, true);
+        map.put(AbstractSimulationConfig.CONFIDENCE_LEVEL, toPercent(stopCondition.getConfidenceLevel()));
+        map.put(AbstractSimulationConfig.CONFIDENCE_HALFWIDTH, toPercent(stopCondition.getRelativeHalfWidth()));
+        map.put(AbstractSimulationConfig.CONFIDENCE_MODELELEMENT_NAME, usageScenario.getEntityName());
+        map.put(AbstractSimulationConfig.CONFIDENCE_MODELELEMENT_URI, EcoreUtil.getURI(usageScenario).toString());
+        map.put(AbstractSimulationConfig.CONFIDENCE_USE_AUTOMATIC_BATCHES, true);
+    }
+
+    private static ConfidenceStopCondition getConfidenceStopCondition(final EList<StopCondition> stopConditions) {
+        for (final StopCondition s : stopConditions) {
+            if (AbstractsimulationPackage.eINSTANCE.getConfidenceStopCondition().isInstance(s)) {
+                return (ConfidenceStopCondition) s;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isResponseTime(final MetricDescription metric) {
+        return metric != null
+                && (MetricDescriptionConstants.RESPONSE_TIME_METRIC.getId().equals(metric.getId())
+                        || MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE.getId().equals(metric.getId()));
+    }
+
+    /**
+     * Converts a fraction, e.g., 0.95, to a whole percentage of at least 1, e.g., 95.
+     */
+    private static int toPercent(final double fraction) {
+        return (int) Math.max(1L, Math.round(fraction * 100.0));
+    }
+
     private static String getPersistenceRecorder(final EDP2Datasource datasource) {
         final Repository repository = EDP2DatasourceFactory.createOrOpenDatasource(datasource);
         return repository.getId();
@@ -0,0 +1,173 @@
+package org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation;
+
+import java.math.BigInteger;
+
+import org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed;
+
+/**
+ * Derives deterministic, non-overlapping seeds for the MRG32k3a random number generator used by the
+ * simulators. Stream 0 is the configured seed itself; stream <code>k</code> is the state reached by
+ * jumping <code>k * 2^STREAM_SPACING_EXPONENT</code> steps ahead of it. Each stream therefore
+ * provides a private block of 2^8 MRG32k3a streams (of length 2^127 each, as created by the
+ * simulators) to the simulation run using it. Since the period of MRG32k3a is about 2^191, there are
+ * 2^{@value #STREAM_INDEX_BITS} disjoint streams.
+ * 
+ * The jumps are computed by exponentiating the transition matrices of the generator's two
+ * component recurrences, following L'Ecuyer et al., "An Object-Oriented Random-Number Package with
+ * Many Long Streams and Substreams", Operations Research 50(6), 2002.
+ */
+public class RandomSeedStreams {
+
+    /** Number of seed components of an MRG32k3a state. */
+    public static final int SEED_LENGTH = 6;
+
+    /** Number of bits of the indices of disjoint streams; larger indices wrap around the period. */
+    public static final int STREAM_INDEX_BITS = 56;
+
+    /** Distance between two streams as power of two. */
+    private static final int STREAM_SPACING_EXPONENT = 135;
+
+    private static final BigInteger M1 = BigInteger.valueOf(4294967087L);
+    private static final BigInteger M2 = BigInteger.valueOf(4294944443L);
+
+    /** One step of the first component: x_n = 1403580 x_{n-2} - 810728 x_{n-3} mod m1. */
+    private static final long[][] A1 = new long[][] { { 0, 1, 0 }, { 0, 0, 1 }, { -810728, 1403580, 0 } };
+
+    /** One step of the second component: x_n = 527612 x_{n-1} - 1370589 x_{n-3} mod m2. */
+    private static final long[][] A2 = new long[][] { { 0, 1, 0 }, { 0, 0, 1 }, { -1370589, 0, 527612 } };
+
+    private static BigInteger[][] a1StreamJump;
+    private static BigInteger[][] a2StreamJump;
+
+    /**
+     * Computes the seed of the given stream.
+     * 
+     * @param seed
+     *            the configured seed; stream 0.
+     * @param stream
+     *            the index of the requested stream, e.g., the repetition number minus 1.
+     * @return the six seed components of the requested stream.
+     */
+    public static long[] computeSeed(final RandomNumberGeneratorSeed seed, final long stream) {
+        return computeSeed(new long[] { seed.getSeed0(), seed.getSeed1(), seed.getSeed2(), seed.getSeed3(),
+                seed.getSeed4(), seed.getSeed5() }, stream);
+    }
+
+    /**
+     * Computes the seed of the given stream.
+     * 
+     * @param seed
+     *            the six seed components of stream 0.
+     * @param stream
+     *            the index of the requested stream, less than 2^{@value #STREAM_INDEX_BITS}.
+     * @return the six seed components of the requested stream.
+     */
+    public static long[] computeSeed(final long[] seed, final long stream) {
+        if (seed.length != SEED_LENGTH) {
+            throw new IllegalArgumentException("An MRG32k3a seed consists of " + SEED_LENGTH + " components");
+        }
+        if (stream < 0 || stream >>> STREAM_INDEX_BITS != 0) {
+            throw new IllegalArgumentException("Stream index must be non-negative and less than 2^"
+                    + STREAM_INDEX_BITS);
+        }
+        if (stream == 0) {
+            return seed.clone();
+        }
+
+        initializeStreamJumps();
+
+        final BigInteger[] first = multiply(power(a1StreamJump, stream, M1),
+                toVector(seed[0], seed[1], seed[2]), M1);
+        final BigInteger[] second = multiply(power(a2StreamJump, stream, M2),
+                toVector(seed[3], seed[4], seed[5]), M2);
+
+        return new long[] { first[0].longValue(), first[1].longValue(), first[2].longValue(),
+                second[0].longValue(), second[1].longValue(), second[2].longValue() };
+    }
+
+    /**
+     * Computes the matrix for jumping 2^exponent steps ahead, i.e., squares the one-step matrix
+     * <code>exponent</code> times.
+     */
+    static BigInteger[][] jumpMatrix(final long[][] oneStep, final BigInteger modulus, final int exponent) {
+        BigInteger[][] result = toMatrix(oneStep, modulus);
+        for (int i = 0; i < exponent; i++) {
+            result = multiply(result, result, modulus);
+        }
+        return result;
+    }
+
+    private static synchronized void initializeStreamJumps() {
+        if (a1StreamJump == null) {
+            a1StreamJump = jumpMatrix(A1, M1, STREAM_SPACING_EXPONENT);
+            a2StreamJump = jumpMatrix(A2, M2, STREAM_SPACING_EXPONENT);
+        }
+    }
+
+    private static BigInteger[][] power(final BigInteger[][] matrix, final long exponent, final BigInteger modulus) {
+        BigInteger[][] result = identity();
+        BigInteger[][] base = matrix;
+        long remaining = exponent;
+        while (remaining > 0) {
+            if ((remaining & 1L) == 1L) {
+                result = multiply(result, base, modulus);
+            }
+            base = multiply(base, base, modulus);
+            remaining >>= 1;
+        }
+        return result;
+    }
+
+    private static BigInteger[][] multiply(final BigInteger[][] left, final BigInteger[][] right,
+            final BigInteger modulus) {
+        final BigInteger[][] result = new BigInteger[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int k = 0; k < 3; k++) {
+                    sum = sum.add(left[i][k].multiply(right[k][j]));
+                }
+                result[i][j] = sum.mod(modulus);
+            }
+        }
+        return result;
+    }
+
+    private static BigInteger[] multiply(final BigInteger[][] matrix, final BigInteger[] vector,
+            final BigInteger modulus) {
+        final BigInteger[] result = new BigInteger[3];
+        for (int i = 0; i < 3; i++) {
+            BigInteger sum = BigInteger.ZERO;
+            for (int k = 0; k < 3; k++) {
+                sum = sum.add(matrix[i][k].multiply(vector[k]));
+            }
+            result[i] = sum.mod(modulus);
+        }
+        return result;
+    }
+
+    private static BigInteger[][] toMatrix(final long[][] values, final BigInteger modulus) {
+        final BigInteger[][] result = new BigInteger[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                result[i][j] = BigInteger.valueOf(values[i][j]).mod(modulus);
+            }
+        }
+        return result;
+    }
+
+    private static BigInteger[] toVector(final long x0, final long x1, final long x2) {
+        return new BigInteger[] { BigInteger.valueOf(x0), BigInteger.valueOf(x1), BigInteger.valueOf(x2) };
+    }
+
+    private static BigInteger[][] identity() {
+        final BigInteger[][] result = new BigInteger[3][3];
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++) {
+                result[i][j] = i == j ? BigInteger.ONE : BigInteger.ZERO;
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.palladiosimulator.experimentautomation.application.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
+import org.palladiosimulator.experimentautomation.application.jobs.LoadModelsIntoBlackboardJob;
+import org.palladiosimulator.simulizar.launcher.jobs.LoadSimuLizarModelsIntoBlackboardJob;
+import org.palladiosimulator.simulizar.reconfiguration.storydiagram.jobs.LoadSDMModelsIntoBlackboardJob;
+
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.ResourceSetPartition;
+
+/**
+ * Helper for creating isolated copies of the Experiment Automation blackboard. An isolated copy
+ * allows a design point to vary and analyze its models without affecting other design points that
+ * are processed at the same time.
+ */
+public class BlackboardHelper {
+
+    /** The partitions Experiment Automation works with; all of them are copied. */
+    private static final String[] PARTITION_IDS = new String[] {
+            LoadModelsIntoBlackboardJob.PCM_MODELS_ORIGINAL_PARTITION_ID,
+            LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID,
+            LoadSimuLizarModelsIntoBlackboardJob.PCM_MODELS_ANALYZED_PARTITION_ID,
+            LoadSDMModelsIntoBlackboardJob.SDM_MODEL_PARTITION_ID };
+
+    /**
+     * Creates a new blackboard holding deep copies of all Experiment Automation partitions of the
+     * given blackboard.
+     * 
+     * @param blackboard
+     *            the blackboard to be copied.
+     * @return the isolated copy.
+     */
+    public static MDSDBlackboard createIsolatedCopy(final MDSDBlackboard blackboard) {
+        final MDSDBlackboard copy = new MDSDBlackboard();
+
+        for (final String partitionId : PARTITION_IDS) {
+            if (blackboard.hasPartition(partitionId)) {
+                copy.addPartition(partitionId, copyPartition(blackboard.getPartition(partitionId)));
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Creates a deep copy of the given partition. The copy is of the same partition type and keeps
+     * the resource URIs of the original partition; references between its resources point to the
+     * copied objects.
+     * 
+     * @param partition
+     *            the partition to be copied.
+     * @return the copied partition.
+     */
+    public static ResourceSetPartition copyPartition(final ResourceSetPartition partition) {
+        final ResourceSetPartition newPartition = createPartitionOfSameType(partition);
+        final Copier copier = new Copier();
+
+        final List<Resource> resources = new ArrayList<Resource>(partition.getResourceSet().getResources());
+        for (final Resource resource : resources) {
+            Resource newResource = newPartition.getResourceSet().createResource(resource.getURI());
+            if (newResource == null) {
+                // no factory registered for the URI; fall back to plain XMI
+                newResource = new XMIResourceImpl(resource.getURI());
+                newPartition.getResourceSet().getResources().add(newResource);
+            }
+            for (final EObject eObject : resource.getContents()) {
+                newResource.getContents().add(copier.copy(eObject));
+            }
+        }
+        copier.copyReferences();
+
+        return newPartition;
+    }
+
+    private static ResourceSetPartition createPartitionOfSameType(final ResourceSetPartition partition) {
+        try {
+            return partition.getClass().newInstance();
+        } catch (final InstantiationException e) {
+            return new PCMResourceSetPartition();
+        } catch (final IllegalAccessException e) {
+            return new PCMResourceSetPartition();
+        }
+    }
+
+}
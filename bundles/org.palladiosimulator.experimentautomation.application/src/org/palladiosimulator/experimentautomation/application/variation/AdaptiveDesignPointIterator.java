@@ -0,0 +1,200 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.design.GaussianProcessSurrogate;
+import org.palladiosimulator.experimentautomation.application.jobs.CheckForSLOViolationsJob;
+import org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+/**
+ * Iterates over the design points of an {@link AdaptiveDesign}, which are chosen based on the
+ * responses of the design points analyzed so far. The candidates are all combinations of the factor
+ * levels of the variations, as in a full factorial design.
+ * 
+ * The response of a design point is the largest ratio of SLO-violating measurements; a
+ * {@link GaussianProcessSurrogate} predicts the responses of all candidates not analyzed so far.
+ * The next design point is the candidate whose classification as violating or compliant is least
+ * certain, i.e., which maximizes 1.96 * sigma - |mu - t| for the predicted mean mu, the predicted
+ * standard deviation sigma, and the threshold t of {@link CheckForSLOViolationsJob}. Hence, design
+ * points concentrate along the boundary between SLO-violating and compliant factor vectors.
+ * 
+ * Iteration stops when the maximum number of design points is reached or when all remaining
+ * candidates are classified with a confidence of 95%. The response of a design point has to be
+ * recorded before the next one is requested, i.e., design points are analyzed one after another.
+ */
+public class AdaptiveDesignPointIterator implements Iterator<List<VariationFactorTuple>>, IDesignPointResponseRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveDesignPointIterator.class);
+
+    /** Quantile of the standard normal distribution for a two-sided confidence of 95%. */
+    private static final double CONFIDENCE_QUANTILE = 1.96;
+
+    private final List<List<VariationFactorTuple>> candidates = new ArrayList<List<VariationFactorTuple>>();
+    private final List<double[]> normalizedCandidates = new ArrayList<double[]>();
+    private final boolean[] analyzed;
+    private final double[] minima;
+    private final double[] ranges;
+    private final long maxDesignPoints;
+    private final GaussianProcessSurrogate surrogate = new GaussianProcessSurrogate();
+
+    private long designPointCount = 0;
+
+    /** Index of the next candidate; -1 if not yet determined. */
+    private int nextCandidate = -1;
+    private boolean stopped = false;
+
+    /**
+     * Default constructor.
+     * 
+     * @param variations
+     *            the variations to be combined.
+     * @param design
+     *            the adaptive design.
+     */
+    public AdaptiveDesignPointIterator(final List<Variation> variations, final AdaptiveDesign design) {
+        final DesignPointIterator designPoints = new DesignPointIterator(variations);
+        while (designPoints.hasNext()) {
+            this.candidates.add(designPoints.next());
+        }
+
+        this.minima = new double[variations.size()];
+        this.ranges = new double[variations.size()];
+        for (int i = 0; i < variations.size(); i++) {
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            for (final List<VariationFactorTuple> candidate : this.candidates) {
+                final double factor = ((Number) candidate.get(i).getFactor()).doubleValue();
+                minimum = Math.min(minimum, factor);
+                maximum = Math.max(maximum, factor);
+            }
+            this.minima[i] = minimum;
+            this.ranges[i] = maximum - minimum;
+        }
+        for (final List<VariationFactorTuple> candidate : this.candidates) {
+            this.normalizedCandidates.add(this.normalize(candidate));
+        }
+
+        this.analyzed = new boolean[this.candidates.size()];
+        this.maxDesignPoints = design.getMaxDesignPoints() > 0 ? Math.min(design.getMaxDesignPoints(),
+                this.candidates.size()) : this.candidates.size();
+    }
+
+    /**
+     * Returns the maximum number of design points, i.e., the number of design points unless the
+     * iteration stops early.
+     * 
+     * @return the maximum number of design points.
+     */
+    public long size() {
+        return this.maxDesignPoints;
+    }
+
+    /**
+     * Returns the design points to choose from.
+     * 
+     * @return the candidates, in the order of a full factorial design.
+     */
+    public List<List<VariationFactorTuple>> getCandidates() {
+        return Collections.unmodifiableList(this.candidates);
+    }
+
+    /**
+     * Records the response of an analyzed design point. Design points without response, e.g.,
+     * because the experiment has no SLOs, count towards the maximum number of design points but do
+     * not improve the surrogate.
+     * 
+     * @param designPoint
+     *            the design point as returned by this iterator.
+     * @param response
+     *            the largest ratio of SLO-violating measurements; NaN if unknown.
+     */
+    @Override
+    public void recordResponse(final List<VariationFactorTuple> designPoint, final double response) {
+        if (Double.isNaN(response)) {
+            LOGGER.warn("No SLO violation ratio for design point " + designPoint
+                    + "; adaptive designs require SLOs to choose design points");
+            return;
+        }
+        this.surrogate.addObservation(this.normalize(designPoint), response);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.nextCandidate < 0 && !this.stopped) {
+            this.nextCandidate = this.selectNextCandidate();
+            this.stopped = this.nextCandidate < 0;
+        }
+        return this.nextCandidate >= 0;
+    }
+
+    @Override
+    public List<VariationFactorTuple> next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        this.analyzed[this.nextCandidate] = true;
+        this.designPointCount++;
+
+        final List<VariationFactorTuple> designPoint = new ArrayList<VariationFactorTuple>();
+        for (final VariationFactorTuple variationFactorTuple : this.candidates.get(this.nextCandidate)) {
+            designPoint.add(new VariationFactorTuple<Object>(variationFactorTuple.getVariation(),
+                    variationFactorTuple.getFactor()));
+        }
+        this.nextCandidate = -1;
+        return designPoint;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private int selectNextCandidate() {
+        if (this.designPointCount >= this.maxDesignPoints) {
+            LOGGER.info("Adaptive design reached its maximum of " + this.maxDesignPoints + " design points");
+            return -1;
+        }
+
+        int bestCandidate = -1;
+        double bestScore = 0.0;
+        for (int i = 0; i < this.candidates.size(); i++) {
+            if (this.analyzed[i]) {
+                continue;
+            }
+            final double[] factors = this.normalizedCandidates.get(i);
+            final double distance = Math.abs(this.surrogate.predictMean(factors)
+                    - CheckForSLOViolationsJob.VIOLATION_RATIO_THRESHOLD);
+            final double score = CONFIDENCE_QUANTILE * this.surrogate.predictStandardDeviation(factors) - distance;
+            if (score > bestScore) {
+                bestCandidate = i;
+                bestScore = score;
+            }
+        }
+
+        if (bestCandidate < 0) {
+            LOGGER.info("Adaptive design classified all remaining candidates after " + this.designPointCount
+                    + " design points");
+        }
+        return bestCandidate;
+    }
+
+    /**
+     * Maps the factors of the given design point to the unit hypercube spanned by the candidates.
+     */
+    private double[] normalize(final List<VariationFactorTuple> designPoint) {
+        final double[] factors = new double[designPoint.size()];
+        for (int i = 0; i < factors.length; i++) {
+            final double factor = ((Number) designPoint.get(i).getFactor()).doubleValue();
+            factors[i] = this.ranges[i] > 0 ? (factor - this.minima[i]) / this.ranges[i] : 0.0;
+        }
+        return factors;
+    }
+
+}
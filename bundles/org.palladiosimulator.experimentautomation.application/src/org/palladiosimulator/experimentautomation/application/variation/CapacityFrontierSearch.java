@@ -0,0 +1,249 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Searches the boundary of the SLO-compliant region spanned by several capacity variations, i.e.,
+ * the capacity frontier. As for a single capacity variation, the region is assumed to contain the
+ * minimum of each interval, and higher factors are assumed to put more load on the system.
+ * 
+ * The frontier is searched by bisection along rays that start at the minimum of all intervals. The
+ * directions of the rays form a lattice on the simplex, e.g., 0, 22.5, 45, 67.5, and 90 degrees
+ * between two normalized variations; each ray ends on the border of the box spanned by the
+ * intervals. As the nested intervals do, each ray first probes its end, then bisects until two
+ * probes are at most 1% of each interval apart (one unit for <code>Long</code> factors). The last
+ * compliant probe of a ray is its frontier point.
+ * 
+ * Probes dominated by a compliant probe are compliant, probes dominating a violating probe violate
+ * as well; they are not analyzed. Since the search only depends on the outcomes of the analyzed
+ * probes, replaying these outcomes restores the search, e.g., from a campaign journal.
+ */
+public class CapacityFrontierSearch {
+
+    /** Number of lattice steps between two variations; yields 5 rays in 2, 15 rays in 3 dimensions. */
+    private static final int RAY_LATTICE_SIZE = 4;
+
+    /** Bisection stops when probes are this close, relative to the interval of each variation. */
+    private static final double RESOLUTION = 0.01;
+
+    private final double[] minima;
+    private final double[] ranges;
+    private final boolean[] integral;
+    private final List<double[]> directions;
+
+    private final List<double[]> compliantProbes = new ArrayList<double[]>();
+    private final List<double[]> violatingProbes = new ArrayList<double[]>();
+    private final List<double[]> frontier = new ArrayList<double[]>();
+
+    /** Index of the current ray; -1 while probing the minimum of all intervals. */
+    private int ray = -1;
+    private double lower;
+    private double upper;
+    private double position;
+    private boolean converged = false;
+
+    /**
+     * Default constructor.
+     * 
+     * @param minima
+     *            the minimum of the interval of each capacity variation.
+     * @param maxima
+     *            the maximum of the interval of each capacity variation.
+     * @param integral
+     *            whether the factors of each capacity variation are <code>Long</code> values.
+     */
+    public CapacityFrontierSearch(final double[] minima, final double[] maxima, final boolean[] integral) {
+        this.minima = minima.clone();
+        this.ranges = new double[minima.length];
+        for (int i = 0; i < minima.length; i++) {
+            this.ranges[i] = maxima[i] - minima[i];
+        }
+        this.integral = integral.clone();
+        this.directions = createDirections(minima.length);
+    }
+
+    /**
+     * Returns the factors to be analyzed next. Initially, this is the minimum of all intervals.
+     * 
+     * @return the factors of each capacity variation; rounded for <code>Long</code> factors.
+     */
+    public double[] getProbe() {
+        if (this.ray < 0) {
+            return this.minima.clone();
+        }
+        return this.pointAt(this.position);
+    }
+
+    /**
+     * Advances the search according to the outcome of analyzing the current probe.
+     * 
+     * @param sloWasViolated
+     *            whether an SLO was violated at the current probe.
+     */
+    public void record(final boolean sloWasViolated) {
+        if (this.converged) {
+            throw new IllegalStateException("Capacity frontier search has already converged");
+        }
+
+        if (this.ray < 0) {
+            if (sloWasViolated) {
+                // even the least load violates an SLO; there is no compliant region
+                this.converged = true;
+            } else {
+                this.compliantProbes.add(this.minima.clone());
+                this.startRay(0);
+            }
+            return;
+        }
+
+        this.apply(sloWasViolated);
+        while (!this.converged && this.isInferable()) {
+            this.apply(this.isDominatingViolation(this.pointAt(this.position)));
+        }
+    }
+
+    public boolean isConverged() {
+        return this.converged;
+    }
+
+    /**
+     * Returns the frontier points found so far, one per ray. The frontier is empty if an SLO was
+     * violated at the minimum of all intervals.
+     * 
+     * @return the factors of each capacity variation at the frontier points.
+     */
+    public List<double[]> getFrontier() {
+        return this.frontier;
+    }
+
+    private void apply(final boolean sloWasViolated) {
+        final double[] probe = this.pointAt(this.position);
+        if (sloWasViolated) {
+            this.violatingProbes.add(probe);
+            this.upper = this.position;
+        } else {
+            this.compliantProbes.add(probe);
+            this.lower = this.position;
+        }
+
+        if (this.isResolved()) {
+            this.frontier.add(this.pointAt(this.lower));
+            if (this.ray + 1 < this.directions.size()) {
+                this.startRay(this.ray + 1);
+            } else {
+                this.converged = true;
+            }
+        } else {
+            this.position = (this.lower + this.upper) / 2.0;
+        }
+    }
+
+    private void startRay(final int ray) {
+        this.ray = ray;
+        this.lower = 0.0;
+        this.upper = 1.0;
+        this.position = 1.0;
+        while (this.isInferable() && !this.converged) {
+            this.apply(this.isDominatingViolation(this.pointAt(this.position)));
+        }
+    }
+
+    /**
+     * Checks whether the bounds of the current ray are at most the resolution apart.
+     */
+    private boolean isResolved() {
+        final double[] direction = this.directions.get(this.ray);
+        for (int i = 0; i < direction.length; i++) {
+            final double distance = (this.upper - this.lower) * direction[i] * this.ranges[i];
+            final double resolution = this.integral[i] ? 1.0 : RESOLUTION * this.ranges[i];
+            if (distance > resolution) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the outcome of the current probe follows from the outcomes of previous probes.
+     */
+    private boolean isInferable() {
+        final double[] probe = this.pointAt(this.position);
+        if (this.isDominatingViolation(probe)) {
+            return true;
+        }
+        for (final double[] compliantProbe : this.compliantProbes) {
+            if (dominates(compliantProbe, probe)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isDominatingViolation(final double[] probe) {
+        for (final double[] violatingProbe : this.violatingProbes) {
+            if (dominates(probe, violatingProbe)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double[] pointAt(final double position) {
+        final double[] direction = this.directions.get(this.ray);
+        final double[] point = new double[this.minima.length];
+        for (int i = 0; i < point.length; i++) {
+            point[i] = this.minima[i] + position * direction[i] * this.ranges[i];
+            if (this.integral[i]) {
+                point[i] = Math.round(point[i]);
+            }
+        }
+        return point;
+    }
+
+    /**
+     * Checks whether the first point puts at least as much load on the system as the second one.
+     */
+    private static boolean dominates(final double[] first, final double[] second) {
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] < second[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates the directions of all rays: the points of a lattice on the simplex, scaled such that
+     * their largest component is 1, i.e., each ray ends on the border of the box.
+     */
+    private static List<double[]> createDirections(final int dimensions) {
+        final List<double[]> directions = new ArrayList<double[]>();
+        addDirections(directions, new int[dimensions], 0, RAY_LATTICE_SIZE);
+        return directions;
+    }
+
+    private static void addDirections(final List<double[]> directions, final int[] weights, final int dimension,
+            final int remainder) {
+        if (dimension == weights.length - 1) {
+            weights[dimension] = remainder;
+
+            int largestWeight = 0;
+            for (final int weight : weights) {
+                largestWeight = Math.max(largestWeight, weight);
+            }
+            final double[] direction = new double[weights.length];
+            for (int i = 0; i < weights.length; i++) {
+                direction[i] = (double) weights[i] / largestWeight;
+            }
+            directions.add(direction);
+            return;
+        }
+
+        for (int weight = remainder; weight >= 0; weight--) {
+            weights[dimension] = weight;
+            addDirections(directions, weights, dimension + 1, remainder - weight);
+        }
+    }
+
+}
@@ -0,0 +1,317 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.design.ExperimentDesignFactory;
+import org.palladiosimulator.experimentautomation.application.design.IExperimentDesignStrategy;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentDesign;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.application.variation.valueprovider.IValueProviderStrategy;
+import org.palladiosimulator.experimentautomation.application.variation.valueprovider.ValueProviderFactory;
+import org.palladiosimulator.experimentautomation.experiments.ExponentialValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign;
+import org.palladiosimulator.experimentautomation.experiments.LinearValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
+import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.PolynomialValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.SetValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.ValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+import org.palladiosimulator.experimentautomation.experiments.util.ExperimentsSwitch;
+
+/**
+ * Iterates over the design points of a set of variations as given by an experiment design (see
+ * {@link IExperimentDesignStrategy}); by default, over all combinations of their factor levels.
+ * Only the factor levels of each single variation are computed upfront; design points are mapped to
+ * factor values on demand.
+ * 
+ * Each returned design point consists of fresh {@link VariationFactorTuple}s, in the order of the
+ * variations.
+ * 
+ * Nested-intervals value providers contribute their start value as single level; the capacity
+ * search is conducted while analyzing the design point. All other value providers contribute a
+ * sweep of levels. Levels of variations whose strategy expects <code>Long</code> values are
+ * rounded accordingly.
+ * 
+ * In a {@link LatinHypercubeDesign} of N samples, value providers are not swept; instead, the
+ * levels of a variation are the centers of N strata of equal width between its minimum and maximum
+ * value.
+ * 
+ * In a {@link MorrisDesign} with p levels, the levels of a variation are p equally spaced values
+ * between its minimum and maximum value, including both.
+ */
+public class DesignPointIterator implements Iterator<List<VariationFactorTuple>> {
+
+    private final List<Variation> variations;
+    private final List<List<Object>> factorLevels;
+    private final int[] levelCounts;
+    private final IExperimentDesignStrategy strategy;
+    private final Iterator<int[]> design;
+
+    /**
+     * Creates an iterator over all combinations of the factor levels of the given variations.
+     * 
+     * @param variations
+     *            the variations to be combined.
+     */
+    public DesignPointIterator(final List<Variation> variations) {
+        this(variations, null);
+    }
+
+    /**
+     * Creates an iterator over the design points of the given experiment design.
+     * 
+     * @param variations
+     *            the variations to be combined.
+     * @param experimentDesign
+     *            the experiment design; <code>null</code> for a full factorial design.
+     */
+    public DesignPointIterator(final List<Variation> variations, final ExperimentDesign experimentDesign) {
+        this(variations, experimentDesign, ExperimentDesignFactory.createStrategy(experimentDesign));
+    }
+
+    /**
+     * Creates an iterator over the design points generated by the given strategy; the experiment
+     * design only determines the factor levels of the variations.
+     * 
+     * @param variations
+     *            the variations to be combined.
+     * @param experimentDesign
+     *            the experiment design; <code>null</code> for a full factorial design.
+     * @param strategy
+     *            the strategy generating the design points.
+     */
+    public DesignPointIterator(final List<Variation> variations, final ExperimentDesign experimentDesign,
+            final IExperimentDesignStrategy strategy) {
+        this.variations = new ArrayList<Variation>(variations);
+        this.factorLevels = new ArrayList<List<Object>>();
+        this.levelCounts = new int[variations.size()];
+
+        for (int i = 0; i < this.variations.size(); i++) {
+            final Variation variation = this.variations.get(i);
+            final List<Object> levels;
+            if (ExperimentsPackage.eINSTANCE.getLatinHypercubeDesign().isInstance(experimentDesign)
+                    && !isNestedIntervals(variation.getValueProvider())) {
+                levels = computeStratumLevels(variation, ((LatinHypercubeDesign) experimentDesign).getSampleCount());
+            } else if (ExperimentsPackage.eINSTANCE.getMorrisDesign().isInstance(experimentDesign)
+                    && !isNestedIntervals(variation.getValueProvider())) {
+                levels = computeGridLevels(variation, ((MorrisDesign) experimentDesign).getLevels());
+            } else {
+                levels = computeFactorLevels(variation);
+            }
+            this.factorLevels.add(levels);
+            this.levelCounts[i] = levels.size();
+        }
+
+        this.strategy = strategy;
+        this.design = this.strategy.createDesign(this.levelCounts);
+    }
+
+    /**
+     * Computes the number of design points without creating them.
+     * 
+     * @return the number of design points.
+     */
+    public long size() {
+        return this.strategy.size(this.levelCounts);
+    }
+
+    /**
+     * Returns the number of factor levels of each variation.
+     * 
+     * @return the level counts, in the order of the variations.
+     */
+    public int[] getLevelCounts() {
+        return this.levelCounts.clone();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.design.hasNext();
+    }
+
+    @Override
+    public List<VariationFactorTuple> next() {
+        return this.toDesignPoint(this.design.next());
+    }
+
+    /**
+     * Maps the given factor level indices to the factor values of the variations.
+     * 
+     * @param levelIndices
+     *            the index of the factor level of each variation.
+     * @return the design point, consisting of fresh tuples.
+     */
+    public List<VariationFactorTuple> toDesignPoint(final int[] levelIndices) {
+        final List<VariationFactorTuple> designPoint = new ArrayList<VariationFactorTuple>();
+        for (int i = 0; i < this.variations.size(); i++) {
+            designPoint.add(new VariationFactorTuple<Object>(this.variations.get(i), this.factorLevels.get(i).get(
+                    levelIndices[i])));
+        }
+        return designPoint;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Computes the factor levels of the given variation within its minimum and maximum value,
+     * considering at most <code>maxVariations</code> values of its value provider.
+     */
+    private static List<Object> computeFactorLevels(final Variation variation) {
+        final List<Object> levels = new ArrayList<Object>();
+
+        new ExperimentsSwitch<Void>() {
+
+            @Override
+            public Void caseNestedIntervalsLongValueProvider(final NestedIntervalsLongValueProvider object) {
+                // obtain long value provider
+                final IValueProviderStrategy<Long> valueProvider = ValueProviderFactory.createLongValueProvider(object);
+
+                long factorLevel = 0;
+                int iteration = 0;
+                while (factorLevel <= (long) variation.getMaxValue() && iteration < variation.getMaxVariations()) {
+                    factorLevel = valueProvider.valueAtPosition(iteration);
+                    if (factorLevel == -1) {
+                        break;
+                    }
+
+                    if (factorLevel >= (long) variation.getMinValue()
+                            && factorLevel <= (long) variation.getMaxValue()) {
+                        levels.add(factorLevel);
+                    }
+
+                    iteration++;
+                }
+                return null;
+            };
+
+            @Override
+            public Void caseNestedIntervalsDoubleValueProvider(final NestedIntervalsDoubleValueProvider object) {
+                // obtain double value provider
+                final IValueProviderStrategy<Double> valueProvider = ValueProviderFactory
+                        .createDoubleValueProvider(object);
+
+                Double factorLevel = 0.0;
+                int iteration = 0;
+                while (factorLevel <= variation.getMaxValue() && iteration < variation.getMaxVariations()) {
+                    factorLevel = valueProvider.valueAtPosition(iteration);
+                    if (factorLevel == -1.0) {
+                        break;
+                    }
+
+                    if (factorLevel >= variation.getMinValue() && factorLevel <= variation.getMaxValue()) {
+                        levels.add(factorLevel);
+                    }
+
+                    iteration++;
+                }
+                return null;
+            };
+
+            @Override
+            public Void caseLinearValueProvider(final LinearValueProvider object) {
+                addSweepLevels(variation, object, levels);
+                return null;
+            };
+
+            @Override
+            public Void casePolynomialValueProvider(final PolynomialValueProvider object) {
+                addSweepLevels(variation, object, levels);
+                return null;
+            };
+
+            @Override
+            public Void caseExponentialValueProvider(final ExponentialValueProvider object) {
+                addSweepLevels(variation, object, levels);
+                return null;
+            };
+
+            @Override
+            public Void caseSetValueProvider(final SetValueProvider object) {
+                addSweepLevels(variation, object, levels);
+                return null;
+            };
+
+        }.doSwitch(variation.getValueProvider());
+
+        return levels;
+    }
+
+    /**
+     * Computes the centers of the given number of strata of equal width within the minimum and
+     * maximum value of the given variation.
+     */
+    private static List<Object> computeStratumLevels(final Variation variation, final int strata) {
+        final boolean longValues = Long.class.equals(VariationStrategyFactory.getValueType(variation.getType()));
+        final double width = (variation.getMaxValue() - variation.getMinValue()) / strata;
+
+        final List<Object> levels = new ArrayList<Object>();
+        for (int stratum = 0; stratum < strata; stratum++) {
+            final double value = variation.getMinValue() + (stratum + 0.5) * width;
+            final Object factorLevel = longValues ? (Object) Math.round(value) : (Object) value;
+            if (!levels.contains(factorLevel)) {
+                levels.add(factorLevel);
+            }
+        }
+        return levels;
+    }
+
+    /**
+     * Computes the given number of equally spaced levels from the minimum to the maximum value of
+     * the given variation.
+     */
+    private static List<Object> computeGridLevels(final Variation variation, final int levelCount) {
+        final boolean longValues = Long.class.equals(VariationStrategyFactory.getValueType(variation.getType()));
+        final double width = levelCount > 1 ? (variation.getMaxValue() - variation.getMinValue()) / (levelCount - 1)
+                : 0.0;
+
+        final List<Object> levels = new ArrayList<Object>();
+        for (int level = 0; level < Math.max(levelCount, 1); level++) {
+            final double value = variation.getMinValue() + level * width;
+            final Object factorLevel = longValues ? (Object) Math.round(value) : (Object) value;
+            if (!levels.contains(factorLevel)) {
+                levels.add(factorLevel);
+            }
+        }
+        return levels;
+    }
+
+    private static boolean isNestedIntervals(final ValueProvider specification) {
+        return ExperimentsPackage.eINSTANCE.getNestedIntervalsDoubleValueProvider().isInstance(specification)
+                || ExperimentsPackage.eINSTANCE.getNestedIntervalsLongValueProvider().isInstance(specification);
+    }
+
+    /**
+     * Adds the distinct values of the given sweeping value provider within the minimum and maximum
+     * value of the given variation to the given levels.
+     */
+    private static void addSweepLevels(final Variation variation, final ValueProvider specification,
+            final List<Object> levels) {
+        final IValueProviderStrategy<Double> valueProvider = ValueProviderFactory
+                .createDoubleValueProvider(specification);
+        final boolean longValues = Long.class.equals(VariationStrategyFactory.getValueType(variation.getType()));
+
+        for (int iteration = 0; iteration < variation.getMaxVariations(); iteration++) {
+            final Double value = valueProvider.valueAtPosition(iteration);
+            if (value == -1.0) {
+                // end of a set of values
+                break;
+            }
+
+            if (value >= variation.getMinValue() && value <= variation.getMaxValue()) {
+                final Object factorLevel = longValues ? (Object) Math.round(value) : (Object) value;
+                if (!levels.contains(factorLevel)) {
+                    levels.add(factorLevel);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.List;
+
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+
+/**
+ * Interface for experiment designs whose design points depend on the responses of design points
+ * analyzed before.
+ */
+public interface IDesignPointResponseRecorder {
+
+    /**
+     * Records the response of an analyzed design point.
+     * 
+     * @param designPoint
+     *            the design point, with the factors it was created with.
+     * @param response
+     *            the largest ratio of SLO-violating measurements; NaN if unknown.
+     */
+    public void recordResponse(List<VariationFactorTuple> designPoint, double response);
+
+}
@@ -0,0 +1,145 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.experiments.Monotonicity;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+/**
+ * Infers SLO violations of design points along monotone variations (see
+ * {@link Variation#getMonotonicity()}).
+ * 
+ * A design point is dominated by a design point violating an SLO if it puts at least the same load
+ * on the system: its factor levels are at least as high for variations with increasing load, at
+ * most as high for variations with decreasing load, and equal for all other variations. Dominated
+ * design points violate the SLO as well and do not need to be analyzed. Since their load is at least
+ * as high, their SLO violation ratio is at least the one of the dominating design point; the largest
+ * ratio among their dominating design points serves as inferred response (see
+ * {@link #getInferredResponse}).
+ */
+public class MonotonePruner {
+
+    /** The factor levels of the design points that violated an SLO. */
+    private final List<List<Object>> violatingDesignPoints = new ArrayList<List<Object>>();
+
+    /** The SLO violation ratios of the design points that violated an SLO, in the same order. */
+    private final List<Double> violationRatios = new ArrayList<Double>();
+
+    /**
+     * Records that the given design point violated an SLO.
+     * 
+     * @param designPoint
+     *            the variations and according value factors of the design point.
+     * @param violationRatio
+     *            the largest ratio of SLO-violating measurements of the design point; NaN if unknown.
+     */
+    public synchronized void recordViolation(final List<VariationFactorTuple> designPoint,
+            final double violationRatio) {
+        if (isMonotone(designPoint)) {
+            this.violatingDesignPoints.add(getFactors(designPoint));
+            this.violationRatios.add(violationRatio);
+        }
+    }
+
+    /**
+     * Checks whether the given design point is dominated by a design point that violated an SLO.
+     * 
+     * @param designPoint
+     *            the variations and according value factors of the design point.
+     * @return <code>true</code> if the design point is known to violate an SLO.
+     */
+    public synchronized boolean isDominated(final List<VariationFactorTuple> designPoint) {
+        for (final List<Object> violatingDesignPoint : this.violatingDesignPoints) {
+            if (dominates(violatingDesignPoint, designPoint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the SLO violation ratio inferred for the given dominated design point, i.e., the
+     * largest ratio among the violating design points dominating it.
+     * 
+     * @param designPoint
+     *            the variations and according value factors of the design point.
+     * @return the inferred ratio; NaN if no dominating design point has a known ratio.
+     */
+    public synchronized double getInferredResponse(final List<VariationFactorTuple> designPoint) {
+        double response = Double.NaN;
+        for (int i = 0; i < this.violatingDesignPoints.size(); i++) {
+            final double violationRatio = this.violationRatios.get(i);
+            if (!Double.isNaN(violationRatio) && dominates(this.violatingDesignPoints.get(i), designPoint)
+                    && !(violationRatio <= response)) {
+                response = violationRatio;
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Checks whether an SLO violation of the given design point implies one of the other design
+     * point, i.e., whether the other design point would be pruned once the given one violated an SLO.
+     * 
+     * @param designPoint
+     *            the variations and according value factors of the possibly violating design point.
+     * @param otherDesignPoint
+     *            the variations and according value factors of the other design point.
+     * @return <code>true</code> if the other design point is dominated by the given one.
+     */
+    public static boolean prunes(final List<VariationFactorTuple> designPoint,
+            final List<VariationFactorTuple> otherDesignPoint) {
+        return isMonotone(designPoint) && dominates(getFactors(designPoint), otherDesignPoint);
+    }
+
+    private static boolean dominates(final List<Object> violatingFactors, final List<VariationFactorTuple> designPoint) {
+        if (violatingFactors.size() != designPoint.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < designPoint.size(); i++) {
+            final Object violatingFactor = violatingFactors.get(i);
+            final Object factor = designPoint.get(i).getFactor();
+
+            final Monotonicity monotonicity = designPoint.get(i).getVariation().getMonotonicity();
+            if (monotonicity == Monotonicity.NONE || !(factor instanceof Number)
+                    || !(violatingFactor instanceof Number)) {
+                if (factor == null ? violatingFactor != null : !factor.equals(violatingFactor)) {
+                    return false;
+                }
+                continue;
+            }
+
+            final double difference = ((Number) factor).doubleValue() - ((Number) violatingFactor).doubleValue();
+            if (monotonicity == Monotonicity.INCREASING && difference < 0.0
+                    || monotonicity == Monotonicity.DECREASING && difference > 0.0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given design point has at least one monotone variation; otherwise, it
+     * dominates nothing but itself.
+     */
+    private static boolean isMonotone(final List<VariationFactorTuple> designPoint) {
+        for (final VariationFactorTuple variationFactorTuple : designPoint) {
+            if (variationFactorTuple.getVariation().getMonotonicity() != Monotonicity.NONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Object> getFactors(final List<VariationFactorTuple> designPoint) {
+        final List<Object> factors = new ArrayList<Object>(designPoint.size());
+        for (final VariationFactorTuple variationFactorTuple : designPoint) {
+            factors.add(variationFactorTuple.getFactor());
+        }
+        return factors;
+    }
+
+}
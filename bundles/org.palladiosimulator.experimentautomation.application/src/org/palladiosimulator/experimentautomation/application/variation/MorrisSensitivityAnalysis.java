@@ -0,0 +1,208 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.palladiosimulator.experimentautomation.application.design.MorrisDesignStrategy;
+import org.palladiosimulator.experimentautomation.application.surface.ResponseSurface;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+/**
+ * Global sensitivity analysis of a {@link MorrisDesign}. Along each trajectory of the design, the
+ * elementary effect of the moved variation is the change of the response divided by the step of
+ * the variation, with the range between minimum and maximum value of each variation scaled to 1.
+ * For each variation, the mean of the absolute elementary effects (mu*) measures its overall
+ * influence on the response, while their standard deviation (sigma) indicates nonlinear effects or
+ * interactions with other variations. Variations are ranked by mu*.
+ * 
+ * The response of a design point is the mean of the responses of all its analysis runs, e.g., the
+ * mean response times of all repetitions.
+ */
+public class MorrisSensitivityAnalysis {
+
+    /**
+     * The sensitivity of the response to a variation.
+     */
+    public static class Sensitivity {
+
+        private final Variation variation;
+        private final double meanAbsoluteEffect;
+        private final double meanEffect;
+        private final double standardDeviation;
+        private final int effectCount;
+
+        private Sensitivity(final Variation variation, final double meanAbsoluteEffect, final double meanEffect,
+                final double standardDeviation, final int effectCount) {
+            this.variation = variation;
+            this.meanAbsoluteEffect = meanAbsoluteEffect;
+            this.meanEffect = meanEffect;
+            this.standardDeviation = standardDeviation;
+            this.effectCount = effectCount;
+        }
+
+        public Variation getVariation() {
+            return this.variation;
+        }
+
+        /**
+         * Returns the mean of the absolute elementary effects (mu*); NaN if there are none.
+         */
+        public double getMeanAbsoluteEffect() {
+            return this.meanAbsoluteEffect;
+        }
+
+        /**
+         * Returns the mean of the elementary effects (mu); NaN if there are none.
+         */
+        public double getMeanEffect() {
+            return this.meanEffect;
+        }
+
+        /**
+         * Returns the standard deviation of the elementary effects (sigma); NaN if there are less
+         * than two.
+         */
+        public double getStandardDeviation() {
+            return this.standardDeviation;
+        }
+
+        public int getEffectCount() {
+            return this.effectCount;
+        }
+
+        @Override
+        public String toString() {
+            return this.variation.getName() + ": mu* = " + this.meanAbsoluteEffect + ", mu = " + this.meanEffect
+                    + ", sigma = " + this.standardDeviation + " (" + this.effectCount + " elementary effects)";
+        }
+
+    }
+
+    private final List<Variation> variations;
+
+    /** The factor vectors of the design points of each trajectory. */
+    private final List<List<double[]>> trajectories = new ArrayList<List<double[]>>();
+
+    /**
+     * Default constructor.
+     * 
+     * @param variations
+     *            the variations of the experiment.
+     * @param design
+     *            the Morris design the experiment was analyzed in.
+     */
+    public MorrisSensitivityAnalysis(final List<Variation> variations, final MorrisDesign design) {
+        this.variations = new ArrayList<Variation>(variations);
+
+        final DesignPointIterator designPoints = new DesignPointIterator(variations, design);
+        final MorrisDesignStrategy strategy = new MorrisDesignStrategy(design.getTrajectories());
+        for (final List<int[]> trajectory : strategy.createTrajectories(designPoints.getLevelCounts())) {
+            final List<double[]> factorVectors = new ArrayList<double[]>();
+            for (final int[] levelIndices : trajectory) {
+                factorVectors.add(ResponseSurface.toFactorVector(designPoints.toDesignPoint(levelIndices)));
+            }
+            this.trajectories.add(factorVectors);
+        }
+    }
+
+    /**
+     * Computes the sensitivity of the response to each variation.
+     * 
+     * @param factorVectors
+     *            the factor vector of each observed response.
+     * @param responses
+     *            the observed responses; design points may have several or no responses.
+     * @return the sensitivities of all variations, most influential first.
+     */
+    public List<Sensitivity> computeSensitivities(final List<double[]> factorVectors, final List<Double> responses) {
+        final Map<String, Double> meanResponses = computeMeanResponses(factorVectors, responses);
+
+        final List<List<Double>> effects = new ArrayList<List<Double>>();
+        for (int i = 0; i < this.variations.size(); i++) {
+            effects.add(new ArrayList<Double>());
+        }
+        for (final List<double[]> trajectory : this.trajectories) {
+            for (int step = 1; step < trajectory.size(); step++) {
+                final double[] from = trajectory.get(step - 1);
+                final double[] to = trajectory.get(step);
+                final Double fromResponse = meanResponses.get(Arrays.toString(from));
+                final Double toResponse = meanResponses.get(Arrays.toString(to));
+                if (fromResponse == null || toResponse == null) {
+                    continue;
+                }
+                for (int i = 0; i < from.length; i++) {
+                    if (from[i] != to[i]) {
+                        final Variation variation = this.variations.get(i);
+                        final double delta = (to[i] - from[i]) / (variation.getMaxValue() - variation.getMinValue());
+                        effects.get(i).add((toResponse - fromResponse) / delta);
+                    }
+                }
+            }
+        }
+
+        final List<Sensitivity> sensitivities = new ArrayList<Sensitivity>();
+        for (int i = 0; i < this.variations.size(); i++) {
+            sensitivities.add(createSensitivity(this.variations.get(i), effects.get(i)));
+        }
+        Collections.sort(sensitivities, new Comparator<Sensitivity>() {
+
+            @Override
+            public int compare(final Sensitivity first, final Sensitivity second) {
+                // NaN, i.e., no elementary effects, last; Double.compare would consider it largest
+                final boolean firstUnknown = Double.isNaN(first.getMeanAbsoluteEffect());
+                final boolean secondUnknown = Double.isNaN(second.getMeanAbsoluteEffect());
+                if (firstUnknown || secondUnknown) {
+                    return Boolean.valueOf(firstUnknown).compareTo(secondUnknown);
+                }
+                return Double.compare(second.getMeanAbsoluteEffect(), first.getMeanAbsoluteEffect());
+            }
+
+        });
+        return sensitivities;
+    }
+
+    private static Map<String, Double> computeMeanResponses(final List<double[]> factorVectors,
+            final List<Double> responses) {
+        final Map<String, double[]> sums = new HashMap<String, double[]>();
+        for (int i = 0; i < factorVectors.size(); i++) {
+            final String key = Arrays.toString(factorVectors.get(i));
+            if (!sums.containsKey(key)) {
+                sums.put(key, new double[2]);
+            }
+            sums.get(key)[0] += responses.get(i);
+            sums.get(key)[1]++;
+        }
+
+        final Map<String, Double> meanResponses = new HashMap<String, Double>();
+        for (final Map.Entry<String, double[]> sum : sums.entrySet()) {
+            meanResponses.put(sum.getKey(), sum.getValue()[0] / sum.getValue()[1]);
+        }
+        return meanResponses;
+    }
+
+    private static Sensitivity createSensitivity(final Variation variation, final List<Double> effects) {
+        double sum = 0.0;
+        double absoluteSum = 0.0;
+        for (final double effect : effects) {
+            sum += effect;
+            absoluteSum += Math.abs(effect);
+        }
+        final double mean = sum / effects.size();
+
+        double squares = 0.0;
+        for (final double effect : effects) {
+            squares += (effect - mean) * (effect - mean);
+        }
+        final double standardDeviation = effects.size() > 1 ? Math.sqrt(squares / (effects.size() - 1))
+                : Double.NaN;
+
+        return new Sensitivity(variation, absoluteSum / effects.size(), mean, standardDeviation, effects.size());
+    }
+
+}
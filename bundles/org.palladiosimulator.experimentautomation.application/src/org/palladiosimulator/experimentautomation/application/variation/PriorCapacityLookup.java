@@ -0,0 +1,172 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Quantity;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.edp2.dao.exception.DataNotAccessibleException;
+import org.palladiosimulator.edp2.datastream.IDataStream;
+import org.palladiosimulator.edp2.datastream.edp2source.Edp2DataTupleDataSource;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentGroup;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentRun;
+import org.palladiosimulator.edp2.models.ExperimentData.ExperimentSetting;
+import org.palladiosimulator.edp2.models.ExperimentData.Measurement;
+import org.palladiosimulator.edp2.models.Repository.Repository;
+import org.palladiosimulator.edp2.util.MeasurementsUtility;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.AbstractSimulationConfigFactory;
+import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.EDP2DatasourceFactory;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.measurementframework.measureprovider.IMeasureProvider;
+import org.palladiosimulator.metricspec.MetricDescription;
+
+/**
+ * Looks up capacities recorded by previous capacity searches in the EDP2 data source of a tool
+ * configuration, e.g., by yesterday's campaign, to warm-start capacity searches.
+ * 
+ * A previous search matches if it belongs to the same experiment and tool configuration and if all
+ * variations except the capacity variation had the same factors. Experiment settings are named
+ * after the factors of the last analysis run of a search; hence, the factor of the capacity
+ * variation is ignored when matching their names. Of several matching capacities, the one of the
+ * most recent experiment run is used.
+ */
+public class PriorCapacityLookup {
+
+    private static final Logger LOGGER = Logger.getLogger(PriorCapacityLookup.class);
+
+    /** Stands in for the factor of the capacity variation in experiment setting names. */
+    private static final String ANY_FACTOR = "\u0000";
+
+    private PriorCapacityLookup() {
+    }
+
+    /**
+     * Finds the most recent capacity recorded for the given run.
+     * 
+     * @param experiment
+     *            the experiment of the run.
+     * @param simulationConfiguration
+     *            the tool configuration of the run, providing the EDP2 data source.
+     * @param variationFactorTuples
+     *            the variations and according value factors of the run.
+     * @param capacityTuple
+     *            the variation and factor of the capacity search; one of the given tuples.
+     * @param measuringPointName
+     *            the name of the measuring point capacities are recorded with.
+     * @param capacityMetric
+     *            the metric of the capacity within the recorded tuple measurements.
+     * @return the prior capacity; <code>null</code> if none was found.
+     */
+    public static Double findPriorCapacity(final Experiment experiment,
+            final AbstractSimulationConfiguration simulationConfiguration,
+            final List<VariationFactorTuple> variationFactorTuples, final VariationFactorTuple capacityTuple,
+            final String measuringPointName, final MetricDescription capacityMetric) {
+        final Repository repository = EDP2DatasourceFactory.createOrOpenDatasource(simulationConfiguration
+                .getDatasource());
+        if (repository == null) {
+            return null;
+        }
+        try {
+            MeasurementsUtility.ensureOpenRepository(repository);
+        } catch (final DataNotAccessibleException e) {
+            LOGGER.warn("Could not open EDP2 repository to look up prior capacities: " + e.getMessage());
+            return null;
+        }
+
+        final String purpose = AbstractSimulationConfigFactory.computeExperimentGroupPurpose(experiment);
+        final Pattern settingNamePattern = createSettingNamePattern(simulationConfiguration, variationFactorTuples,
+                capacityTuple);
+
+        Double priorCapacity = null;
+        Date priorStartTime = null;
+        for (final ExperimentGroup experimentGroup : repository.getExperimentGroups()) {
+            if (!purpose.equals(experimentGroup.getPurpose())) {
+                continue;
+            }
+            for (final ExperimentSetting experimentSetting : experimentGroup.getExperimentSettings()) {
+                if (experimentSetting.getDescription() == null
+                        || !settingNamePattern.matcher(experimentSetting.getDescription()).matches()) {
+                    continue;
+                }
+                for (final ExperimentRun experimentRun : experimentSetting.getExperimentRuns()) {
+                    if (priorStartTime != null && experimentRun.getStartTime() != null
+                            && experimentRun.getStartTime().before(priorStartTime)) {
+                        continue;
+                    }
+                    final Double capacity = findCapacity(experimentRun, measuringPointName, capacityMetric);
+                    if (capacity != null) {
+                        priorCapacity = capacity;
+                        priorStartTime = experimentRun.getStartTime();
+                    }
+                }
+            }
+        }
+        return priorCapacity;
+    }
+
+    /**
+     * Creates a pattern matching the names of experiment settings of the given tool configuration
+     * and factors, with any factor of the capacity variation.
+     * 
+     * @param simulationConfiguration
+     *            the tool configuration of the run.
+     * @param variationFactorTuples
+     *            the variations and according value factors of the run.
+     * @param capacityTuple
+     *            the variation and factor of the capacity search; one of the given tuples.
+     * @return the pattern matching the names of the experiment settings of previous searches.
+     */
+    public static Pattern createSettingNamePattern(final AbstractSimulationConfiguration simulationConfiguration,
+            final List<VariationFactorTuple> variationFactorTuples, final VariationFactorTuple capacityTuple) {
+        final List<VariationFactorTuple> tuples = new ArrayList<VariationFactorTuple>();
+        for (final VariationFactorTuple variationFactorTuple : variationFactorTuples) {
+            tuples.add(new VariationFactorTuple<Object>(variationFactorTuple.getVariation(),
+                    variationFactorTuple == capacityTuple ? ANY_FACTOR : variationFactorTuple.getFactor()));
+        }
+        final String settingName = AbstractSimulationConfigFactory.computeExperimentSettingName(
+                simulationConfiguration, tuples);
+
+        final StringBuilder pattern = new StringBuilder();
+        final String[] parts = settingName.split(ANY_FACTOR, -1);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                pattern.append("[^,\\]]+");
+            }
+            pattern.append(Pattern.quote(parts[i]));
+        }
+        return Pattern.compile(pattern.toString());
+    }
+
+    /**
+     * Returns the last capacity recorded with the given measuring point in the given run.
+     */
+    private static Double findCapacity(final ExperimentRun experimentRun, final String measuringPointName,
+            final MetricDescription capacityMetric) {
+        Double capacity = null;
+        for (final Measurement measurement : experimentRun.getMeasurement()) {
+            if (!measuringPointName.equals(measurement.getMeasuringType().getMeasuringPoint()
+                    .getStringRepresentation()) || measurement.getMeasurementRanges().isEmpty()) {
+                continue;
+            }
+
+            final IDataStream<IMeasureProvider> dataStream = new Edp2DataTupleDataSource(measurement
+                    .getMeasurementRanges().get(0).getRawMeasurements()).getDataStream();
+            try {
+                for (final IMeasureProvider measureProvider : dataStream) {
+                    final Measure<Number, Quantity> measure = measureProvider.getMeasureForMetric(capacityMetric);
+                    capacity = measure.getValue().doubleValue();
+                }
+            } finally {
+                dataStream.close();
+            }
+        }
+        return capacity;
+    }
+
+}
@@ -0,0 +1,161 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.design.FocusedFactorialDesignStrategy;
+import org.palladiosimulator.experimentautomation.application.design.PlacketBurmanDesignStrategy;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+/**
+ * The design points of the two stages of a {@link ScreeningDesign}. The screening stage is a
+ * Plackett-Burman design over all variations. Based on its responses, the main effect of each
+ * variation is estimated as the difference of the mean responses at its high and at its low level.
+ * The focused stage is a full factorial design over the variations whose absolute main effect is at
+ * least the significance threshold times the largest absolute main effect; all other variations
+ * stay at their low level. Design points of the screening stage are not analyzed again.
+ * 
+ * The response of a design point is the largest ratio of SLO-violating measurements. Variations
+ * whose main effect cannot be estimated, e.g., because design points have no response, are kept.
+ * If no variation has an effect on the responses, the screening is inconclusive and all variations
+ * are kept.
+ */
+public class ScreeningDesignPoints implements IDesignPointResponseRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(ScreeningDesignPoints.class);
+
+    private final List<Variation> variations;
+    private final ScreeningDesign design;
+    private final int[] levelCounts;
+    private final long screeningSize;
+
+    /** The factor level indices of the screening design points, by their factors. */
+    private final Map<List<Object>, int[]> screeningLevels = new HashMap<List<Object>, int[]>();
+    private final Map<List<Object>, Double> responses = new HashMap<List<Object>, Double>();
+
+    /**
+     * Default constructor.
+     * 
+     * @param variations
+     *            the variations to be screened.
+     * @param design
+     *            the screening design.
+     */
+    public ScreeningDesignPoints(final List<Variation> variations, final ScreeningDesign design) {
+        this.variations = new ArrayList<Variation>(variations);
+        this.design = design;
+
+        final DesignPointIterator designPoints = new DesignPointIterator(variations, design);
+        this.levelCounts = designPoints.getLevelCounts();
+        this.screeningSize = designPoints.size();
+
+        final Iterator<int[]> levels = new PlacketBurmanDesignStrategy().createDesign(this.levelCounts);
+        while (designPoints.hasNext()) {
+            this.screeningLevels.put(getFactors(designPoints.next()), levels.next());
+        }
+    }
+
+    /**
+     * Returns the number of design points of the screening stage.
+     * 
+     * @return the number of design points.
+     */
+    public long getScreeningSize() {
+        return this.screeningSize;
+    }
+
+    /**
+     * Creates the design points of the screening stage.
+     * 
+     * @return an iterator over the design points.
+     */
+    public DesignPointIterator createScreeningDesignPoints() {
+        return new DesignPointIterator(this.variations, this.design);
+    }
+
+    @Override
+    public synchronized void recordResponse(final List<VariationFactorTuple> designPoint, final double response) {
+        if (Double.isNaN(response)) {
+            LOGGER.warn("No SLO violation ratio for design point " + designPoint
+                    + "; screening designs require SLOs to estimate main effects");
+            return;
+        }
+        this.responses.put(getFactors(designPoint), response);
+    }
+
+    /**
+     * Creates the design points of the focused stage, based on the responses recorded so far. Hence,
+     * all design points of the screening stage have to be analyzed beforehand.
+     * 
+     * @return an iterator over the design points.
+     */
+    public synchronized DesignPointIterator createFocusedDesignPoints() {
+        final double[] effects = this.estimateMainEffects();
+
+        double largestEffect = 0.0;
+        for (final double effect : effects) {
+            if (!Double.isNaN(effect)) {
+                largestEffect = Math.max(largestEffect, Math.abs(effect));
+            }
+        }
+        if (largestEffect == 0.0) {
+            LOGGER.warn("Screening found no main effects; all variations are kept");
+        }
+
+        final boolean[] focused = new boolean[this.variations.size()];
+        for (int i = 0; i < focused.length; i++) {
+            focused[i] = this.levelCounts[i] > 1
+                    && (Double.isNaN(effects[i]) || largestEffect == 0.0 || Math.abs(effects[i]) >= this.design
+                            .getSignificanceThreshold() * largestEffect);
+            if (this.levelCounts[i] > 1) {
+                LOGGER.info("Variation " + this.variations.get(i).getName() + " has a main effect of " + effects[i]
+                        + (focused[i] ? "; kept" : "; dropped"));
+            }
+        }
+
+        return new DesignPointIterator(this.variations, this.design, new FocusedFactorialDesignStrategy(focused,
+                new PlacketBurmanDesignStrategy().createDesign(this.levelCounts)));
+    }
+
+    /**
+     * Estimates the main effect of each variation; NaN if it cannot be estimated.
+     */
+    private double[] estimateMainEffects() {
+        final double[] effects = new double[this.variations.size()];
+        for (int i = 0; i < effects.length; i++) {
+            double highSum = 0.0;
+            double lowSum = 0.0;
+            int highCount = 0;
+            int lowCount = 0;
+            for (final Map.Entry<List<Object>, Double> response : this.responses.entrySet()) {
+                final int[] levels = this.screeningLevels.get(response.getKey());
+                if (levels == null) {
+                    continue;
+                } else if (levels[i] == 0) {
+                    lowSum += response.getValue();
+                    lowCount++;
+                } else {
+                    highSum += response.getValue();
+                    highCount++;
+                }
+            }
+            effects[i] = highCount > 0 && lowCount > 0 ? highSum / highCount - lowSum / lowCount : Double.NaN;
+        }
+        return effects;
+    }
+
+    private static List<Object> getFactors(final List<VariationFactorTuple> designPoint) {
+        final List<Object> factors = new ArrayList<Object>(designPoint.size());
+        for (final VariationFactorTuple variationFactorTuple : designPoint) {
+            factors.add(variationFactorTuple.getFactor());
+        }
+        return factors;
+    }
+
+}
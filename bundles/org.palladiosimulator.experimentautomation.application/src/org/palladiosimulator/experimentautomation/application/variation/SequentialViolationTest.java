@@ -0,0 +1,102 @@
+package org.palladiosimulator.experimentautomation.application.variation;
+
+/**
+ * Decides whether a capacity search's probe violates an SLO by Wald's sequential probability ratio
+ * test (SPRT), instead of trusting the outcome of a single analysis run. Each run of the probe is a
+ * Bernoulli trial: it violates an SLO, i.e., the ratio of violating measurements exceeds the
+ * threshold of {@link org.palladiosimulator.experimentautomation.application.jobs.CheckForSLOViolationsJob},
+ * with an unknown probability p. The probe violates an SLO if p exceeds 1/2.
+ * 
+ * The test weighs the hypothesis p = {@link #COMPLIANT_PROBABILITY} against p =
+ * {@link #VIOLATING_PROBABILITY} and requests further runs until one of them is accepted, with
+ * error probabilities of at most 1 - confidence each. Thus, probes far from the capacity are
+ * decided after few runs, while probes near the capacity get more runs. After
+ * {@link #MAX_RUNS} runs, the test stops undecided and the majority of the outcomes decides, ties
+ * counting as violation.
+ */
+public class SequentialViolationTest {
+
+    /** Probability of a violating run under the hypothesis that the probe complies with the SLOs. */
+    private static final double COMPLIANT_PROBABILITY = 0.25;
+
+    /** Probability of a violating run under the hypothesis that the probe violates an SLO. */
+    private static final double VIOLATING_PROBABILITY = 0.75;
+
+    /** Maximum number of runs of a probe. */
+    public static final int MAX_RUNS = 20;
+
+    private final double upperBoundary;
+    private final double lowerBoundary;
+
+    /** Logarithm of the likelihood ratio of the violating and the compliant hypothesis. */
+    private double logLikelihoodRatio = 0.0;
+    private int runs = 0;
+    private int violatingRuns = 0;
+
+    /**
+     * Default constructor.
+     * 
+     * @param confidence
+     *            the confidence of the decision, e.g., 0.95; between 0.5 and 1, exclusive.
+     */
+    public SequentialViolationTest(final double confidence) {
+        if (confidence <= 0.5 || confidence >= 1.0) {
+            throw new IllegalArgumentException("The confidence of sequential tests has to be between 0.5 and 1");
+        }
+        final double errorProbability = 1.0 - confidence;
+        this.upperBoundary = Math.log(confidence / errorProbability);
+        this.lowerBoundary = Math.log(errorProbability / confidence);
+    }
+
+    /**
+     * Records the outcome of a run of the probe.
+     * 
+     * @param sloWasViolated
+     *            whether an SLO was violated in the run.
+     */
+    public void record(final boolean sloWasViolated) {
+        if (this.isFinished()) {
+            throw new IllegalStateException("Sequential test has already finished after " + this.runs + " runs");
+        }
+
+        this.runs++;
+        if (sloWasViolated) {
+            this.violatingRuns++;
+            this.logLikelihoodRatio += Math.log(VIOLATING_PROBABILITY / COMPLIANT_PROBABILITY);
+        } else {
+            this.logLikelihoodRatio += Math.log((1.0 - VIOLATING_PROBABILITY) / (1.0 - COMPLIANT_PROBABILITY));
+        }
+    }
+
+    /**
+     * Checks whether no further runs are required, either because a hypothesis was accepted or
+     * because the maximum number of runs was reached.
+     */
+    public boolean isFinished() {
+        return this.isDecided() || this.runs >= MAX_RUNS;
+    }
+
+    /**
+     * Checks whether a hypothesis was accepted with the requested confidence.
+     */
+    public boolean isDecided() {
+        return this.logLikelihoodRatio >= this.upperBoundary || this.logLikelihoodRatio <= this.lowerBoundary;
+    }
+
+    /**
+     * Returns the decision of the test; only valid once the test has finished.
+     * 
+     * @return whether the probe violates an SLO.
+     */
+    public boolean isViolated() {
+        if (this.isDecided()) {
+            return this.logLikelihoodRatio >= this.upperBoundary;
+        }
+        return 2 * this.violatingRuns >= this.runs;
+    }
+
+    public int getRuns() {
+        return this.runs;
+    }
+
+}
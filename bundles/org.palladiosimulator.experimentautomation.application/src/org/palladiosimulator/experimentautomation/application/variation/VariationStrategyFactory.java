@@ -1,5 +1,8 @@
 package org.palladiosimulator.experimentautomation.application.variation;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
 import org.palladiosimulator.experimentautomation.variation.VariationType;
 
 public class VariationStrategyFactory {
@@ -26,4 +29,36 @@ public class VariationStrategyFactory {
         return (IVariationStrategy) o;
     }
 
+    /**
+     * Determines the type of the values the strategy of the given variation type assigns, i.e.,
+     * the type argument of its {@link IVariationStrategy} interface.
+     * 
+     * @param type
+     *            the variation type.
+     * @return the value type; <code>Object</code> if it cannot be determined.
+     */
+    public static Class<?> getValueType(final VariationType type) {
+        assert type != null : "The variation type may not be null";
+
+        Class<?> strategyClass;
+        try {
+            strategyClass = Class.forName(type.getStrategyClass());
+        } catch (final ClassNotFoundException e) {
+            return Object.class;
+        }
+
+        for (; strategyClass != null; strategyClass = strategyClass.getSuperclass()) {
+            for (final Type genericInterface : strategyClass.getGenericInterfaces()) {
+                if (genericInterface instanceof ParameterizedType
+                        && ((ParameterizedType) genericInterface).getRawType() == IVariationStrategy.class) {
+                    final Type valueType = ((ParameterizedType) genericInterface).getActualTypeArguments()[0];
+                    if (valueType instanceof Class) {
+                        return (Class<?>) valueType;
+                    }
+                }
+            }
+        }
+        return Object.class;
+    }
+
 }
@@ -1,6 +1,23 @@
 package org.palladiosimulator.experimentautomation.application.variation.valueprovider;
 
+import java.util.List;
 
+/**
+ * Searches the capacity, i.e., the largest value that complies with the SLOs, within the interval
+ * of a nested-intervals value provider. The search starts at the minimum value of the interval.
+ * 
+ * As long as no value violated an SLO, the search gallops: each compliant value is followed by
+ * twice this value (1, 2, 4, 8, ...), so the upper bound of the capacity is bracketed without
+ * analyzing needlessly high loads. Once a value violated an SLO, the bracket is bisected. A maximum
+ * value that is not greater than the minimum value leaves the search unbounded; otherwise, the
+ * search does not exceed the maximum value and warns when the capacity reaches it.
+ * 
+ * A search may be warm-started with a prior capacity, e.g., found by a previous campaign. After the
+ * minimum value, the prior capacity is analyzed, followed by a value slightly above it if it is
+ * compliant or slightly below it otherwise. As long as these values contradict the prior capacity,
+ * the search keeps widening the bracket in the same direction with doubling steps; once the bracket
+ * is confirmed, it is bisected as usual. Thus, an unchanged capacity is verified in a few steps.
+ */
 abstract public class AbstractNestedIntervalsValueProviderStrategy<RETURN_TYPE> implements
         IValueProviderStrategy<RETURN_TYPE> {
 
@@ -14,6 +31,44 @@ abstract public class AbstractNestedIntervalsValueProviderStrategy<RETURN_TYPE>
 
     abstract public void setMax(final RETURN_TYPE max);
 
+    /**
+     * Returns the lower bound of the current interval, i.e., the largest value known to comply with
+     * the SLOs once the first value has been analyzed.
+     * 
+     * @return the lower bound of the current interval.
+     */
+    abstract public RETURN_TYPE getMin();
+
+    /**
+     * Returns the upper bound of the current interval, i.e., the largest value that may still comply
+     * with the SLOs.
+     * 
+     * @return the upper bound of the current interval.
+     */
+    abstract public RETURN_TYPE getMax();
+
+    /**
+     * Warm-starts the search with the given prior capacity; has to be called before the outcome of
+     * the minimum value is set. Prior capacities outside of the interval are ignored.
+     * 
+     * @param priorCapacity
+     *            the capacity found by a previous search.
+     */
+    abstract public void warmStart(final RETURN_TYPE priorCapacity);
+
+    /**
+     * Returns the values dividing the current interval into k sections of equal width, for
+     * analyzing them concurrently (k-section instead of bisection). The lower bound of the interval
+     * is excluded; its upper bound is included. While galloping, these are the next k values of the
+     * gallop instead.
+     * 
+     * @param k
+     *            the number of sections.
+     * @return the distinct values in ascending order; empty if the interval cannot be divided any
+     *         further.
+     */
+    abstract public List<RETURN_TYPE> getSectionValues(final int k);
+
     public boolean isConverged() {
         return this.converged;
     }
@@ -1,17 +1,47 @@
 package org.palladiosimulator.experimentautomation.application.variation.valueprovider;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Logger;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
 
 public class NestedIntervalsDoubleValueProviderStrategy extends AbstractNestedIntervalsValueProviderStrategy<Double> {
 
-    private Double min;
-    private Double middle;
-    private Double max;
+    private static final Logger LOGGER = Logger.getLogger(NestedIntervalsDoubleValueProviderStrategy.class);
+
+    /** Intervals of at most this width are not divided any further. */
+    private static final double SECTION_RESOLUTION = 0.00001;
+
+    /** Upper bound of unbounded searches. */
+    private static final double UNBOUNDED = Double.MAX_VALUE / 4.0;
+
+    /** Distance of the value following a prior capacity from it, relative to the prior capacity. */
+    private static final double WARM_START_WIDTH = 0.03;
+
+    private double min;
+    private double middle;
+    private double max;
+
+    /** Whether a value violated an SLO, i.e., whether the search bisects instead of galloping. */
+    private boolean bracketed = false;
+
+    /** The prior capacity of a warm start that has not been analyzed yet. */
+    private double priorCapacity;
+    private boolean priorPending = false;
+
+    /** Distance of the next value from the bracket while warm-started; 0 without a warm start. */
+    private double step = 0.0;
+
+    /** Whether a value complied with the SLOs since the prior capacity was analyzed. */
+    private boolean priorConfirmed = false;
 
     public NestedIntervalsDoubleValueProviderStrategy(final NestedIntervalsDoubleValueProvider specification) {
         super();
         this.min = specification.getMinValue();
-        this.max = specification.getMaxValue();
+        this.max = specification.getMaxValue() > specification.getMinValue() ? specification.getMaxValue()
+                : UNBOUNDED;
         this.middle = this.min;
     }
 
@@ -30,18 +60,29 @@ public class NestedIntervalsDoubleValueProviderStrategy extends AbstractNestedIn
             throw new IllegalArgumentException("New interval has to be nested in original interval");
         }
 
-        if (this.min == this.middle && this.middle != this.max) {
-            this.middle = this.max;
-            this.min = min;
-        } else {
-            this.min = min;
-            calculateMiddle();
+        this.min = Math.min(min, this.max);
+        if (this.priorPending && this.priorCapacity > this.min) {
+            this.middle = this.priorCapacity;
+            return;
         }
+        this.priorPending = false;
+        this.priorConfirmed = true;
 
-        if (this.min == this.max) {
+        if (this.max - this.min <= SECTION_RESOLUTION) {
+            this.middle = this.min;
             this.converged = true;
-        } else if (this.min == this.middle) {
-            this.middle++;
+            if (!this.bracketed) {
+                LOGGER.warn("Capacity search reached the maximum value " + this.max
+                        + " of its interval; the capacity may be higher");
+            }
+        } else if (this.bracketed) {
+            calculateMiddle();
+        } else if (this.step > 0.0) {
+            // the capacity is above the prior one; widen the bracket upwards
+            this.middle = Math.min(this.min + this.step, this.max);
+            this.step *= 2.0;
+        } else {
+            this.middle = this.gallop(this.min);
         }
     }
 
@@ -56,14 +97,85 @@ public class NestedIntervalsDoubleValueProviderStrategy extends AbstractNestedIn
         }
 
         this.max = max;
+        this.bracketed = true;
+        this.priorPending = false;
 
-        calculateMiddle();
-
-        if (this.min == this.max) {
+        if (this.max - this.min <= SECTION_RESOLUTION) {
+            this.middle = this.min;
             this.converged = true;
+        } else if (this.step > 0.0 && !this.priorConfirmed && this.max - this.step > this.min) {
+            // the capacity is below the prior one; widen the bracket downwards
+            this.middle = this.max - this.step;
+            this.step *= 2.0;
+        } else {
+            calculateMiddle();
+        }
+    }
+
+    @Override
+    public Double getMin() {
+        return this.min;
+    }
+
+    @Override
+    public Double getMax() {
+        return this.max;
+    }
+
+    @Override
+    public void warmStart(final Double priorCapacity) {
+        if (priorCapacity > this.min && priorCapacity <= this.max) {
+            this.priorCapacity = priorCapacity;
+            this.priorPending = true;
+            this.step = Math.max(priorCapacity * WARM_START_WIDTH, SECTION_RESOLUTION);
         }
     }
 
+    @Override
+    public List<Double> getSectionValues(final int k) {
+        final List<Double> values = new ArrayList<Double>(k);
+        if (this.max - this.min > SECTION_RESOLUTION && this.step > 0.0
+                && (!this.bracketed || !this.priorConfirmed)) {
+            // values around the prior capacity, with doubling distances from it
+            double value = this.priorPending ? this.priorCapacity : this.bracketed ? this.max : this.min;
+            double distance = this.step;
+            for (int section = 1; section <= k; section++) {
+                if (section > 1 || !this.priorPending) {
+                    value = this.bracketed ? value - distance : value + distance;
+                    distance *= 2.0;
+                }
+                value = Math.max(Math.min(value, this.max), this.min);
+                if (value > this.min && !values.contains(value)) {
+                    values.add(value);
+                }
+            }
+            Collections.sort(values);
+            return values;
+        }
+
+        if (this.max - this.min > SECTION_RESOLUTION) {
+            double value = this.min;
+            for (int section = 1; section <= k; section++) {
+                if (this.bracketed) {
+                    value = this.min + section * (this.max - this.min) / k;
+                } else {
+                    value = this.gallop(value);
+                }
+                if (value > this.min && !values.contains(value)) {
+                    values.add(value);
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value following the given compliant value while galloping.
+     */
+    private double gallop(final double value) {
+        return Math.min(value > 0.0 ? 2.0 * value : 1.0, this.max);
+    }
+
     private void calculateMiddle() {
         this.middle = (this.min + this.max) / 2.0;
     }
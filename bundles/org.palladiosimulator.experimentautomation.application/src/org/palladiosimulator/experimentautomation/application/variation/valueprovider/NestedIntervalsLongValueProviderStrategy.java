@@ -1,17 +1,44 @@
 package org.palladiosimulator.experimentautomation.application.variation.valueprovider;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Logger;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
 
 public class NestedIntervalsLongValueProviderStrategy extends AbstractNestedIntervalsValueProviderStrategy<Long> {
 
+    private static final Logger LOGGER = Logger.getLogger(NestedIntervalsLongValueProviderStrategy.class);
+
+    /** Upper bound of unbounded searches; prevents overflows while galloping. */
+    private static final long UNBOUNDED = Long.MAX_VALUE / 4L;
+
+    /** Distance of the value following a prior capacity from it, relative to the prior capacity. */
+    private static final double WARM_START_WIDTH = 0.03;
+
     private long min;
     private long middle;
     private long max;
 
+    /** Whether a value violated an SLO, i.e., whether the search bisects instead of galloping. */
+    private boolean bracketed = false;
+
+    /** The prior capacity of a warm start that has not been analyzed yet. */
+    private long priorCapacity;
+    private boolean priorPending = false;
+
+    /** Distance of the next value from the bracket while warm-started; 0 without a warm start. */
+    private long step = 0L;
+
+    /** Whether a value complied with the SLOs since the prior capacity was analyzed. */
+    private boolean priorConfirmed = false;
+
     public NestedIntervalsLongValueProviderStrategy(final NestedIntervalsLongValueProvider specification) {
         super();
         this.min = specification.getMinValue();
-        this.max = specification.getMaxValue();
+        this.max = specification.getMaxValue() > specification.getMinValue() ? specification.getMaxValue()
+                : UNBOUNDED;
         this.middle = this.min;
     }
 
@@ -30,18 +57,29 @@ public class NestedIntervalsLongValueProviderStrategy extends AbstractNestedInte
             throw new IllegalArgumentException("New interval has to be nested in original interval");
         }
 
-        if (this.min == this.middle && this.middle != this.max) {
-            this.middle = this.max;
-            this.min = min;
-        } else {
-            this.min = min;
-            calculateMiddle();
+        this.min = Math.min(min, this.max);
+        if (this.priorPending && this.priorCapacity > this.min) {
+            this.middle = this.priorCapacity;
+            return;
         }
+        this.priorPending = false;
+        this.priorConfirmed = true;
 
         if (this.min == this.max) {
+            this.middle = this.min;
             this.converged = true;
-        } else if (this.min == this.middle) {
-            this.middle++;
+            if (!this.bracketed) {
+                LOGGER.warn("Capacity search reached the maximum value " + this.max
+                        + " of its interval; the capacity may be higher");
+            }
+        } else if (this.bracketed) {
+            calculateMiddle();
+        } else if (this.step > 0L) {
+            // the capacity is above the prior one; widen the bracket upwards
+            this.middle = Math.min(this.min + this.step, this.max);
+            this.step *= 2L;
+        } else {
+            this.middle = this.gallop(this.min);
         }
     }
 
@@ -56,16 +94,88 @@ public class NestedIntervalsLongValueProviderStrategy extends AbstractNestedInte
         }
 
         this.max = max;
+        this.bracketed = true;
+        this.priorPending = false;
 
-        calculateMiddle();
+        if (this.step > 0L && !this.priorConfirmed && this.max + 1L - this.step > this.min) {
+            // the capacity is below the prior one; widen the bracket downwards
+            this.middle = this.max + 1L - this.step;
+            this.step *= 2L;
+        } else {
+            calculateMiddle();
+        }
 
         if (this.min == this.max) {
             this.converged = true;
         }
     }
 
+    @Override
+    public Long getMin() {
+        return this.min;
+    }
+
+    @Override
+    public Long getMax() {
+        return this.max;
+    }
+
+    @Override
+    public void warmStart(final Long priorCapacity) {
+        if (priorCapacity > this.min && priorCapacity <= this.max) {
+            this.priorCapacity = priorCapacity;
+            this.priorPending = true;
+            this.step = Math.max(1L, Math.round(priorCapacity * WARM_START_WIDTH));
+        }
+    }
+
+    @Override
+    public List<Long> getSectionValues(final int k) {
+        final List<Long> values = new ArrayList<Long>(k);
+        if (this.step > 0L && (!this.bracketed || !this.priorConfirmed)) {
+            // values around the prior capacity, with doubling distances from it
+            long value = this.priorPending ? this.priorCapacity : this.bracketed ? this.max + 1L : this.min;
+            long distance = this.step;
+            for (int section = 1; section <= k; section++) {
+                if (section > 1 || !this.priorPending) {
+                    value = this.bracketed ? value - distance : value + distance;
+                    distance *= 2L;
+                }
+                value = Math.max(Math.min(value, this.max), this.min);
+                if (value > this.min && !values.contains(value)) {
+                    values.add(value);
+                }
+            }
+            Collections.sort(values);
+            return values;
+        }
+
+        long value = this.min;
+        for (int section = 1; section <= k; section++) {
+            if (this.bracketed) {
+                value = this.min + section * (this.max - this.min) / k;
+            } else {
+                value = this.gallop(value);
+            }
+            if (value > this.min && !values.contains(value)) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the value following the given compliant value while galloping.
+     */
+    private long gallop(final long value) {
+        return Math.min(value > 0L ? 2L * value : 1L, this.max);
+    }
+
+    /**
+     * Calculates the middle of the interval, rounded up; the lower bound is known to be compliant.
+     */
     private void calculateMiddle() {
-        this.middle = (this.min + this.max) / 2L;
+        this.middle = this.min + (this.max - this.min + 1L) / 2L;
     }
 
     @Override
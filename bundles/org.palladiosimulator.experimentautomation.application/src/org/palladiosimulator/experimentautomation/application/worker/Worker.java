@@ -0,0 +1,148 @@
+package org.palladiosimulator.experimentautomation.application.worker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
+import org.palladiosimulator.experimentautomation.application.config.ExperimentAutomationConfiguration;
+import org.palladiosimulator.experimentautomation.application.jobs.RunDesignPointJob;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * Worker side of the multi-process mode. A worker connects to its coordinator, receives tasks, and
+ * conducts each of them with a {@link RunDesignPointJob} on a fresh blackboard. Results are stored
+ * in the EDP2 data source of the respective tool configuration; hence, workers should use file data
+ * sources since in-memory repositories vanish together with the worker process.
+ * 
+ * While conducting a task, the worker reports the start of each analysis run to the coordinator.
+ */
+public class Worker {
+
+    private static final Logger LOGGER = Logger.getLogger(Worker.class);
+
+    private final List<Experiment> experiments;
+    private final long resultCacheSize;
+
+    /**
+     * Default constructor.
+     * 
+     * @param experiments
+     *            the experiments tasks may refer to.
+     */
+    public Worker(final List<Experiment> experiments) {
+        this(experiments, 0);
+    }
+
+    /**
+     * Constructor for a worker reusing cached analysis results.
+     * 
+     * @param experiments
+     *            the experiments tasks may refer to.
+     * @param resultCacheSize
+     *            the maximum size of result caches in bytes; 0 disables caching.
+     */
+    public Worker(final List<Experiment> experiments, final long resultCacheSize) {
+        this.experiments = experiments;
+        this.resultCacheSize = resultCacheSize;
+    }
+
+    /**
+     * Connects to the coordinator and processes tasks until the coordinator closes the connection
+     * or tells the worker to exit.
+     * 
+     * @param port
+     *            the loopback port the coordinator listens on.
+     * @throws IOException
+     *             if the connection to the coordinator fails.
+     */
+    public void run(final int port) throws IOException {
+        final Socket socket = new Socket(WorkerProtocol.LOOPBACK_ADDRESS, port);
+        try {
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    WorkerProtocol.ENCODING));
+            final PrintWriter writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(),
+                    WorkerProtocol.ENCODING), true);
+
+            writer.println(WorkerProtocol.READY);
+
+            String line;
+            while ((line = reader.readLine()) != null && !line.equals(WorkerProtocol.EXIT)) {
+                if (!line.startsWith(WorkerProtocol.RUN)) {
+                    throw new IOException("Unexpected message from coordinator: " + line);
+                }
+
+                final WorkerTask task = WorkerTask.decode(line.substring(WorkerProtocol.RUN.length()));
+                try {
+                    final RunDesignPointJob job = this.execute(task, writer);
+                    writer.println(WorkerProtocol.DONE + job.sloWasViolated() + WorkerProtocol.DONE_SEPARATOR
+                            + job.getSloViolationRatio());
+                } catch (final Exception e) {
+                    LOGGER.error("Task " + task + " failed", e);
+                    // keep the reply on a single line
+                    writer.println(WorkerProtocol.FAILED + String.valueOf(e.getMessage()).replace('\n', ' '));
+                }
+            }
+        } finally {
+            socket.close();
+        }
+    }
+
+    private RunDesignPointJob execute(final WorkerTask task, final PrintWriter writer) throws Exception {
+        final Experiment experiment = this.findExperiment(task.getExperimentId());
+        final AbstractSimulationConfiguration simulationConfiguration = (AbstractSimulationConfiguration) experiment
+                .getToolConfiguration().get(task.getToolConfigurationIndex());
+
+        final ExperimentAutomationConfiguration configuration = new ExperimentAutomationConfiguration();
+        configuration.setExperiments(Collections.singletonList(experiment));
+        configuration.setAttributes(new HashMap<String, Object>());
+        configuration.setResultCacheSize(this.resultCacheSize);
+
+        LOGGER.info("Conducting " + task);
+        final RunDesignPointJob job = new RunDesignPointJob(configuration, experiment, simulationConfiguration,
+                task.createVariationFactorTuples(experiment), task.getRepetition());
+        job.setBlackboard(new MDSDBlackboard());
+
+        // report each analysis run to the coordinator, which watches the budget of the run
+        final IProgressMonitor monitor = new NullProgressMonitor() {
+
+            @Override
+            public void subTask(final String name) {
+                writer.println(WorkerProtocol.PROGRESS + String.valueOf(name).replace('\n', ' '));
+            }
+
+        };
+        try {
+            job.execute(monitor);
+        } finally {
+            try {
+                job.cleanup(monitor);
+            } catch (final CleanupFailedException e) {
+                LOGGER.warn("Cleanup of " + job.getName() + " failed: " + e.getMessage());
+            }
+        }
+        return job;
+    }
+
+    private Experiment findExperiment(final String experimentId) {
+        for (final Experiment experiment : this.experiments) {
+            if (experiment.getId().equals(experimentId)) {
+                return experiment;
+            }
+        }
+        throw new IllegalArgumentException("Unknown experiment " + experimentId);
+    }
+
+}
@@ -0,0 +1,429 @@
+package org.palladiosimulator.experimentautomation.application.worker;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+
+/**
+ * Coordinator side of the multi-process mode. The pool starts a number of local worker JVMs and
+ * hands them {@link WorkerTask}s over loopback sockets, one task per worker at a time. Each worker
+ * gets its own workspace, so tools that generate code into the workspace (like SimuCom) do not
+ * interfere with each other.
+ * 
+ * If a worker process dies, its current task is handed to another worker and the process is
+ * restarted. Tasks that crash their worker {@link #MAX_ATTEMPTS} times, or whose analysis fails, are
+ * reported as failed.
+ * 
+ * Tasks with a wall-clock budget per analysis run are watched: if the worker neither starts another
+ * analysis run nor finishes the task within the budget plus {@link #GRACE_PERIOD}, e.g., because the
+ * analysis tool ignores cancellation, the worker process is killed and restarted. The task is
+ * reported as failed and, if a campaign journal is given, recorded as timed out, so that a resumed
+ * campaign analyzes it again.
+ * 
+ * If a campaign journal is given, the pool records each successfully conducted task in it, including
+ * whether the task violated an SLO and its SLO violation ratio.
+ */
+public class WorkerPool {
+
+    private static final Logger LOGGER = Logger.getLogger(WorkerPool.class);
+
+    /** Maximum number of times a task is handed to a worker; also bounds consecutive start failures. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /** Interval in milliseconds for checking whether a starting worker process is still alive. */
+    private static final int POLL_INTERVAL = 1000;
+
+    /**
+     * Time in milliseconds a worker may take in addition to the wall-clock budget of an analysis run,
+     * e.g., for loading the models or generating code before the run.
+     */
+    private static final long GRACE_PERIOD = 10 * 60 * 1000L;
+
+    private final List<String> workerCommand;
+    private final File workspaceRoot;
+    private final int workers;
+    private final CampaignJournal journal;
+
+    private final BlockingQueue<WorkerTask> openTasks = new LinkedBlockingQueue<WorkerTask>();
+    private final AtomicInteger unfinishedTasks = new AtomicInteger();
+    private final List<WorkerTask> failedTasks = Collections.synchronizedList(new ArrayList<WorkerTask>());
+
+    /**
+     * Default constructor.
+     * 
+     * @param workerCommand
+     *            the command line starting a worker, see {@link #createWorkerCommand}. The pool
+     *            appends the workspace and port of the respective worker.
+     * @param workspaceRoot
+     *            the directory holding the workspaces of the workers.
+     * @param workers
+     *            the number of worker processes.
+     */
+    public WorkerPool(final List<String> workerCommand, final File workspaceRoot, final int workers) {
+        this(workerCommand, workspaceRoot, workers, null);
+    }
+
+    /**
+     * Constructor for a pool recording its progress in a campaign journal.
+     * 
+     * @param workerCommand
+     *            the command line starting a worker, see {@link #createWorkerCommand}.
+     * @param workspaceRoot
+     *            the directory holding the workspaces of the workers.
+     * @param workers
+     *            the number of worker processes.
+     * @param journal
+     *            the campaign journal; <code>null</code> if none is used.
+     */
+    public WorkerPool(final List<String> workerCommand, final File workspaceRoot, final int workers,
+            final CampaignJournal journal) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+
+        this.workerCommand = workerCommand;
+        this.workspaceRoot = workspaceRoot;
+        this.workers = workers;
+        this.journal = journal;
+    }
+
+    /**
+     * Creates the command line starting an Experiment Automation application in worker mode,
+     * based on the JVM and launcher of the currently running application.
+     * 
+     * @param applicationId
+     *            the id of the Experiment Automation application.
+     * @param experimentsLocation
+     *            the path to the configuration model (.experiments extension).
+     * @param workerOption
+     *            the application option introducing the coordinator port.
+     * @return the command line, missing only the port of the coordinator.
+     */
+    public static List<String> createWorkerCommand(final String applicationId, final String experimentsLocation,
+            final String workerOption) {
+        final List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+
+        final String vmArgs = System.getProperty("eclipse.vmargs");
+        if (vmArgs != null) {
+            // the VM arguments of the native launcher, including "-jar <launcher>"
+            for (final String vmArg : vmArgs.split("\n")) {
+                if (!vmArg.trim().isEmpty()) {
+                    command.add(vmArg.trim());
+                }
+            }
+        } else {
+            command.add("-classpath");
+            command.add(System.getProperty("java.class.path"));
+            command.add("org.eclipse.equinox.launcher.Main");
+        }
+
+        command.add("-application");
+        command.add(applicationId);
+        command.add("-consoleLog");
+        command.add(experimentsLocation);
+        command.add(workerOption);
+        return command;
+    }
+
+    /**
+     * Conducts the given tasks and blocks until all of them are finished.
+     * 
+     * @param tasks
+     *            the tasks to be conducted.
+     * @return the tasks that could not be conducted successfully.
+     * @throws InterruptedException
+     *             if the coordinator has been interrupted while waiting for its workers.
+     */
+    public List<WorkerTask> run(final List<WorkerTask> tasks) throws InterruptedException {
+        this.openTasks.addAll(tasks);
+        this.unfinishedTasks.set(tasks.size());
+
+        final List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < this.workers; i++) {
+            final int slot = i;
+            final Thread thread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    WorkerPool.this.serveSlot(slot);
+                }
+
+            }, "Experiment Automation Worker " + slot);
+            thread.start();
+            threads.add(thread);
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // tasks left if all workers failed to start
+        this.openTasks.drainTo(this.failedTasks);
+        return new ArrayList<WorkerTask>(this.failedTasks);
+    }
+
+    private void serveSlot(final int slot) {
+        int consecutiveFailures = 0;
+        while (this.unfinishedTasks.get() > 0 && consecutiveFailures < MAX_ATTEMPTS) {
+            try {
+                final int finishedTasks = this.serveWorkerProcess(slot);
+                consecutiveFailures = finishedTasks > 0 ? 0 : consecutiveFailures + 1;
+            } catch (final IOException e) {
+                LOGGER.warn("Worker " + slot + " failed: " + e.getMessage());
+                consecutiveFailures++;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        if (consecutiveFailures >= MAX_ATTEMPTS) {
+            LOGGER.error("Giving up worker " + slot + " after " + MAX_ATTEMPTS + " consecutive failures");
+        }
+    }
+
+    /**
+     * Starts a worker process and feeds it with tasks until there are none left or the process
+     * dies.
+     * 
+     * @return the number of tasks the process has finished.
+     */
+    private int serveWorkerProcess(final int slot) throws IOException, InterruptedException {
+        final ServerSocket serverSocket = new ServerSocket(0, 1,
+                InetAddress.getByName(WorkerProtocol.LOOPBACK_ADDRESS));
+        Process process = null;
+        Socket socket = null;
+        WorkerTask currentTask = null;
+        int finishedTasks = 0;
+
+        try {
+            process = this.startWorkerProcess(slot, serverSocket.getLocalPort());
+            socket = accept(serverSocket, process);
+
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    WorkerProtocol.ENCODING));
+            final PrintWriter writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(),
+                    WorkerProtocol.ENCODING), true);
+            expectReady(reader.readLine());
+
+            while ((currentTask = this.nextTask()) != null) {
+                currentTask.incrementAttempts();
+                writer.println(WorkerProtocol.RUN + currentTask.encode());
+
+                final String reply;
+                try {
+                    reply = awaitReply(socket, reader, currentTask);
+                } catch (final SocketTimeoutException e) {
+                    this.timedOut(slot, currentTask);
+                    currentTask = null;
+                    // the hung worker process is killed
+                    return finishedTasks + 1;
+                }
+                if (reply == null) {
+                    throw new IOException("Worker process terminated while conducting " + currentTask);
+                } else if (reply.startsWith(WorkerProtocol.FAILED)) {
+                    LOGGER.error("Worker " + slot + " failed to conduct " + currentTask + ": "
+                            + reply.substring(WorkerProtocol.FAILED.length()));
+                    this.failedTasks.add(currentTask);
+                } else if (reply.startsWith(WorkerProtocol.DONE)) {
+                    this.recordOutcome(currentTask, reply.substring(WorkerProtocol.DONE.length()));
+                } else {
+                    throw new IOException("Unexpected reply from worker: " + reply);
+                }
+
+                this.unfinishedTasks.decrementAndGet();
+                currentTask = null;
+                finishedTasks++;
+            }
+
+            writer.println(WorkerProtocol.EXIT);
+            process.waitFor();
+            process = null;
+        } finally {
+            if (currentTask != null) {
+                this.retry(currentTask);
+            }
+            if (socket != null) {
+                socket.close();
+            }
+            serverSocket.close();
+            if (process != null) {
+                process.destroy();
+            }
+        }
+
+        return finishedTasks;
+    }
+
+    /**
+     * Reads the reply of a worker to the given task, skipping progress messages.
+     * 
+     * @return the reply; <code>null</code> if the worker process terminated.
+     * @throws SocketTimeoutException
+     *             if the worker exceeded the wall-clock budget of an analysis run of the task.
+     */
+    private static String awaitReply(final Socket socket, final BufferedReader reader, final WorkerTask task)
+            throws IOException {
+        // the budget applies to each analysis run; 0 waits infinitely
+        socket.setSoTimeout(task.getWallClockBudget() > 0 ? (int) Math.min(Integer.MAX_VALUE,
+                task.getWallClockBudget() + GRACE_PERIOD) : 0);
+        String reply;
+        do {
+            reply = reader.readLine();
+        } while (reply != null && reply.startsWith(WorkerProtocol.PROGRESS));
+        return reply;
+    }
+
+    private void timedOut(final int slot, final WorkerTask task) {
+        LOGGER.error("Worker " + slot + " exceeded the wall-clock budget of " + task.getWallClockBudget()
+                + " ms per analysis run while conducting " + task + "; restarting it");
+        if (this.journal != null) {
+            this.journal.markTimedOut(task.getJournalKey());
+        }
+        this.failedTasks.add(task);
+        this.unfinishedTasks.decrementAndGet();
+    }
+
+    /**
+     * Records the SLO outcome a worker reported for a task in the campaign journal, if any.
+     */
+    private void recordOutcome(final WorkerTask task, final String outcome) throws IOException {
+        final String[] parts = outcome.split(WorkerProtocol.DONE_SEPARATOR);
+        if (parts.length != 2) {
+            throw new IOException("Malformed outcome from worker: " + outcome);
+        }
+
+        final double violationRatio;
+        try {
+            violationRatio = Double.parseDouble(parts[1]);
+        } catch (final NumberFormatException e) {
+            throw new IOException("Malformed outcome from worker: " + outcome);
+        }
+
+        if (this.journal != null) {
+            if (Boolean.parseBoolean(parts[0])) {
+                this.journal.markViolated(task.getJournalKey());
+            }
+            this.journal.recordViolationRatio(task.getJournalKey(), violationRatio);
+            this.journal.markCompleted(task.getJournalKey());
+        }
+    }
+
+    /**
+     * Starts the worker process of the given slot, which has to connect to the coordinator at the
+     * given port.
+     * 
+     * @param slot
+     *            the slot of the worker; each slot has its own workspace.
+     * @param port
+     *            the loopback port of the coordinator.
+     * @return the started process.
+     * @throws IOException
+     *             if the process cannot be started.
+     */
+    protected Process startWorkerProcess(final int slot, final int port) throws IOException {
+        final List<String> command = new ArrayList<String>();
+        command.addAll(this.workerCommand);
+        command.add(Integer.toString(port));
+        command.add("-data");
+        command.add(new File(this.workspaceRoot, "worker-" + slot).getAbsolutePath());
+
+        LOGGER.info("Starting worker " + slot);
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        forwardOutput(process.getInputStream(), slot);
+        return process;
+    }
+
+    private static Socket accept(final ServerSocket serverSocket, final Process process) throws IOException {
+        serverSocket.setSoTimeout(POLL_INTERVAL);
+        while (true) {
+            try {
+                return serverSocket.accept();
+            } catch (final SocketTimeoutException e) {
+                try {
+                    throw new IOException("Worker process exited with code " + process.exitValue()
+                            + " before connecting");
+                } catch (final IllegalThreadStateException stillRunning) {
+                    // keep waiting
+                }
+            }
+        }
+    }
+
+    private static void expectReady(final String message) throws IOException {
+        if (!WorkerProtocol.READY.equals(message)) {
+            throw new IOException("Unexpected greeting from worker: " + message);
+        }
+    }
+
+    /**
+     * Takes the next open task; waits while other workers may still return crashed tasks.
+     * 
+     * @return the next task or <code>null</code> if all tasks are finished.
+     */
+    private WorkerTask nextTask() throws InterruptedException {
+        while (this.unfinishedTasks.get() > 0) {
+            final WorkerTask task = this.openTasks.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+            if (task != null) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    private void retry(final WorkerTask task) {
+        if (task.getAttempts() < MAX_ATTEMPTS) {
+            LOGGER.warn("Rescheduling " + task);
+            this.openTasks.add(task);
+        } else {
+            LOGGER.error("Giving up " + task + " after " + MAX_ATTEMPTS + " attempts");
+            this.failedTasks.add(task);
+            this.unfinishedTasks.decrementAndGet();
+        }
+    }
+
+    /**
+     * Forwards the console output of a worker to the log; the output also has to be consumed to
+     * keep the worker from blocking.
+     */
+    private static void forwardOutput(final InputStream output, final int slot) {
+        final Thread thread = new Thread(new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    final BufferedReader reader = new BufferedReader(new InputStreamReader(output));
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        LOGGER.info("[worker " + slot + "] " + line);
+                    }
+                } catch (final IOException e) {
+                    // process has terminated
+                }
+            }
+
+        }, "Experiment Automation Worker Output " + slot);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.palladiosimulator.experimentautomation.application.worker;
+
+/**
+ * Line-based protocol spoken between coordinator and worker processes over a loopback socket.
+ * 
+ * After connecting, a worker announces itself with {@link #READY}. The coordinator then sends
+ * {@link #RUN} messages, each followed by an encoded {@link WorkerTask}, and the worker answers each
+ * of them with either {@link #DONE} plus the SLO outcome of the run, or {@link #FAILED} plus an
+ * error message. The SLO outcome consists of whether an SLO was violated and the largest ratio of
+ * measurements violating an SLO (<code>NaN</code> if none were checked), separated by
+ * {@link #DONE_SEPARATOR}. Before its answer, the worker may send any number of {@link #PROGRESS}
+ * messages, one whenever it starts an analysis run, followed by the name of the run. Finally, the
+ * coordinator sends {@link #EXIT}.
+ */
+final class WorkerProtocol {
+
+    static final String LOOPBACK_ADDRESS = "127.0.0.1";
+
+    static final String READY = "READY";
+    static final String RUN = "RUN ";
+    static final String DONE = "DONE ";
+    static final String DONE_SEPARATOR = " ";
+    static final String FAILED = "FAILED ";
+    static final String PROGRESS = "PROGRESS ";
+    static final String EXIT = "EXIT";
+
+    static final String ENCODING = "UTF-8";
+
+    private WorkerProtocol() {
+    }
+
+}
@@ -0,0 +1,207 @@
+package org.palladiosimulator.experimentautomation.application.worker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.AbstractSimulationConfigFactory;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+/**
+ * A unit of work handed from the coordinator to a worker process: one repetition of one design
+ * point of an experiment, analyzed with one of the tool configurations of the experiment.
+ * 
+ * Design points are transferred as factor vectors; the i-th factor belongs to the i-th variation
+ * of the experiment. Tasks are encoded as single lines of text (see {@link #encode()}); the
+ * wall-clock budget of the analysis runs of a task is only known to the coordinator.
+ */
+public class WorkerTask {
+
+    private static final String SEPARATOR = ";";
+    private static final String FACTOR_SEPARATOR = ",";
+    private static final char LONG_FACTOR = 'L';
+    private static final char DOUBLE_FACTOR = 'D';
+
+    private final String experimentId;
+    private final int toolConfigurationIndex;
+    private final int repetition;
+    private final List<Object> factors;
+
+    /** The wall-clock budget of each analysis run of this task in milliseconds; 0 if unlimited. */
+    private final long wallClockBudget;
+
+    /** Number of times this task has been handed to a worker so far. */
+    private int attempts = 0;
+
+    /**
+     * Default constructor.
+     * 
+     * @param experiment
+     *            the experiment the design point belongs to.
+     * @param toolConfigurationIndex
+     *            the index of the tool configuration within the experiment.
+     * @param variationFactorTuples
+     *            the variations and according value factors of the design point.
+     * @param repetition
+     *            the repetition of the design point, starting with 1.
+     */
+    public WorkerTask(final Experiment experiment, final int toolConfigurationIndex,
+            final List<VariationFactorTuple> variationFactorTuples, final int repetition) {
+        this.experimentId = experiment.getId();
+        this.toolConfigurationIndex = toolConfigurationIndex;
+        this.repetition = repetition;
+        this.factors = new ArrayList<Object>();
+        for (final VariationFactorTuple variationFactorTuple : variationFactorTuples) {
+            this.factors.add(variationFactorTuple.getFactor());
+        }
+
+        final ToolConfiguration toolConfiguration = experiment.getToolConfiguration().get(toolConfigurationIndex);
+        if (toolConfiguration instanceof AbstractSimulationConfiguration) {
+            this.wallClockBudget = AbstractSimulationConfigFactory.getMaximumWallClockTime(experiment,
+                    (AbstractSimulationConfiguration) toolConfiguration);
+        } else {
+            this.wallClockBudget = 0;
+        }
+    }
+
+    private WorkerTask(final String experimentId, final int toolConfigurationIndex, final int repetition,
+            final List<Object> factors) {
+        this.experimentId = experimentId;
+        this.toolConfigurationIndex = toolConfigurationIndex;
+        this.repetition = repetition;
+        this.factors = factors;
+        this.wallClockBudget = 0;
+    }
+
+    public String getExperimentId() {
+        return this.experimentId;
+    }
+
+    public int getToolConfigurationIndex() {
+        return this.toolConfigurationIndex;
+    }
+
+    public int getRepetition() {
+        return this.repetition;
+    }
+
+    public List<Object> getFactors() {
+        return Collections.unmodifiableList(this.factors);
+    }
+
+    /**
+     * Returns the wall-clock budget of each analysis run of this task, as given by the wall-clock
+     * stop conditions of its experiment and tool configuration. Decoded tasks have no budget.
+     * 
+     * @return the budget in milliseconds; 0 if unlimited.
+     */
+    public long getWallClockBudget() {
+        return this.wallClockBudget;
+    }
+
+    int getAttempts() {
+        return this.attempts;
+    }
+
+    void incrementAttempts() {
+        this.attempts++;
+    }
+
+    /**
+     * Returns the key of this task in the campaign journal.
+     * 
+     * @return the key, see {@link CampaignJournal#createKey}.
+     */
+    public String getJournalKey() {
+        return CampaignJournal.createKey(this.experimentId, this.toolConfigurationIndex, this.factors,
+                this.repetition);
+    }
+
+    /**
+     * Recreates the design point of this task for the given experiment.
+     * 
+     * @param experiment
+     *            the experiment with the id of this task.
+     * @return the variations and according value factors of the design point.
+     */
+    public List<VariationFactorTuple> createVariationFactorTuples(final Experiment experiment) {
+        final List<Variation> variations = experiment.getVariations();
+        if (variations.size() != this.factors.size()) {
+            throw new IllegalArgumentException("Experiment " + experiment.getId() + " has " + variations.size()
+                    + " variations, but the task provides " + this.factors.size() + " factors");
+        }
+
+        final List<VariationFactorTuple> variationFactorTuples = new ArrayList<VariationFactorTuple>();
+        for (int i = 0; i < variations.size(); i++) {
+            variationFactorTuples.add(new VariationFactorTuple<Object>(variations.get(i), this.factors.get(i)));
+        }
+        return variationFactorTuples;
+    }
+
+    /**
+     * Encodes this task as a single line of text.
+     * 
+     * @return the encoded task.
+     */
+    public String encode() {
+        final StringBuilder factorString = new StringBuilder();
+        for (final Object factor : this.factors) {
+            if (factorString.length() > 0) {
+                factorString.append(FACTOR_SEPARATOR);
+            }
+            if (factor instanceof Long) {
+                factorString.append(LONG_FACTOR).append(factor);
+            } else if (factor instanceof Double) {
+                factorString.append(DOUBLE_FACTOR).append(factor);
+            } else {
+                throw new IllegalStateException("Unsupported factor type " + factor.getClass().getName());
+            }
+        }
+
+        // the experiment id goes last; it is the only free-form part
+        return this.toolConfigurationIndex + SEPARATOR + this.repetition + SEPARATOR + factorString + SEPARATOR
+                + this.experimentId;
+    }
+
+    /**
+     * Decodes a task previously encoded by {@link #encode()}.
+     * 
+     * @param line
+     *            the encoded task.
+     * @return the decoded task.
+     */
+    public static WorkerTask decode(final String line) {
+        final String[] parts = line.split(SEPARATOR, 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed worker task: " + line);
+        }
+
+        final List<Object> factors = new ArrayList<Object>();
+        if (!parts[2].isEmpty()) {
+            for (final String factor : parts[2].split(FACTOR_SEPARATOR)) {
+                final String value = factor.substring(1);
+                if (factor.charAt(0) == LONG_FACTOR) {
+                    factors.add(Long.valueOf(value));
+                } else if (factor.charAt(0) == DOUBLE_FACTOR) {
+                    factors.add(Double.valueOf(value));
+                } else {
+                    throw new IllegalArgumentException("Malformed factor in worker task: " + factor);
+                }
+            }
+        }
+
+        return new WorkerTask(parts[3], Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), factors);
+    }
+
+    @Override
+    public String toString() {
+        return "experiment " + this.experimentId + ", tool configuration " + this.toolConfigurationIndex
+                + ", factors " + this.factors + ", repetition " + this.repetition;
+    }
+
+}
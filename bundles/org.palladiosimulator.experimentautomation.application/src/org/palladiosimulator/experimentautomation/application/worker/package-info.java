@@ -0,0 +1,4 @@
+/**
+ * Coordinator and worker processes for analyzing design points in several local JVMs.
+ */
+package org.palladiosimulator.experimentautomation.application.worker;
\ No newline at end of file
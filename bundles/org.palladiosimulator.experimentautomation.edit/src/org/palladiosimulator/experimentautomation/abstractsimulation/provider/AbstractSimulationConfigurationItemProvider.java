@@ -198,6 +198,14 @@ public class AbstractSimulationConfigurationItemProvider extends ToolConfigurati
                 AbstractsimulationPackage.Literals.ABSTRACT_SIMULATION_CONFIGURATION__STOP_CONDITIONS,
                 AbstractsimulationFactory.eINSTANCE.createSimTimeStopCondition()));
 
+        newChildDescriptors.add(this.createChildParameter(
+                AbstractsimulationPackage.Literals.ABSTRACT_SIMULATION_CONFIGURATION__STOP_CONDITIONS,
+                AbstractsimulationFactory.eINSTANCE.createConfidenceStopCondition()));
+
+        newChildDescriptors.add(this.createChildParameter(
+                AbstractsimulationPackage.Literals.ABSTRACT_SIMULATION_CONFIGURATION__STOP_CONDITIONS,
+                AbstractsimulationFactory.eINSTANCE.createWallClockStopCondition()));
+
         newChildDescriptors.add(this.createChildParameter(
                 AbstractsimulationPackage.Literals.ABSTRACT_SIMULATION_CONFIGURATION__RANDOM_NUMBER_GENERATOR_SEED,
                 AbstractsimulationFactory.eINSTANCE.createRandomNumberGeneratorSeed()));
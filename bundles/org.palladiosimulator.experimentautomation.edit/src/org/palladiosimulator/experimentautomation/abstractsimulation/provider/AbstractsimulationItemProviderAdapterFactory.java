@@ -217,6 +217,56 @@ public class AbstractsimulationItemProviderAdapterFactory extends Abstractsimula
         return this.simTimeStopConditionItemProvider;
     }
 
+    /**
+     * This keeps track of the one adapter used for all
+     * {@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition}
+     * instances. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected ConfidenceStopConditionItemProvider confidenceStopConditionItemProvider;
+
+    /**
+     * This creates an adapter for a
+     * {@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition}.
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Adapter createConfidenceStopConditionAdapter() {
+        if (this.confidenceStopConditionItemProvider == null) {
+            this.confidenceStopConditionItemProvider = new ConfidenceStopConditionItemProvider(this);
+        }
+
+        return this.confidenceStopConditionItemProvider;
+    }
+
+    /**
+     * This keeps track of the one adapter used for all
+     * {@link org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition}
+     * instances. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected WallClockStopConditionItemProvider wallClockStopConditionItemProvider;
+
+    /**
+     * This creates an adapter for a
+     * {@link org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition}.
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Adapter createWallClockStopConditionAdapter() {
+        if (this.wallClockStopConditionItemProvider == null) {
+            this.wallClockStopConditionItemProvider = new WallClockStopConditionItemProvider(this);
+        }
+
+        return this.wallClockStopConditionItemProvider;
+    }
+
     /**
      * This returns the root adapter factory that contains this factory. <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -364,6 +414,12 @@ public class AbstractsimulationItemProviderAdapterFactory extends Abstractsimula
         if (this.simTimeStopConditionItemProvider != null) {
             this.simTimeStopConditionItemProvider.dispose();
         }
+        if (this.confidenceStopConditionItemProvider != null) {
+            this.confidenceStopConditionItemProvider.dispose();
+        }
+        if (this.wallClockStopConditionItemProvider != null) {
+            this.wallClockStopConditionItemProvider.dispose();
+        }
     }
 
 }
@@ -0,0 +1,211 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.abstractsimulation.provider;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.AdapterFactory;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.edit.provider.ComposeableAdapterFactory;
+import org.eclipse.emf.edit.provider.IItemPropertyDescriptor;
+import org.eclipse.emf.edit.provider.ItemPropertyDescriptor;
+import org.eclipse.emf.edit.provider.ViewerNotification;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition;
+
+/**
+ * This is the item provider adapter for a
+ * {@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition}
+ * object. <!-- begin-user-doc --> <!-- end-user-doc -->
+ *
+ * @generated
+ */
+public class ConfidenceStopConditionItemProvider extends StopConditionItemProvider {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * This constructs an instance from a factory and a notifier. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @generated
+     */
+    public ConfidenceStopConditionItemProvider(final AdapterFactory adapterFactory) {
+        super(adapterFactory);
+    }
+
+    /**
+     * This returns the property descriptors for the adapted class. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public List<IItemPropertyDescriptor> getPropertyDescriptors(final Object object) {
+        if (this.itemPropertyDescriptors == null) {
+            super.getPropertyDescriptors(object);
+
+            this.addMeasuringPointPropertyDescriptor(object);
+            this.addMetricPropertyDescriptor(object);
+            this.addRelativeHalfWidthPropertyDescriptor(object);
+            this.addConfidenceLevelPropertyDescriptor(object);
+        }
+        return this.itemPropertyDescriptors;
+    }
+
+    /**
+     * This adds a property descriptor for the Measuring Point feature. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @generated
+     */
+    protected void addMeasuringPointPropertyDescriptor(final Object object) {
+        this.itemPropertyDescriptors
+                .add(this.createItemPropertyDescriptor(
+                        ((ComposeableAdapterFactory) this.adapterFactory).getRootAdapterFactory(),
+                        this.getResourceLocator(),
+                        this.getString("_UI_ConfidenceStopCondition_measuringPoint_feature"),
+                        this.getString("_UI_PropertyDescriptor_description",
+                                "_UI_ConfidenceStopCondition_measuringPoint_feature",
+                                "_UI_ConfidenceStopCondition_type"),
+                        AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__MEASURING_POINT,
+                        true,
+                        false,
+                        true,
+                        null,
+                        null,
+                        null));
+    }
+
+    /**
+     * This adds a property descriptor for the Metric feature. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @generated
+     */
+    protected void addMetricPropertyDescriptor(final Object object) {
+        this.itemPropertyDescriptors
+                .add(this.createItemPropertyDescriptor(
+                        ((ComposeableAdapterFactory) this.adapterFactory).getRootAdapterFactory(),
+                        this.getResourceLocator(),
+                        this.getString("_UI_ConfidenceStopCondition_metric_feature"),
+                        this.getString("_UI_PropertyDescriptor_description",
+                                "_UI_ConfidenceStopCondition_metric_feature", "_UI_ConfidenceStopCondition_type"),
+                        AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__METRIC,
+                        true,
+                        false,
+                        true,
+                        null,
+                        null,
+                        null));
+    }
+
+    /**
+     * This adds a property descriptor for the Relative Half Width feature. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected void addRelativeHalfWidthPropertyDescriptor(final Object object) {
+        this.itemPropertyDescriptors
+                .add(this.createItemPropertyDescriptor(
+                        ((ComposeableAdapterFactory) this.adapterFactory).getRootAdapterFactory(),
+                        this.getResourceLocator(),
+                        this.getString("_UI_ConfidenceStopCondition_relativeHalfWidth_feature"),
+                        this.getString("_UI_PropertyDescriptor_description",
+                                "_UI_ConfidenceStopCondition_relativeHalfWidth_feature",
+                                "_UI_ConfidenceStopCondition_type"),
+                        AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH,
+                        true,
+                        false,
+                        false,
+                        ItemPropertyDescriptor.REAL_VALUE_IMAGE,
+                        null,
+                        null));
+    }
+
+    /**
+     * This adds a property descriptor for the Confidence Level feature. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected void addConfidenceLevelPropertyDescriptor(final Object object) {
+        this.itemPropertyDescriptors
+                .add(this.createItemPropertyDescriptor(
+                        ((ComposeableAdapterFactory) this.adapterFactory).getRootAdapterFactory(),
+                        this.getResourceLocator(),
+                        this.getString("_UI_ConfidenceStopCondition_confidenceLevel_feature"),
+                        this.getString("_UI_PropertyDescriptor_description",
+                                "_UI_ConfidenceStopCondition_confidenceLevel_feature",
+                                "_UI_ConfidenceStopCondition_type"),
+                        AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL,
+                        true,
+                        false,
+                        false,
+                        ItemPropertyDescriptor.REAL_VALUE_IMAGE,
+                        null,
+                        null));
+    }
+
+    /**
+     * This returns ConfidenceStopCondition.gif. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Object getImage(final Object object) {
+        return this.overlayImage(object, this.getResourceLocator().getImage("full/obj16/ConfidenceStopCondition"));
+    }
+
+    /**
+     * This returns the label text for the adapted class. <!-- begin-user-doc --> <!-- end-user-doc
+     * -->
+     *
+     * @generated
+     */
+    @Override
+    public String getText(final Object object) {
+        final ConfidenceStopCondition confidenceStopCondition = (ConfidenceStopCondition) object;
+        return this.getString("_UI_ConfidenceStopCondition_type") + " "
+                + confidenceStopCondition.getRelativeHalfWidth();
+    }
+
+    /**
+     * This handles model notifications by calling {@link #updateChildren} to update any cached
+     * children and by creating a viewer notification, which it passes to
+     * {@link #fireNotifyChanged}. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void notifyChanged(final Notification notification) {
+        this.updateChildren(notification);
+
+        switch (notification.getFeatureID(ConfidenceStopCondition.class)) {
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH:
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL:
+            this.fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
+            return;
+        }
+        super.notifyChanged(notification);
+    }
+
+    /**
+     * This adds {@link org.eclipse.emf.edit.command.CommandParameter}s describing the children that
+     * can be created under this object. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    protected void collectNewChildDescriptors(final Collection<Object> newChildDescriptors, final Object object) {
+        super.collectNewChildDescriptors(newChildDescriptors, object);
+    }
+
+}
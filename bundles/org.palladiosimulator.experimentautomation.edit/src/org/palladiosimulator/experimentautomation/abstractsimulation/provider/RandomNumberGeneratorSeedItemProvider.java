@@ -66,6 +66,7 @@ public class RandomNumberGeneratorSeedItemProvider extends ItemProviderAdapter i
             this.addSeed3PropertyDescriptor(object);
             this.addSeed4PropertyDescriptor(object);
             this.addSeed5PropertyDescriptor(object);
+            this.addCommonRandomNumbersPropertyDescriptor(object);
         }
         return this.itemPropertyDescriptors;
     }
@@ -214,6 +215,30 @@ public class RandomNumberGeneratorSeedItemProvider extends ItemProviderAdapter i
                         null));
     }
 
+    /**
+     * This adds a property descriptor for the Common Random Numbers feature. <!-- begin-user-doc
+     * --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected void addCommonRandomNumbersPropertyDescriptor(final Object object) {
+        this.itemPropertyDescriptors
+                .add(this.createItemPropertyDescriptor(
+                        ((ComposeableAdapterFactory) this.adapterFactory).getRootAdapterFactory(),
+                        this.getResourceLocator(),
+                        this.getString("_UI_RandomNumberGeneratorSeed_commonRandomNumbers_feature"),
+                        this.getString("_UI_PropertyDescriptor_description",
+                                "_UI_RandomNumberGeneratorSeed_commonRandomNumbers_feature",
+                                "_UI_RandomNumberGeneratorSeed_type"),
+                        AbstractsimulationPackage.Literals.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS,
+                        true,
+                        false,
+                        false,
+                        ItemPropertyDescriptor.BOOLEAN_VALUE_IMAGE,
+                        null,
+                        null));
+    }
+
     /**
      * This returns RandomNumberGeneratorSeed.gif. <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -254,6 +279,7 @@ public class RandomNumberGeneratorSeedItemProvider extends ItemProviderAdapter i
         case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__SEED3:
         case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__SEED4:
         case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__SEED5:
+        case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS:
             this.fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
             return;
         }
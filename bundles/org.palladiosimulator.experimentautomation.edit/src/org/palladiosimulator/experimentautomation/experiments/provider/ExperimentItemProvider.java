@@ -301,12 +301,36 @@ public class ExperimentItemProvider extends ItemProviderAdapter implements IEdit
         newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__STOP_CONDITIONS,
                 AbstractsimulationFactory.eINSTANCE.createSimTimeStopCondition()));
 
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__STOP_CONDITIONS,
+                AbstractsimulationFactory.eINSTANCE.createConfidenceStopCondition()));
+
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__STOP_CONDITIONS,
+                AbstractsimulationFactory.eINSTANCE.createWallClockStopCondition()));
+
         newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
                 ExperimentsFactory.eINSTANCE.createFullFactorialDesign()));
 
         newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
                 ExperimentsFactory.eINSTANCE.createOneFactorAtATime()));
 
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
+                ExperimentsFactory.eINSTANCE.createPlacketBurmanDesign()));
+
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
+                ExperimentsFactory.eINSTANCE.createFractionalFactorialDesign()));
+
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
+                ExperimentsFactory.eINSTANCE.createLatinHypercubeDesign()));
+
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
+                ExperimentsFactory.eINSTANCE.createAdaptiveDesign()));
+
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
+                ExperimentsFactory.eINSTANCE.createScreeningDesign()));
+
+        newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__EXPERIMENT_DESIGN,
+                ExperimentsFactory.eINSTANCE.createMorrisDesign()));
+
         newChildDescriptors.add(this.createChildParameter(ExperimentsPackage.Literals.EXPERIMENT__RESPONSE_MEASUREMENT,
                 ExperimentsFactory.eINSTANCE.createSimulationDurationMeasurement()));
 
@@ -594,6 +594,106 @@ public class ExperimentsItemProviderAdapterFactory extends ExperimentsAdapterFac
         return this.schedulingPolicy2DelayModificationItemProvider;
     }
 
+    /**
+     * This keeps track of the one adapter used for all
+     * {@link org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign}
+     * instances. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected LatinHypercubeDesignItemProvider latinHypercubeDesignItemProvider;
+
+    /**
+     * This creates an adapter for a
+     * {@link org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign}. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Adapter createLatinHypercubeDesignAdapter() {
+        if (this.latinHypercubeDesignItemProvider == null) {
+            this.latinHypercubeDesignItemProvider = new LatinHypercubeDesignItemProvider(this);
+        }
+
+        return this.latinHypercubeDesignItemProvider;
+    }
+
+    /**
+     * This keeps track of the one adapter used for all
+     * {@link org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign}
+     * instances. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected AdaptiveDesignItemProvider adaptiveDesignItemProvider;
+
+    /**
+     * This creates an adapter for a
+     * {@link org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign}. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Adapter createAdaptiveDesignAdapter() {
+        if (this.adaptiveDesignItemProvider == null) {
+            this.adaptiveDesignItemProvider = new AdaptiveDesignItemProvider(this);
+        }
+
+        return this.adaptiveDesignItemProvider;
+    }
+
+    /**
+     * This keeps track of the one adapter used for all
+     * {@link org.palladiosimulator.experimentautomation.experiments.ScreeningDesign}
+     * instances. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected ScreeningDesignItemProvider screeningDesignItemProvider;
+
+    /**
+     * This creates an adapter for a
+     * {@link org.palladiosimulator.experimentautomation.experiments.ScreeningDesign}. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Adapter createScreeningDesignAdapter() {
+        if (this.screeningDesignItemProvider == null) {
+            this.screeningDesignItemProvider = new ScreeningDesignItemProvider(this);
+        }
+
+        return this.screeningDesignItemProvider;
+    }
+
+    /**
+     * This keeps track of the one adapter used for all
+     * {@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign}
+     * instances. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected MorrisDesignItemProvider morrisDesignItemProvider;
+
+    /**
+     * This creates an adapter for a
+     * {@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign}. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Adapter createMorrisDesignAdapter() {
+        if (this.morrisDesignItemProvider == null) {
+            this.morrisDesignItemProvider = new MorrisDesignItemProvider(this);
+        }
+
+        return this.morrisDesignItemProvider;
+    }
+
     /**
      * This returns the root adapter factory that contains this factory. <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -786,6 +886,18 @@ public class ExperimentsItemProviderAdapterFactory extends ExperimentsAdapterFac
         if (this.schedulingPolicy2DelayModificationItemProvider != null) {
             this.schedulingPolicy2DelayModificationItemProvider.dispose();
         }
+        if (this.latinHypercubeDesignItemProvider != null) {
+            this.latinHypercubeDesignItemProvider.dispose();
+        }
+        if (this.adaptiveDesignItemProvider != null) {
+            this.adaptiveDesignItemProvider.dispose();
+        }
+        if (this.screeningDesignItemProvider != null) {
+            this.screeningDesignItemProvider.dispose();
+        }
+        if (this.morrisDesignItemProvider != null) {
+            this.morrisDesignItemProvider.dispose();
+        }
     }
 
 }
@@ -68,6 +68,7 @@ public class VariationItemProvider extends ItemProviderAdapter implements IEditi
             this.addMaxVariationsPropertyDescriptor(object);
             this.addVariedObjectIdPropertyDescriptor(object);
             this.addNamePropertyDescriptor(object);
+            this.addMonotonicityPropertyDescriptor(object);
         }
         return this.itemPropertyDescriptors;
     }
@@ -210,6 +211,29 @@ public class VariationItemProvider extends ItemProviderAdapter implements IEditi
                         null));
     }
 
+    /**
+     * This adds a property descriptor for the Monotonicity feature. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @generated
+     */
+    protected void addMonotonicityPropertyDescriptor(final Object object) {
+        this.itemPropertyDescriptors
+                .add(this.createItemPropertyDescriptor(
+                        ((ComposeableAdapterFactory) this.adapterFactory).getRootAdapterFactory(),
+                        this.getResourceLocator(),
+                        this.getString("_UI_Variation_monotonicity_feature"),
+                        this.getString("_UI_PropertyDescriptor_description", "_UI_Variation_monotonicity_feature",
+                                "_UI_Variation_type"),
+                        ExperimentsPackage.Literals.VARIATION__MONOTONICITY,
+                        true,
+                        false,
+                        false,
+                        ItemPropertyDescriptor.GENERIC_VALUE_IMAGE,
+                        null,
+                        null));
+    }
+
     /**
      * This specifies how to implement {@link #getChildren} and is used to deduce an appropriate
      * feature for an {@link org.eclipse.emf.edit.command.AddCommand},
@@ -281,6 +305,7 @@ public class VariationItemProvider extends ItemProviderAdapter implements IEditi
         case ExperimentsPackage.VARIATION__MAX_VARIATIONS:
         case ExperimentsPackage.VARIATION__VARIED_OBJECT_ID:
         case ExperimentsPackage.VARIATION__NAME:
+        case ExperimentsPackage.VARIATION__MONOTONICITY:
             this.fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
             return;
         case ExperimentsPackage.VARIATION__VALUE_PROVIDER:
@@ -72,6 +72,24 @@ public interface AbstractsimulationFactory extends EFactory {
      */
     SimTimeStopCondition createSimTimeStopCondition();
 
+    /**
+     * Returns a new object of class '<em>Confidence Stop Condition</em>'. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @return a new object of class '<em>Confidence Stop Condition</em>'.
+     * @generated
+     */
+    ConfidenceStopCondition createConfidenceStopCondition();
+
+    /**
+     * Returns a new object of class '<em>Wall Clock Stop Condition</em>'. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @return a new object of class '<em>Wall Clock Stop Condition</em>'.
+     * @generated
+     */
+    WallClockStopCondition createWallClockStopCondition();
+
     /**
      * Returns the package supported by this factory. <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -205,6 +205,28 @@ public interface AbstractsimulationPackage extends EPackage {
      */
     int SIM_TIME_STOP_CONDITION = 6;
 
+    /**
+     * The meta object id for the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl
+     * <em>Confidence Stop Condition</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.AbstractsimulationPackageImpl#getConfidenceStopCondition()
+     * @generated
+     */
+    int CONFIDENCE_STOP_CONDITION = 8;
+
+    /**
+     * The meta object id for the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.WallClockStopConditionImpl
+     * <em>Wall Clock Stop Condition</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.WallClockStopConditionImpl
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.AbstractsimulationPackageImpl#getWallClockStopCondition()
+     * @generated
+     */
+    int WALL_CLOCK_STOP_CONDITION = 9;
+
     /**
      * The feature id for the '<em><b>Seed0</b></em>' attribute. <!-- begin-user-doc --> <!--
      * end-user-doc -->
@@ -259,6 +281,15 @@ public interface AbstractsimulationPackage extends EPackage {
      */
     int RANDOM_NUMBER_GENERATOR_SEED__SEED5 = 5;
 
+    /**
+     * The feature id for the '<em><b>Common Random Numbers</b></em>' attribute. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS = 6;
+
     /**
      * The number of structural features of the '<em>Random Number Generator Seed</em>' class. <!--
      * begin-user-doc --> <!-- end-user-doc -->
@@ -266,7 +297,7 @@ public interface AbstractsimulationPackage extends EPackage {
      * @generated
      * @ordered
      */
-    int RANDOM_NUMBER_GENERATOR_SEED_FEATURE_COUNT = 6;
+    int RANDOM_NUMBER_GENERATOR_SEED_FEATURE_COUNT = 7;
 
     /**
      * The meta object id for the
@@ -387,6 +418,69 @@ public interface AbstractsimulationPackage extends EPackage {
      */
     int SIM_TIME_STOP_CONDITION_FEATURE_COUNT = STOP_CONDITION_FEATURE_COUNT + 1;
 
+    /**
+     * The feature id for the '<em><b>Measuring Point</b></em>' reference. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int CONFIDENCE_STOP_CONDITION__MEASURING_POINT = STOP_CONDITION_FEATURE_COUNT + 0;
+
+    /**
+     * The feature id for the '<em><b>Metric</b></em>' reference. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int CONFIDENCE_STOP_CONDITION__METRIC = STOP_CONDITION_FEATURE_COUNT + 1;
+
+    /**
+     * The feature id for the '<em><b>Relative Half Width</b></em>' attribute. <!-- begin-user-doc
+     * --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH = STOP_CONDITION_FEATURE_COUNT + 2;
+
+    /**
+     * The feature id for the '<em><b>Confidence Level</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL = STOP_CONDITION_FEATURE_COUNT + 3;
+
+    /**
+     * The number of structural features of the '<em>Confidence Stop Condition</em>' class. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int CONFIDENCE_STOP_CONDITION_FEATURE_COUNT = STOP_CONDITION_FEATURE_COUNT + 4;
+
+    /**
+     * The feature id for the '<em><b>Wall Clock Time</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME = STOP_CONDITION_FEATURE_COUNT + 0;
+
+    /**
+     * The number of structural features of the '<em>Wall Clock Stop Condition</em>' class. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int WALL_CLOCK_STOP_CONDITION_FEATURE_COUNT = STOP_CONDITION_FEATURE_COUNT + 1;
+
     /**
      * Returns the meta object for class
      * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration
@@ -542,6 +636,18 @@ public interface AbstractsimulationPackage extends EPackage {
      */
     EAttribute getRandomNumberGeneratorSeed_Seed5();
 
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed#isCommonRandomNumbers
+     * <em>Common Random Numbers</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Common Random Numbers</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed#isCommonRandomNumbers()
+     * @see #getRandomNumberGeneratorSeed()
+     * @generated
+     */
+    EAttribute getRandomNumberGeneratorSeed_CommonRandomNumbers();
+
     /**
      * Returns the meta object for class
      * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.EDP2Datasource <em>EDP2
@@ -645,6 +751,88 @@ public interface AbstractsimulationPackage extends EPackage {
      */
     EAttribute getSimTimeStopCondition_SimulationTime();
 
+    /**
+     * Returns the meta object for class
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition
+     * <em>Confidence Stop Condition</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for class '<em>Confidence Stop Condition</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition
+     * @generated
+     */
+    EClass getConfidenceStopCondition();
+
+    /**
+     * Returns the meta object for the reference
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMeasuringPoint
+     * <em>Measuring Point</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the reference '<em>Measuring Point</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMeasuringPoint()
+     * @see #getConfidenceStopCondition()
+     * @generated
+     */
+    EReference getConfidenceStopCondition_MeasuringPoint();
+
+    /**
+     * Returns the meta object for the reference
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMetric
+     * <em>Metric</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the reference '<em>Metric</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMetric()
+     * @see #getConfidenceStopCondition()
+     * @generated
+     */
+    EReference getConfidenceStopCondition_Metric();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getRelativeHalfWidth
+     * <em>Relative Half Width</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Relative Half Width</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getRelativeHalfWidth()
+     * @see #getConfidenceStopCondition()
+     * @generated
+     */
+    EAttribute getConfidenceStopCondition_RelativeHalfWidth();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getConfidenceLevel
+     * <em>Confidence Level</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Confidence Level</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getConfidenceLevel()
+     * @see #getConfidenceStopCondition()
+     * @generated
+     */
+    EAttribute getConfidenceStopCondition_ConfidenceLevel();
+
+    /**
+     * Returns the meta object for class
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition
+     * <em>Wall Clock Stop Condition</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for class '<em>Wall Clock Stop Condition</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition
+     * @generated
+     */
+    EClass getWallClockStopCondition();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition#getWallClockTime
+     * <em>Wall Clock Time</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Wall Clock Time</em>'.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition#getWallClockTime()
+     * @see #getWallClockStopCondition()
+     * @generated
+     */
+    EAttribute getWallClockStopCondition_WallClockTime();
+
     /**
      * Returns the meta object for class
      * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.StopCondition <em>Stop
@@ -796,6 +984,15 @@ public interface AbstractsimulationPackage extends EPackage {
          */
         EAttribute RANDOM_NUMBER_GENERATOR_SEED__SEED5 = eINSTANCE.getRandomNumberGeneratorSeed_Seed5();
 
+        /**
+         * The meta object literal for the '<em><b>Common Random Numbers</b></em>' attribute
+         * feature. <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS = eINSTANCE
+                .getRandomNumberGeneratorSeed_CommonRandomNumbers();
+
         /**
          * The meta object literal for the
          * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.EDP2DatasourceImpl
@@ -885,6 +1082,72 @@ public interface AbstractsimulationPackage extends EPackage {
          */
         EAttribute SIM_TIME_STOP_CONDITION__SIMULATION_TIME = eINSTANCE.getSimTimeStopCondition_SimulationTime();
 
+        /**
+         * The meta object literal for the
+         * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl
+         * <em>Confidence Stop Condition</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc
+         * -->
+         *
+         * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl
+         * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.AbstractsimulationPackageImpl#getConfidenceStopCondition()
+         * @generated
+         */
+        EClass CONFIDENCE_STOP_CONDITION = eINSTANCE.getConfidenceStopCondition();
+
+        /**
+         * The meta object literal for the '<em><b>Measuring Point</b></em>' reference feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EReference CONFIDENCE_STOP_CONDITION__MEASURING_POINT = eINSTANCE.getConfidenceStopCondition_MeasuringPoint();
+
+        /**
+         * The meta object literal for the '<em><b>Metric</b></em>' reference feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EReference CONFIDENCE_STOP_CONDITION__METRIC = eINSTANCE.getConfidenceStopCondition_Metric();
+
+        /**
+         * The meta object literal for the '<em><b>Relative Half Width</b></em>' attribute feature.
+         * <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH = eINSTANCE
+                .getConfidenceStopCondition_RelativeHalfWidth();
+
+        /**
+         * The meta object literal for the '<em><b>Confidence Level</b></em>' attribute feature.
+         * <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL = eINSTANCE
+                .getConfidenceStopCondition_ConfidenceLevel();
+
+        /**
+         * The meta object literal for the
+         * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.WallClockStopConditionImpl
+         * <em>Wall Clock Stop Condition</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc
+         * -->
+         *
+         * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.WallClockStopConditionImpl
+         * @see org.palladiosimulator.experimentautomation.abstractsimulation.impl.AbstractsimulationPackageImpl#getWallClockStopCondition()
+         * @generated
+         */
+        EClass WALL_CLOCK_STOP_CONDITION = eINSTANCE.getWallClockStopCondition();
+
+        /**
+         * The meta object literal for the '<em><b>Wall Clock Time</b></em>' attribute feature.
+         * <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME = eINSTANCE.getWallClockStopCondition_WallClockTime();
+
         /**
          * The meta object literal for the
          * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.StopConditionImpl
@@ -0,0 +1,153 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.abstractsimulation;
+
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.metricspec.MetricDescription;
+
+/**
+ * <!-- begin-user-doc --> A representation of the model object ' <em><b>Confidence Stop
+ * Condition</b></em>'. <!-- end-user-doc -->
+ *
+ * <p>
+ * The following features are supported:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMeasuringPoint
+ * <em>Measuring Point</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMetric
+ * <em>Metric</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getRelativeHalfWidth
+ * <em>Relative Half Width</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getConfidenceLevel
+ * <em>Confidence Level</em>}</li>
+ * </ul>
+ *
+ * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getConfidenceStopCondition()
+ * @model
+ * @generated
+ */
+public interface ConfidenceStopCondition extends StopCondition {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * Returns the value of the '<em><b>Measuring Point</b></em>' reference. <!-- begin-user-doc -->
+     * <p>
+     * If the meaning of the '<em>Measuring Point</em>' reference isn't clear, there really should
+     * be more of a description here...
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Measuring Point</em>' reference.
+     * @see #setMeasuringPoint(MeasuringPoint)
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getConfidenceStopCondition_MeasuringPoint()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    MeasuringPoint getMeasuringPoint();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMeasuringPoint
+     * <em>Measuring Point</em>}' reference. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Measuring Point</em>' reference.
+     * @see #getMeasuringPoint()
+     * @generated
+     */
+    void setMeasuringPoint(MeasuringPoint value);
+
+    /**
+     * Returns the value of the '<em><b>Metric</b></em>' reference. <!-- begin-user-doc -->
+     * <p>
+     * If the meaning of the '<em>Metric</em>' reference isn't clear, there really should be more of
+     * a description here...
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Metric</em>' reference.
+     * @see #setMetric(MetricDescription)
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getConfidenceStopCondition_Metric()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    MetricDescription getMetric();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getMetric
+     * <em>Metric</em>}' reference. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Metric</em>' reference.
+     * @see #getMetric()
+     * @generated
+     */
+    void setMetric(MetricDescription value);
+
+    /**
+     * Returns the value of the '<em><b>Relative Half Width</b></em>' attribute. <!--
+     * begin-user-doc -->
+     * <p>
+     * If the meaning of the '<em>Relative Half Width</em>' attribute isn't clear, there really
+     * should be more of a description here...
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Relative Half Width</em>' attribute.
+     * @see #setRelativeHalfWidth(double)
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getConfidenceStopCondition_RelativeHalfWidth()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    double getRelativeHalfWidth();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getRelativeHalfWidth
+     * <em>Relative Half Width</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Relative Half Width</em>' attribute.
+     * @see #getRelativeHalfWidth()
+     * @generated
+     */
+    void setRelativeHalfWidth(double value);
+
+    /**
+     * Returns the value of the '<em><b>Confidence Level</b></em>' attribute. <!-- begin-user-doc
+     * -->
+     * <p>
+     * If the meaning of the '<em>Confidence Level</em>' attribute isn't clear, there really should
+     * be more of a description here...
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Confidence Level</em>' attribute.
+     * @see #setConfidenceLevel(double)
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getConfidenceStopCondition_ConfidenceLevel()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    double getConfidenceLevel();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition#getConfidenceLevel
+     * <em>Confidence Level</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Confidence Level</em>' attribute.
+     * @see #getConfidenceLevel()
+     * @generated
+     */
+    void setConfidenceLevel(double value);
+
+} // ConfidenceStopCondition
@@ -24,6 +24,8 @@ import org.eclipse.emf.cdo.CDOObject;
  * <em>Seed4</em>}</li>
  * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed#getSeed5
  * <em>Seed5</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed#isCommonRandomNumbers
+ * <em>Common Random Numbers</em>}</li>
  * </ul>
  *
  * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getRandomNumberGeneratorSeed()
@@ -208,4 +210,33 @@ public interface RandomNumberGeneratorSeed extends CDOObject {
      */
     void setSeed5(int value);
 
+    /**
+     * Returns the value of the '<em><b>Common Random Numbers</b></em>' attribute. The default value
+     * is <code>"true"</code>. <!-- begin-user-doc -->
+     * <p>
+     * Whether all design points of an experiment use the same seed stream in the same repetition.
+     * Otherwise, each design point uses its own seed streams.
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Common Random Numbers</em>' attribute.
+     * @see #setCommonRandomNumbers(boolean)
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getRandomNumberGeneratorSeed_CommonRandomNumbers()
+     * @model default="true" required="true" ordered="false"
+     * @generated
+     */
+    boolean isCommonRandomNumbers();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed#isCommonRandomNumbers
+     * <em>Common Random Numbers</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Common Random Numbers</em>' attribute.
+     * @see #isCommonRandomNumbers()
+     * @generated
+     */
+    void setCommonRandomNumbers(boolean value);
+
 } // RandomNumberGeneratorSeed
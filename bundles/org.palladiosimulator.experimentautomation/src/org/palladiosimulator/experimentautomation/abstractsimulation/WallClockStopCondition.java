@@ -0,0 +1,57 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.abstractsimulation;
+
+/**
+ * <!-- begin-user-doc --> A representation of the model object ' <em><b>Wall Clock Stop
+ * Condition</b></em>'. <!-- end-user-doc -->
+ * 
+ * <p>
+ * The following features are supported:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition#getWallClockTime
+ * <em>Wall Clock Time</em>}</li>
+ * </ul>
+ * 
+ * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getWallClockStopCondition()
+ * @model
+ * @generated
+ */
+public interface WallClockStopCondition extends StopCondition {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * Returns the value of the '<em><b>Wall Clock Time</b></em>' attribute. <!-- begin-user-doc -->
+     * <p>
+     * The real time in seconds an analysis run may take, regardless of its simulated time.
+     * </p>
+     * <!-- end-user-doc -->
+     * 
+     * @return the value of the '<em>Wall Clock Time</em>' attribute.
+     * @see #setWallClockTime(int)
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage#getWallClockStopCondition_WallClockTime()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    int getWallClockTime();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition#getWallClockTime
+     * <em>Wall Clock Time</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @param value
+     *            the new value of the '<em>Wall Clock Time</em>' attribute.
+     * @see #getWallClockTime()
+     * @generated
+     */
+    void setWallClockTime(int value);
+
+} // WallClockStopCondition
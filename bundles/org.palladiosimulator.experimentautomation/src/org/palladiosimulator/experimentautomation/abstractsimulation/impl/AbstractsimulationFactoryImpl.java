@@ -9,11 +9,13 @@ import org.eclipse.emf.ecore.impl.EFactoryImpl;
 import org.eclipse.emf.ecore.plugin.EcorePlugin;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationFactory;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.FileDatasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.MeasurementCountStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.MemoryDatasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed;
 import org.palladiosimulator.experimentautomation.abstractsimulation.SimTimeStopCondition;
+import org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition;
 
 /**
  * <!-- begin-user-doc --> An implementation of the model <b>Factory</b>. <!-- end-user-doc -->
@@ -74,6 +76,10 @@ public class AbstractsimulationFactoryImpl extends EFactoryImpl implements Abstr
             return this.createMeasurementCountStopCondition();
         case AbstractsimulationPackage.SIM_TIME_STOP_CONDITION:
             return this.createSimTimeStopCondition();
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION:
+            return this.createConfidenceStopCondition();
+        case AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION:
+            return this.createWallClockStopCondition();
         default:
             throw new IllegalArgumentException("The class '" + eClass.getName() + "' is not a valid classifier");
         }
@@ -134,6 +140,28 @@ public class AbstractsimulationFactoryImpl extends EFactoryImpl implements Abstr
         return simTimeStopCondition;
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public ConfidenceStopCondition createConfidenceStopCondition() {
+        final ConfidenceStopConditionImpl confidenceStopCondition = new ConfidenceStopConditionImpl();
+        return confidenceStopCondition;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public WallClockStopCondition createWallClockStopCondition() {
+        final WallClockStopConditionImpl wallClockStopCondition = new WallClockStopConditionImpl();
+        return wallClockStopCondition;
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -14,6 +14,7 @@ import org.palladiosimulator.edp2.models.measuringpoint.MeasuringpointPackage;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationFactory;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.EDP2Datasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.FileDatasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.MeasurementCountStopCondition;
@@ -21,6 +22,7 @@ import org.palladiosimulator.experimentautomation.abstractsimulation.MemoryDatas
 import org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed;
 import org.palladiosimulator.experimentautomation.abstractsimulation.SimTimeStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.StopCondition;
+import org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
 import org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl;
 import org.palladiosimulator.experimentautomation.variation.VariationPackage;
@@ -107,6 +109,20 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
      */
     private EClass stopConditionEClass = null;
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private EClass confidenceStopConditionEClass = null;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private EClass wallClockStopConditionEClass = null;
+
     /**
      * Creates an instance of the model <b>Package</b>, registered with
      * {@link org.eclipse.emf.ecore.EPackage.Registry EPackage.Registry} by the package package URI
@@ -333,6 +349,16 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         return (EAttribute) this.randomNumberGeneratorSeedEClass.getEStructuralFeatures().get(5);
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getRandomNumberGeneratorSeed_CommonRandomNumbers() {
+        return (EAttribute) this.randomNumberGeneratorSeedEClass.getEStructuralFeatures().get(6);
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -433,6 +459,76 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         return this.stopConditionEClass;
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EClass getConfidenceStopCondition() {
+        return this.confidenceStopConditionEClass;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EReference getConfidenceStopCondition_MeasuringPoint() {
+        return (EReference) this.confidenceStopConditionEClass.getEStructuralFeatures().get(0);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EReference getConfidenceStopCondition_Metric() {
+        return (EReference) this.confidenceStopConditionEClass.getEStructuralFeatures().get(1);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getConfidenceStopCondition_RelativeHalfWidth() {
+        return (EAttribute) this.confidenceStopConditionEClass.getEStructuralFeatures().get(2);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getConfidenceStopCondition_ConfidenceLevel() {
+        return (EAttribute) this.confidenceStopConditionEClass.getEStructuralFeatures().get(3);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EClass getWallClockStopCondition() {
+        return this.wallClockStopConditionEClass;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getWallClockStopCondition_WallClockTime() {
+        return (EAttribute) this.wallClockStopConditionEClass.getEStructuralFeatures().get(0);
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -482,6 +578,8 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         this.createEAttribute(this.randomNumberGeneratorSeedEClass, RANDOM_NUMBER_GENERATOR_SEED__SEED3);
         this.createEAttribute(this.randomNumberGeneratorSeedEClass, RANDOM_NUMBER_GENERATOR_SEED__SEED4);
         this.createEAttribute(this.randomNumberGeneratorSeedEClass, RANDOM_NUMBER_GENERATOR_SEED__SEED5);
+        this.createEAttribute(this.randomNumberGeneratorSeedEClass,
+                RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS);
 
         this.edp2DatasourceEClass = this.createEClass(EDP2_DATASOURCE);
         this.createEAttribute(this.edp2DatasourceEClass, EDP2_DATASOURCE__ID);
@@ -499,6 +597,15 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         this.createEAttribute(this.simTimeStopConditionEClass, SIM_TIME_STOP_CONDITION__SIMULATION_TIME);
 
         this.stopConditionEClass = this.createEClass(STOP_CONDITION);
+
+        this.confidenceStopConditionEClass = this.createEClass(CONFIDENCE_STOP_CONDITION);
+        this.createEReference(this.confidenceStopConditionEClass, CONFIDENCE_STOP_CONDITION__MEASURING_POINT);
+        this.createEReference(this.confidenceStopConditionEClass, CONFIDENCE_STOP_CONDITION__METRIC);
+        this.createEAttribute(this.confidenceStopConditionEClass, CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH);
+        this.createEAttribute(this.confidenceStopConditionEClass, CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL);
+
+        this.wallClockStopConditionEClass = this.createEClass(WALL_CLOCK_STOP_CONDITION);
+        this.createEAttribute(this.wallClockStopConditionEClass, WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME);
     }
 
     /**
@@ -528,6 +635,10 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         // Obtain other dependent packages
         final ExperimentsPackage theExperimentsPackage = (ExperimentsPackage) EPackage.Registry.INSTANCE
                 .getEPackage(ExperimentsPackage.eNS_URI);
+        final MeasuringpointPackage theMeasuringpointPackage = (MeasuringpointPackage) EPackage.Registry.INSTANCE
+                .getEPackage(MeasuringpointPackage.eNS_URI);
+        final MetricSpecPackage theMetricSpecPackage = (MetricSpecPackage) EPackage.Registry.INSTANCE
+                .getEPackage(MetricSpecPackage.eNS_URI);
 
         // Create type parameters
 
@@ -539,6 +650,8 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         this.fileDatasourceEClass.getESuperTypes().add(this.getEDP2Datasource());
         this.measurementCountStopConditionEClass.getESuperTypes().add(this.getStopCondition());
         this.simTimeStopConditionEClass.getESuperTypes().add(this.getStopCondition());
+        this.confidenceStopConditionEClass.getESuperTypes().add(this.getStopCondition());
+        this.wallClockStopConditionEClass.getESuperTypes().add(this.getStopCondition());
 
         // Initialize classes and features; add operations and parameters
         this.initEClass(this.abstractSimulationConfigurationEClass, AbstractSimulationConfiguration.class,
@@ -583,6 +696,9 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         this.initEAttribute(this.getRandomNumberGeneratorSeed_Seed5(), this.ecorePackage.getEInt(), "seed5", null, 1, 1,
                 RandomNumberGeneratorSeed.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_UNSETTABLE, !IS_ID,
                 IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+        this.initEAttribute(this.getRandomNumberGeneratorSeed_CommonRandomNumbers(), this.ecorePackage.getEBoolean(),
+                "commonRandomNumbers", "true", 1, 1, RandomNumberGeneratorSeed.class, !IS_TRANSIENT, !IS_VOLATILE,
+                IS_CHANGEABLE, !IS_UNSETTABLE, !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
 
         this.initEClass(this.edp2DatasourceEClass, EDP2Datasource.class, "EDP2Datasource", IS_ABSTRACT, !IS_INTERFACE,
                 IS_GENERATED_INSTANCE_CLASS);
@@ -618,6 +734,29 @@ public class AbstractsimulationPackageImpl extends EPackageImpl implements Abstr
         this.initEClass(this.stopConditionEClass, StopCondition.class, "StopCondition", IS_ABSTRACT, !IS_INTERFACE,
                 IS_GENERATED_INSTANCE_CLASS);
 
+        this.initEClass(this.confidenceStopConditionEClass, ConfidenceStopCondition.class,
+                "ConfidenceStopCondition", !IS_ABSTRACT, !IS_INTERFACE, IS_GENERATED_INSTANCE_CLASS);
+        this.initEReference(this.getConfidenceStopCondition_MeasuringPoint(),
+                theMeasuringpointPackage.getMeasuringPoint(), null, "measuringPoint", null, 1, 1,
+                ConfidenceStopCondition.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_COMPOSITE,
+                IS_RESOLVE_PROXIES, !IS_UNSETTABLE, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+        this.initEReference(this.getConfidenceStopCondition_Metric(), theMetricSpecPackage.getMetricDescription(),
+                null, "metric", null, 1, 1, ConfidenceStopCondition.class, !IS_TRANSIENT, !IS_VOLATILE,
+                IS_CHANGEABLE, !IS_COMPOSITE, IS_RESOLVE_PROXIES, !IS_UNSETTABLE, IS_UNIQUE, !IS_DERIVED,
+                !IS_ORDERED);
+        this.initEAttribute(this.getConfidenceStopCondition_RelativeHalfWidth(), this.ecorePackage.getEDouble(),
+                "relativeHalfWidth", null, 1, 1, ConfidenceStopCondition.class, !IS_TRANSIENT, !IS_VOLATILE,
+                IS_CHANGEABLE, !IS_UNSETTABLE, !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+        this.initEAttribute(this.getConfidenceStopCondition_ConfidenceLevel(), this.ecorePackage.getEDouble(),
+                "confidenceLevel", null, 1, 1, ConfidenceStopCondition.class, !IS_TRANSIENT, !IS_VOLATILE,
+                IS_CHANGEABLE, !IS_UNSETTABLE, !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+
+        this.initEClass(this.wallClockStopConditionEClass, WallClockStopCondition.class, "WallClockStopCondition",
+                !IS_ABSTRACT, !IS_INTERFACE, IS_GENERATED_INSTANCE_CLASS);
+        this.initEAttribute(this.getWallClockStopCondition_WallClockTime(), this.ecorePackage.getEInt(),
+                "wallClockTime", null, 1, 1, WallClockStopCondition.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE,
+                !IS_UNSETTABLE, !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+
         // Create resource
         this.createResource(eNS_URI);
     }
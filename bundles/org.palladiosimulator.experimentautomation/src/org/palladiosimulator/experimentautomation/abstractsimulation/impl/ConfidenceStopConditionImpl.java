@@ -0,0 +1,279 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.abstractsimulation.impl;
+
+import org.eclipse.emf.ecore.EClass;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition;
+import org.palladiosimulator.metricspec.MetricDescription;
+
+/**
+ * <!-- begin-user-doc --> An implementation of the model object ' <em><b>Confidence Stop
+ * Condition</b></em>'. <!-- end-user-doc -->
+ * <p>
+ * The following features are implemented:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl#getMeasuringPoint
+ * <em>Measuring Point</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl#getMetric
+ * <em>Metric</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl#getRelativeHalfWidth
+ * <em>Relative Half Width</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.ConfidenceStopConditionImpl#getConfidenceLevel
+ * <em>Confidence Level</em>}</li>
+ * </ul>
+ *
+ * @generated
+ */
+public class ConfidenceStopConditionImpl extends StopConditionImpl implements ConfidenceStopCondition {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+    /**
+     * The default value of the '{@link #getRelativeHalfWidth() <em>Relative Half Width</em>}'
+     * attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getRelativeHalfWidth()
+     * @generated
+     * @ordered
+     */
+    protected static final double RELATIVE_HALF_WIDTH_EDEFAULT = 0.0;
+    /**
+     * The default value of the '{@link #getConfidenceLevel() <em>Confidence Level</em>}'
+     * attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getConfidenceLevel()
+     * @generated
+     * @ordered
+     */
+    protected static final double CONFIDENCE_LEVEL_EDEFAULT = 0.0;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected ConfidenceStopConditionImpl() {
+        super();
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    protected EClass eStaticClass() {
+        return AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public MeasuringPoint getMeasuringPoint() {
+        return (MeasuringPoint) this.eDynamicGet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__MEASURING_POINT,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__MEASURING_POINT, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public MeasuringPoint basicGetMeasuringPoint() {
+        return (MeasuringPoint) this.eDynamicGet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__MEASURING_POINT,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__MEASURING_POINT, false, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setMeasuringPoint(final MeasuringPoint newMeasuringPoint) {
+        this.eDynamicSet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__MEASURING_POINT,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__MEASURING_POINT, newMeasuringPoint);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public MetricDescription getMetric() {
+        return (MetricDescription) this.eDynamicGet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__METRIC,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__METRIC, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public MetricDescription basicGetMetric() {
+        return (MetricDescription) this.eDynamicGet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__METRIC,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__METRIC, false, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setMetric(final MetricDescription newMetric) {
+        this.eDynamicSet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__METRIC,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__METRIC, newMetric);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public double getRelativeHalfWidth() {
+        return (Double) this.eDynamicGet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setRelativeHalfWidth(final double newRelativeHalfWidth) {
+        this.eDynamicSet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH,
+                newRelativeHalfWidth);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public double getConfidenceLevel() {
+        return (Double) this.eDynamicGet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setConfidenceLevel(final double newConfidenceLevel) {
+        this.eDynamicSet(AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL,
+                AbstractsimulationPackage.Literals.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL, newConfidenceLevel);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Object eGet(final int featureID, final boolean resolve, final boolean coreType) {
+        switch (featureID) {
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__MEASURING_POINT:
+            if (resolve) {
+                return this.getMeasuringPoint();
+            }
+            return this.basicGetMeasuringPoint();
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__METRIC:
+            if (resolve) {
+                return this.getMetric();
+            }
+            return this.basicGetMetric();
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH:
+            return this.getRelativeHalfWidth();
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL:
+            return this.getConfidenceLevel();
+        }
+        return super.eGet(featureID, resolve, coreType);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eSet(final int featureID, final Object newValue) {
+        switch (featureID) {
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__MEASURING_POINT:
+            this.setMeasuringPoint((MeasuringPoint) newValue);
+            return;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__METRIC:
+            this.setMetric((MetricDescription) newValue);
+            return;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH:
+            this.setRelativeHalfWidth((Double) newValue);
+            return;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL:
+            this.setConfidenceLevel((Double) newValue);
+            return;
+        }
+        super.eSet(featureID, newValue);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eUnset(final int featureID) {
+        switch (featureID) {
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__MEASURING_POINT:
+            this.setMeasuringPoint((MeasuringPoint) null);
+            return;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__METRIC:
+            this.setMetric((MetricDescription) null);
+            return;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH:
+            this.setRelativeHalfWidth(RELATIVE_HALF_WIDTH_EDEFAULT);
+            return;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL:
+            this.setConfidenceLevel(CONFIDENCE_LEVEL_EDEFAULT);
+            return;
+        }
+        super.eUnset(featureID);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public boolean eIsSet(final int featureID) {
+        switch (featureID) {
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__MEASURING_POINT:
+            return this.basicGetMeasuringPoint() != null;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__METRIC:
+            return this.basicGetMetric() != null;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__RELATIVE_HALF_WIDTH:
+            return this.getRelativeHalfWidth() != RELATIVE_HALF_WIDTH_EDEFAULT;
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION__CONFIDENCE_LEVEL:
+            return this.getConfidenceLevel() != CONFIDENCE_LEVEL_EDEFAULT;
+        }
+        return super.eIsSet(featureID);
+    }
+
+} // ConfidenceStopConditionImpl
@@ -26,6 +26,8 @@ import org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumbe
  * <em>Seed4</em>}</li>
  * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.RandomNumberGeneratorSeedImpl#getSeed5
  * <em>Seed5</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.RandomNumberGeneratorSeedImpl#isCommonRandomNumbers
+ * <em>Common Random Numbers</em>}</li>
  * </ul>
  *
  * @generated
@@ -99,6 +101,16 @@ public class RandomNumberGeneratorSeedImpl extends CDOObjectImpl implements Rand
      */
     protected static final int SEED5_EDEFAULT = 0;
 
+    /**
+     * The default value of the '{@link #isCommonRandomNumbers() <em>Common Random Numbers</em>}'
+     * attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #isCommonRandomNumbers()
+     * @generated
+     * @ordered
+     */
+    protected static final boolean COMMON_RANDOM_NUMBERS_EDEFAULT = true;
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -260,6 +272,30 @@ public class RandomNumberGeneratorSeedImpl extends CDOObjectImpl implements Rand
                 AbstractsimulationPackage.Literals.RANDOM_NUMBER_GENERATOR_SEED__SEED5, newSeed5);
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public boolean isCommonRandomNumbers() {
+        return (Boolean) this.eDynamicGet(
+                AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS,
+                AbstractsimulationPackage.Literals.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setCommonRandomNumbers(final boolean newCommonRandomNumbers) {
+        this.eDynamicSet(AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS,
+                AbstractsimulationPackage.Literals.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS,
+                newCommonRandomNumbers);
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -280,6 +316,8 @@ public class RandomNumberGeneratorSeedImpl extends CDOObjectImpl implements Rand
             return this.getSeed4();
         case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__SEED5:
             return this.getSeed5();
+        case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS:
+            return this.isCommonRandomNumbers();
         }
         return super.eGet(featureID, resolve, coreType);
     }
@@ -310,6 +348,9 @@ public class RandomNumberGeneratorSeedImpl extends CDOObjectImpl implements Rand
         case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__SEED5:
             this.setSeed5((Integer) newValue);
             return;
+        case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS:
+            this.setCommonRandomNumbers((Boolean) newValue);
+            return;
         }
         super.eSet(featureID, newValue);
     }
@@ -340,6 +381,9 @@ public class RandomNumberGeneratorSeedImpl extends CDOObjectImpl implements Rand
         case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__SEED5:
             this.setSeed5(SEED5_EDEFAULT);
             return;
+        case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS:
+            this.setCommonRandomNumbers(COMMON_RANDOM_NUMBERS_EDEFAULT);
+            return;
         }
         super.eUnset(featureID);
     }
@@ -364,6 +408,8 @@ public class RandomNumberGeneratorSeedImpl extends CDOObjectImpl implements Rand
             return this.getSeed4() != SEED4_EDEFAULT;
         case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__SEED5:
             return this.getSeed5() != SEED5_EDEFAULT;
+        case AbstractsimulationPackage.RANDOM_NUMBER_GENERATOR_SEED__COMMON_RANDOM_NUMBERS:
+            return this.isCommonRandomNumbers() != COMMON_RANDOM_NUMBERS_EDEFAULT;
         }
         return super.eIsSet(featureID);
     }
@@ -0,0 +1,139 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.abstractsimulation.impl;
+
+import org.eclipse.emf.ecore.EClass;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition;
+
+/**
+ * <!-- begin-user-doc --> An implementation of the model object ' <em><b>Wall Clock Stop
+ * Condition</b></em>'. <!-- end-user-doc -->
+ * <p>
+ * The following features are implemented:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.abstractsimulation.impl.WallClockStopConditionImpl#getWallClockTime
+ * <em>Wall Clock Time</em>}</li>
+ * </ul>
+ * 
+ * @generated
+ */
+public class WallClockStopConditionImpl extends StopConditionImpl implements WallClockStopCondition {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+    /**
+     * The default value of the '{@link #getWallClockTime() <em>Wall Clock Time</em>}' attribute.
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @see #getWallClockTime()
+     * @generated
+     * @ordered
+     */
+    protected static final int WALL_CLOCK_TIME_EDEFAULT = 0;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    protected WallClockStopConditionImpl() {
+        super();
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    @Override
+    protected EClass eStaticClass() {
+        return AbstractsimulationPackage.Literals.WALL_CLOCK_STOP_CONDITION;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    @Override
+    public int getWallClockTime() {
+        return (Integer) this.eDynamicGet(AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME,
+                AbstractsimulationPackage.Literals.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    @Override
+    public void setWallClockTime(final int newWallClockTime) {
+        this.eDynamicSet(AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME,
+                AbstractsimulationPackage.Literals.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME, newWallClockTime);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    @Override
+    public Object eGet(final int featureID, final boolean resolve, final boolean coreType) {
+        switch (featureID) {
+        case AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME:
+            return this.getWallClockTime();
+        }
+        return super.eGet(featureID, resolve, coreType);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    @Override
+    public void eSet(final int featureID, final Object newValue) {
+        switch (featureID) {
+        case AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME:
+            this.setWallClockTime((Integer) newValue);
+            return;
+        }
+        super.eSet(featureID, newValue);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    @Override
+    public void eUnset(final int featureID) {
+        switch (featureID) {
+        case AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME:
+            this.setWallClockTime(WALL_CLOCK_TIME_EDEFAULT);
+            return;
+        }
+        super.eUnset(featureID);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     * 
+     * @generated
+     */
+    @Override
+    public boolean eIsSet(final int featureID) {
+        switch (featureID) {
+        case AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION__WALL_CLOCK_TIME:
+            return this.getWallClockTime() != WALL_CLOCK_TIME_EDEFAULT;
+        }
+        return super.eIsSet(featureID);
+    }
+
+} // WallClockStopConditionImpl
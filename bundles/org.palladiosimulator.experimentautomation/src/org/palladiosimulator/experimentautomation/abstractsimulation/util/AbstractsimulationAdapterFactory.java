@@ -8,6 +8,7 @@ import org.eclipse.emf.common.notify.impl.AdapterFactoryImpl;
 import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.EDP2Datasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.FileDatasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.MeasurementCountStopCondition;
@@ -15,6 +16,7 @@ import org.palladiosimulator.experimentautomation.abstractsimulation.MemoryDatas
 import org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed;
 import org.palladiosimulator.experimentautomation.abstractsimulation.SimTimeStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.StopCondition;
+import org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition;
 import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
 
 /**
@@ -111,6 +113,16 @@ public class AbstractsimulationAdapterFactory extends AdapterFactoryImpl {
             return AbstractsimulationAdapterFactory.this.createSimTimeStopConditionAdapter();
         }
 
+        @Override
+        public Adapter caseConfidenceStopCondition(final ConfidenceStopCondition object) {
+            return AbstractsimulationAdapterFactory.this.createConfidenceStopConditionAdapter();
+        }
+
+        @Override
+        public Adapter caseWallClockStopCondition(final WallClockStopCondition object) {
+            return AbstractsimulationAdapterFactory.this.createWallClockStopConditionAdapter();
+        }
+
         @Override
         public Adapter caseStopCondition(final StopCondition object) {
             return AbstractsimulationAdapterFactory.this.createStopConditionAdapter();
@@ -245,6 +257,36 @@ public class AbstractsimulationAdapterFactory extends AdapterFactoryImpl {
         return null;
     }
 
+    /**
+     * Creates a new adapter for an object of class
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition
+     * <em>Confidence Stop Condition</em>}'. <!-- begin-user-doc --> This default implementation
+     * returns null so that we can easily ignore cases; it's useful to ignore a case when
+     * inheritance will catch all the cases anyway. <!-- end-user-doc -->
+     *
+     * @return the new adapter.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition
+     * @generated
+     */
+    public Adapter createConfidenceStopConditionAdapter() {
+        return null;
+    }
+
+    /**
+     * Creates a new adapter for an object of class
+     * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition
+     * <em>Wall Clock Stop Condition</em>}'. <!-- begin-user-doc --> This default implementation
+     * returns null so that we can easily ignore cases; it's useful to ignore a case when
+     * inheritance will catch all the cases anyway. <!-- end-user-doc -->
+     *
+     * @return the new adapter.
+     * @see org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition
+     * @generated
+     */
+    public Adapter createWallClockStopConditionAdapter() {
+        return null;
+    }
+
     /**
      * Creates a new adapter for an object of class
      * '{@link org.palladiosimulator.experimentautomation.abstractsimulation.StopCondition <em>Stop
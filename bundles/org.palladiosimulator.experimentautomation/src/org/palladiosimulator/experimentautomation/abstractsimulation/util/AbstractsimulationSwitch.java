@@ -7,6 +7,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.util.Switch;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
+import org.palladiosimulator.experimentautomation.abstractsimulation.ConfidenceStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.EDP2Datasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.FileDatasource;
 import org.palladiosimulator.experimentautomation.abstractsimulation.MeasurementCountStopCondition;
@@ -14,6 +15,7 @@ import org.palladiosimulator.experimentautomation.abstractsimulation.MemoryDatas
 import org.palladiosimulator.experimentautomation.abstractsimulation.RandomNumberGeneratorSeed;
 import org.palladiosimulator.experimentautomation.abstractsimulation.SimTimeStopCondition;
 import org.palladiosimulator.experimentautomation.abstractsimulation.StopCondition;
+import org.palladiosimulator.experimentautomation.abstractsimulation.WallClockStopCondition;
 import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
 
 /**
@@ -147,6 +149,28 @@ public class AbstractsimulationSwitch<T> extends Switch<T> {
             }
             return result;
         }
+        case AbstractsimulationPackage.CONFIDENCE_STOP_CONDITION: {
+            final ConfidenceStopCondition confidenceStopCondition = (ConfidenceStopCondition) theEObject;
+            T result = this.caseConfidenceStopCondition(confidenceStopCondition);
+            if (result == null) {
+                result = this.caseStopCondition(confidenceStopCondition);
+            }
+            if (result == null) {
+                result = this.defaultCase(theEObject);
+            }
+            return result;
+        }
+        case AbstractsimulationPackage.WALL_CLOCK_STOP_CONDITION: {
+            final WallClockStopCondition wallClockStopCondition = (WallClockStopCondition) theEObject;
+            T result = this.caseWallClockStopCondition(wallClockStopCondition);
+            if (result == null) {
+                result = this.caseStopCondition(wallClockStopCondition);
+            }
+            if (result == null) {
+                result = this.defaultCase(theEObject);
+            }
+            return result;
+        }
         case AbstractsimulationPackage.STOP_CONDITION: {
             final StopCondition stopCondition = (StopCondition) theEObject;
             T result = this.caseStopCondition(stopCondition);
@@ -269,6 +293,38 @@ public class AbstractsimulationSwitch<T> extends Switch<T> {
         return null;
     }
 
+    /**
+     * Returns the result of interpreting the object as an instance of '<em>Confidence Stop
+     * Condition</em>'. <!-- begin-user-doc --> This implementation returns null; returning a
+     * non-null result will terminate the switch. <!-- end-user-doc -->
+     *
+     * @param object
+     *            the target of the switch.
+     * @return the result of interpreting the object as an instance of '<em>Confidence Stop
+     *         Condition</em>'.
+     * @see #doSwitch(org.eclipse.emf.ecore.EObject) doSwitch(EObject)
+     * @generated
+     */
+    public T caseConfidenceStopCondition(final ConfidenceStopCondition object) {
+        return null;
+    }
+
+    /**
+     * Returns the result of interpreting the object as an instance of '<em>Wall Clock Stop
+     * Condition</em>'. <!-- begin-user-doc --> This implementation returns null; returning a
+     * non-null result will terminate the switch. <!-- end-user-doc -->
+     *
+     * @param object
+     *            the target of the switch.
+     * @return the result of interpreting the object as an instance of '<em>Wall Clock Stop
+     *         Condition</em>'.
+     * @see #doSwitch(org.eclipse.emf.ecore.EObject) doSwitch(EObject)
+     * @generated
+     */
+    public T caseWallClockStopCondition(final WallClockStopCondition object) {
+        return null;
+    }
+
     /**
      * Returns the result of interpreting the object as an instance of '<em>Stop Condition</em>'.
      * <!-- begin-user-doc --> This implementation returns null; returning a non-null result will
@@ -0,0 +1,58 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments;
+
+/**
+ * <!-- begin-user-doc --> A representation of the model object '<em><b>Adaptive Design</b></em>'.
+ * <!-- end-user-doc -->
+ *
+ * <p>
+ * The following features are supported:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign#getMaxDesignPoints
+ * <em>Max Design Points</em>}</li>
+ * </ul>
+ *
+ * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getAdaptiveDesign()
+ * @model
+ * @generated
+ */
+public interface AdaptiveDesign extends ExperimentDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * Returns the value of the '<em><b>Max Design Points</b></em>' attribute. <!-- begin-user-doc -->
+     * <p>
+     * The maximum number of design points to be analyzed, i.e., the budget of the adaptive
+     * sampling.
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Max Design Points</em>' attribute.
+     * @see #setMaxDesignPoints(int)
+     * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getAdaptiveDesign_MaxDesignPoints()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    int getMaxDesignPoints();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign#getMaxDesignPoints
+     * <em>Max Design Points</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Max Design Points</em>' attribute.
+     * @see #getMaxDesignPoints()
+     * @generated
+     */
+    void setMaxDesignPoints(int value);
+
+} // AdaptiveDesign
@@ -207,6 +207,42 @@ public interface ExperimentsFactory extends EFactory {
      */
     SchedulingPolicy2DelayModification createSchedulingPolicy2DelayModification();
 
+    /**
+     * Returns a new object of class '<em>Latin Hypercube Design</em>'. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @return a new object of class '<em>Latin Hypercube Design</em>'.
+     * @generated
+     */
+    LatinHypercubeDesign createLatinHypercubeDesign();
+
+    /**
+     * Returns a new object of class '<em>Adaptive Design</em>'. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @return a new object of class '<em>Adaptive Design</em>'.
+     * @generated
+     */
+    AdaptiveDesign createAdaptiveDesign();
+
+    /**
+     * Returns a new object of class '<em>Screening Design</em>'. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @return a new object of class '<em>Screening Design</em>'.
+     * @generated
+     */
+    ScreeningDesign createScreeningDesign();
+
+    /**
+     * Returns a new object of class '<em>Morris Design</em>'. <!-- begin-user-doc --> <!--
+     * end-user-doc -->
+     *
+     * @return a new object of class '<em>Morris Design</em>'.
+     * @generated
+     */
+    MorrisDesign createMorrisDesign();
+
     /**
      * Returns the package supported by this factory. <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -4,6 +4,7 @@ package org.palladiosimulator.experimentautomation.experiments;
 
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnum;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 
@@ -282,6 +283,15 @@ public interface ExperimentsPackage extends EPackage {
      */
     int VARIATION__NAME = 6;
 
+    /**
+     * The feature id for the '<em><b>Monotonicity</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int VARIATION__MONOTONICITY = 7;
+
     /**
      * The number of structural features of the '<em>Variation</em>' class. <!-- begin-user-doc -->
      * <!-- end-user-doc -->
@@ -289,7 +299,7 @@ public interface ExperimentsPackage extends EPackage {
      * @generated
      * @ordered
      */
-    int VARIATION_FEATURE_COUNT = 7;
+    int VARIATION_FEATURE_COUNT = 8;
 
     /**
      * The meta object id for the
@@ -494,7 +504,7 @@ public interface ExperimentsPackage extends EPackage {
      * @generated
      * @ordered
      */
-    int PLACKET_BURMAN_DESIGN_FEATURE_COUNT = 0;
+    int PLACKET_BURMAN_DESIGN_FEATURE_COUNT = EXPERIMENT_DESIGN_FEATURE_COUNT + 0;
 
     /**
      * The meta object id for the
@@ -534,7 +544,7 @@ public interface ExperimentsPackage extends EPackage {
      * @generated
      * @ordered
      */
-    int FRACTIONAL_FACTORIAL_DESIGN_FEATURE_COUNT = 0;
+    int FRACTIONAL_FACTORIAL_DESIGN_FEATURE_COUNT = EXPERIMENT_DESIGN_FEATURE_COUNT + 0;
 
     /**
      * The meta object id for the
@@ -987,6 +997,142 @@ public interface ExperimentsPackage extends EPackage {
      */
     int SCHEDULING_POLICY2_DELAY_MODIFICATION_FEATURE_COUNT = MODIFICATION_FEATURE_COUNT + 0;
 
+    /**
+     * The meta object id for the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.impl.LatinHypercubeDesignImpl
+     * <em>Latin Hypercube Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.LatinHypercubeDesignImpl
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getLatinHypercubeDesign()
+     * @generated
+     */
+    int LATIN_HYPERCUBE_DESIGN = 25;
+
+    /**
+     * The feature id for the '<em><b>Sample Count</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT = EXPERIMENT_DESIGN_FEATURE_COUNT + 0;
+
+    /**
+     * The number of structural features of the '<em>Latin Hypercube Design</em>' class. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int LATIN_HYPERCUBE_DESIGN_FEATURE_COUNT = EXPERIMENT_DESIGN_FEATURE_COUNT + 1;
+
+    /**
+     * The meta object id for the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.impl.AdaptiveDesignImpl
+     * <em>Adaptive Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.AdaptiveDesignImpl
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getAdaptiveDesign()
+     * @generated
+     */
+    int ADAPTIVE_DESIGN = 26;
+
+    /**
+     * The feature id for the '<em><b>Max Design Points</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int ADAPTIVE_DESIGN__MAX_DESIGN_POINTS = EXPERIMENT_DESIGN_FEATURE_COUNT + 0;
+
+    /**
+     * The number of structural features of the '<em>Adaptive Design</em>' class. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int ADAPTIVE_DESIGN_FEATURE_COUNT = EXPERIMENT_DESIGN_FEATURE_COUNT + 1;
+
+    /**
+     * The meta object id for the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.impl.ScreeningDesignImpl
+     * <em>Screening Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.ScreeningDesignImpl
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getScreeningDesign()
+     * @generated
+     */
+    int SCREENING_DESIGN = 27;
+
+    /**
+     * The feature id for the '<em><b>Significance Threshold</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD = EXPERIMENT_DESIGN_FEATURE_COUNT + 0;
+
+    /**
+     * The number of structural features of the '<em>Screening Design</em>' class. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int SCREENING_DESIGN_FEATURE_COUNT = EXPERIMENT_DESIGN_FEATURE_COUNT + 1;
+
+    /**
+     * The meta object id for the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.impl.MorrisDesignImpl
+     * <em>Morris Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.MorrisDesignImpl
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getMorrisDesign()
+     * @generated
+     */
+    int MORRIS_DESIGN = 28;
+
+    /**
+     * The feature id for the '<em><b>Trajectories</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int MORRIS_DESIGN__TRAJECTORIES = EXPERIMENT_DESIGN_FEATURE_COUNT + 0;
+
+    /**
+     * The feature id for the '<em><b>Levels</b></em>' attribute. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int MORRIS_DESIGN__LEVELS = EXPERIMENT_DESIGN_FEATURE_COUNT + 1;
+
+    /**
+     * The number of structural features of the '<em>Morris Design</em>' class. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     * @ordered
+     */
+    int MORRIS_DESIGN_FEATURE_COUNT = EXPERIMENT_DESIGN_FEATURE_COUNT + 2;
+
+    /**
+     * The meta object id for the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.Monotonicity
+     * <em>Monotonicity</em>}' enum. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see org.palladiosimulator.experimentautomation.experiments.Monotonicity
+     * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getMonotonicity()
+     * @generated
+     */
+    int MONOTONICITY = 29;
+
     /**
      * Returns the meta object for class
      * '{@link org.palladiosimulator.experimentautomation.experiments.ExperimentRepository
@@ -1248,6 +1394,18 @@ public interface ExperimentsPackage extends EPackage {
      */
     EAttribute getVariation_Name();
 
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.experiments.Variation#getMonotonicity
+     * <em>Monotonicity</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Monotonicity</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.Variation#getMonotonicity()
+     * @see #getVariation()
+     * @generated
+     */
+    EAttribute getVariation_Monotonicity();
+
     /**
      * Returns the meta object for class
      * '{@link org.palladiosimulator.experimentautomation.experiments.ValueProvider <em>Value
@@ -1829,6 +1987,121 @@ public interface ExperimentsPackage extends EPackage {
      */
     EClass getSchedulingPolicy2DelayModification();
 
+    /**
+     * Returns the meta object for class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign
+     * <em>Latin Hypercube Design</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for class '<em>Latin Hypercube Design</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign
+     * @generated
+     */
+    EClass getLatinHypercubeDesign();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign#getSampleCount
+     * <em>Sample Count</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Sample Count</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign#getSampleCount()
+     * @see #getLatinHypercubeDesign()
+     * @generated
+     */
+    EAttribute getLatinHypercubeDesign_SampleCount();
+
+    /**
+     * Returns the meta object for class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign
+     * <em>Adaptive Design</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for class '<em>Adaptive Design</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign
+     * @generated
+     */
+    EClass getAdaptiveDesign();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign#getMaxDesignPoints
+     * <em>Max Design Points</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Max Design Points</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign#getMaxDesignPoints()
+     * @see #getAdaptiveDesign()
+     * @generated
+     */
+    EAttribute getAdaptiveDesign_MaxDesignPoints();
+
+    /**
+     * Returns the meta object for class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.ScreeningDesign
+     * <em>Screening Design</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for class '<em>Screening Design</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.ScreeningDesign
+     * @generated
+     */
+    EClass getScreeningDesign();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.experiments.ScreeningDesign#getSignificanceThreshold
+     * <em>Significance Threshold</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Significance Threshold</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.ScreeningDesign#getSignificanceThreshold()
+     * @see #getScreeningDesign()
+     * @generated
+     */
+    EAttribute getScreeningDesign_SignificanceThreshold();
+
+    /**
+     * Returns the meta object for class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign
+     * <em>Morris Design</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for class '<em>Morris Design</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.MorrisDesign
+     * @generated
+     */
+    EClass getMorrisDesign();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getTrajectories
+     * <em>Trajectories</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Trajectories</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getTrajectories()
+     * @see #getMorrisDesign()
+     * @generated
+     */
+    EAttribute getMorrisDesign_Trajectories();
+
+    /**
+     * Returns the meta object for the attribute
+     * '{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getLevels
+     * <em>Levels</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for the attribute '<em>Levels</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getLevels()
+     * @see #getMorrisDesign()
+     * @generated
+     */
+    EAttribute getMorrisDesign_Levels();
+
+    /**
+     * Returns the meta object for enum
+     * '{@link org.palladiosimulator.experimentautomation.experiments.Monotonicity
+     * <em>Monotonicity</em>}'. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @return the meta object for enum '<em>Monotonicity</em>'.
+     * @see org.palladiosimulator.experimentautomation.experiments.Monotonicity
+     * @generated
+     */
+    EEnum getMonotonicity();
+
     /**
      * Returns the factory that creates the instances of the model. <!-- begin-user-doc --> <!--
      * end-user-doc -->
@@ -2037,6 +2310,14 @@ public interface ExperimentsPackage extends EPackage {
          */
         EAttribute VARIATION__NAME = eINSTANCE.getVariation_Name();
 
+        /**
+         * The meta object literal for the '<em><b>Monotonicity</b></em>' attribute feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute VARIATION__MONOTONICITY = eINSTANCE.getVariation_Monotonicity();
+
         /**
          * The meta object literal for the
          * '{@link org.palladiosimulator.experimentautomation.experiments.impl.ValueProviderImpl
@@ -2514,6 +2795,101 @@ public interface ExperimentsPackage extends EPackage {
          */
         EClass SCHEDULING_POLICY2_DELAY_MODIFICATION = eINSTANCE.getSchedulingPolicy2DelayModification();
 
+        /**
+         * The meta object literal for the
+         * '{@link org.palladiosimulator.experimentautomation.experiments.impl.LatinHypercubeDesignImpl
+         * <em>Latin Hypercube Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.LatinHypercubeDesignImpl
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getLatinHypercubeDesign()
+         * @generated
+         */
+        EClass LATIN_HYPERCUBE_DESIGN = eINSTANCE.getLatinHypercubeDesign();
+
+        /**
+         * The meta object literal for the '<em><b>Sample Count</b></em>' attribute feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT = eINSTANCE.getLatinHypercubeDesign_SampleCount();
+
+        /**
+         * The meta object literal for the
+         * '{@link org.palladiosimulator.experimentautomation.experiments.impl.AdaptiveDesignImpl
+         * <em>Adaptive Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.AdaptiveDesignImpl
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getAdaptiveDesign()
+         * @generated
+         */
+        EClass ADAPTIVE_DESIGN = eINSTANCE.getAdaptiveDesign();
+
+        /**
+         * The meta object literal for the '<em><b>Max Design Points</b></em>' attribute feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute ADAPTIVE_DESIGN__MAX_DESIGN_POINTS = eINSTANCE.getAdaptiveDesign_MaxDesignPoints();
+
+        /**
+         * The meta object literal for the
+         * '{@link org.palladiosimulator.experimentautomation.experiments.impl.ScreeningDesignImpl
+         * <em>Screening Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.ScreeningDesignImpl
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getScreeningDesign()
+         * @generated
+         */
+        EClass SCREENING_DESIGN = eINSTANCE.getScreeningDesign();
+
+        /**
+         * The meta object literal for the '<em><b>Significance Threshold</b></em>' attribute feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD = eINSTANCE.getScreeningDesign_SignificanceThreshold();
+
+        /**
+         * The meta object literal for the
+         * '{@link org.palladiosimulator.experimentautomation.experiments.impl.MorrisDesignImpl
+         * <em>Morris Design</em>}' class. <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.MorrisDesignImpl
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getMorrisDesign()
+         * @generated
+         */
+        EClass MORRIS_DESIGN = eINSTANCE.getMorrisDesign();
+
+        /**
+         * The meta object literal for the '<em><b>Trajectories</b></em>' attribute feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute MORRIS_DESIGN__TRAJECTORIES = eINSTANCE.getMorrisDesign_Trajectories();
+
+        /**
+         * The meta object literal for the '<em><b>Levels</b></em>' attribute feature. <!--
+         * begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @generated
+         */
+        EAttribute MORRIS_DESIGN__LEVELS = eINSTANCE.getMorrisDesign_Levels();
+
+        /**
+         * The meta object literal for the
+         * '{@link org.palladiosimulator.experimentautomation.experiments.Monotonicity
+         * <em>Monotonicity</em>}' enum. <!-- begin-user-doc --> <!-- end-user-doc -->
+         *
+         * @see org.palladiosimulator.experimentautomation.experiments.Monotonicity
+         * @see org.palladiosimulator.experimentautomation.experiments.impl.ExperimentsPackageImpl#getMonotonicity()
+         * @generated
+         */
+        EEnum MONOTONICITY = eINSTANCE.getMonotonicity();
+
     }
 
 } // ExperimentsPackage
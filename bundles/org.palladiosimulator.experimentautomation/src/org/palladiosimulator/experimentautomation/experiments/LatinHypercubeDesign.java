@@ -0,0 +1,58 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments;
+
+/**
+ * <!-- begin-user-doc --> A representation of the model object '<em><b>Latin Hypercube
+ * Design</b></em>'. <!-- end-user-doc -->
+ *
+ * <p>
+ * The following features are supported:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign#getSampleCount
+ * <em>Sample Count</em>}</li>
+ * </ul>
+ *
+ * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getLatinHypercubeDesign()
+ * @model
+ * @generated
+ */
+public interface LatinHypercubeDesign extends ExperimentDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * Returns the value of the '<em><b>Sample Count</b></em>' attribute. <!-- begin-user-doc -->
+     * <p>
+     * The number of design points, i.e., of factor vectors sampled within the minimum and maximum
+     * value of each variation.
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Sample Count</em>' attribute.
+     * @see #setSampleCount(int)
+     * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getLatinHypercubeDesign_SampleCount()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    int getSampleCount();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign#getSampleCount
+     * <em>Sample Count</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Sample Count</em>' attribute.
+     * @see #getSampleCount()
+     * @generated
+     */
+    void setSampleCount(int value);
+
+} // LatinHypercubeDesign
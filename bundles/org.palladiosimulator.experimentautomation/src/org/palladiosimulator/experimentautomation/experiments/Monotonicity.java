@@ -0,0 +1,243 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.Enumerator;
+
+/**
+ * <!-- begin-user-doc --> A representation of the literals of the enumeration
+ * '<em><b>Monotonicity</b></em>', and utility methods for working with them. <!-- end-user-doc
+ * -->
+ * <!-- begin-model-doc --> States how the load on the system changes with the factor level of a
+ * variation. <!-- end-model-doc -->
+ *
+ * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getMonotonicity()
+ * @model
+ * @generated
+ */
+public enum Monotonicity implements Enumerator {
+    /**
+     * The '<em><b>NONE</b></em>' literal object. <!-- begin-user-doc --> <!-- end-user-doc -->
+     * <!-- begin-model-doc --> The load does not change monotonically with the factor level.
+     * <!-- end-model-doc -->
+     *
+     * @see #NONE_VALUE
+     * @generated
+     * @ordered
+     */
+    NONE(0, "NONE", "NONE"),
+
+    /**
+     * The '<em><b>INCREASING</b></em>' literal object. <!-- begin-user-doc --> <!-- end-user-doc
+     * --> <!-- begin-model-doc --> The load grows with the factor level, e.g., the population of a
+     * closed workload. <!-- end-model-doc -->
+     *
+     * @see #INCREASING_VALUE
+     * @generated
+     * @ordered
+     */
+    INCREASING(1, "INCREASING", "INCREASING"),
+
+    /**
+     * The '<em><b>DECREASING</b></em>' literal object. <!-- begin-user-doc --> <!-- end-user-doc
+     * --> <!-- begin-model-doc --> The load shrinks with the factor level, e.g., the inter-arrival
+     * time of an open workload. <!-- end-model-doc -->
+     *
+     * @see #DECREASING_VALUE
+     * @generated
+     * @ordered
+     */
+    DECREASING(2, "DECREASING", "DECREASING");
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * The '<em><b>NONE</b></em>' literal value. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #NONE
+     * @model
+     * @generated
+     * @ordered
+     */
+    public static final int NONE_VALUE = 0;
+
+    /**
+     * The '<em><b>INCREASING</b></em>' literal value. <!-- begin-user-doc --> <!-- end-user-doc
+     * -->
+     *
+     * @see #INCREASING
+     * @model
+     * @generated
+     * @ordered
+     */
+    public static final int INCREASING_VALUE = 1;
+
+    /**
+     * The '<em><b>DECREASING</b></em>' literal value. <!-- begin-user-doc --> <!-- end-user-doc
+     * -->
+     *
+     * @see #DECREASING
+     * @model
+     * @generated
+     * @ordered
+     */
+    public static final int DECREASING_VALUE = 2;
+
+    /**
+     * An array of all the '<em><b>Monotonicity</b></em>' enumerators. <!-- begin-user-doc -->
+     * <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private static final Monotonicity[] VALUES_ARRAY = new Monotonicity[] { NONE, INCREASING, DECREASING, };
+
+    /**
+     * A public read-only list of all the '<em><b>Monotonicity</b></em>' enumerators. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final List<Monotonicity> VALUES = Collections.unmodifiableList(Arrays.asList(VALUES_ARRAY));
+
+    /**
+     * Returns the '<em><b>Monotonicity</b></em>' literal with the specified literal value. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param literal
+     *            the literal.
+     * @return the matching enumerator or <code>null</code>.
+     * @generated
+     */
+    public static Monotonicity get(final String literal) {
+        for (int i = 0; i < VALUES_ARRAY.length; ++i) {
+            final Monotonicity result = VALUES_ARRAY[i];
+            if (result.toString().equals(literal)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the '<em><b>Monotonicity</b></em>' literal with the specified name. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param name
+     *            the name.
+     * @return the matching enumerator or <code>null</code>.
+     * @generated
+     */
+    public static Monotonicity getByName(final String name) {
+        for (int i = 0; i < VALUES_ARRAY.length; ++i) {
+            final Monotonicity result = VALUES_ARRAY[i];
+            if (result.getName().equals(name)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the '<em><b>Monotonicity</b></em>' literal with the specified integer value. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the integer value.
+     * @return the matching enumerator or <code>null</code>.
+     * @generated
+     */
+    public static Monotonicity get(final int value) {
+        switch (value) {
+        case NONE_VALUE:
+            return NONE;
+        case INCREASING_VALUE:
+            return INCREASING;
+        case DECREASING_VALUE:
+            return DECREASING;
+        }
+        return null;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private final int value;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private final String name;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private final String literal;
+
+    /**
+     * Only this class can construct instances. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private Monotonicity(final int value, final String name, final String literal) {
+        this.value = value;
+        this.name = name;
+        this.literal = literal;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public int getValue() {
+        return this.value;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public String getLiteral() {
+        return this.literal;
+    }
+
+    /**
+     * Returns the literal value of the enumerator, which is its string representation. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public String toString() {
+        return this.literal;
+    }
+
+} // Monotonicity
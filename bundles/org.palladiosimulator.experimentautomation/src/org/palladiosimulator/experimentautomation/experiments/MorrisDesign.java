@@ -0,0 +1,88 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments;
+
+/**
+ * <!-- begin-user-doc --> A representation of the model object '<em><b>Morris Design</b></em>'.
+ * <!-- end-user-doc -->
+ *
+ * <p>
+ * The following features are supported:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getTrajectories
+ * <em>Trajectories</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getLevels
+ * <em>Levels</em>}</li>
+ * </ul>
+ *
+ * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getMorrisDesign()
+ * @model
+ * @generated
+ */
+public interface MorrisDesign extends ExperimentDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * Returns the value of the '<em><b>Trajectories</b></em>' attribute. <!-- begin-user-doc -->
+     * <p>
+     * The number of one-at-a-time trajectories through the factor grid; each trajectory consists
+     * of one design point more than there are variations, e.g., 10.
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Trajectories</em>' attribute.
+     * @see #setTrajectories(int)
+     * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getMorrisDesign_Trajectories()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    int getTrajectories();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getTrajectories
+     * <em>Trajectories</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Trajectories</em>' attribute.
+     * @see #getTrajectories()
+     * @generated
+     */
+    void setTrajectories(int value);
+
+    /**
+     * Returns the value of the '<em><b>Levels</b></em>' attribute. <!-- begin-user-doc -->
+     * <p>
+     * The number of equally spaced factor levels of each variation between its minimum and
+     * maximum value, i.e., the resolution of the factor grid, e.g., 4.
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Levels</em>' attribute.
+     * @see #setLevels(int)
+     * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getMorrisDesign_Levels()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    int getLevels();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign#getLevels
+     * <em>Levels</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Levels</em>' attribute.
+     * @see #getLevels()
+     * @generated
+     */
+    void setLevels(int value);
+
+} // MorrisDesign
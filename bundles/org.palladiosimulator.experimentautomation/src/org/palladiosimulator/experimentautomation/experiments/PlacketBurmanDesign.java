@@ -2,8 +2,6 @@
  */
 package org.palladiosimulator.experimentautomation.experiments;
 
-import org.eclipse.emf.cdo.CDOObject;
-
 /**
  * <!-- begin-user-doc --> A representation of the model object ' <em><b>Placket Burman
  * Design</b></em>'. <!-- end-user-doc -->
@@ -11,10 +9,9 @@ import org.eclipse.emf.cdo.CDOObject;
  *
  * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getPlacketBurmanDesign()
  * @model
- * @extends CDOObject
  * @generated
  */
-public interface PlacketBurmanDesign extends CDOObject {
+public interface PlacketBurmanDesign extends ExperimentDesign {
 
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
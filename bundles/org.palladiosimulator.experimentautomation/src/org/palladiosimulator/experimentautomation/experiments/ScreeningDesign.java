@@ -0,0 +1,58 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments;
+
+/**
+ * <!-- begin-user-doc --> A representation of the model object '<em><b>Screening Design</b></em>'.
+ * <!-- end-user-doc -->
+ *
+ * <p>
+ * The following features are supported:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.ScreeningDesign#getSignificanceThreshold
+ * <em>Significance Threshold</em>}</li>
+ * </ul>
+ *
+ * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getScreeningDesign()
+ * @model
+ * @generated
+ */
+public interface ScreeningDesign extends ExperimentDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * Returns the value of the '<em><b>Significance Threshold</b></em>' attribute. <!-- begin-user-doc -->
+     * <p>
+     * The smallest main effect of a variation, relative to the largest main effect of all
+     * variations, for the variation to be studied in the focused full factorial design, e.g., 0.1.
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Significance Threshold</em>' attribute.
+     * @see #setSignificanceThreshold(double)
+     * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getScreeningDesign_SignificanceThreshold()
+     * @model required="true" ordered="false"
+     * @generated
+     */
+    double getSignificanceThreshold();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.ScreeningDesign#getSignificanceThreshold
+     * <em>Significance Threshold</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Significance Threshold</em>' attribute.
+     * @see #getSignificanceThreshold()
+     * @generated
+     */
+    void setSignificanceThreshold(double value);
+
+} // ScreeningDesign
@@ -27,6 +27,8 @@ import org.palladiosimulator.experimentautomation.variation.VariationType;
  * <em>Varied Object Id</em>}</li>
  * <li>{@link org.palladiosimulator.experimentautomation.experiments.Variation#getName
  * <em>Name</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.Variation#getMonotonicity
+ * <em>Monotonicity</em>}</li>
  * </ul>
  *
  * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getVariation()
@@ -242,4 +244,38 @@ public interface Variation extends CDOObject {
      */
     void setName(String value);
 
+    /**
+     * Returns the value of the '<em><b>Monotonicity</b></em>' attribute. The default value is
+     * <code>"NONE"</code>. The literals are from the enumeration
+     * {@link org.palladiosimulator.experimentautomation.experiments.Monotonicity}. <!--
+     * begin-user-doc -->
+     * <p>
+     * States how the load on the system changes with the factor level of this variation. If the
+     * load grows or shrinks monotonically, design points with higher load than a design point
+     * violating an SLO are known to violate it as well and do not need to be analyzed.
+     * </p>
+     * <!-- end-user-doc -->
+     *
+     * @return the value of the '<em>Monotonicity</em>' attribute.
+     * @see org.palladiosimulator.experimentautomation.experiments.Monotonicity
+     * @see #setMonotonicity(Monotonicity)
+     * @see org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage#getVariation_Monotonicity()
+     * @model default="NONE" required="true" ordered="false"
+     * @generated
+     */
+    Monotonicity getMonotonicity();
+
+    /**
+     * Sets the value of the
+     * '{@link org.palladiosimulator.experimentautomation.experiments.Variation#getMonotonicity
+     * <em>Monotonicity</em>}' attribute. <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @param value
+     *            the new value of the '<em>Monotonicity</em>' attribute.
+     * @see org.palladiosimulator.experimentautomation.experiments.Monotonicity
+     * @see #getMonotonicity()
+     * @generated
+     */
+    void setMonotonicity(Monotonicity value);
+
 } // Variation
@@ -0,0 +1,140 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments.impl;
+
+import org.eclipse.emf.ecore.EClass;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign;
+
+/**
+ * <!-- begin-user-doc --> An implementation of the model object '<em><b>Adaptive Design</b></em>'.
+ * <!-- end-user-doc -->
+ * <p>
+ * The following features are implemented:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.impl.AdaptiveDesignImpl#getMaxDesignPoints
+ * <em>Max Design Points</em>}</li>
+ * </ul>
+ *
+ * @generated
+ */
+public class AdaptiveDesignImpl extends ExperimentDesignImpl implements AdaptiveDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * The default value of the '{@link #getMaxDesignPoints() <em>Max Design Points</em>}' attribute. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getMaxDesignPoints()
+     * @generated
+     * @ordered
+     */
+    protected static final int MAX_DESIGN_POINTS_EDEFAULT = 0;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected AdaptiveDesignImpl() {
+        super();
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    protected EClass eStaticClass() {
+        return ExperimentsPackage.Literals.ADAPTIVE_DESIGN;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public int getMaxDesignPoints() {
+        return (Integer) this.eDynamicGet(ExperimentsPackage.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS,
+                ExperimentsPackage.Literals.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setMaxDesignPoints(final int newMaxDesignPoints) {
+        this.eDynamicSet(ExperimentsPackage.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS,
+                ExperimentsPackage.Literals.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS, newMaxDesignPoints);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Object eGet(final int featureID, final boolean resolve, final boolean coreType) {
+        switch (featureID) {
+        case ExperimentsPackage.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS:
+            return this.getMaxDesignPoints();
+        }
+        return super.eGet(featureID, resolve, coreType);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eSet(final int featureID, final Object newValue) {
+        switch (featureID) {
+        case ExperimentsPackage.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS:
+            this.setMaxDesignPoints((Integer) newValue);
+            return;
+        }
+        super.eSet(featureID, newValue);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eUnset(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS:
+            this.setMaxDesignPoints(MAX_DESIGN_POINTS_EDEFAULT);
+            return;
+        }
+        super.eUnset(featureID);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public boolean eIsSet(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.ADAPTIVE_DESIGN__MAX_DESIGN_POINTS:
+            return this.getMaxDesignPoints() != MAX_DESIGN_POINTS_EDEFAULT;
+        }
+        return super.eIsSet(featureID);
+    }
+
+} // AdaptiveDesignImpl
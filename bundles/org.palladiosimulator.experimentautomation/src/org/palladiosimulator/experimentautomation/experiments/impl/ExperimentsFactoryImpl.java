@@ -3,10 +3,12 @@
 package org.palladiosimulator.experimentautomation.experiments.impl;
 
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.impl.EFactoryImpl;
 import org.eclipse.emf.ecore.plugin.EcorePlugin;
+import org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentRepository;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentsFactory;
@@ -16,7 +18,10 @@ import org.palladiosimulator.experimentautomation.experiments.FractionalFactoria
 import org.palladiosimulator.experimentautomation.experiments.FullFactorialDesign;
 import org.palladiosimulator.experimentautomation.experiments.InitialModel;
 import org.palladiosimulator.experimentautomation.experiments.JMXMeasurement;
+import org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign;
 import org.palladiosimulator.experimentautomation.experiments.LinearValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
+import org.palladiosimulator.experimentautomation.experiments.Monotonicity;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.ObjectModification;
@@ -26,6 +31,7 @@ import org.palladiosimulator.experimentautomation.experiments.PolynomialValuePro
 import org.palladiosimulator.experimentautomation.experiments.ProfilingMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.ReconfigurationRulesFolder;
 import org.palladiosimulator.experimentautomation.experiments.SchedulingPolicy2DelayModification;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
 import org.palladiosimulator.experimentautomation.experiments.SetValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.SimulationDurationMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.Variation;
@@ -119,11 +125,49 @@ public class ExperimentsFactoryImpl extends EFactoryImpl implements ExperimentsF
             return this.createNestedIntervalsLongValueProvider();
         case ExperimentsPackage.SCHEDULING_POLICY2_DELAY_MODIFICATION:
             return this.createSchedulingPolicy2DelayModification();
+        case ExperimentsPackage.LATIN_HYPERCUBE_DESIGN:
+            return this.createLatinHypercubeDesign();
+        case ExperimentsPackage.ADAPTIVE_DESIGN:
+            return this.createAdaptiveDesign();
+        case ExperimentsPackage.SCREENING_DESIGN:
+            return this.createScreeningDesign();
+        case ExperimentsPackage.MORRIS_DESIGN:
+            return this.createMorrisDesign();
         default:
             throw new IllegalArgumentException("The class '" + eClass.getName() + "' is not a valid classifier");
         }
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Object createFromString(final EDataType eDataType, final String initialValue) {
+        switch (eDataType.getClassifierID()) {
+        case ExperimentsPackage.MONOTONICITY:
+            return this.createMonotonicityFromString(eDataType, initialValue);
+        default:
+            throw new IllegalArgumentException("The datatype '" + eDataType.getName() + "' is not a valid classifier");
+        }
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public String convertToString(final EDataType eDataType, final Object instanceValue) {
+        switch (eDataType.getClassifierID()) {
+        case ExperimentsPackage.MONOTONICITY:
+            return this.convertMonotonicityToString(eDataType, instanceValue);
+        default:
+            throw new IllegalArgumentException("The datatype '" + eDataType.getName() + "' is not a valid classifier");
+        }
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -344,6 +388,73 @@ public class ExperimentsFactoryImpl extends EFactoryImpl implements ExperimentsF
         return schedulingPolicy2DelayModification;
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public LatinHypercubeDesign createLatinHypercubeDesign() {
+        final LatinHypercubeDesignImpl latinHypercubeDesign = new LatinHypercubeDesignImpl();
+        return latinHypercubeDesign;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public AdaptiveDesign createAdaptiveDesign() {
+        final AdaptiveDesignImpl adaptiveDesign = new AdaptiveDesignImpl();
+        return adaptiveDesign;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public ScreeningDesign createScreeningDesign() {
+        final ScreeningDesignImpl screeningDesign = new ScreeningDesignImpl();
+        return screeningDesign;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public MorrisDesign createMorrisDesign() {
+        final MorrisDesignImpl morrisDesign = new MorrisDesignImpl();
+        return morrisDesign;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public Monotonicity createMonotonicityFromString(final EDataType eDataType, final String initialValue) {
+        final Monotonicity result = Monotonicity.get(initialValue);
+        if (result == null) {
+            throw new IllegalArgumentException("The value '" + initialValue + "' is not a valid enumerator of '"
+                    + eDataType.getName() + "'");
+        }
+        return result;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public String convertMonotonicityToString(final EDataType eDataType, final Object instanceValue) {
+        return instanceValue == null ? null : instanceValue.toString();
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
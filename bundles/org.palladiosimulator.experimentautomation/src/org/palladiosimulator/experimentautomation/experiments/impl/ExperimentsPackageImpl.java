@@ -4,6 +4,7 @@ package org.palladiosimulator.experimentautomation.experiments.impl;
 
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnum;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EcorePackage;
@@ -12,6 +13,7 @@ import org.palladiosimulator.edp2.models.ExperimentData.ExperimentDataPackage;
 import org.palladiosimulator.edp2.models.measuringpoint.MeasuringpointPackage;
 import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationPackage;
 import org.palladiosimulator.experimentautomation.abstractsimulation.impl.AbstractsimulationPackageImpl;
+import org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentDesign;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentRepository;
@@ -22,8 +24,11 @@ import org.palladiosimulator.experimentautomation.experiments.FractionalFactoria
 import org.palladiosimulator.experimentautomation.experiments.FullFactorialDesign;
 import org.palladiosimulator.experimentautomation.experiments.InitialModel;
 import org.palladiosimulator.experimentautomation.experiments.JMXMeasurement;
+import org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign;
 import org.palladiosimulator.experimentautomation.experiments.LinearValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
 import org.palladiosimulator.experimentautomation.experiments.Modification;
+import org.palladiosimulator.experimentautomation.experiments.Monotonicity;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.ObjectModification;
@@ -34,6 +39,7 @@ import org.palladiosimulator.experimentautomation.experiments.ProfilingMeasureme
 import org.palladiosimulator.experimentautomation.experiments.ReconfigurationRulesFolder;
 import org.palladiosimulator.experimentautomation.experiments.ResponseMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.SchedulingPolicy2DelayModification;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
 import org.palladiosimulator.experimentautomation.experiments.SetValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.SimulationDurationMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
@@ -247,6 +253,41 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
      */
     private EClass schedulingPolicy2DelayModificationEClass = null;
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private EClass latinHypercubeDesignEClass = null;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private EClass adaptiveDesignEClass = null;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private EClass screeningDesignEClass = null;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private EClass morrisDesignEClass = null;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    private EEnum monotonicityEEnum = null;
+
     /**
      * Creates an instance of the model <b>Package</b>, registered with
      * {@link org.eclipse.emf.ecore.EPackage.Registry EPackage.Registry} by the package package URI
@@ -562,6 +603,16 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
         return (EAttribute) this.variationEClass.getEStructuralFeatures().get(6);
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getVariation_Monotonicity() {
+        return (EAttribute) this.variationEClass.getEStructuralFeatures().get(7);
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -1062,6 +1113,106 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
         return this.schedulingPolicy2DelayModificationEClass;
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EClass getLatinHypercubeDesign() {
+        return this.latinHypercubeDesignEClass;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getLatinHypercubeDesign_SampleCount() {
+        return (EAttribute) this.latinHypercubeDesignEClass.getEStructuralFeatures().get(0);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EClass getAdaptiveDesign() {
+        return this.adaptiveDesignEClass;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getAdaptiveDesign_MaxDesignPoints() {
+        return (EAttribute) this.adaptiveDesignEClass.getEStructuralFeatures().get(0);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EClass getScreeningDesign() {
+        return this.screeningDesignEClass;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getScreeningDesign_SignificanceThreshold() {
+        return (EAttribute) this.screeningDesignEClass.getEStructuralFeatures().get(0);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EClass getMorrisDesign() {
+        return this.morrisDesignEClass;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getMorrisDesign_Trajectories() {
+        return (EAttribute) this.morrisDesignEClass.getEStructuralFeatures().get(0);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EAttribute getMorrisDesign_Levels() {
+        return (EAttribute) this.morrisDesignEClass.getEStructuralFeatures().get(1);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public EEnum getMonotonicity() {
+        return this.monotonicityEEnum;
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -1116,6 +1267,7 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
         this.createEAttribute(this.variationEClass, VARIATION__MAX_VARIATIONS);
         this.createEAttribute(this.variationEClass, VARIATION__VARIED_OBJECT_ID);
         this.createEAttribute(this.variationEClass, VARIATION__NAME);
+        this.createEAttribute(this.variationEClass, VARIATION__MONOTONICITY);
 
         this.valueProviderEClass = this.createEClass(VALUE_PROVIDER);
 
@@ -1192,6 +1344,22 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
         this.modificationEClass = this.createEClass(MODIFICATION);
 
         this.schedulingPolicy2DelayModificationEClass = this.createEClass(SCHEDULING_POLICY2_DELAY_MODIFICATION);
+
+        this.latinHypercubeDesignEClass = this.createEClass(LATIN_HYPERCUBE_DESIGN);
+        this.createEAttribute(this.latinHypercubeDesignEClass, LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT);
+
+        this.adaptiveDesignEClass = this.createEClass(ADAPTIVE_DESIGN);
+        this.createEAttribute(this.adaptiveDesignEClass, ADAPTIVE_DESIGN__MAX_DESIGN_POINTS);
+
+        this.screeningDesignEClass = this.createEClass(SCREENING_DESIGN);
+        this.createEAttribute(this.screeningDesignEClass, SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD);
+
+        this.morrisDesignEClass = this.createEClass(MORRIS_DESIGN);
+        this.createEAttribute(this.morrisDesignEClass, MORRIS_DESIGN__TRAJECTORIES);
+        this.createEAttribute(this.morrisDesignEClass, MORRIS_DESIGN__LEVELS);
+
+        // Create enums
+        this.monotonicityEEnum = this.createEEnum(MONOTONICITY);
     }
 
     /**
@@ -1248,7 +1416,9 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
         this.polynomialValueProviderEClass.getESuperTypes().add(this.getValueProvider());
         this.exponentialValueProviderEClass.getESuperTypes().add(this.getValueProvider());
         this.setValueProviderEClass.getESuperTypes().add(this.getValueProvider());
+        this.placketBurmanDesignEClass.getESuperTypes().add(this.getExperimentDesign());
         this.fullFactorialDesignEClass.getESuperTypes().add(this.getExperimentDesign());
+        this.fractionalFactorialDesignEClass.getESuperTypes().add(this.getExperimentDesign());
         this.oneFactorAtATimeEClass.getESuperTypes().add(this.getExperimentDesign());
         this.simulationDurationMeasurementEClass.getESuperTypes().add(this.getResponseMeasurement());
         this.profilingMeasurementEClass.getESuperTypes().add(this.getResponseMeasurement());
@@ -1258,6 +1428,10 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
         this.nestedIntervalsDoubleValueProviderEClass.getESuperTypes().add(this.getValueProvider());
         this.nestedIntervalsLongValueProviderEClass.getESuperTypes().add(this.getValueProvider());
         this.schedulingPolicy2DelayModificationEClass.getESuperTypes().add(this.getModification());
+        this.latinHypercubeDesignEClass.getESuperTypes().add(this.getExperimentDesign());
+        this.adaptiveDesignEClass.getESuperTypes().add(this.getExperimentDesign());
+        this.screeningDesignEClass.getESuperTypes().add(this.getExperimentDesign());
+        this.morrisDesignEClass.getESuperTypes().add(this.getExperimentDesign());
 
         // Initialize classes and features; add operations and parameters
         this.initEClass(this.experimentRepositoryEClass, ExperimentRepository.class, "ExperimentRepository",
@@ -1339,6 +1513,9 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
                 Variation.class,
                 !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_UNSETTABLE, !IS_ID, IS_UNIQUE, !IS_DERIVED,
                 !IS_ORDERED);
+        this.initEAttribute(this.getVariation_Monotonicity(), this.getMonotonicity(), "monotonicity", "NONE", 1, 1,
+                Variation.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_UNSETTABLE, !IS_ID, IS_UNIQUE,
+                !IS_DERIVED, !IS_ORDERED);
 
         this.initEClass(this.valueProviderEClass, ValueProvider.class, "ValueProvider", IS_ABSTRACT, !IS_INTERFACE,
                 IS_GENERATED_INSTANCE_CLASS);
@@ -1515,6 +1692,39 @@ public class ExperimentsPackageImpl extends EPackageImpl implements ExperimentsP
         this.initEClass(this.schedulingPolicy2DelayModificationEClass, SchedulingPolicy2DelayModification.class,
                 "SchedulingPolicy2DelayModification", !IS_ABSTRACT, !IS_INTERFACE, IS_GENERATED_INSTANCE_CLASS);
 
+        this.initEClass(this.latinHypercubeDesignEClass, LatinHypercubeDesign.class, "LatinHypercubeDesign",
+                !IS_ABSTRACT, !IS_INTERFACE, IS_GENERATED_INSTANCE_CLASS);
+        this.initEAttribute(this.getLatinHypercubeDesign_SampleCount(), this.ecorePackage.getEInt(), "sampleCount",
+                null, 1, 1, LatinHypercubeDesign.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_UNSETTABLE,
+                !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+
+        this.initEClass(this.adaptiveDesignEClass, AdaptiveDesign.class, "AdaptiveDesign",
+                !IS_ABSTRACT, !IS_INTERFACE, IS_GENERATED_INSTANCE_CLASS);
+        this.initEAttribute(this.getAdaptiveDesign_MaxDesignPoints(), this.ecorePackage.getEInt(), "maxDesignPoints",
+                null, 1, 1, AdaptiveDesign.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_UNSETTABLE,
+                !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+
+        this.initEClass(this.screeningDesignEClass, ScreeningDesign.class, "ScreeningDesign",
+                !IS_ABSTRACT, !IS_INTERFACE, IS_GENERATED_INSTANCE_CLASS);
+        this.initEAttribute(this.getScreeningDesign_SignificanceThreshold(), this.ecorePackage.getEDouble(),
+                "significanceThreshold", null, 1, 1, ScreeningDesign.class, !IS_TRANSIENT, !IS_VOLATILE,
+                IS_CHANGEABLE, !IS_UNSETTABLE, !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+
+        this.initEClass(this.morrisDesignEClass, MorrisDesign.class, "MorrisDesign",
+                !IS_ABSTRACT, !IS_INTERFACE, IS_GENERATED_INSTANCE_CLASS);
+        this.initEAttribute(this.getMorrisDesign_Trajectories(), this.ecorePackage.getEInt(), "trajectories",
+                null, 1, 1, MorrisDesign.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_UNSETTABLE,
+                !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+        this.initEAttribute(this.getMorrisDesign_Levels(), this.ecorePackage.getEInt(), "levels",
+                null, 1, 1, MorrisDesign.class, !IS_TRANSIENT, !IS_VOLATILE, IS_CHANGEABLE, !IS_UNSETTABLE,
+                !IS_ID, IS_UNIQUE, !IS_DERIVED, !IS_ORDERED);
+
+        // Initialize enums and add enum literals
+        this.initEEnum(this.monotonicityEEnum, Monotonicity.class, "Monotonicity");
+        this.addEEnumLiteral(this.monotonicityEEnum, Monotonicity.NONE);
+        this.addEEnumLiteral(this.monotonicityEEnum, Monotonicity.INCREASING);
+        this.addEEnumLiteral(this.monotonicityEEnum, Monotonicity.DECREASING);
+
         // Create resource
         this.createResource(eNS_URI);
     }
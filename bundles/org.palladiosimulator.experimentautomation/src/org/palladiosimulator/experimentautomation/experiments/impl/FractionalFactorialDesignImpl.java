@@ -3,7 +3,6 @@
 package org.palladiosimulator.experimentautomation.experiments.impl;
 
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.internal.cdo.CDOObjectImpl;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
 import org.palladiosimulator.experimentautomation.experiments.FractionalFactorialDesign;
 
@@ -13,7 +12,7 @@ import org.palladiosimulator.experimentautomation.experiments.FractionalFactoria
  *
  * @generated
  */
-public class FractionalFactorialDesignImpl extends CDOObjectImpl implements FractionalFactorialDesign {
+public class FractionalFactorialDesignImpl extends ExperimentDesignImpl implements FractionalFactorialDesign {
 
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
@@ -41,14 +40,4 @@ public class FractionalFactorialDesignImpl extends CDOObjectImpl implements Frac
         return ExperimentsPackage.Literals.FRACTIONAL_FACTORIAL_DESIGN;
     }
 
-    /**
-     * <!-- begin-user-doc --> <!-- end-user-doc -->
-     *
-     * @generated
-     */
-    @Override
-    protected int eStaticFeatureCount() {
-        return 0;
-    }
-
 } // FractionalFactorialDesignImpl
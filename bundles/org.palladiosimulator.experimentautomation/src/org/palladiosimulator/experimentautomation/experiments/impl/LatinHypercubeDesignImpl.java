@@ -0,0 +1,140 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments.impl;
+
+import org.eclipse.emf.ecore.EClass;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign;
+
+/**
+ * <!-- begin-user-doc --> An implementation of the model object '<em><b>Latin Hypercube
+ * Design</b></em>'. <!-- end-user-doc -->
+ * <p>
+ * The following features are implemented:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.impl.LatinHypercubeDesignImpl#getSampleCount
+ * <em>Sample Count</em>}</li>
+ * </ul>
+ *
+ * @generated
+ */
+public class LatinHypercubeDesignImpl extends ExperimentDesignImpl implements LatinHypercubeDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * The default value of the '{@link #getSampleCount() <em>Sample Count</em>}' attribute. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getSampleCount()
+     * @generated
+     * @ordered
+     */
+    protected static final int SAMPLE_COUNT_EDEFAULT = 0;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected LatinHypercubeDesignImpl() {
+        super();
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    protected EClass eStaticClass() {
+        return ExperimentsPackage.Literals.LATIN_HYPERCUBE_DESIGN;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public int getSampleCount() {
+        return (Integer) this.eDynamicGet(ExperimentsPackage.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT,
+                ExperimentsPackage.Literals.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setSampleCount(final int newSampleCount) {
+        this.eDynamicSet(ExperimentsPackage.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT,
+                ExperimentsPackage.Literals.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT, newSampleCount);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Object eGet(final int featureID, final boolean resolve, final boolean coreType) {
+        switch (featureID) {
+        case ExperimentsPackage.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT:
+            return this.getSampleCount();
+        }
+        return super.eGet(featureID, resolve, coreType);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eSet(final int featureID, final Object newValue) {
+        switch (featureID) {
+        case ExperimentsPackage.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT:
+            this.setSampleCount((Integer) newValue);
+            return;
+        }
+        super.eSet(featureID, newValue);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eUnset(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT:
+            this.setSampleCount(SAMPLE_COUNT_EDEFAULT);
+            return;
+        }
+        super.eUnset(featureID);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public boolean eIsSet(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.LATIN_HYPERCUBE_DESIGN__SAMPLE_COUNT:
+            return this.getSampleCount() != SAMPLE_COUNT_EDEFAULT;
+        }
+        return super.eIsSet(featureID);
+    }
+
+} // LatinHypercubeDesignImpl
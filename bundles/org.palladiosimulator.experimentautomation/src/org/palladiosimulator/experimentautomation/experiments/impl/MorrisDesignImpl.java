@@ -0,0 +1,184 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments.impl;
+
+import org.eclipse.emf.ecore.EClass;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
+
+/**
+ * <!-- begin-user-doc --> An implementation of the model object '<em><b>Morris Design</b></em>'.
+ * <!-- end-user-doc -->
+ * <p>
+ * The following features are implemented:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.impl.MorrisDesignImpl#getTrajectories
+ * <em>Trajectories</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.impl.MorrisDesignImpl#getLevels
+ * <em>Levels</em>}</li>
+ * </ul>
+ *
+ * @generated
+ */
+public class MorrisDesignImpl extends ExperimentDesignImpl implements MorrisDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * The default value of the '{@link #getTrajectories() <em>Trajectories</em>}' attribute. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getTrajectories()
+     * @generated
+     * @ordered
+     */
+    protected static final int TRAJECTORIES_EDEFAULT = 0;
+
+    /**
+     * The default value of the '{@link #getLevels() <em>Levels</em>}' attribute. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getLevels()
+     * @generated
+     * @ordered
+     */
+    protected static final int LEVELS_EDEFAULT = 0;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected MorrisDesignImpl() {
+        super();
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    protected EClass eStaticClass() {
+        return ExperimentsPackage.Literals.MORRIS_DESIGN;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public int getTrajectories() {
+        return (Integer) this.eDynamicGet(ExperimentsPackage.MORRIS_DESIGN__TRAJECTORIES,
+                ExperimentsPackage.Literals.MORRIS_DESIGN__TRAJECTORIES, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setTrajectories(final int newTrajectories) {
+        this.eDynamicSet(ExperimentsPackage.MORRIS_DESIGN__TRAJECTORIES,
+                ExperimentsPackage.Literals.MORRIS_DESIGN__TRAJECTORIES, newTrajectories);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public int getLevels() {
+        return (Integer) this.eDynamicGet(ExperimentsPackage.MORRIS_DESIGN__LEVELS,
+                ExperimentsPackage.Literals.MORRIS_DESIGN__LEVELS, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setLevels(final int newLevels) {
+        this.eDynamicSet(ExperimentsPackage.MORRIS_DESIGN__LEVELS,
+                ExperimentsPackage.Literals.MORRIS_DESIGN__LEVELS, newLevels);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Object eGet(final int featureID, final boolean resolve, final boolean coreType) {
+        switch (featureID) {
+        case ExperimentsPackage.MORRIS_DESIGN__TRAJECTORIES:
+            return this.getTrajectories();
+        case ExperimentsPackage.MORRIS_DESIGN__LEVELS:
+            return this.getLevels();
+        }
+        return super.eGet(featureID, resolve, coreType);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eSet(final int featureID, final Object newValue) {
+        switch (featureID) {
+        case ExperimentsPackage.MORRIS_DESIGN__TRAJECTORIES:
+            this.setTrajectories((Integer) newValue);
+            return;
+        case ExperimentsPackage.MORRIS_DESIGN__LEVELS:
+            this.setLevels((Integer) newValue);
+            return;
+        }
+        super.eSet(featureID, newValue);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eUnset(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.MORRIS_DESIGN__TRAJECTORIES:
+            this.setTrajectories(TRAJECTORIES_EDEFAULT);
+            return;
+        case ExperimentsPackage.MORRIS_DESIGN__LEVELS:
+            this.setLevels(LEVELS_EDEFAULT);
+            return;
+        }
+        super.eUnset(featureID);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public boolean eIsSet(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.MORRIS_DESIGN__TRAJECTORIES:
+            return this.getTrajectories() != TRAJECTORIES_EDEFAULT;
+        case ExperimentsPackage.MORRIS_DESIGN__LEVELS:
+            return this.getLevels() != LEVELS_EDEFAULT;
+        }
+        return super.eIsSet(featureID);
+    }
+
+} // MorrisDesignImpl
@@ -3,7 +3,6 @@
 package org.palladiosimulator.experimentautomation.experiments.impl;
 
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.internal.cdo.CDOObjectImpl;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
 import org.palladiosimulator.experimentautomation.experiments.PlacketBurmanDesign;
 
@@ -13,7 +12,7 @@ import org.palladiosimulator.experimentautomation.experiments.PlacketBurmanDesig
  *
  * @generated
  */
-public class PlacketBurmanDesignImpl extends CDOObjectImpl implements PlacketBurmanDesign {
+public class PlacketBurmanDesignImpl extends ExperimentDesignImpl implements PlacketBurmanDesign {
 
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
@@ -41,14 +40,4 @@ public class PlacketBurmanDesignImpl extends CDOObjectImpl implements PlacketBur
         return ExperimentsPackage.Literals.PLACKET_BURMAN_DESIGN;
     }
 
-    /**
-     * <!-- begin-user-doc --> <!-- end-user-doc -->
-     *
-     * @generated
-     */
-    @Override
-    protected int eStaticFeatureCount() {
-        return 0;
-    }
-
 } // PlacketBurmanDesignImpl
@@ -0,0 +1,140 @@
+/**
+ */
+package org.palladiosimulator.experimentautomation.experiments.impl;
+
+import org.eclipse.emf.ecore.EClass;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
+
+/**
+ * <!-- begin-user-doc --> An implementation of the model object '<em><b>Screening Design</b></em>'.
+ * <!-- end-user-doc -->
+ * <p>
+ * The following features are implemented:
+ * </p>
+ * <ul>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.impl.ScreeningDesignImpl#getSignificanceThreshold
+ * <em>Significance Threshold</em>}</li>
+ * </ul>
+ *
+ * @generated
+ */
+public class ScreeningDesignImpl extends ExperimentDesignImpl implements ScreeningDesign {
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    public static final String copyright = "Palladiosimulator.org 2008-2017";
+
+    /**
+     * The default value of the '{@link #getSignificanceThreshold() <em>Significance Threshold</em>}' attribute. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getSignificanceThreshold()
+     * @generated
+     * @ordered
+     */
+    protected static final double SIGNIFICANCE_THRESHOLD_EDEFAULT = 0.0;
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    protected ScreeningDesignImpl() {
+        super();
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    protected EClass eStaticClass() {
+        return ExperimentsPackage.Literals.SCREENING_DESIGN;
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public double getSignificanceThreshold() {
+        return (Double) this.eDynamicGet(ExperimentsPackage.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD,
+                ExperimentsPackage.Literals.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setSignificanceThreshold(final double newSignificanceThreshold) {
+        this.eDynamicSet(ExperimentsPackage.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD,
+                ExperimentsPackage.Literals.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD, newSignificanceThreshold);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Object eGet(final int featureID, final boolean resolve, final boolean coreType) {
+        switch (featureID) {
+        case ExperimentsPackage.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD:
+            return this.getSignificanceThreshold();
+        }
+        return super.eGet(featureID, resolve, coreType);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eSet(final int featureID, final Object newValue) {
+        switch (featureID) {
+        case ExperimentsPackage.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD:
+            this.setSignificanceThreshold((Double) newValue);
+            return;
+        }
+        super.eSet(featureID, newValue);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void eUnset(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD:
+            this.setSignificanceThreshold(SIGNIFICANCE_THRESHOLD_EDEFAULT);
+            return;
+        }
+        super.eUnset(featureID);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public boolean eIsSet(final int featureID) {
+        switch (featureID) {
+        case ExperimentsPackage.SCREENING_DESIGN__SIGNIFICANCE_THRESHOLD:
+            return this.getSignificanceThreshold() != SIGNIFICANCE_THRESHOLD_EDEFAULT;
+        }
+        return super.eIsSet(featureID);
+    }
+
+} // ScreeningDesignImpl
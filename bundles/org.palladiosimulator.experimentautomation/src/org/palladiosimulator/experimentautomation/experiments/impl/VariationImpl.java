@@ -7,6 +7,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.internal.cdo.CDOObjectImpl;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentsPackage;
+import org.palladiosimulator.experimentautomation.experiments.Monotonicity;
 import org.palladiosimulator.experimentautomation.experiments.ValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.Variation;
 import org.palladiosimulator.experimentautomation.variation.VariationType;
@@ -32,6 +33,8 @@ import org.palladiosimulator.experimentautomation.variation.VariationType;
  * <em>Varied Object Id</em>}</li>
  * <li>{@link org.palladiosimulator.experimentautomation.experiments.impl.VariationImpl#getName
  * <em>Name</em>}</li>
+ * <li>{@link org.palladiosimulator.experimentautomation.experiments.impl.VariationImpl#getMonotonicity
+ * <em>Monotonicity</em>}</li>
  * </ul>
  *
  * @generated
@@ -95,6 +98,16 @@ public class VariationImpl extends CDOObjectImpl implements Variation {
      */
     protected static final String NAME_EDEFAULT = null;
 
+    /**
+     * The default value of the '{@link #getMonotonicity() <em>Monotonicity</em>}' attribute. <!--
+     * begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @see #getMonotonicity()
+     * @generated
+     * @ordered
+     */
+    protected static final Monotonicity MONOTONICITY_EDEFAULT = Monotonicity.NONE;
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -300,6 +313,28 @@ public class VariationImpl extends CDOObjectImpl implements Variation {
         this.eDynamicSet(ExperimentsPackage.VARIATION__NAME, ExperimentsPackage.Literals.VARIATION__NAME, newName);
     }
 
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public Monotonicity getMonotonicity() {
+        return (Monotonicity) this.eDynamicGet(ExperimentsPackage.VARIATION__MONOTONICITY,
+                ExperimentsPackage.Literals.VARIATION__MONOTONICITY, true, true);
+    }
+
+    /**
+     * <!-- begin-user-doc --> <!-- end-user-doc -->
+     *
+     * @generated
+     */
+    @Override
+    public void setMonotonicity(final Monotonicity newMonotonicity) {
+        this.eDynamicSet(ExperimentsPackage.VARIATION__MONOTONICITY,
+                ExperimentsPackage.Literals.VARIATION__MONOTONICITY, newMonotonicity);
+    }
+
     /**
      * <!-- begin-user-doc --> <!-- end-user-doc -->
      *
@@ -340,6 +375,8 @@ public class VariationImpl extends CDOObjectImpl implements Variation {
             return this.getVariedObjectId();
         case ExperimentsPackage.VARIATION__NAME:
             return this.getName();
+        case ExperimentsPackage.VARIATION__MONOTONICITY:
+            return this.getMonotonicity();
         }
         return super.eGet(featureID, resolve, coreType);
     }
@@ -373,6 +410,9 @@ public class VariationImpl extends CDOObjectImpl implements Variation {
         case ExperimentsPackage.VARIATION__NAME:
             this.setName((String) newValue);
             return;
+        case ExperimentsPackage.VARIATION__MONOTONICITY:
+            this.setMonotonicity((Monotonicity) newValue);
+            return;
         }
         super.eSet(featureID, newValue);
     }
@@ -406,6 +446,9 @@ public class VariationImpl extends CDOObjectImpl implements Variation {
         case ExperimentsPackage.VARIATION__NAME:
             this.setName(NAME_EDEFAULT);
             return;
+        case ExperimentsPackage.VARIATION__MONOTONICITY:
+            this.setMonotonicity(MONOTONICITY_EDEFAULT);
+            return;
         }
         super.eUnset(featureID);
     }
@@ -433,6 +476,8 @@ public class VariationImpl extends CDOObjectImpl implements Variation {
                     : !VARIED_OBJECT_ID_EDEFAULT.equals(this.getVariedObjectId());
         case ExperimentsPackage.VARIATION__NAME:
             return NAME_EDEFAULT == null ? this.getName() != null : !NAME_EDEFAULT.equals(this.getName());
+        case ExperimentsPackage.VARIATION__MONOTONICITY:
+            return this.getMonotonicity() != MONOTONICITY_EDEFAULT;
         }
         return super.eIsSet(featureID);
     }
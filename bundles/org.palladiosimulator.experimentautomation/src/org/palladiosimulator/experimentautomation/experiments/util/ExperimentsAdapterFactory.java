@@ -6,6 +6,7 @@ import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.notify.impl.AdapterFactoryImpl;
 import org.eclipse.emf.ecore.EObject;
+import org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentDesign;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentRepository;
@@ -15,7 +16,9 @@ import org.palladiosimulator.experimentautomation.experiments.FractionalFactoria
 import org.palladiosimulator.experimentautomation.experiments.FullFactorialDesign;
 import org.palladiosimulator.experimentautomation.experiments.InitialModel;
 import org.palladiosimulator.experimentautomation.experiments.JMXMeasurement;
+import org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign;
 import org.palladiosimulator.experimentautomation.experiments.LinearValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
 import org.palladiosimulator.experimentautomation.experiments.Modification;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
@@ -27,6 +30,7 @@ import org.palladiosimulator.experimentautomation.experiments.ProfilingMeasureme
 import org.palladiosimulator.experimentautomation.experiments.ReconfigurationRulesFolder;
 import org.palladiosimulator.experimentautomation.experiments.ResponseMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.SchedulingPolicy2DelayModification;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
 import org.palladiosimulator.experimentautomation.experiments.SetValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.SimulationDurationMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
@@ -217,6 +221,26 @@ public class ExperimentsAdapterFactory extends AdapterFactoryImpl {
             return ExperimentsAdapterFactory.this.createSchedulingPolicy2DelayModificationAdapter();
         }
 
+        @Override
+        public Adapter caseLatinHypercubeDesign(final LatinHypercubeDesign object) {
+            return ExperimentsAdapterFactory.this.createLatinHypercubeDesignAdapter();
+        }
+
+        @Override
+        public Adapter caseAdaptiveDesign(final AdaptiveDesign object) {
+            return ExperimentsAdapterFactory.this.createAdaptiveDesignAdapter();
+        }
+
+        @Override
+        public Adapter caseScreeningDesign(final ScreeningDesign object) {
+            return ExperimentsAdapterFactory.this.createScreeningDesignAdapter();
+        }
+
+        @Override
+        public Adapter caseMorrisDesign(final MorrisDesign object) {
+            return ExperimentsAdapterFactory.this.createMorrisDesignAdapter();
+        }
+
         @Override
         public Adapter defaultCase(final EObject object) {
             return ExperimentsAdapterFactory.this.createEObjectAdapter();
@@ -611,6 +635,66 @@ public class ExperimentsAdapterFactory extends AdapterFactoryImpl {
         return null;
     }
 
+    /**
+     * Creates a new adapter for an object of class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign
+     * <em>Latin Hypercube Design</em>}'. <!-- begin-user-doc --> This default implementation
+     * returns null so that we can easily ignore cases; it's useful to ignore a case when
+     * inheritance will catch all the cases anyway. <!-- end-user-doc -->
+     *
+     * @return the new adapter.
+     * @see org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign
+     * @generated
+     */
+    public Adapter createLatinHypercubeDesignAdapter() {
+        return null;
+    }
+
+    /**
+     * Creates a new adapter for an object of class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign
+     * <em>Adaptive Design</em>}'. <!-- begin-user-doc --> This default implementation
+     * returns null so that we can easily ignore cases; it's useful to ignore a case when
+     * inheritance will catch all the cases anyway. <!-- end-user-doc -->
+     *
+     * @return the new adapter.
+     * @see org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign
+     * @generated
+     */
+    public Adapter createAdaptiveDesignAdapter() {
+        return null;
+    }
+
+    /**
+     * Creates a new adapter for an object of class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.ScreeningDesign
+     * <em>Screening Design</em>}'. <!-- begin-user-doc --> This default implementation
+     * returns null so that we can easily ignore cases; it's useful to ignore a case when
+     * inheritance will catch all the cases anyway. <!-- end-user-doc -->
+     *
+     * @return the new adapter.
+     * @see org.palladiosimulator.experimentautomation.experiments.ScreeningDesign
+     * @generated
+     */
+    public Adapter createScreeningDesignAdapter() {
+        return null;
+    }
+
+    /**
+     * Creates a new adapter for an object of class
+     * '{@link org.palladiosimulator.experimentautomation.experiments.MorrisDesign
+     * <em>Morris Design</em>}'. <!-- begin-user-doc --> This default implementation
+     * returns null so that we can easily ignore cases; it's useful to ignore a case when
+     * inheritance will catch all the cases anyway. <!-- end-user-doc -->
+     *
+     * @return the new adapter.
+     * @see org.palladiosimulator.experimentautomation.experiments.MorrisDesign
+     * @generated
+     */
+    public Adapter createMorrisDesignAdapter() {
+        return null;
+    }
+
     /**
      * Creates a new adapter for the default case. <!-- begin-user-doc --> This default
      * implementation returns null. <!-- end-user-doc -->
@@ -5,6 +5,7 @@ package org.palladiosimulator.experimentautomation.experiments.util;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.util.Switch;
+import org.palladiosimulator.experimentautomation.experiments.AdaptiveDesign;
 import org.palladiosimulator.experimentautomation.experiments.Experiment;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentDesign;
 import org.palladiosimulator.experimentautomation.experiments.ExperimentRepository;
@@ -14,7 +15,9 @@ import org.palladiosimulator.experimentautomation.experiments.FractionalFactoria
 import org.palladiosimulator.experimentautomation.experiments.FullFactorialDesign;
 import org.palladiosimulator.experimentautomation.experiments.InitialModel;
 import org.palladiosimulator.experimentautomation.experiments.JMXMeasurement;
+import org.palladiosimulator.experimentautomation.experiments.LatinHypercubeDesign;
 import org.palladiosimulator.experimentautomation.experiments.LinearValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.MorrisDesign;
 import org.palladiosimulator.experimentautomation.experiments.Modification;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
@@ -26,6 +29,7 @@ import org.palladiosimulator.experimentautomation.experiments.ProfilingMeasureme
 import org.palladiosimulator.experimentautomation.experiments.ReconfigurationRulesFolder;
 import org.palladiosimulator.experimentautomation.experiments.ResponseMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.SchedulingPolicy2DelayModification;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
 import org.palladiosimulator.experimentautomation.experiments.SetValueProvider;
 import org.palladiosimulator.experimentautomation.experiments.SimulationDurationMeasurement;
 import org.palladiosimulator.experimentautomation.experiments.ToolConfiguration;
@@ -184,6 +188,9 @@ public class ExperimentsSwitch<T> extends Switch<T> {
         case ExperimentsPackage.PLACKET_BURMAN_DESIGN: {
             final PlacketBurmanDesign placketBurmanDesign = (PlacketBurmanDesign) theEObject;
             T result = this.casePlacketBurmanDesign(placketBurmanDesign);
+            if (result == null) {
+                result = this.caseExperimentDesign(placketBurmanDesign);
+            }
             if (result == null) {
                 result = this.defaultCase(theEObject);
             }
@@ -203,6 +210,9 @@ public class ExperimentsSwitch<T> extends Switch<T> {
         case ExperimentsPackage.FRACTIONAL_FACTORIAL_DESIGN: {
             final FractionalFactorialDesign fractionalFactorialDesign = (FractionalFactorialDesign) theEObject;
             T result = this.caseFractionalFactorialDesign(fractionalFactorialDesign);
+            if (result == null) {
+                result = this.caseExperimentDesign(fractionalFactorialDesign);
+            }
             if (result == null) {
                 result = this.defaultCase(theEObject);
             }
@@ -331,6 +341,50 @@ public class ExperimentsSwitch<T> extends Switch<T> {
             }
             return result;
         }
+        case ExperimentsPackage.LATIN_HYPERCUBE_DESIGN: {
+            final LatinHypercubeDesign latinHypercubeDesign = (LatinHypercubeDesign) theEObject;
+            T result = this.caseLatinHypercubeDesign(latinHypercubeDesign);
+            if (result == null) {
+                result = this.caseExperimentDesign(latinHypercubeDesign);
+            }
+            if (result == null) {
+                result = this.defaultCase(theEObject);
+            }
+            return result;
+        }
+        case ExperimentsPackage.ADAPTIVE_DESIGN: {
+            final AdaptiveDesign adaptiveDesign = (AdaptiveDesign) theEObject;
+            T result = this.caseAdaptiveDesign(adaptiveDesign);
+            if (result == null) {
+                result = this.caseExperimentDesign(adaptiveDesign);
+            }
+            if (result == null) {
+                result = this.defaultCase(theEObject);
+            }
+            return result;
+        }
+        case ExperimentsPackage.SCREENING_DESIGN: {
+            final ScreeningDesign screeningDesign = (ScreeningDesign) theEObject;
+            T result = this.caseScreeningDesign(screeningDesign);
+            if (result == null) {
+                result = this.caseExperimentDesign(screeningDesign);
+            }
+            if (result == null) {
+                result = this.defaultCase(theEObject);
+            }
+            return result;
+        }
+        case ExperimentsPackage.MORRIS_DESIGN: {
+            final MorrisDesign morrisDesign = (MorrisDesign) theEObject;
+            T result = this.caseMorrisDesign(morrisDesign);
+            if (result == null) {
+                result = this.caseExperimentDesign(morrisDesign);
+            }
+            if (result == null) {
+                result = this.defaultCase(theEObject);
+            }
+            return result;
+        }
         default:
             return this.defaultCase(theEObject);
         }
@@ -729,6 +783,67 @@ public class ExperimentsSwitch<T> extends Switch<T> {
         return null;
     }
 
+    /**
+     * Returns the result of interpreting the object as an instance of '<em>Latin Hypercube
+     * Design</em>'. <!-- begin-user-doc --> This implementation returns null; returning a non-null
+     * result will terminate the switch. <!-- end-user-doc -->
+     *
+     * @param object
+     *            the target of the switch.
+     * @return the result of interpreting the object as an instance of '<em>Latin Hypercube
+     *         Design</em>'.
+     * @see #doSwitch(org.eclipse.emf.ecore.EObject) doSwitch(EObject)
+     * @generated
+     */
+    public T caseLatinHypercubeDesign(final LatinHypercubeDesign object) {
+        return null;
+    }
+
+    /**
+     * Returns the result of interpreting the object as an instance of '<em>Adaptive
+     * Design</em>'. <!-- begin-user-doc --> This implementation returns null; returning a non-null
+     * result will terminate the switch. <!-- end-user-doc -->
+     *
+     * @param object
+     *            the target of the switch.
+     * @return the result of interpreting the object as an instance of '<em>Adaptive Design</em>'.
+     * @see #doSwitch(org.eclipse.emf.ecore.EObject) doSwitch(EObject)
+     * @generated
+     */
+    public T caseAdaptiveDesign(final AdaptiveDesign object) {
+        return null;
+    }
+
+    /**
+     * Returns the result of interpreting the object as an instance of '<em>Screening
+     * Design</em>'. <!-- begin-user-doc --> This implementation returns null; returning a non-null
+     * result will terminate the switch. <!-- end-user-doc -->
+     *
+     * @param object
+     *            the target of the switch.
+     * @return the result of interpreting the object as an instance of '<em>Screening Design</em>'.
+     * @see #doSwitch(org.eclipse.emf.ecore.EObject) doSwitch(EObject)
+     * @generated
+     */
+    public T caseScreeningDesign(final ScreeningDesign object) {
+        return null;
+    }
+
+    /**
+     * Returns the result of interpreting the object as an instance of '<em>Morris
+     * Design</em>'. <!-- begin-user-doc --> This implementation returns null; returning a non-null
+     * result will terminate the switch. <!-- end-user-doc -->
+     *
+     * @param object
+     *            the target of the switch.
+     * @return the result of interpreting the object as an instance of '<em>Morris Design</em>'.
+     * @see #doSwitch(org.eclipse.emf.ecore.EObject) doSwitch(EObject)
+     * @generated
+     */
+    public T caseMorrisDesign(final MorrisDesign object) {
+        return null;
+    }
+
     /**
      * Returns the result of interpreting the object as an instance of '<em>EObject</em>'. <!--
      * begin-user-doc --> This implementation returns null; returning a non-null result will
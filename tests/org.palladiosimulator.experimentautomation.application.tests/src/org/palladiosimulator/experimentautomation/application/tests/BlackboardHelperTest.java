@@ -0,0 +1,87 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.Test;
+import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
+import org.palladiosimulator.experimentautomation.application.utils.BlackboardHelper;
+
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.ResourceSetPartition;
+
+public class BlackboardHelperTest {
+
+    private static final String PARTITION_ID = LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID;
+    private static final String OTHER_PARTITION_ID = "other";
+
+    @Test
+    public void testCopiedPartitionReferencesCopiedObjects() {
+        final ResourceSetPartition partition = createPartition();
+        final ResourceSetPartition copy = BlackboardHelper.copyPartition(partition);
+
+        assertSame(partition.getClass(), copy.getClass());
+        assertEquals(1, copy.getResourceSet().getResources().size());
+        final Resource resource = partition.getResourceSet().getResources().get(0);
+        final Resource copiedResource = copy.getResourceSet().getResources().get(0);
+        assertEquals(resource.getURI(), copiedResource.getURI());
+
+        final EPackage copiedPackage = (EPackage) copiedResource.getContents().get(0);
+        assertNotSame(resource.getContents().get(0), copiedPackage);
+        final EClass copiedBase = (EClass) copiedPackage.getEClassifier("Base");
+        final EClass copiedDerived = (EClass) copiedPackage.getEClassifier("Derived");
+        assertSame(copiedBase, copiedDerived.getESuperTypes().get(0));
+    }
+
+    @Test
+    public void testIsolatedCopyDoesNotAffectOriginal() {
+        final MDSDBlackboard blackboard = new MDSDBlackboard();
+        blackboard.addPartition(PARTITION_ID, createPartition());
+        blackboard.addPartition(OTHER_PARTITION_ID, createPartition());
+
+        final MDSDBlackboard copy = BlackboardHelper.createIsolatedCopy(blackboard);
+        assertTrue(copy.hasPartition(PARTITION_ID));
+        // only the partitions Experiment Automation works with are copied
+        assertFalse(copy.hasPartition(OTHER_PARTITION_ID));
+
+        getPackage(copy).setName("modified");
+        assertEquals("test", getPackage(blackboard).getName());
+    }
+
+    private static EPackage getPackage(final MDSDBlackboard blackboard) {
+        return (EPackage) blackboard.getPartition(PARTITION_ID).getResourceSet().getResources().get(0).getContents()
+                .get(0);
+    }
+
+    /**
+     * Creates a partition holding a package with two classes, one of them derived from the other.
+     */
+    private static ResourceSetPartition createPartition() {
+        final EClass base = EcoreFactory.eINSTANCE.createEClass();
+        base.setName("Base");
+        final EClass derived = EcoreFactory.eINSTANCE.createEClass();
+        derived.setName("Derived");
+        derived.getESuperTypes().add(base);
+
+        final EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("test");
+        ePackage.getEClassifiers().add(base);
+        ePackage.getEClassifiers().add(derived);
+
+        final Resource resource = new XMIResourceImpl(URI.createURI("test.ecore"));
+        resource.getContents().add(ePackage);
+        final ResourceSetPartition partition = new ResourceSetPartition();
+        partition.getResourceSet().getResources().add(resource);
+        return partition;
+    }
+
+}
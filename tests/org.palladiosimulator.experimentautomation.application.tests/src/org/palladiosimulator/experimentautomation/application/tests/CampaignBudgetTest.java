@@ -0,0 +1,56 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.scheduling.CampaignBudget;
+
+public class CampaignBudgetTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    /** Tolerance in milliseconds for the time passing while the test runs. */
+    private static final long TOLERANCE = 10 * 1000L;
+
+    @Test
+    public void testRemainingTimeIsSharedAmongPendingRuns() {
+        final CampaignBudget budget = new CampaignBudget(12 * HOUR, 2);
+        budget.addPendingRuns(6);
+        assertFalse(budget.isExhausted());
+
+        // two of six pending runs execute concurrently, so each gets a third of the budget
+        assertEquals(4 * HOUR, budget.allocate(), TOLERANCE);
+        // the allocated run and two skipped runs leave their shares to the three runs still pending
+        budget.skipPendingRuns(2);
+        assertEquals(8 * HOUR, budget.allocate(), TOLERANCE);
+        // skipping more runs than pending leaves a single run, which gets the remaining time
+        budget.skipPendingRuns(5);
+        assertEquals(12 * HOUR, budget.allocate(), TOLERANCE);
+    }
+
+    @Test
+    public void testLastRunGetsTheRemainingTime() {
+        final CampaignBudget budget = new CampaignBudget(HOUR, 4);
+        budget.addPendingRuns(1);
+        assertEquals(HOUR, budget.allocate(), TOLERANCE);
+        // runs that were not announced get the remaining time as well
+        assertEquals(HOUR, budget.allocate(), TOLERANCE);
+    }
+
+    @Test
+    public void testExhaustedBudgetAllocatesNothing() throws InterruptedException {
+        final CampaignBudget budget = new CampaignBudget(1, 1);
+        budget.addPendingRuns(2);
+        Thread.sleep(10);
+        assertTrue(budget.isExhausted());
+        assertEquals(0, budget.allocate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonPositiveBudgetIsRejected() {
+        new CampaignBudget(0, 1);
+    }
+
+}
@@ -0,0 +1,134 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+
+public class CampaignJournalTest {
+
+    private static final String FIRST_RUN = CampaignJournal.createKey("experiment", 0, Arrays.<Object> asList(1, 2),
+            1);
+    private static final String SECOND_RUN = CampaignJournal.createKey("experiment", 0,
+            Arrays.<Object> asList(1, 4), 1);
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        this.file = File.createTempFile("campaign", ".journal");
+        this.file.delete();
+    }
+
+    @After
+    public void tearDown() {
+        this.file.delete();
+    }
+
+    @Test
+    public void testResume() throws IOException {
+        CampaignJournal journal = CampaignJournal.open(this.file);
+        journal.markViolated(FIRST_RUN);
+        journal.markCompleted(FIRST_RUN);
+        journal.recordSearchStep(SECOND_RUN, true);
+        journal.recordSearchStep(SECOND_RUN, false);
+        journal.close();
+
+        journal = CampaignJournal.open(this.file);
+        assertTrue(journal.isCompleted(FIRST_RUN));
+        assertTrue(journal.isViolated(FIRST_RUN));
+        assertFalse(journal.isCompleted(SECOND_RUN));
+        assertEquals(Arrays.asList(true, false), journal.getSearchSteps(SECOND_RUN));
+        journal.close();
+    }
+
+    @Test
+    public void testPartialLastLineIsIgnored() throws IOException {
+        this.write("COMPLETED\t" + FIRST_RUN + "\nCOMPLETED\t" + SECOND_RUN);
+
+        final CampaignJournal journal = CampaignJournal.open(this.file);
+        assertTrue(journal.isCompleted(FIRST_RUN));
+        assertFalse(journal.isCompleted(SECOND_RUN));
+        journal.close();
+    }
+
+    @Test
+    public void testAppendAfterPartialLine() throws IOException {
+        this.write("COMPLETED\t" + FIRST_RUN + "\nCOMPL");
+
+        CampaignJournal journal = CampaignJournal.open(this.file);
+        journal.markCompleted(SECOND_RUN);
+        journal.close();
+
+        journal = CampaignJournal.open(this.file);
+        assertTrue(journal.isCompleted(FIRST_RUN));
+        assertTrue(journal.isCompleted(SECOND_RUN));
+        journal.close();
+    }
+
+    @Test
+    public void testViolationRatioIsReplayed() throws IOException {
+        CampaignJournal journal = CampaignJournal.open(this.file);
+        journal.recordViolationRatio(FIRST_RUN, 0.25);
+        journal.markCompleted(FIRST_RUN);
+        journal.recordViolationRatio(SECOND_RUN, Double.NaN);
+        journal.markInferredViolation(SECOND_RUN);
+        journal.close();
+
+        journal = CampaignJournal.open(this.file);
+        assertEquals(0.25, journal.getViolationRatio(FIRST_RUN), 0.0);
+        assertTrue(Double.isNaN(journal.getViolationRatio(SECOND_RUN)));
+        journal.close();
+    }
+
+    @Test
+    public void testTruncationTimesAreReplayed() throws IOException {
+        CampaignJournal journal = CampaignJournal.open(this.file);
+        journal.recordTruncationTime(FIRST_RUN, "Usage Scenario: Browse\tResponse Time", 120.5);
+        journal.recordTruncationTime(FIRST_RUN, "Usage Scenario: Buy Response Time", Double.NEGATIVE_INFINITY);
+        journal.markCompleted(FIRST_RUN);
+        journal.close();
+
+        journal = CampaignJournal.open(this.file);
+        final Map<String, Double> truncationTimes = journal.getTruncationTimes(FIRST_RUN);
+        assertEquals(2, truncationTimes.size());
+        assertEquals(120.5, truncationTimes.get("Usage Scenario: Browse Response Time"), 0.0);
+        assertEquals(Double.NEGATIVE_INFINITY, truncationTimes.get("Usage Scenario: Buy Response Time"), 0.0);
+        assertTrue(journal.getTruncationTimes(SECOND_RUN).isEmpty());
+        journal.close();
+    }
+
+    @Test
+    public void testTimedOutRunIsNotCompleted() throws IOException {
+        CampaignJournal journal = CampaignJournal.open(this.file);
+        journal.markTimedOut(FIRST_RUN);
+        journal.close();
+
+        journal = CampaignJournal.open(this.file);
+        assertTrue(journal.isTimedOut(FIRST_RUN));
+        assertFalse(journal.isCompleted(FIRST_RUN));
+        journal.markCompleted(FIRST_RUN);
+        assertFalse(journal.isTimedOut(FIRST_RUN));
+        journal.close();
+    }
+
+    private void write(final String content) throws IOException {
+        final FileOutputStream output = new FileOutputStream(this.file);
+        try {
+            output.write(content.getBytes("UTF-8"));
+        } finally {
+            output.close();
+        }
+    }
+
+}
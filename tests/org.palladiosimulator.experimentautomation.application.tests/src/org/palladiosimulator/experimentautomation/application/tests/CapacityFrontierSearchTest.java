@@ -0,0 +1,108 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.variation.CapacityFrontierSearch;
+
+public class CapacityFrontierSearchTest {
+
+    /** Largest total load that does not violate an SLO. */
+    private static final double CAPACITY = 100.0;
+
+    @Test
+    public void testViolationAtMinimumYieldsEmptyFrontier() {
+        final CapacityFrontierSearch search = new CapacityFrontierSearch(new double[] { 10.0, 10.0 }, new double[] {
+                200.0, 200.0 }, new boolean[] { false, false });
+        assertArrayEquals(new double[] { 10.0, 10.0 }, search.getProbe(), 0.0);
+
+        search.record(true);
+        assertTrue(search.isConverged());
+        assertTrue(search.getFrontier().isEmpty());
+    }
+
+    @Test
+    public void testSingleIntegralVariationFindsCapacity() {
+        final CapacityFrontierSearch search = new CapacityFrontierSearch(new double[] { 1.0 },
+                new double[] { 200.0 }, new boolean[] { true });
+        runSearch(search, null);
+
+        assertEquals(1, search.getFrontier().size());
+        assertArrayEquals(new double[] { CAPACITY }, search.getFrontier().get(0), 0.0);
+    }
+
+    @Test
+    public void testFrontierPointsLieOnBoundary() {
+        final CapacityFrontierSearch search = createTwoDimensionalSearch();
+        final int probes = runSearch(search, null);
+
+        // rays at 0, 22.5, 45, 67.5, and 90 degrees
+        assertEquals(5, search.getFrontier().size());
+        for (final double[] frontierPoint : search.getFrontier()) {
+            final double load = frontierPoint[0] + frontierPoint[1];
+            assertTrue(load <= CAPACITY);
+            assertTrue(load >= CAPACITY - 4.0);
+        }
+
+        // probes inferred from earlier rays are not analyzed; otherwise, each ray takes 8 probes
+        assertTrue(probes < 1 + 5 * 8);
+    }
+
+    @Test
+    public void testReplayedOutcomesRestoreSearch() {
+        final List<Boolean> outcomes = new ArrayList<Boolean>();
+        final CapacityFrontierSearch search = createTwoDimensionalSearch();
+        runSearch(search, outcomes);
+
+        final CapacityFrontierSearch replayedSearch = createTwoDimensionalSearch();
+        for (final boolean sloWasViolated : outcomes) {
+            replayedSearch.record(sloWasViolated);
+        }
+        assertTrue(replayedSearch.isConverged());
+        assertEquals(search.getFrontier().size(), replayedSearch.getFrontier().size());
+        for (int i = 0; i < search.getFrontier().size(); i++) {
+            assertArrayEquals(search.getFrontier().get(i), replayedSearch.getFrontier().get(i), 0.0);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRecordAfterConvergenceFails() {
+        final CapacityFrontierSearch search = createTwoDimensionalSearch();
+        runSearch(search, null);
+        search.record(false);
+    }
+
+    private static CapacityFrontierSearch createTwoDimensionalSearch() {
+        return new CapacityFrontierSearch(new double[] { 0.0, 0.0 }, new double[] { 200.0, 200.0 }, new boolean[] {
+                false, false });
+    }
+
+    /**
+     * Analyzes the probes of the given search until it converges; an SLO is violated if the total
+     * load exceeds the capacity.
+     * 
+     * @return the number of analyzed probes.
+     */
+    private static int runSearch(final CapacityFrontierSearch search, final List<Boolean> outcomes) {
+        int probes = 0;
+        while (!search.isConverged()) {
+            double load = 0.0;
+            for (final double factor : search.getProbe()) {
+                load += factor;
+            }
+            final boolean sloWasViolated = load > CAPACITY;
+            if (outcomes != null) {
+                outcomes.add(sloWasViolated);
+            }
+            search.record(sloWasViolated);
+            probes++;
+        }
+        return probes;
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.scheduling.CostHistory;
+import org.palladiosimulator.experimentautomation.application.scheduling.DesignPointScheduler;
+import org.palladiosimulator.experimentautomation.application.variation.MonotonePruner;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsFactory;
+import org.palladiosimulator.experimentautomation.experiments.Monotonicity;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+import org.palladiosimulator.experimentautomation.variation.ValueVariation;
+import org.palladiosimulator.experimentautomation.variation.VariationFactory;
+
+public class DesignPointSchedulerTest {
+
+    private static final int LEVELS = 10;
+
+    /** Design points with a load of at least this level violate an SLO. */
+    private static final int VIOLATING_LEVEL = 4;
+
+    @Test
+    public void testIncomparableDesignPointsAreOrderedByCost() {
+        final Variation population = createVariation("population", Monotonicity.NONE);
+        final List<List<VariationFactorTuple>> designPoints = new ArrayList<List<VariationFactorTuple>>();
+        for (int level = 1; level <= LEVELS; level++) {
+            designPoints.add(createDesignPoint(population, level));
+        }
+
+        final List<List<VariationFactorTuple>> schedule = createScheduler().schedule(designPoints.iterator());
+        assertEquals(LEVELS, schedule.size());
+        for (int i = 0; i < LEVELS; i++) {
+            assertEquals(LEVELS - i, schedule.get(i).get(0).getFactor());
+        }
+    }
+
+    @Test
+    public void testDesignPointsArePrunableWhenStarted() {
+        final List<List<VariationFactorTuple>> schedule = createScheduler().schedule(
+                createMonotoneDesignPoints().iterator());
+        assertEquals(2 * LEVELS, schedule.size());
+
+        // no design point is started after a design point it may prune
+        for (int i = 0; i < schedule.size(); i++) {
+            for (int j = i + 1; j < schedule.size(); j++) {
+                assertFalse(MonotonePruner.prunes(schedule.get(j), schedule.get(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testPruningOfConcurrentlyAnalyzedDesignPoints() {
+        final List<List<VariationFactorTuple>> schedule = createScheduler().schedule(
+                createMonotoneDesignPoints().iterator());
+
+        // two design points are analyzed at the same time; the earlier one finishes first
+        final MonotonePruner pruner = new MonotonePruner();
+        final LinkedList<List<VariationFactorTuple>> running = new LinkedList<List<VariationFactorTuple>>();
+        int analyzed = 0;
+        for (final List<VariationFactorTuple> designPoint : schedule) {
+            if (running.size() == 2) {
+                finish(running.removeFirst(), pruner);
+            }
+            if (!pruner.isDominated(designPoint)) {
+                running.add(designPoint);
+                analyzed++;
+            }
+        }
+
+        // per option, the design points up to the first violation and one concurrently analyzed one
+        assertEquals(2 * (VIOLATING_LEVEL + 1), analyzed);
+    }
+
+    private static void finish(final List<VariationFactorTuple> designPoint, final MonotonePruner pruner) {
+        if (((Integer) designPoint.get(0).getFactor()) >= VIOLATING_LEVEL) {
+            pruner.recordViolation(designPoint, Double.NaN);
+        }
+    }
+
+    /**
+     * Creates the design points of an increasing load variation and an option without monotone
+     * influence.
+     */
+    private static List<List<VariationFactorTuple>> createMonotoneDesignPoints() {
+        final Variation load = createVariation("load", Monotonicity.INCREASING);
+        final Variation option = createVariation("option", Monotonicity.NONE);
+        final List<List<VariationFactorTuple>> designPoints = new ArrayList<List<VariationFactorTuple>>();
+        for (final String value : Arrays.asList("a", "b")) {
+            for (int level = 1; level <= LEVELS; level++) {
+                final List<VariationFactorTuple> designPoint = createDesignPoint(load, level);
+                designPoint.add(new VariationFactorTuple<Object>(option, value));
+                designPoints.add(designPoint);
+            }
+        }
+        return designPoints;
+    }
+
+    private static List<VariationFactorTuple> createDesignPoint(final Variation variation, final Object factor) {
+        final List<VariationFactorTuple> designPoint = new ArrayList<VariationFactorTuple>();
+        designPoint.add(new VariationFactorTuple<Object>(variation, factor));
+        return designPoint;
+    }
+
+    private static Variation createVariation(final String name, final Monotonicity monotonicity) {
+        final ValueVariation type = VariationFactory.eINSTANCE.createValueVariation();
+        type.setStrategyClass("org.palladiosimulator.experimentautomation.application.variation."
+                + "ClosedWorkloadVariation");
+
+        final Variation variation = ExperimentsFactory.eINSTANCE.createVariation();
+        variation.setName(name);
+        variation.setMonotonicity(monotonicity);
+        variation.setType(type);
+        return variation;
+    }
+
+    private static DesignPointScheduler createScheduler() {
+        final Experiment experiment = ExperimentsFactory.eINSTANCE.createExperiment();
+        experiment.setId("experiment");
+        return new DesignPointScheduler(experiment, null, new CostHistory());
+    }
+
+}
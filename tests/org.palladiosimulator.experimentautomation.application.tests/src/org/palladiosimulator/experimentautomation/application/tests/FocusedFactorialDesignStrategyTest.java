@@ -0,0 +1,75 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.design.FocusedFactorialDesignStrategy;
+
+public class FocusedFactorialDesignStrategyTest {
+
+    private static final int[] LEVEL_COUNTS = new int[] { 3, 2, 2 };
+
+    @Test
+    public void testUnfocusedVariationsStayAtFirstLevel() {
+        final FocusedFactorialDesignStrategy strategy = new FocusedFactorialDesignStrategy(new boolean[] { true,
+                false, true }, new ArrayList<int[]>().iterator());
+
+        final Set<List<Integer>> designPoints = toSet(strategy.createDesign(LEVEL_COUNTS));
+        assertEquals(6, designPoints.size());
+        assertEquals(6, strategy.size(LEVEL_COUNTS));
+        for (final List<Integer> designPoint : designPoints) {
+            assertEquals(Integer.valueOf(0), designPoint.get(1));
+        }
+    }
+
+    @Test
+    public void testExcludedDesignPointsAreNotCreated() {
+        final List<int[]> excludedDesignPoints = new ArrayList<int[]>();
+        excludedDesignPoints.add(new int[] { 0, 0, 0 });
+        excludedDesignPoints.add(new int[] { 2, 0, 1 });
+        // not within the focused design
+        excludedDesignPoints.add(new int[] { 2, 1, 1 });
+        final FocusedFactorialDesignStrategy strategy = new FocusedFactorialDesignStrategy(new boolean[] { true,
+                false, true }, excludedDesignPoints.iterator());
+
+        final Set<List<Integer>> designPoints = toSet(strategy.createDesign(LEVEL_COUNTS));
+        assertEquals(4, designPoints.size());
+        assertEquals(4, strategy.size(LEVEL_COUNTS));
+        assertFalse(designPoints.contains(Arrays.asList(0, 0, 0)));
+        assertFalse(designPoints.contains(Arrays.asList(2, 0, 1)));
+        assertTrue(designPoints.contains(Arrays.asList(1, 0, 1)));
+    }
+
+    @Test
+    public void testWithoutFocusedVariations() {
+        final List<int[]> excludedDesignPoints = new ArrayList<int[]>();
+        excludedDesignPoints.add(new int[] { 0, 0, 0 });
+        final FocusedFactorialDesignStrategy strategy = new FocusedFactorialDesignStrategy(new boolean[3],
+                excludedDesignPoints.iterator());
+
+        assertEquals(0, strategy.size(LEVEL_COUNTS));
+        assertFalse(strategy.createDesign(LEVEL_COUNTS).hasNext());
+    }
+
+    private static Set<List<Integer>> toSet(final Iterator<int[]> designPoints) {
+        final Set<List<Integer>> set = new HashSet<List<Integer>>();
+        while (designPoints.hasNext()) {
+            final List<Integer> designPoint = new ArrayList<Integer>();
+            for (final int level : designPoints.next()) {
+                designPoint.add(level);
+            }
+            set.add(designPoint);
+        }
+        return set;
+    }
+
+}
@@ -0,0 +1,47 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.design.GaussianProcessSurrogate;
+
+public class GaussianProcessSurrogateTest {
+
+    @Test
+    public void testObservationsAreReproduced() {
+        final GaussianProcessSurrogate surrogate = new GaussianProcessSurrogate();
+        surrogate.addObservation(new double[] { 0.0, 0.0 }, 0.1);
+        surrogate.addObservation(new double[] { 1.0, 0.0 }, 0.9);
+        surrogate.addObservation(new double[] { 0.5, 1.0 }, 0.4);
+        assertEquals(3, surrogate.getObservationCount());
+
+        // the noise variance allows small deviations from the observed responses
+        assertEquals(0.1, surrogate.predictMean(new double[] { 0.0, 0.0 }), 0.05);
+        assertEquals(0.9, surrogate.predictMean(new double[] { 1.0, 0.0 }), 0.05);
+        assertEquals(0.4, surrogate.predictMean(new double[] { 0.5, 1.0 }), 0.05);
+    }
+
+    @Test
+    public void testUncertaintyGrowsWithDistance() {
+        final GaussianProcessSurrogate surrogate = new GaussianProcessSurrogate();
+        surrogate.addObservation(new double[] { 0.0 }, 0.2);
+        surrogate.addObservation(new double[] { 0.1 }, 0.3);
+
+        final double observed = surrogate.predictStandardDeviation(new double[] { 0.0 });
+        final double near = surrogate.predictStandardDeviation(new double[] { 0.3 });
+        final double far = surrogate.predictStandardDeviation(new double[] { 1.0 });
+        assertTrue(observed < near);
+        assertTrue(near < far);
+    }
+
+    @Test
+    public void testPredictionFarAwayReturnsToMean() {
+        final GaussianProcessSurrogate surrogate = new GaussianProcessSurrogate();
+        surrogate.addObservation(new double[] { 0.0 }, 0.2);
+        surrogate.addObservation(new double[] { 0.05 }, 0.4);
+        // far beyond the length scale, the prediction is the prior mean
+        assertEquals(0.3, surrogate.predictMean(new double[] { 3.0 }), 1e-6);
+    }
+
+}
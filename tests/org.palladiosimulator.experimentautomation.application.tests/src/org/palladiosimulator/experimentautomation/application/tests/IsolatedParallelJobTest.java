@@ -0,0 +1,220 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.jobs.IsolatedParallelJob;
+
+import de.uka.ipd.sdq.workflow.jobs.CleanupFailedException;
+import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
+import de.uka.ipd.sdq.workflow.jobs.SequentialBlackboardInteractingJob;
+import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+public class IsolatedParallelJobTest {
+
+    private static final int JOBS = 8;
+    private static final int PARALLELISM = 3;
+
+    /** Jobs wait until this latch is released, at most for some seconds. */
+    private volatile CountDownLatch allWorkersBusy = new CountDownLatch(0);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicInteger finished = new AtomicInteger();
+
+    @Test
+    public void testJobsRunOnIsolatedBlackboards() throws Exception {
+        final MDSDBlackboard blackboard = new MDSDBlackboard();
+        final IsolatedParallelJob parallelJob = new IsolatedParallelJob(PARALLELISM);
+        parallelJob.setBlackboard(blackboard);
+        final List<RecordingJob> jobs = new ArrayList<RecordingJob>();
+        for (int i = 0; i < JOBS; i++) {
+            final RecordingJob job = new RecordingJob(false);
+            jobs.add(job);
+            parallelJob.addParallelJob(job);
+        }
+
+        parallelJob.execute(new NullProgressMonitor());
+
+        final Set<MDSDBlackboard> blackboards = Collections
+                .newSetFromMap(new IdentityHashMap<MDSDBlackboard, Boolean>());
+        for (final RecordingJob job : jobs) {
+            assertTrue(job.executed);
+            assertTrue(job.cleanedUp);
+            assertNotSame(blackboard, job.getBlackboard());
+            blackboards.add(job.getBlackboard());
+        }
+        assertEquals(JOBS, blackboards.size());
+    }
+
+    @Test
+    public void testParallelismBoundsRunningJobs() throws Exception {
+        // released once as many jobs as the parallelism allows are running at the same time
+        this.allWorkersBusy = new CountDownLatch(PARALLELISM);
+        final IsolatedParallelJob parallelJob = new IsolatedParallelJob(PARALLELISM);
+        parallelJob.setBlackboard(new MDSDBlackboard());
+        for (int i = 0; i < JOBS; i++) {
+            parallelJob.addParallelJob(new RecordingJob(false));
+        }
+
+        parallelJob.execute(new NullProgressMonitor());
+
+        assertEquals(PARALLELISM, this.maxRunning.get());
+        assertEquals(JOBS, this.finished.get());
+    }
+
+    @Test
+    public void testJobsOfIteratorAreCreatedOnDemand() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger maxUnfinished = new AtomicInteger();
+        final Iterator<RecordingJob> jobs = new Iterator<RecordingJob>() {
+
+            @Override
+            public boolean hasNext() {
+                return created.get() < JOBS;
+            }
+
+            @Override
+            public RecordingJob next() {
+                final int unfinished = created.incrementAndGet() - IsolatedParallelJobTest.this.finished.get();
+                maxUnfinished.set(Math.max(maxUnfinished.get(), unfinished));
+                return new RecordingJob(false);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+        };
+        final IsolatedParallelJob parallelJob = new IsolatedParallelJob(PARALLELISM, jobs);
+        parallelJob.setBlackboard(new MDSDBlackboard());
+
+        parallelJob.execute(new NullProgressMonitor());
+
+        assertEquals(JOBS, created.get());
+        assertEquals(JOBS, this.finished.get());
+        assertTrue(maxUnfinished.get() <= PARALLELISM);
+    }
+
+    @Test
+    public void testFailedJobStopsFurtherJobs() throws Exception {
+        final IsolatedParallelJob parallelJob = new IsolatedParallelJob(1);
+        parallelJob.setBlackboard(new MDSDBlackboard());
+        final List<RecordingJob> jobs = new ArrayList<RecordingJob>();
+        for (int i = 0; i < JOBS; i++) {
+            final RecordingJob job = new RecordingJob(i == 1);
+            jobs.add(job);
+            parallelJob.addParallelJob(job);
+        }
+
+        try {
+            parallelJob.execute(new NullProgressMonitor());
+            fail("Expected the failure of the second job");
+        } catch (final JobFailedException e) {
+            assertSame(jobs.get(1).failure, e);
+        }
+
+        assertTrue(jobs.get(0).executed);
+        assertTrue(jobs.get(1).executed);
+        assertTrue(jobs.get(1).cleanedUp);
+        for (final RecordingJob job : jobs.subList(2, JOBS)) {
+            assertFalse(job.executed);
+        }
+    }
+
+    @Test(expected = UserCanceledException.class)
+    public void testCanceledMonitorStartsNoJobs() throws Exception {
+        final IsolatedParallelJob parallelJob = new IsolatedParallelJob(PARALLELISM);
+        parallelJob.setBlackboard(new MDSDBlackboard());
+        parallelJob.addParallelJob(new RecordingJob(false));
+
+        final IProgressMonitor monitor = new NullProgressMonitor();
+        monitor.setCanceled(true);
+        try {
+            parallelJob.execute(monitor);
+        } finally {
+            assertEquals(0, this.finished.get());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelismHasToBePositive() {
+        new IsolatedParallelJob(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testJobsCannotBeAddedToIterator() {
+        new IsolatedParallelJob(PARALLELISM, new ArrayList<RecordingJob>().iterator())
+                .addParallelJob(new RecordingJob(false));
+    }
+
+    /**
+     * Records its execution and the number of jobs running at the same time.
+     */
+    private class RecordingJob extends SequentialBlackboardInteractingJob<MDSDBlackboard> {
+
+        private final JobFailedException failure;
+        private volatile boolean executed;
+        private volatile boolean cleanedUp;
+
+        public RecordingJob(final boolean failing) {
+            super(false);
+            this.failure = failing ? new JobFailedException("Failing job") : null;
+        }
+
+        @Override
+        public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+            this.executed = true;
+            final int runningJobs = IsolatedParallelJobTest.this.running.incrementAndGet();
+            synchronized (IsolatedParallelJobTest.this.maxRunning) {
+                IsolatedParallelJobTest.this.maxRunning.set(Math.max(IsolatedParallelJobTest.this.maxRunning.get(),
+                        runningJobs));
+            }
+
+            try {
+                IsolatedParallelJobTest.this.allWorkersBusy.countDown();
+                IsolatedParallelJobTest.this.allWorkersBusy.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                throw new UserCanceledException();
+            } finally {
+                IsolatedParallelJobTest.this.running.decrementAndGet();
+                IsolatedParallelJobTest.this.finished.incrementAndGet();
+            }
+
+            if (this.failure != null) {
+                throw this.failure;
+            }
+        }
+
+        @Override
+        public void cleanup(final IProgressMonitor monitor) throws CleanupFailedException {
+            this.cleanedUp = true;
+            super.cleanup(monitor);
+        }
+
+        @Override
+        public String getName() {
+            return "Recording Job";
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.design.LatinHypercubeDesignStrategy;
+
+public class LatinHypercubeDesignStrategyTest {
+
+    @Test
+    public void testEachStratumIsSampledOnce() {
+        final List<int[]> designPoints = toList(new LatinHypercubeDesignStrategy(10).createDesign(new int[] { 10,
+                10, 10 }));
+        assertEquals(10, designPoints.size());
+        for (int i = 0; i < 3; i++) {
+            final Set<Integer> levels = new HashSet<Integer>();
+            for (final int[] designPoint : designPoints) {
+                levels.add(designPoint[i]);
+            }
+            assertEquals(10, levels.size());
+        }
+    }
+
+    @Test
+    public void testStrataSpanLevels() {
+        // 5 strata of 4 levels each
+        final List<int[]> designPoints = toList(new LatinHypercubeDesignStrategy(5).createDesign(new int[] { 20 }));
+        final Set<Integer> strata = new HashSet<Integer>();
+        for (final int[] designPoint : designPoints) {
+            assertTrue(designPoint[0] >= 0 && designPoint[0] < 20);
+            strata.add(designPoint[0] / 4);
+        }
+        assertEquals(5, strata.size());
+    }
+
+    @Test
+    public void testDesignIsReproducible() {
+        final int[] levelCounts = new int[] { 7, 13, 4 };
+        final List<int[]> first = toList(new LatinHypercubeDesignStrategy(8).createDesign(levelCounts));
+        final List<int[]> second = toList(new LatinHypercubeDesignStrategy(8).createDesign(levelCounts));
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertArrayEquals(first.get(i), second.get(i));
+        }
+    }
+
+    @Test
+    public void testCoincidingSamplesAreAnalyzedOnce() {
+        final LatinHypercubeDesignStrategy strategy = new LatinHypercubeDesignStrategy(10);
+        assertEquals(2, strategy.size(new int[] { 2 }));
+        assertEquals(0, strategy.size(new int[] { 3, 0 }));
+    }
+
+    private static List<int[]> toList(final Iterator<int[]> designPoints) {
+        final List<int[]> list = new ArrayList<int[]>();
+        while (designPoints.hasNext()) {
+            list.add(designPoints.next());
+        }
+        return list;
+    }
+
+}
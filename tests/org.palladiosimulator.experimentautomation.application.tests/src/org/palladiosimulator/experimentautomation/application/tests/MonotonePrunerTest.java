@@ -0,0 +1,93 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.variation.MonotonePruner;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsFactory;
+import org.palladiosimulator.experimentautomation.experiments.Monotonicity;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+public class MonotonePrunerTest {
+
+    private final Variation users = createVariation("users", Monotonicity.INCREASING);
+    private final Variation interArrivalTime = createVariation("interArrivalTime", Monotonicity.DECREASING);
+    private final Variation option = createVariation("option", Monotonicity.NONE);
+
+    @Test
+    public void testHigherLoadIsDominated() {
+        final MonotonePruner pruner = new MonotonePruner();
+        pruner.recordViolation(this.createDesignPoint(100, 2.0, "a"), 0.2);
+
+        assertTrue(pruner.isDominated(this.createDesignPoint(100, 2.0, "a")));
+        assertTrue(pruner.isDominated(this.createDesignPoint(150, 2.0, "a")));
+        assertTrue(pruner.isDominated(this.createDesignPoint(100, 1.0, "a")));
+        assertTrue(pruner.isDominated(this.createDesignPoint(150, 1.0, "a")));
+    }
+
+    @Test
+    public void testLowerOrIncomparableLoadIsNotDominated() {
+        final MonotonePruner pruner = new MonotonePruner();
+        pruner.recordViolation(this.createDesignPoint(100, 2.0, "a"), 0.2);
+
+        assertFalse(pruner.isDominated(this.createDesignPoint(50, 2.0, "a")));
+        assertFalse(pruner.isDominated(this.createDesignPoint(100, 3.0, "a")));
+        assertFalse(pruner.isDominated(this.createDesignPoint(150, 3.0, "a")));
+        assertFalse(pruner.isDominated(this.createDesignPoint(150, 1.0, "b")));
+    }
+
+    @Test
+    public void testDesignPointsWithoutMonotoneVariationAreNotRecorded() {
+        final MonotonePruner pruner = new MonotonePruner();
+        final List<VariationFactorTuple> designPoint = new ArrayList<VariationFactorTuple>();
+        designPoint.add(new VariationFactorTuple<Object>(this.option, "a"));
+        pruner.recordViolation(designPoint, 0.2);
+
+        assertFalse(pruner.isDominated(designPoint));
+        assertFalse(MonotonePruner.prunes(designPoint, designPoint));
+    }
+
+    @Test
+    public void testInferredResponseIsLargestDominatingRatio() {
+        final MonotonePruner pruner = new MonotonePruner();
+        pruner.recordViolation(this.createDesignPoint(100, 2.0, "a"), 0.2);
+        pruner.recordViolation(this.createDesignPoint(120, 2.0, "a"), 0.5);
+        pruner.recordViolation(this.createDesignPoint(110, 2.0, "a"), Double.NaN);
+
+        assertEquals(0.2, pruner.getInferredResponse(this.createDesignPoint(110, 2.0, "a")), 0.0);
+        assertEquals(0.5, pruner.getInferredResponse(this.createDesignPoint(130, 2.0, "a")), 0.0);
+        assertTrue(Double.isNaN(pruner.getInferredResponse(this.createDesignPoint(130, 2.0, "b"))));
+    }
+
+    @Test
+    public void testPrunes() {
+        final List<VariationFactorTuple> designPoint = this.createDesignPoint(100, 2.0, "a");
+
+        assertTrue(MonotonePruner.prunes(designPoint, this.createDesignPoint(150, 1.0, "a")));
+        assertFalse(MonotonePruner.prunes(designPoint, this.createDesignPoint(50, 1.0, "a")));
+        assertFalse(MonotonePruner.prunes(this.createDesignPoint(150, 1.0, "a"), designPoint));
+    }
+
+    private List<VariationFactorTuple> createDesignPoint(final long users, final double interArrivalTime,
+            final String option) {
+        final List<VariationFactorTuple> designPoint = new ArrayList<VariationFactorTuple>();
+        designPoint.add(new VariationFactorTuple<Object>(this.users, users));
+        designPoint.add(new VariationFactorTuple<Object>(this.interArrivalTime, interArrivalTime));
+        designPoint.add(new VariationFactorTuple<Object>(this.option, option));
+        return designPoint;
+    }
+
+    private static Variation createVariation(final String name, final Monotonicity monotonicity) {
+        final Variation variation = ExperimentsFactory.eINSTANCE.createVariation();
+        variation.setName(name);
+        variation.setMonotonicity(monotonicity);
+        return variation;
+    }
+
+}
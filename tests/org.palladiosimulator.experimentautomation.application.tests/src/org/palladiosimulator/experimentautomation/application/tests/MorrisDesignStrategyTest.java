@@ -0,0 +1,73 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.design.MorrisDesignStrategy;
+
+public class MorrisDesignStrategyTest {
+
+    private static final int[] LEVEL_COUNTS = new int[] { 4, 1, 5, 2 };
+
+    @Test
+    public void testTrajectoriesMoveEachVariationOnce() {
+        final List<List<int[]>> trajectories = new MorrisDesignStrategy(10).createTrajectories(LEVEL_COUNTS);
+        assertEquals(10, trajectories.size());
+
+        for (final List<int[]> trajectory : trajectories) {
+            // the variation with a single level is never moved
+            assertEquals(4, trajectory.size());
+
+            final Set<Integer> movedVariations = new HashSet<Integer>();
+            for (int step = 1; step < trajectory.size(); step++) {
+                final int[] from = trajectory.get(step - 1);
+                final int[] to = trajectory.get(step);
+                int moved = -1;
+                for (int i = 0; i < LEVEL_COUNTS.length; i++) {
+                    assertTrue(to[i] >= 0 && to[i] < LEVEL_COUNTS[i]);
+                    if (from[i] != to[i]) {
+                        assertEquals(-1, moved);
+                        moved = i;
+                    }
+                }
+                assertEquals(LEVEL_COUNTS[moved] / 2, Math.abs(to[moved] - from[moved]));
+                assertTrue(movedVariations.add(moved));
+            }
+            assertEquals(3, movedVariations.size());
+        }
+    }
+
+    @Test
+    public void testDesignPointsAreDistinct() {
+        final MorrisDesignStrategy strategy = new MorrisDesignStrategy(10);
+        final long size = strategy.size(LEVEL_COUNTS);
+        assertTrue(size <= 10 * 4);
+
+        final Set<String> designPoints = new HashSet<String>();
+        for (final List<int[]> trajectory : strategy.createTrajectories(LEVEL_COUNTS)) {
+            for (final int[] designPoint : trajectory) {
+                designPoints.add(Arrays.toString(designPoint));
+            }
+        }
+        assertEquals(designPoints.size(), size);
+    }
+
+    @Test
+    public void testTrajectoriesAreReproducible() {
+        final List<List<int[]>> first = new MorrisDesignStrategy(3).createTrajectories(LEVEL_COUNTS);
+        final List<List<int[]>> second = new MorrisDesignStrategy(3).createTrajectories(LEVEL_COUNTS);
+        for (int trajectory = 0; trajectory < first.size(); trajectory++) {
+            for (int step = 0; step < first.get(trajectory).size(); step++) {
+                assertEquals(Arrays.toString(first.get(trajectory).get(step)),
+                        Arrays.toString(second.get(trajectory).get(step)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,195 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.variation.valueprovider.NestedIntervalsDoubleValueProviderStrategy;
+import org.palladiosimulator.experimentautomation.application.variation.valueprovider.NestedIntervalsLongValueProviderStrategy;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsFactory;
+import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsDoubleValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.NestedIntervalsLongValueProvider;
+
+public class NestedIntervalsValueProviderStrategyTest {
+
+    /** Largest value that does not violate an SLO. */
+    private static final long CAPACITY = 42L;
+
+    @Test
+    public void testSectionValuesDivideLongInterval() {
+        final NestedIntervalsLongValueProviderStrategy strategy = createLongStrategy(1L, 1000L);
+        strategy.setMin(1L);
+        strategy.setMax(100L);
+
+        assertEquals(Arrays.asList(25L, 50L, 75L, 100L), strategy.getSectionValues(4));
+        assertEquals(Arrays.asList(100L), strategy.getSectionValues(1));
+    }
+
+    @Test
+    public void testSectionValuesOfNarrowLongIntervalAreDistinct() {
+        final NestedIntervalsLongValueProviderStrategy strategy = createLongStrategy(1L, 1000L);
+        strategy.setMin(1L);
+        strategy.setMax(3L);
+
+        assertEquals(Arrays.asList(2L, 3L), strategy.getSectionValues(4));
+    }
+
+    @Test
+    public void testSectionValuesDivideDoubleInterval() {
+        final NestedIntervalsDoubleValueProviderStrategy strategy = createDoubleStrategy(1.0, 1000.0);
+        strategy.setMin(1.0);
+        strategy.setMax(81.0);
+
+        final List<Double> values = strategy.getSectionValues(4);
+        assertEquals(4, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(1.0 + 20.0 * (i + 1), values.get(i), 1e-9);
+        }
+    }
+
+    @Test
+    public void testKSectionFindsCapacity() {
+        final int bisectionRounds = searchBySections(createLongStrategy(1L, 1000L), 1);
+        final NestedIntervalsLongValueProviderStrategy strategy = createLongStrategy(1L, 1000L);
+        final int kSectionRounds = searchBySections(strategy, 4);
+
+        assertEquals(Long.valueOf(CAPACITY), strategy.getMin());
+        assertTrue(kSectionRounds < bisectionRounds);
+    }
+
+    @Test
+    public void testConvergedIntervalHasNoSectionValues() {
+        final NestedIntervalsLongValueProviderStrategy strategy = createLongStrategy(1L, 1000L);
+        searchBySections(strategy, 4);
+
+        assertTrue(strategy.getSectionValues(4).isEmpty());
+    }
+
+    @Test
+    public void testSearchGallopsUntilViolation() {
+        final NestedIntervalsLongValueProviderStrategy strategy = createLongStrategy(1L, 0L);
+        assertEquals(Long.valueOf(1L), strategy.valueAtPosition(0));
+
+        strategy.setMin(1L);
+        assertEquals(Long.valueOf(2L), strategy.valueAtPosition(0));
+        strategy.setMin(2L);
+        assertEquals(Long.valueOf(4L), strategy.valueAtPosition(0));
+        assertEquals(Arrays.asList(4L, 8L, 16L), strategy.getSectionValues(3));
+
+        // once a value violated an SLO, the bracket is bisected
+        strategy.setMin(4L);
+        strategy.setMax(7L);
+        assertEquals(Long.valueOf(6L), strategy.valueAtPosition(0));
+    }
+
+    @Test
+    public void testGallopingStopsAtMaximum() {
+        final NestedIntervalsLongValueProviderStrategy strategy = createLongStrategy(1L, 10L);
+        strategy.setMin(1L);
+        strategy.setMin(2L);
+        strategy.setMin(4L);
+        strategy.setMin(8L);
+        assertEquals(Long.valueOf(10L), strategy.valueAtPosition(0));
+
+        strategy.setMin(10L);
+        assertTrue(strategy.isConverged());
+        assertEquals(Long.valueOf(10L), strategy.getMin());
+    }
+
+    @Test
+    public void testUnboundedSearchFindsCapacity() {
+        final NestedIntervalsLongValueProviderStrategy strategy = createLongStrategy(1L, 0L);
+        final int steps = search(strategy);
+
+        assertEquals(Long.valueOf(CAPACITY), strategy.getMin());
+        // galloping up to 64, then bisecting the bracket [32, 63]
+        assertTrue(steps <= 7 + 5);
+    }
+
+    @Test
+    public void testUnboundedDoubleSearchFindsCapacity() {
+        final NestedIntervalsDoubleValueProviderStrategy strategy = createDoubleStrategy(1.0, 0.0);
+        while (!strategy.isConverged()) {
+            final double value = strategy.valueAtPosition(0);
+            if (value > CAPACITY) {
+                strategy.setMax(value - 0.000001);
+            } else {
+                strategy.setMin(value);
+            }
+        }
+
+        assertEquals(CAPACITY, strategy.getMin(), 0.0001);
+    }
+
+    /**
+     * Searches the capacity like a capacity search analyzing one value at a time.
+     * 
+     * @return the number of analyzed values.
+     */
+    private static int search(final NestedIntervalsLongValueProviderStrategy strategy) {
+        int steps = 0;
+        while (!strategy.isConverged()) {
+            final long value = strategy.valueAtPosition(0);
+            if (value > CAPACITY) {
+                strategy.setMax(value - 1L);
+            } else {
+                strategy.setMin(value);
+            }
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Searches the capacity like a capacity search analyzing k values at a time: the values up to
+     * the first violating one comply with the SLOs.
+     * 
+     * @return the number of rounds, i.e., of sets of concurrently analyzed values.
+     */
+    private static int searchBySections(final NestedIntervalsLongValueProviderStrategy strategy, final int k) {
+        strategy.setMin(strategy.valueAtPosition(0));
+
+        int rounds = 0;
+        while (!strategy.isConverged()) {
+            final List<Long> values = strategy.getSectionValues(k);
+            if (values.isEmpty()) {
+                break;
+            }
+            rounds++;
+
+            int firstViolation = -1;
+            for (int i = 0; i < values.size() && firstViolation < 0; i++) {
+                if (values.get(i) > CAPACITY) {
+                    firstViolation = i;
+                }
+            }
+            if (firstViolation >= 0) {
+                strategy.setMax(values.get(firstViolation) - 1L);
+            }
+            if (firstViolation != 0 && !strategy.isConverged()) {
+                strategy.setMin(values.get((firstViolation < 0 ? values.size() : firstViolation) - 1));
+            }
+        }
+        return rounds;
+    }
+
+    private static NestedIntervalsLongValueProviderStrategy createLongStrategy(final long min, final long max) {
+        final NestedIntervalsLongValueProvider specification = ExperimentsFactory.eINSTANCE
+                .createNestedIntervalsLongValueProvider();
+        specification.setMinValue(min);
+        specification.setMaxValue(max);
+        return new NestedIntervalsLongValueProviderStrategy(specification);
+    }
+
+    private static NestedIntervalsDoubleValueProviderStrategy createDoubleStrategy(final double min, final double max) {
+        final NestedIntervalsDoubleValueProvider specification = ExperimentsFactory.eINSTANCE
+                .createNestedIntervalsDoubleValueProvider();
+        specification.setMinValue(min);
+        specification.setMaxValue(max);
+        return new NestedIntervalsDoubleValueProviderStrategy(specification);
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.jobs.OnlineSLOWatcher;
+import org.palladiosimulator.servicelevelobjective.ServiceLevelObjectiveRepository;
+import org.palladiosimulator.servicelevelobjective.ServicelevelObjectiveFactory;
+
+public class OnlineSLOWatcherTest {
+
+    private static final String PURPOSE = "experiment";
+    private static final String SETTING = "design point";
+
+    @Test
+    public void testWatcherIsFoundByItsRun() throws Exception {
+        final OnlineSLOWatcher watcher = createWatcher();
+        assertNull(OnlineSLOWatcher.getWatcher(PURPOSE, SETTING));
+
+        watcher.register();
+        try {
+            assertSame(watcher, OnlineSLOWatcher.getWatcher(PURPOSE, SETTING));
+            assertNull(OnlineSLOWatcher.getWatcher(PURPOSE, "other design point"));
+
+            // threads started by the analysis run belong to it
+            final OnlineSLOWatcher[] foundWatcher = new OnlineSLOWatcher[1];
+            final Thread thread = new Thread() {
+
+                @Override
+                public void run() {
+                    foundWatcher[0] = OnlineSLOWatcher.getWatcher(PURPOSE, SETTING);
+                }
+
+            };
+            thread.start();
+            thread.join();
+            assertSame(watcher, foundWatcher[0]);
+        } finally {
+            watcher.unregister();
+        }
+        assertNull(OnlineSLOWatcher.getWatcher(PURPOSE, SETTING));
+    }
+
+    @Test
+    public void testConcurrentRunsOfSameSettingAreWatchedSeparately() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final OnlineSLOWatcher firstWatcher = createWatcher();
+            final OnlineSLOWatcher secondWatcher = createWatcher();
+            final Future<OnlineSLOWatcher> first = executor.submit(watch(firstWatcher));
+            final Future<OnlineSLOWatcher> second = executor.submit(watch(secondWatcher));
+
+            assertSame(firstWatcher, first.get());
+            assertSame(secondWatcher, second.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Registers the given watcher and returns the watcher found by a recorder of the run, while
+     * the other run is registered, too.
+     */
+    private static Callable<OnlineSLOWatcher> watch(final OnlineSLOWatcher watcher) {
+        return new Callable<OnlineSLOWatcher>() {
+
+            @Override
+            public OnlineSLOWatcher call() throws Exception {
+                watcher.register();
+                try {
+                    Thread.sleep(100);
+                    return OnlineSLOWatcher.getWatcher(PURPOSE, SETTING);
+                } finally {
+                    watcher.unregister();
+                }
+            }
+
+        };
+    }
+
+    private static OnlineSLOWatcher createWatcher() {
+        final ServiceLevelObjectiveRepository serviceLevelObjectives = ServicelevelObjectiveFactory.eINSTANCE
+                .createServiceLevelObjectiveRepository();
+        return new OnlineSLOWatcher(serviceLevelObjectives, PURPOSE, SETTING);
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractSimulationConfiguration;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.AbstractSimulationConfigFactory;
+import org.palladiosimulator.experimentautomation.application.tooladapter.simulizar.model.SimulizartooladapterFactory;
+import org.palladiosimulator.experimentautomation.application.variation.PriorCapacityLookup;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsFactory;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+public class PriorCapacityLookupTest {
+
+    private final Variation users = createVariation("users");
+    private final Variation option = createVariation("option");
+    private final AbstractSimulationConfiguration simulationConfiguration = createSimulationConfiguration("SimuLizar");
+
+    @Test
+    public void testSettingOfSameDesignPointMatchesAnyCapacity() {
+        final Pattern pattern = this.createPattern(10L, "a");
+
+        assertTrue(pattern.matcher(this.createSettingName(this.simulationConfiguration, 10L, "a")).matches());
+        assertTrue(pattern.matcher(this.createSettingName(this.simulationConfiguration, 1234L, "a")).matches());
+        assertTrue(pattern.matcher(this.createSettingName(this.simulationConfiguration, 12.5, "a")).matches());
+    }
+
+    @Test
+    public void testSettingOfOtherFactorsDoesNotMatch() {
+        final Pattern pattern = this.createPattern(10L, "a");
+
+        assertFalse(pattern.matcher(this.createSettingName(this.simulationConfiguration, 10L, "b")).matches());
+        assertFalse(pattern.matcher(this.createSettingName(this.simulationConfiguration, 10L, "a, b")).matches());
+    }
+
+    @Test
+    public void testSettingOfOtherToolConfigurationDoesNotMatch() {
+        final Pattern pattern = this.createPattern(10L, "a");
+
+        assertFalse(pattern.matcher(this.createSettingName(createSimulationConfiguration("SimuCom"), 10L, "a"))
+                .matches());
+    }
+
+    @Test
+    public void testSpecialCharactersInNamesAreMatchedLiterally() {
+        final AbstractSimulationConfiguration configuration = createSimulationConfiguration("SimuLizar (.*)");
+        final List<VariationFactorTuple> tuples = this.createTuples(10L, "a+b");
+        final Pattern pattern = PriorCapacityLookup.createSettingNamePattern(configuration, tuples, tuples.get(0));
+
+        assertTrue(pattern.matcher(this.createSettingName(configuration, 20L, "a+b")).matches());
+        assertFalse(pattern.matcher(this.createSettingName(configuration, 20L, "aab")).matches());
+        assertFalse(pattern.matcher(this.createSettingName(this.simulationConfiguration, 20L, "a+b")).matches());
+    }
+
+    private Pattern createPattern(final Object capacity, final Object factor) {
+        final List<VariationFactorTuple> tuples = this.createTuples(capacity, factor);
+        return PriorCapacityLookup.createSettingNamePattern(this.simulationConfiguration, tuples, tuples.get(0));
+    }
+
+    private String createSettingName(final AbstractSimulationConfiguration configuration, final Object capacity,
+            final Object factor) {
+        return AbstractSimulationConfigFactory.computeExperimentSettingName(configuration,
+                this.createTuples(capacity, factor));
+    }
+
+    private List<VariationFactorTuple> createTuples(final Object capacity, final Object factor) {
+        final List<VariationFactorTuple> tuples = new ArrayList<VariationFactorTuple>();
+        tuples.add(new VariationFactorTuple<Object>(this.users, capacity));
+        tuples.add(new VariationFactorTuple<Object>(this.option, factor));
+        return tuples;
+    }
+
+    private static Variation createVariation(final String name) {
+        final Variation variation = ExperimentsFactory.eINSTANCE.createVariation();
+        variation.setName(name);
+        return variation;
+    }
+
+    private static AbstractSimulationConfiguration createSimulationConfiguration(final String name) {
+        final AbstractSimulationConfiguration configuration = SimulizartooladapterFactory.eINSTANCE
+                .createSimuLizarConfiguration();
+        configuration.setName(name);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.tooladapter.abstractsimulation.RandomSeedStreams;
+
+public class RandomSeedStreamsTest {
+
+    private static final long[] SEED = new long[] { 12345, 12345, 12345, 12345, 12345, 12345 };
+
+    private static final long M1 = 4294967087L;
+    private static final long M2 = 4294944443L;
+
+    @Test
+    public void testStreamZeroIsSeed() {
+        assertArrayEquals(SEED, RandomSeedStreams.computeSeed(SEED, 0));
+    }
+
+    @Test
+    public void testJumpsCompose() {
+        final long[] second = RandomSeedStreams.computeSeed(SEED, 2);
+        assertArrayEquals(second, RandomSeedStreams.computeSeed(RandomSeedStreams.computeSeed(SEED, 1), 1));
+
+        final long[] large = RandomSeedStreams.computeSeed(SEED, 1000003);
+        assertArrayEquals(large, RandomSeedStreams.computeSeed(RandomSeedStreams.computeSeed(SEED, 1000000), 3));
+    }
+
+    @Test
+    public void testStreamsAreDistinctValidStates() {
+        final long[] first = RandomSeedStreams.computeSeed(SEED, 1);
+        final long[] last = RandomSeedStreams.computeSeed(SEED, (1L << RandomSeedStreams.STREAM_INDEX_BITS) - 1);
+        assertFalse(Arrays.equals(SEED, first));
+        assertFalse(Arrays.equals(first, last));
+
+        for (final long[] seed : Arrays.asList(first, last)) {
+            for (int i = 0; i < RandomSeedStreams.SEED_LENGTH; i++) {
+                assertTrue(seed[i] >= 0 && seed[i] < (i < 3 ? M1 : M2));
+            }
+            // MRG32k3a requires each component state to be nonzero
+            assertTrue(seed[0] != 0 || seed[1] != 0 || seed[2] != 0);
+            assertTrue(seed[3] != 0 || seed[4] != 0 || seed[5] != 0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeStreamIsRejected() {
+        RandomSeedStreams.computeSeed(SEED, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStreamBeyondPeriodIsRejected() {
+        RandomSeedStreams.computeSeed(SEED, 1L << RandomSeedStreams.STREAM_INDEX_BITS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncompleteSeedIsRejected() {
+        RandomSeedStreams.computeSeed(new long[] { 1, 2, 3 }, 1);
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.surface.RegressionModel;
+import org.palladiosimulator.experimentautomation.application.surface.ResponseSurface;
+
+public class ResponseSurfaceTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    public void testQuadraticSurfaceIsRecovered() {
+        final List<double[]> factorVectors = new ArrayList<double[]>();
+        final List<Double> responses = new ArrayList<Double>();
+        for (int x = 0; x <= 4; x++) {
+            for (int y = 10; y <= 30; y += 5) {
+                factorVectors.add(new double[] { x, y });
+                responses.add(quadratic(x, y));
+            }
+        }
+
+        final ResponseSurface surface = ResponseSurface.fit(RegressionModel.QUADRATIC, factorVectors, responses);
+        assertEquals(1.0, surface.getRSquared(), TOLERANCE);
+        assertEquals(25, surface.getObservationCount());
+        assertEquals(quadratic(2.5, 12.0), surface.predict(new double[] { 2.5, 12.0 }), 1e-6);
+        assertEquals(quadratic(6.0, 40.0), surface.predict(new double[] { 6.0, 40.0 }), 1e-6);
+    }
+
+    @Test
+    public void testLinearFitMinimizesSquaredResiduals() {
+        final List<double[]> factorVectors = new ArrayList<double[]>();
+        final List<Double> responses = new ArrayList<Double>();
+        factorVectors.add(new double[] { 0.0 });
+        responses.add(0.0);
+        factorVectors.add(new double[] { 1.0 });
+        responses.add(2.0);
+        factorVectors.add(new double[] { 2.0 });
+        responses.add(1.0);
+
+        // least squares line through (0, 0), (1, 2), (2, 1): y = 0.5 + 0.5 x
+        final ResponseSurface surface = ResponseSurface.fit(RegressionModel.LINEAR, factorVectors, responses);
+        assertEquals(0.5, surface.predict(new double[] { 0.0 }), TOLERANCE);
+        assertEquals(1.5, surface.predict(new double[] { 2.0 }), TOLERANCE);
+        assertEquals(0.25, surface.getRSquared(), TOLERANCE);
+    }
+
+    @Test
+    public void testSurfaceIsStoredAndLoaded() throws IOException {
+        final List<double[]> factorVectors = new ArrayList<double[]>();
+        final List<Double> responses = new ArrayList<Double>();
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 4; y++) {
+                factorVectors.add(new double[] { x, y });
+                responses.add(1.0 + 2.0 * x - y + 0.5 * x * y);
+            }
+        }
+        final ResponseSurface surface = ResponseSurface.fit(RegressionModel.INTERACTION, factorVectors, responses);
+
+        final File file = File.createTempFile("surface", ".properties");
+        try {
+            surface.save(file);
+            final ResponseSurface loaded = ResponseSurface.load(file);
+            assertEquals(RegressionModel.INTERACTION, loaded.getModel());
+            assertEquals(surface.predict(new double[] { 1.5, 2.5 }), loaded.predict(new double[] { 1.5, 2.5 }),
+                    TOLERANCE);
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooFewObservationsAreRejected() {
+        final List<double[]> factorVectors = new ArrayList<double[]>();
+        final List<Double> responses = new ArrayList<Double>();
+        factorVectors.add(new double[] { 0.0, 0.0 });
+        responses.add(0.0);
+        factorVectors.add(new double[] { 1.0, 1.0 });
+        responses.add(1.0);
+        ResponseSurface.fit(RegressionModel.LINEAR, factorVectors, responses);
+    }
+
+    private static double quadratic(final double x, final double y) {
+        return 3.0 - 2.0 * x + 0.5 * y + 0.25 * x * y + x * x - 0.01 * y * y;
+    }
+
+}
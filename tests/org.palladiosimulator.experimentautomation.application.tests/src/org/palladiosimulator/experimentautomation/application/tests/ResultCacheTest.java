@@ -0,0 +1,124 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.abstractsimulation.AbstractsimulationFactory;
+import org.palladiosimulator.experimentautomation.abstractsimulation.FileDatasource;
+import org.palladiosimulator.experimentautomation.application.cache.ResultCache;
+import org.palladiosimulator.experimentautomation.application.cache.ResultCache.CachedResult;
+
+public class ResultCacheTest {
+
+    private static final String FIRST_FINGERPRINT = "0001";
+    private static final String SECOND_FINGERPRINT = "0002";
+    private static final String THIRD_FINGERPRINT = "0003";
+
+    private File location;
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        this.location = File.createTempFile("datasource", "");
+        this.location.delete();
+        this.directory = new File(this.location.getPath() + ".resultcache");
+    }
+
+    @After
+    public void tearDown() {
+        this.deleteCache();
+    }
+
+    @Test
+    public void testOnlyFileDatasourcesHaveCaches() {
+        assertNull(ResultCache.forDatasource(AbstractsimulationFactory.eINSTANCE.createMemoryDatasource(), 1000));
+        assertSame(this.createCache(1000), this.createCache(1000));
+    }
+
+    @Test
+    public void testStoredResultIsFound() {
+        final ResultCache cache = this.createCache(100000);
+        assertNull(cache.lookup(FIRST_FINGERPRINT, createConfiguration("a")));
+
+        cache.store(FIRST_FINGERPRINT, createConfiguration("a"), new CachedResult("run", true, 0.25));
+
+        final CachedResult result = cache.lookup(FIRST_FINGERPRINT, createConfiguration("a"));
+        assertNotNull(result);
+        assertEquals("run", result.getExperimentRunId());
+        assertTrue(result.sloWasViolated());
+        assertEquals(0.25, result.getSloViolationRatio(), 0.0);
+    }
+
+    @Test
+    public void testResultOfDifferentConfigurationIsNotFound() {
+        final ResultCache cache = this.createCache(100000);
+        cache.store(FIRST_FINGERPRINT, createConfiguration("a"), new CachedResult("run", false, 0.0));
+
+        assertNull(cache.lookup(FIRST_FINGERPRINT, createConfiguration("b")));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        final ResultCache cache = this.createCache(100000);
+        cache.store(FIRST_FINGERPRINT, createConfiguration("a"), new CachedResult("first", false, 0.0));
+        final long entrySize = new File(this.directory, FIRST_FINGERPRINT + ".properties").length();
+        this.deleteCache();
+
+        // the cache holds two entries
+        final ResultCache boundedCache = this.createBoundedCache(2 * entrySize + entrySize / 2);
+        final long now = System.currentTimeMillis();
+        boundedCache.store(FIRST_FINGERPRINT, createConfiguration("a"), new CachedResult("first", false, 0.0));
+        new File(this.directory, FIRST_FINGERPRINT + ".properties").setLastModified(now - 20000);
+        boundedCache.store(SECOND_FINGERPRINT, createConfiguration("a"), new CachedResult("second", false, 0.0));
+        new File(this.directory, SECOND_FINGERPRINT + ".properties").setLastModified(now - 10000);
+        boundedCache.store(THIRD_FINGERPRINT, createConfiguration("a"), new CachedResult("third", false, 0.0));
+
+        assertNull(boundedCache.lookup(FIRST_FINGERPRINT, createConfiguration("a")));
+        assertNotNull(boundedCache.lookup(SECOND_FINGERPRINT, createConfiguration("a")));
+        assertNotNull(boundedCache.lookup(THIRD_FINGERPRINT, createConfiguration("a")));
+    }
+
+    private void deleteCache() {
+        final File[] entryFiles = this.directory.listFiles();
+        if (entryFiles != null) {
+            for (final File entryFile : entryFiles) {
+                entryFile.delete();
+            }
+        }
+        this.directory.delete();
+    }
+
+    private ResultCache createCache(final long maxSize) {
+        final FileDatasource datasource = AbstractsimulationFactory.eINSTANCE.createFileDatasource();
+        datasource.setLocation(this.location.getPath());
+        return ResultCache.forDatasource(datasource, maxSize);
+    }
+
+    /**
+     * Creates a cache in a new directory, since the size of a cache is fixed once it is opened.
+     */
+    private ResultCache createBoundedCache(final long maxSize) {
+        this.location = new File(this.location.getPath() + "-bounded");
+        this.directory = new File(this.location.getPath() + ".resultcache");
+        return this.createCache(maxSize);
+    }
+
+    private static Map<String, Object> createConfiguration(final String value) {
+        final Map<String, Object> configuration = new HashMap<String, Object>();
+        configuration.put("option", value);
+        configuration.put("simulationTime", 1000L);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,147 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.variation.ScreeningDesignPoints;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsFactory;
+import org.palladiosimulator.experimentautomation.experiments.ScreeningDesign;
+import org.palladiosimulator.experimentautomation.experiments.SetValueProvider;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+import org.palladiosimulator.experimentautomation.variation.ValueVariation;
+import org.palladiosimulator.experimentautomation.variation.VariationFactory;
+
+public class ScreeningDesignPointsTest {
+
+    private static final int VARIATIONS = 3;
+
+    @Test
+    public void testScreeningStageIsPlackettBurmanDesign() {
+        final ScreeningDesignPoints designPoints = createScreeningDesignPoints();
+        assertEquals(4, designPoints.getScreeningSize());
+
+        final Set<List<Boolean>> levels = toLevels(designPoints.createScreeningDesignPoints());
+        assertEquals(4, levels.size());
+        // each variation is analyzed at its low and at its high level equally often
+        for (int i = 0; i < VARIATIONS; i++) {
+            int highCount = 0;
+            for (final List<Boolean> designPoint : levels) {
+                highCount += designPoint.get(i) ? 1 : 0;
+            }
+            assertEquals(2, highCount);
+        }
+    }
+
+    @Test
+    public void testFocusedStageVariesSignificantVariationsOnly() {
+        final ScreeningDesignPoints designPoints = createScreeningDesignPoints();
+        final Iterator<List<VariationFactorTuple>> screening = designPoints.createScreeningDesignPoints();
+        while (screening.hasNext()) {
+            // the first variation has a large effect, the second one a small effect, the third one none
+            final List<VariationFactorTuple> designPoint = screening.next();
+            designPoints.recordResponse(designPoint, (isHigh(designPoint, 0) ? 0.8 : 0.2)
+                    + (isHigh(designPoint, 1) ? 0.05 : 0.0));
+        }
+
+        final Set<List<Boolean>> screeningLevels = toLevels(designPoints.createScreeningDesignPoints());
+        final Set<List<Boolean>> focusedLevels = toLevels(designPoints.createFocusedDesignPoints());
+
+        // of the two levels of the first variation, the high one has been analyzed in the screening
+        assertEquals(1, focusedLevels.size());
+        for (final List<Boolean> designPoint : focusedLevels) {
+            assertFalse(designPoint.get(1));
+            assertFalse(designPoint.get(2));
+            assertFalse(screeningLevels.contains(designPoint));
+        }
+    }
+
+    @Test
+    public void testInconclusiveScreeningKeepsAllVariations() {
+        final ScreeningDesignPoints designPoints = createScreeningDesignPoints();
+        final Iterator<List<VariationFactorTuple>> screening = designPoints.createScreeningDesignPoints();
+        while (screening.hasNext()) {
+            designPoints.recordResponse(screening.next(), 0.5);
+        }
+
+        assertFullFactorialWithoutScreening(designPoints);
+    }
+
+    @Test
+    public void testVariationsWithoutEstimableEffectAreKept() {
+        final ScreeningDesignPoints designPoints = createScreeningDesignPoints();
+        final Iterator<List<VariationFactorTuple>> screening = designPoints.createScreeningDesignPoints();
+        while (screening.hasNext()) {
+            designPoints.recordResponse(screening.next(), Double.NaN);
+        }
+
+        assertFullFactorialWithoutScreening(designPoints);
+    }
+
+    private static void assertFullFactorialWithoutScreening(final ScreeningDesignPoints designPoints) {
+        final Set<List<Boolean>> screeningLevels = toLevels(designPoints.createScreeningDesignPoints());
+        final Set<List<Boolean>> focusedLevels = toLevels(designPoints.createFocusedDesignPoints());
+
+        assertEquals(8 - 4, focusedLevels.size());
+        for (final List<Boolean> designPoint : focusedLevels) {
+            assertFalse(screeningLevels.contains(designPoint));
+        }
+    }
+
+    /**
+     * Maps the given design points to whether each variation is at its high level.
+     */
+    private static Set<List<Boolean>> toLevels(final Iterator<List<VariationFactorTuple>> designPoints) {
+        final Set<List<Boolean>> levels = new HashSet<List<Boolean>>();
+        while (designPoints.hasNext()) {
+            final List<VariationFactorTuple> designPoint = designPoints.next();
+            final List<Boolean> designPointLevels = new ArrayList<Boolean>();
+            for (int i = 0; i < designPoint.size(); i++) {
+                designPointLevels.add(isHigh(designPoint, i));
+            }
+            assertTrue(levels.add(designPointLevels));
+        }
+        return levels;
+    }
+
+    private static boolean isHigh(final List<VariationFactorTuple> designPoint, final int variation) {
+        return ((Number) designPoint.get(variation).getFactor()).doubleValue() > 1.5;
+    }
+
+    /**
+     * Creates the screening of variations with the levels 1 and 2 and a significance threshold of
+     * 0.5.
+     */
+    private static ScreeningDesignPoints createScreeningDesignPoints() {
+        final List<Variation> variations = new ArrayList<Variation>();
+        for (int i = 0; i < VARIATIONS; i++) {
+            final ValueVariation type = VariationFactory.eINSTANCE.createValueVariation();
+            type.setStrategyClass("org.palladiosimulator.experimentautomation.application.variation."
+                    + "ClosedWorkloadVariation");
+            final SetValueProvider valueProvider = ExperimentsFactory.eINSTANCE.createSetValueProvider();
+            valueProvider.setValues("1,2");
+
+            final Variation variation = ExperimentsFactory.eINSTANCE.createVariation();
+            variation.setName("variation" + i);
+            variation.setType(type);
+            variation.setValueProvider(valueProvider);
+            variation.setMinValue(1);
+            variation.setMaxValue(2);
+            variation.setMaxVariations(2);
+            variations.add(variation);
+        }
+
+        final ScreeningDesign design = ExperimentsFactory.eINSTANCE.createScreeningDesign();
+        design.setSignificanceThreshold(0.5);
+        return new ScreeningDesignPoints(variations, design);
+    }
+
+}
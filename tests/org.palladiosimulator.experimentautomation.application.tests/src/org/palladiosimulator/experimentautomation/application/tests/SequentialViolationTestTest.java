@@ -0,0 +1,89 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.variation.SequentialViolationTest;
+
+public class SequentialViolationTestTest {
+
+    @Test
+    public void testConsistentViolationsDecide() {
+        // log(3) per violating run; 0.95 requires a log-likelihood ratio of log(19)
+        final SequentialViolationTest test = new SequentialViolationTest(0.95);
+        test.record(true);
+        test.record(true);
+        assertFalse(test.isFinished());
+        test.record(true);
+        assertTrue(test.isDecided());
+        assertTrue(test.isViolated());
+        assertEquals(3, test.getRuns());
+    }
+
+    @Test
+    public void testConsistentComplianceDecides() {
+        final SequentialViolationTest test = new SequentialViolationTest(0.95);
+        for (int run = 0; run < 3; run++) {
+            assertFalse(test.isFinished());
+            test.record(false);
+        }
+        assertTrue(test.isDecided());
+        assertFalse(test.isViolated());
+    }
+
+    @Test
+    public void testHigherConfidenceRequiresMoreRuns() {
+        // log(99) requires 5 violating runs
+        final SequentialViolationTest test = new SequentialViolationTest(0.99);
+        for (int run = 0; run < 4; run++) {
+            test.record(true);
+        }
+        assertFalse(test.isFinished());
+        test.record(true);
+        assertTrue(test.isDecided());
+        assertTrue(test.isViolated());
+    }
+
+    @Test
+    public void testMixedOutcomesNeedFurtherRuns() {
+        final SequentialViolationTest test = new SequentialViolationTest(0.95);
+        test.record(true);
+        test.record(true);
+        test.record(false);
+        assertFalse(test.isFinished());
+        test.record(true);
+        test.record(true);
+        assertTrue(test.isDecided());
+        assertTrue(test.isViolated());
+    }
+
+    @Test
+    public void testUndecidedTestStopsAtMaximumRuns() {
+        final SequentialViolationTest test = new SequentialViolationTest(0.95);
+        boolean violated = true;
+        while (!test.isFinished()) {
+            test.record(violated);
+            violated = !violated;
+        }
+        assertFalse(test.isDecided());
+        assertEquals(SequentialViolationTest.MAX_RUNS, test.getRuns());
+        // ties count as violation
+        assertTrue(test.isViolated());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRecordingAfterDecisionFails() {
+        final SequentialViolationTest test = new SequentialViolationTest(0.95);
+        for (int run = 0; run < 4; run++) {
+            test.record(false);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConfidenceBelowHalfIsRejected() {
+        new SequentialViolationTest(0.5);
+    }
+
+}
@@ -0,0 +1,132 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.design.FractionalFactorialDesignStrategy;
+import org.palladiosimulator.experimentautomation.application.design.IExperimentDesignStrategy;
+import org.palladiosimulator.experimentautomation.application.design.PlacketBurmanDesignStrategy;
+
+public class TwoLevelDesignStrategyTest {
+
+    @Test
+    public void testPlackettBurmanRunCounts() {
+        final IExperimentDesignStrategy strategy = new PlacketBurmanDesignStrategy();
+        assertEquals(4, strategy.size(twoLevels(3)));
+        assertEquals(8, strategy.size(twoLevels(7)));
+        assertEquals(12, strategy.size(twoLevels(11)));
+        assertEquals(16, strategy.size(twoLevels(12)));
+        assertEquals(20, strategy.size(twoLevels(19)));
+        assertEquals(24, strategy.size(twoLevels(23)));
+    }
+
+    @Test
+    public void testPlackettBurmanIsOrthogonal() {
+        for (final int factors : new int[] { 3, 5, 7, 11, 15, 19, 23 }) {
+            assertOrthogonal(createMatrix(new PlacketBurmanDesignStrategy(), factors));
+        }
+    }
+
+    @Test
+    public void testFractionalFactorialIsOrthogonal() {
+        for (final int factors : new int[] { 2, 3, 4, 5, 7, 8, 15 }) {
+            assertOrthogonal(createMatrix(new FractionalFactorialDesignStrategy(), factors));
+        }
+    }
+
+    @Test
+    public void testFractionalFactorialResolution() {
+        // 2^(4-1) with D = ABC: resolution IV, main effects are not aliased with two-factor interactions
+        final List<int[]> matrix = createMatrix(new FractionalFactorialDesignStrategy(), 4);
+        assertEquals(8, matrix.size());
+        for (final int[] row : matrix) {
+            assertEquals(row[3], row[0] * row[1] * row[2]);
+        }
+        for (int main = 0; main < 4; main++) {
+            for (int first = 0; first < 4; first++) {
+                for (int second = first + 1; second < 4; second++) {
+                    if (first != main && second != main) {
+                        int product = 0;
+                        for (final int[] row : matrix) {
+                            product += row[main] * row[first] * row[second];
+                        }
+                        assertEquals(0, product);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFractionalFactorialRunCounts() {
+        final IExperimentDesignStrategy strategy = new FractionalFactorialDesignStrategy();
+        assertEquals(4, strategy.size(twoLevels(3)));
+        assertEquals(8, strategy.size(twoLevels(4)));
+        assertEquals(8, strategy.size(twoLevels(7)));
+        assertEquals(16, strategy.size(twoLevels(8)));
+    }
+
+    @Test
+    public void testLowAndHighLevels() {
+        final Iterator<int[]> designPoints = new PlacketBurmanDesignStrategy().createDesign(new int[] { 3, 1, 5 });
+        while (designPoints.hasNext()) {
+            final int[] designPoint = designPoints.next();
+            assertTrue(designPoint[0] == 0 || designPoint[0] == 2);
+            assertEquals(0, designPoint[1]);
+            assertTrue(designPoint[2] == 0 || designPoint[2] == 4);
+        }
+    }
+
+    private static int[] twoLevels(final int factors) {
+        final int[] levelCounts = new int[factors];
+        Arrays.fill(levelCounts, 2);
+        return levelCounts;
+    }
+
+    /**
+     * Creates the design matrix of the given strategy, with -1 for low and 1 for high levels.
+     */
+    private static List<int[]> createMatrix(final IExperimentDesignStrategy strategy, final int factors) {
+        final List<int[]> matrix = new ArrayList<int[]>();
+        final Iterator<int[]> designPoints = strategy.createDesign(twoLevels(factors));
+        while (designPoints.hasNext()) {
+            final int[] designPoint = designPoints.next();
+            final int[] row = new int[factors];
+            for (int i = 0; i < factors; i++) {
+                row[i] = designPoint[i] == 0 ? -1 : 1;
+            }
+            matrix.add(row);
+        }
+        return matrix;
+    }
+
+    /**
+     * Asserts that each column is balanced and each pair of columns is orthogonal, so that all main
+     * effects can be estimated independently of each other.
+     */
+    private static void assertOrthogonal(final List<int[]> matrix) {
+        final int factors = matrix.get(0).length;
+        for (int first = 0; first < factors; first++) {
+            int sum = 0;
+            for (final int[] row : matrix) {
+                sum += row[first];
+            }
+            assertEquals("column " + first + " of " + factors, 0, sum);
+
+            for (int second = first + 1; second < factors; second++) {
+                int product = 0;
+                for (final int[] row : matrix) {
+                    product += row[first] * row[second];
+                }
+                assertEquals("columns " + first + " and " + second + " of " + factors, 0, product);
+            }
+        }
+    }
+
+}
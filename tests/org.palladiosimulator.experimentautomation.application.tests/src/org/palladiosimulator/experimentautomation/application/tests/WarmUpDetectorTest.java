@@ -0,0 +1,52 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.jobs.WarmUpDetector;
+
+public class WarmUpDetectorTest {
+
+    @Test
+    public void testTransientIsTruncated() {
+        final WarmUpDetector detector = new WarmUpDetector();
+        for (int i = 0; i < 500; i++) {
+            // a decaying transient over the first 100 observations, then a stationary alternation
+            final double transientPart = i < 100 ? 10.0 * (100 - i) / 100 : 0.0;
+            detector.add(i, 1.0 + transientPart + (i % 2 == 0 ? 0.1 : -0.1));
+        }
+        assertEquals(100, detector.getTruncatedObservations());
+        assertEquals(100.0, detector.getTruncationTime(), 0.0);
+    }
+
+    @Test
+    public void testStationarySeriesIsNotTruncated() {
+        final WarmUpDetector detector = new WarmUpDetector();
+        for (int i = 0; i < 500; i++) {
+            detector.add(i, 1.0);
+        }
+        assertEquals(0, detector.getTruncatedObservations());
+        assertEquals(Double.NEGATIVE_INFINITY, detector.getTruncationTime(), 0.0);
+    }
+
+    @Test
+    public void testAtMostHalfOfTheBatchesIsTruncated() {
+        final WarmUpDetector detector = new WarmUpDetector();
+        // a steadily increasing series has no stationary part
+        for (int i = 0; i < 100; i++) {
+            detector.add(i, i);
+        }
+        assertTrue(detector.getTruncatedObservations() <= 50);
+    }
+
+    @Test
+    public void testIncompleteBatchIsIgnored() {
+        final WarmUpDetector detector = new WarmUpDetector();
+        for (int i = 0; i < WarmUpDetector.BATCH_SIZE - 1; i++) {
+            detector.add(i, 100.0);
+        }
+        assertEquals(0, detector.getTruncatedObservations());
+    }
+
+}
@@ -0,0 +1,224 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+import org.palladiosimulator.experimentautomation.application.worker.WorkerPool;
+import org.palladiosimulator.experimentautomation.application.worker.WorkerTask;
+
+public class WorkerPoolTest {
+
+    /** Tasks of the first factor level violate an SLO. */
+    private static final String VIOLATING_TASK = "0;1;L1;experiment";
+    private static final String COMPLIANT_TASK = "0;1;L2;experiment";
+    /** Tasks of this factor level crash their worker on the first attempt. */
+    private static final String CRASHING_TASK = "0;1;L3;experiment";
+    /** Tasks of this factor level crash their worker on each attempt. */
+    private static final String FATAL_TASK = "0;1;L4;experiment";
+    /** Tasks of this factor level cannot be analyzed. */
+    private static final String FAILING_TASK = "0;1;L5;experiment";
+
+    private File file;
+    private CampaignJournal journal;
+
+    /** The number of times each task has been received by a worker. */
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<String, AtomicInteger>();
+
+    @Before
+    public void setUp() throws IOException {
+        this.file = File.createTempFile("campaign", ".journal");
+        this.file.delete();
+        this.journal = CampaignJournal.open(this.file);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        this.journal.close();
+        this.file.delete();
+    }
+
+    @Test
+    public void testOutcomesAreJournaled() throws InterruptedException {
+        final List<WorkerTask> failedTasks = this.run(2, VIOLATING_TASK, COMPLIANT_TASK);
+        assertTrue(failedTasks.isEmpty());
+
+        final String violatingKey = WorkerTask.decode(VIOLATING_TASK).getJournalKey();
+        assertTrue(this.journal.isCompleted(violatingKey));
+        assertTrue(this.journal.isViolated(violatingKey));
+        assertEquals(0.75, this.journal.getViolationRatio(violatingKey), 0.0);
+
+        final String compliantKey = WorkerTask.decode(COMPLIANT_TASK).getJournalKey();
+        assertTrue(this.journal.isCompleted(compliantKey));
+        assertFalse(this.journal.isViolated(compliantKey));
+        assertEquals(0.25, this.journal.getViolationRatio(compliantKey), 0.0);
+    }
+
+    @Test
+    public void testCrashedTaskIsRetried() throws InterruptedException {
+        final List<WorkerTask> failedTasks = this.run(1, CRASHING_TASK, COMPLIANT_TASK);
+        assertTrue(failedTasks.isEmpty());
+        assertEquals(2, this.attempts.get(CRASHING_TASK).get());
+        assertTrue(this.journal.isCompleted(WorkerTask.decode(CRASHING_TASK).getJournalKey()));
+        assertTrue(this.journal.isCompleted(WorkerTask.decode(COMPLIANT_TASK).getJournalKey()));
+    }
+
+    @Test
+    public void testTaskCrashingRepeatedlyIsGivenUp() throws InterruptedException {
+        final List<WorkerTask> failedTasks = this.run(2, FATAL_TASK, COMPLIANT_TASK);
+        assertEquals(1, failedTasks.size());
+        assertEquals(FATAL_TASK, failedTasks.get(0).encode());
+        assertEquals(3, this.attempts.get(FATAL_TASK).get());
+        assertFalse(this.journal.isCompleted(WorkerTask.decode(FATAL_TASK).getJournalKey()));
+        assertTrue(this.journal.isCompleted(WorkerTask.decode(COMPLIANT_TASK).getJournalKey()));
+    }
+
+    @Test
+    public void testFailedTaskIsReported() throws InterruptedException {
+        final List<WorkerTask> failedTasks = this.run(1, FAILING_TASK, COMPLIANT_TASK);
+        assertEquals(1, failedTasks.size());
+        assertEquals(FAILING_TASK, failedTasks.get(0).encode());
+        assertEquals(1, this.attempts.get(FAILING_TASK).get());
+        assertFalse(this.journal.isCompleted(WorkerTask.decode(FAILING_TASK).getJournalKey()));
+    }
+
+    private List<WorkerTask> run(final int workers, final String... encodedTasks) throws InterruptedException {
+        final List<WorkerTask> tasks = new ArrayList<WorkerTask>();
+        for (final String encodedTask : encodedTasks) {
+            tasks.add(WorkerTask.decode(encodedTask));
+            this.attempts.put(encodedTask, new AtomicInteger());
+        }
+
+        final WorkerPool pool = new WorkerPool(Collections.<String> emptyList(), new File("workers"), workers,
+                this.journal) {
+
+            @Override
+            protected Process startWorkerProcess(final int slot, final int port) {
+                return new FakeWorkerProcess(port);
+            }
+
+        };
+        return pool.run(tasks);
+    }
+
+    /**
+     * A worker process running as thread of this JVM; it speaks the worker protocol and decides the
+     * outcome of each task by its factor level.
+     */
+    private class FakeWorkerProcess extends Process {
+
+        private final Thread thread;
+        private volatile int exitValue = -1;
+        private volatile Socket socket;
+
+        public FakeWorkerProcess(final int port) {
+            this.thread = new Thread(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        FakeWorkerProcess.this.exitValue = FakeWorkerProcess.this.serve(port);
+                    } catch (final IOException e) {
+                        FakeWorkerProcess.this.exitValue = 2;
+                    }
+                }
+
+            });
+            this.thread.start();
+        }
+
+        private int serve(final int port) throws IOException {
+            this.socket = new Socket("127.0.0.1", port);
+            try {
+                final BufferedReader reader = new BufferedReader(new InputStreamReader(this.socket.getInputStream(),
+                        "UTF-8"));
+                final PrintWriter writer = new PrintWriter(new OutputStreamWriter(this.socket.getOutputStream(),
+                        "UTF-8"), true);
+                writer.println("READY");
+
+                String message;
+                while ((message = reader.readLine()) != null && message.startsWith("RUN ")) {
+                    final String task = message.substring("RUN ".length());
+                    final int attempt = WorkerPoolTest.this.attempts.get(task).incrementAndGet();
+                    writer.println("PROGRESS run");
+                    if (task.equals(FATAL_TASK) || task.equals(CRASHING_TASK) && attempt == 1) {
+                        return 1;
+                    } else if (task.equals(FAILING_TASK)) {
+                        writer.println("FAILED analysis failed");
+                    } else if (task.equals(VIOLATING_TASK)) {
+                        writer.println("DONE true 0.75");
+                    } else {
+                        writer.println("DONE false 0.25");
+                    }
+                }
+                return 0;
+            } finally {
+                this.socket.close();
+            }
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return new ByteArrayOutputStream();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public int waitFor() throws InterruptedException {
+            this.thread.join();
+            return this.exitValue;
+        }
+
+        @Override
+        public int exitValue() {
+            if (this.thread.isAlive()) {
+                throw new IllegalThreadStateException();
+            }
+            return this.exitValue;
+        }
+
+        @Override
+        public void destroy() {
+            try {
+                if (this.socket != null) {
+                    this.socket.close();
+                }
+            } catch (final IOException e) {
+                // the worker terminates anyway
+            }
+        }
+
+    }
+
+}
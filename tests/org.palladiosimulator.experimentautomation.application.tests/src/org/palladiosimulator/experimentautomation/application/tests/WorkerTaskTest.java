@@ -0,0 +1,81 @@
+package org.palladiosimulator.experimentautomation.application.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.palladiosimulator.experimentautomation.application.VariationFactorTuple;
+import org.palladiosimulator.experimentautomation.application.journal.CampaignJournal;
+import org.palladiosimulator.experimentautomation.application.worker.WorkerTask;
+import org.palladiosimulator.experimentautomation.experiments.Experiment;
+import org.palladiosimulator.experimentautomation.experiments.ExperimentsFactory;
+import org.palladiosimulator.experimentautomation.experiments.Variation;
+
+public class WorkerTaskTest {
+
+    @Test
+    public void testDecodeEncodedTask() {
+        final String line = "1;2;L3,D0.5;experiment;with;separators";
+        final WorkerTask task = WorkerTask.decode(line);
+
+        assertEquals("experiment;with;separators", task.getExperimentId());
+        assertEquals(1, task.getToolConfigurationIndex());
+        assertEquals(2, task.getRepetition());
+        assertEquals(Arrays.<Object> asList(3L, 0.5), task.getFactors());
+        assertEquals(0, task.getWallClockBudget());
+        assertEquals(line, task.encode());
+        assertEquals(CampaignJournal.createKey("experiment;with;separators", 1, Arrays.<Object> asList(3L, 0.5), 2),
+                task.getJournalKey());
+    }
+
+    @Test
+    public void testDecodeTaskWithoutFactors() {
+        final WorkerTask task = WorkerTask.decode("0;1;;experiment");
+        assertTrue(task.getFactors().isEmpty());
+        assertEquals("0;1;;experiment", task.encode());
+    }
+
+    @Test
+    public void testCreateVariationFactorTuples() {
+        final Experiment experiment = createExperiment(2);
+        final List<VariationFactorTuple> designPoint = WorkerTask.decode("0;1;L3,D0.5;experiment")
+                .createVariationFactorTuples(experiment);
+
+        assertEquals(2, designPoint.size());
+        for (int i = 0; i < 2; i++) {
+            assertEquals(experiment.getVariations().get(i), designPoint.get(i).getVariation());
+        }
+        assertEquals(3L, designPoint.get(0).getFactor());
+        assertEquals(0.5, designPoint.get(1).getFactor());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFactorsMustMatchVariations() {
+        WorkerTask.decode("0;1;L3;experiment").createVariationFactorTuples(createExperiment(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMalformedFactorIsRejected() {
+        WorkerTask.decode("0;1;X3;experiment");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncompleteTaskIsRejected() {
+        WorkerTask.decode("0;1;L3");
+    }
+
+    private static Experiment createExperiment(final int variations) {
+        final Experiment experiment = ExperimentsFactory.eINSTANCE.createExperiment();
+        experiment.setId("experiment");
+        for (int i = 0; i < variations; i++) {
+            final Variation variation = ExperimentsFactory.eINSTANCE.createVariation();
+            variation.setName("variation" + i);
+            experiment.getVariations().add(variation);
+        }
+        return experiment;
+    }
+
+}